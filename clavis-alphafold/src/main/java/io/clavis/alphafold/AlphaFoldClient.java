@@ -2,6 +2,7 @@ package io.clavis.alphafold;
 
 import io.clavis.core.http.HttpClientFactory;
 import io.clavis.core.http.RateLimiter;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RetryPolicy;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -19,13 +20,11 @@ public class AlphaFoldClient {
     private static final String BASE_URL = "https://alphafold.ebi.ac.uk/api";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
 
     public AlphaFoldClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(5);
-        this.retryPolicy = RetryPolicy.defaultPolicy();
+        this.httpClient = HttpClientFactory.createDefault("alphafold", new RateLimiter(5));
+        this.retryPolicy = RetryPolicy.forUpstream("alphafold");
     }
 
     /**
@@ -82,14 +81,13 @@ public class AlphaFoldClient {
     private String executeRequest(HttpUrl url) throws IOException {
         try {
             return retryPolicy.execute(() -> {
-                rateLimiter.acquire();
                 Request request = new Request.Builder()
                         .url(url)
                         .addHeader("Accept", "application/json")
                         .build();
                 try (Response response = httpClient.newCall(request).execute()) {
                     if (!response.isSuccessful()) {
-                        throw new IOException("AlphaFold API error: " + response.code() + " " + response.message());
+                        throw new HttpStatusException("AlphaFold API error: " + response.code() + " " + response.message(), response.code());
                     }
                     return Objects.requireNonNull(response.body()).string();
                 }
@@ -0,0 +1,37 @@
+package io.clavis.alphafold;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the AlphaFold tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class AlphaFoldModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "alphafold";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "AlphaFold";
+    }
+
+    @Override
+    public String getGroup() {
+        return "proteins";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return List.of(new AlphaFoldTools(new AlphaFoldClient()).createGetPredictionTool());
+    }
+}
@@ -2,6 +2,7 @@ package io.clavis.arxiv;
 
 import io.clavis.core.http.HttpClientFactory;
 import io.clavis.core.http.RateLimiter;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RetryPolicy;
 import io.clavis.core.models.Paper;
 import okhttp3.HttpUrl;
@@ -21,14 +22,12 @@ public class ArxivClient {
     private static final String BASE_URL = "http://export.arxiv.org/api/query";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
     private final ArxivXmlParser parser;
 
     public ArxivClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(1); // arXiv asks for max 1 req/s
-        this.retryPolicy = RetryPolicy.defaultPolicy();
+        this.httpClient = HttpClientFactory.createDefault("arxiv", new RateLimiter(1)); // arXiv asks for max 1 req/s
+        this.retryPolicy = RetryPolicy.forUpstream("arxiv");
         this.parser = new ArxivXmlParser();
     }
 
@@ -91,11 +90,10 @@ public class ArxivClient {
     private String executeRequest(HttpUrl url) throws IOException {
         try {
             return retryPolicy.execute(() -> {
-                rateLimiter.acquire();
                 Request request = new Request.Builder().url(url).build();
                 try (Response response = httpClient.newCall(request).execute()) {
                     if (!response.isSuccessful()) {
-                        throw new IOException("arXiv API error: " + response.code() + " " + response.message());
+                        throw new HttpStatusException("arXiv API error: " + response.code() + " " + response.message(), response.code());
                     }
                     return Objects.requireNonNull(response.body()).string();
                 }
@@ -0,0 +1,42 @@
+package io.clavis.arxiv;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the arXiv tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class ArxivModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "arxiv";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "arXiv";
+    }
+
+    @Override
+    public String getGroup() {
+        return "literature";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        ArxivTools toolFactory = new ArxivTools(new ArxivClient());
+        return List.of(
+                toolFactory.createSearchTool(),
+                toolFactory.createGetPaperTool(),
+                toolFactory.createSearchAuthorTool(),
+                toolFactory.createSearchCategoryTool());
+    }
+}
@@ -0,0 +1,165 @@
+package io.clavis.benchmarks.mcp;
+
+import com.google.gson.JsonObject;
+import io.clavis.benchmarks.parsers.Fixtures;
+import io.clavis.core.mcp.MCPServer;
+import io.clavis.core.mcp.MCPTool;
+import io.clavis.uniprot.UniProtJsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code MCPServer.handleMessage} end to end: JSON-RPC parsing,
+ * method dispatch, tool lookup and serialization of the response.
+ *
+ * <p>
+ * The {@code tools/call} benchmarks invoke a tool that returns a formatted
+ * UniProt entry (P04637) prepared during setup, so the figures cover the
+ * MCP layer and the encoding of a realistic result rather than any upstream
+ * call. {@code toolsList} lists {@value #TOOL_COUNT} tools, about as many as
+ * the unified server registers. {@code toolsCall} returns the response as a
+ * string; {@code toolsCallWritten} writes it to a stream as the stdio and
+ * SSE transports do. Both run the tool on every call; {@code toolsCallCached}
+ * measures a hit in the tool result cache instead. Logging is limited to
+ * warnings so per-call INFO lines do not end up in the measurement.
+ * </p>
+ *
+ * <p>
+ * Reports throughput and latency percentiles; add {@code -prof gc} for
+ * allocation per message:
+ *
+ * <pre>{@code
+ * java -jar clavis-benchmarks/target/benchmarks.jar McpDispatchBenchmark -prof gc
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmarks.xml")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class McpDispatchBenchmark {
+
+    private static final String TOOLS_CALL = "{\"jsonrpc\":\"2.0\",\"id\":7,\"method\":\"tools/call\","
+            + "\"params\":{\"name\":\"uniprot_get_protein\",\"arguments\":{\"accession\":\"P04637\"}}}";
+    private static final String TOOLS_LIST = "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\"}";
+
+    /** Roughly the number of tools the unified server registers. */
+    private static final int TOOL_COUNT = 100;
+
+    private final Writer sink = Writer.nullWriter();
+    private BenchmarkServer server;
+    private BenchmarkServer cachedServer;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonObject protein = UniProtJsonParser.parseProteinDetail(
+                new StringReader(Fixtures.load("uniprot-entry-P04637.json")));
+        server = new BenchmarkServer(protein, false);
+        cachedServer = new BenchmarkServer(protein, true);
+        if (!server.render(TOOLS_CALL).contains("Cellular tumor antigen p53")
+                || !cachedServer.render(TOOLS_CALL).contains("Cellular tumor antigen p53")) {
+            throw new IllegalStateException("tools/call did not return the fixture protein");
+        }
+    }
+
+    @Benchmark
+    public String toolsCall() {
+        return server.render(TOOLS_CALL);
+    }
+
+    @Benchmark
+    public void toolsCallWritten() throws IOException {
+        server.write(TOOLS_CALL, sink);
+    }
+
+    @Benchmark
+    public String toolsCallCached() {
+        return cachedServer.render(TOOLS_CALL);
+    }
+
+    @Benchmark
+    public String toolsList() {
+        return server.render(TOOLS_LIST);
+    }
+
+    /**
+     * Server with as many tools as the unified server. The UniProt tool is
+     * registered last and answers from memory. The tool result cache is on
+     * only when asked for, whatever {@code CLAVIS_TOOL_CACHE_ENABLED} says.
+     */
+    static final class BenchmarkServer extends MCPServer {
+        private final JsonObject protein;
+
+        BenchmarkServer(JsonObject protein, boolean cacheToolResults) {
+            super("CLAVIS Benchmark", "1.0.0", cacheToolResults);
+            this.protein = protein;
+            registerTools();
+        }
+
+        String render(String message) {
+            return handleMessage(message);
+        }
+
+        void write(String message, Writer out) throws IOException {
+            dispatch(message).writeTo(out);
+        }
+
+        @Override
+        protected void registerTools() {
+            for (int i = 1; i < TOOL_COUNT; i++) {
+                tools.add(tool(String.format("module%02d_tool%d", i / 4, i % 4),
+                        "Benchmark tool " + i + " standing in for one of the unified server's tools"));
+            }
+            tools.add(tool("uniprot_get_protein", "Get a UniProt protein entry by accession"));
+        }
+
+        private MCPTool tool(String name, String description) {
+            return new MCPTool() {
+                @Override
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                public String getDescription() {
+                    return description;
+                }
+
+                @Override
+                public JsonObject getInputSchema() {
+                    JsonObject accession = new JsonObject();
+                    accession.addProperty("type", "string");
+                    JsonObject properties = new JsonObject();
+                    properties.add("accession", accession);
+                    JsonObject schema = new JsonObject();
+                    schema.addProperty("type", "object");
+                    schema.add("properties", properties);
+                    return schema;
+                }
+
+                @Override
+                public JsonObject execute(JsonObject parameters) {
+                    return protein;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.clavis.benchmarks.mcp;
+
+import io.clavis.unified.UnifiedServer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures unified server startup: the time from constructing the server to
+ * the response to its first {@code initialize} message, in a fresh JVM.
+ *
+ * <p>
+ * Each fork starts cold, so class loading and client construction are part
+ * of the figure. {@code lazy} lists tools from the tool manifest and builds
+ * modules on their first call; {@code eager} builds all of them up front, as
+ * the server did before. The {@code rssKb} counter reports the process's
+ * resident set size once {@code initialize} has been answered (Linux only);
+ * JMH sums it over the forks, so divide by the fork count.
+ *
+ * <pre>{@code
+ * java -jar clavis-benchmarks/target/benchmarks.jar StartupBenchmark
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+@State(Scope.Benchmark)
+@Fork(value = 10, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmarks.xml")
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StartupBenchmark {
+
+    private static final String INITIALIZE = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\","
+            + "\"params\":{\"protocolVersion\":\"2024-11-05\",\"capabilities\":{},"
+            + "\"clientInfo\":{\"name\":\"benchmark\",\"version\":\"1.0.0\"}}}";
+
+    @Param({"lazy", "eager"})
+    public String init;
+
+    @Benchmark
+    public String firstInitialize(Footprint footprint) {
+        BenchmarkServer server = new BenchmarkServer("eager".equals(init));
+        server.registerTools();
+        String response = server.render(INITIALIZE);
+        footprint.rssKb = residentSetKb();
+        return response;
+    }
+
+    private static long residentSetKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not on Linux
+        }
+        return 0;
+    }
+
+    /** Memory footprint reported next to the startup time. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long rssKb;
+    }
+
+    /** Unified server that answers messages from memory instead of stdin. */
+    static final class BenchmarkServer extends UnifiedServer {
+        BenchmarkServer(boolean eagerInit) {
+            super(eagerInit);
+        }
+
+        String render(String message) {
+            return handleMessage(message);
+        }
+    }
+}
@@ -0,0 +1,766 @@
+package io.clavis.benchmarks.parsers;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Random;
+
+/**
+ * Generates the synthetic upstream responses bundled under {@code fixtures/}.
+ *
+ * <p>
+ * The fixtures are not recorded responses. Each one follows the layout of
+ * the corresponding service's response (field names, nesting, list sizes
+ * and text lengths) so parsers do realistic work, but titles, abstracts,
+ * authors and identifiers such as PMIDs, DOIs and merged rsids are made up.
+ * Text is assembled from a small phrase bank by a fixed-seed {@link Random},
+ * so every run produces the same files. Regenerate them with:
+ *
+ * <pre>{@code
+ * mvn -pl clavis-benchmarks -am package -DskipTests
+ * java -cp clavis-benchmarks/target/benchmarks.jar io.clavis.benchmarks.parsers.FixtureGenerator \
+ *     clavis-benchmarks/src/main/resources/fixtures
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class FixtureGenerator {
+
+    private static final long SEED = 20250101L;
+    private static final Gson GSON = new GsonBuilder().serializeNulls().disableHtmlEscaping().create();
+
+    private static final String[] SUBJECTS = {
+        "Loss of wild-type p53", "MDM2 amplification", "The R175H hotspot variant", "ATM-dependent signalling",
+        "Nutlin-3a treatment", "CDKN1A induction", "A germline TP53 variant", "MDM4 overexpression",
+        "Phosphorylation of p53 at Ser15", "An oligomerization domain mutant", "Acetylation of the C-terminus",
+        "Restoration of p53 function", "Somatic TP53 mutation", "PPM1D activation", "Transient p53 pulsing"
+    };
+    private static final String[] VERBS = {
+        "stabilizes", "represses", "is associated with", "promotes", "attenuates", "predicts",
+        "restores", "disrupts", "enhances", "delays", "sensitizes cells to", "uncouples"
+    };
+    private static final String[] OBJECTS = {
+        "cell-cycle arrest", "apoptosis after DNA damage", "tumour growth", "transcription of target genes",
+        "genomic instability", "the response to platinum therapy", "cellular senescence", "overall survival",
+        "metabolic adaptation", "replication stress tolerance", "ferroptosis", "clonal expansion"
+    };
+    private static final String[] CONTEXTS = {
+        "in colorectal cancer cell lines", "in a cohort of 1,204 patients", "in mouse xenograft models",
+        "after ionizing radiation", "in primary human fibroblasts", "across 33 tumour types",
+        "in Li-Fraumeni syndrome carriers", "under nutrient deprivation", "in organoid cultures",
+        "during chemotherapy", "in single-cell time courses", "in haematopoietic stem cells"
+    };
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bruno", "Chen", "Dana", "Emeka", "Farah", "Giulia", "Hiro", "Ines", "Jonas",
+        "Kavya", "Lukas", "Mei", "Nadia", "Omar", "Priya", "Rafael", "Sofia", "Tomas", "Yuki"
+    };
+    private static final String[] LAST_NAMES = {
+        "Adeyemi", "Berg", "Costa", "Dubois", "Eriksen", "Fischer", "Garcia", "Hoffmann", "Ivanova", "Jones",
+        "Kim", "Larsen", "Moreau", "Novak", "Okafor", "Patel", "Rossi", "Suzuki", "Tanaka", "Wang"
+    };
+    private static final String AMINO_ACIDS = "ACDEFGHIKLMNPQRSTVWY";
+
+    private final Random random = new Random(SEED);
+
+    private FixtureGenerator() {
+    }
+
+    /**
+     * Writes every fixture.
+     *
+     * @param args the output directory; defaults to the module's
+     *             {@code src/main/resources/fixtures}
+     * @throws IOException if a fixture cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Path.of(args.length > 0 ? args[0] : "clavis-benchmarks/src/main/resources/fixtures");
+        Files.createDirectories(dir);
+        // A generator per fixture, so changing one fixture leaves the others byte-for-byte the same
+        write(dir, "pubmed-efetch.xml", new FixtureGenerator().pubMedEfetch(50));
+        write(dir, "arxiv-query.xml", new FixtureGenerator().arxivQuery(50));
+        write(dir, "kegg-pathway-hsa04115.txt", new FixtureGenerator().keggPathway(160, 12, 8));
+        write(dir, "uniprot-entry-P04637.json", GSON.toJson(new FixtureGenerator().uniProtEntry(0)));
+        write(dir, "uniprot-search.json", GSON.toJson(new FixtureGenerator().uniProtSearch(25)));
+        write(dir, "s2-paper-search.json", GSON.toJson(new FixtureGenerator().semanticScholarSearch(100)));
+        write(dir, "dbsnp-refsnp-7412.json", GSON.toJson(new FixtureGenerator().dbSnpRefSnp()));
+        write(dir, "clinicaltrials-search.json", GSON.toJson(new FixtureGenerator().clinicalTrialsSearch(20)));
+        write(dir, "reactome-pathway.json", GSON.toJson(new FixtureGenerator().reactomePathway(30, 40)));
+    }
+
+    private static void write(Path dir, String name, String content) throws IOException {
+        Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    // PubMed efetch
+
+    private String pubMedEfetch(int articles) {
+        StringBuilder xml = new StringBuilder(articles * 4500);
+        xml.append("<?xml version=\"1.0\" ?>\n")
+                .append("<!DOCTYPE PubmedArticleSet PUBLIC \"-//NLM//DTD PubMedArticle, 1st January 2024//EN\"")
+                .append(" \"https://dtd.nlm.nih.gov/ncbi/pubmed/out/pubmed_240101.dtd\">\n")
+                .append("<PubmedArticleSet>\n");
+        for (int i = 0; i < articles; i++) {
+            appendPubMedArticle(xml, 90000000 + i);
+        }
+        return xml.append("</PubmedArticleSet>\n").toString();
+    }
+
+    private void appendPubMedArticle(StringBuilder xml, int pmid) {
+        int year = 2010 + random.nextInt(14);
+        int firstPage = 100 + random.nextInt(1800);
+        xml.append("<PubmedArticle><MedlineCitation Status=\"MEDLINE\" Owner=\"NLM\">")
+                .append("<PMID Version=\"1\">").append(pmid).append("</PMID>")
+                .append("<DateCompleted><Year>").append(year + 1).append("</Year><Month>0")
+                .append(1 + random.nextInt(9)).append("</Month><Day>1").append(random.nextInt(10))
+                .append("</Day></DateCompleted>")
+                .append("<Article PubModel=\"Print-Electronic\"><Journal>")
+                .append("<ISSN IssnType=\"Electronic\">0000-0000</ISSN>")
+                .append("<JournalIssue CitedMedium=\"Internet\"><Volume>").append(year - 1968)
+                .append("</Volume><Issue>").append(1 + random.nextInt(12)).append("</Issue>")
+                .append("<PubDate><Year>").append(year).append("</Year><Month>")
+                .append(month(random.nextInt(12))).append("</Month></PubDate></JournalIssue>")
+                .append("<Title>Journal of synthetic oncology</Title>")
+                .append("<ISOAbbreviation>J Synth Oncol</ISOAbbreviation></Journal>")
+                .append("<ArticleTitle>").append(title()).append("</ArticleTitle>")
+                .append("<Pagination><MedlinePgn>").append(firstPage).append('-')
+                .append(firstPage + 8 + random.nextInt(12)).append("</MedlinePgn></Pagination>")
+                .append("<Abstract>");
+        for (String label : new String[] {"BACKGROUND", "METHODS", "RESULTS", "CONCLUSIONS"}) {
+            // Real abstracts carry inline markup such as gene symbols in italics
+            String text = paragraph(2 + random.nextInt(2)).replace("TP53", "<i>TP53</i>");
+            xml.append("<AbstractText Label=\"").append(label).append("\">").append(text).append("</AbstractText>");
+        }
+        xml.append("</Abstract><AuthorList CompleteYN=\"Y\">");
+        int authors = 4 + random.nextInt(6);
+        for (int a = 0; a < authors; a++) {
+            String first = pick(FIRST_NAMES);
+            xml.append("<Author ValidYN=\"Y\"><LastName>").append(pick(LAST_NAMES)).append("</LastName>")
+                    .append("<ForeName>").append(first).append("</ForeName><Initials>").append(first.charAt(0))
+                    .append("</Initials><AffiliationInfo><Affiliation>Department of Oncology, Example University ")
+                    .append(1 + random.nextInt(40)).append(".</Affiliation></AffiliationInfo></Author>");
+        }
+        xml.append("</AuthorList><Language>eng</Language><PublicationTypeList>")
+                .append("<PublicationType UI=\"D016428\">Journal Article</PublicationType>")
+                .append("</PublicationTypeList></Article><MeshHeadingList>");
+        for (int m = 0; m < 8; m++) {
+            xml.append("<MeshHeading><DescriptorName UI=\"D0").append(10000 + random.nextInt(89999))
+                    .append("\" MajorTopicYN=\"").append(m == 0 ? 'Y' : 'N').append("\">")
+                    .append(capitalize(pick(OBJECTS))).append("</DescriptorName></MeshHeading>");
+        }
+        xml.append("</MeshHeadingList><KeywordList Owner=\"NOTNLM\">")
+                .append("<Keyword MajorTopicYN=\"N\">p53</Keyword>")
+                .append("<Keyword MajorTopicYN=\"N\">").append(pick(OBJECTS)).append("</Keyword>")
+                .append("</KeywordList></MedlineCitation><PubmedData><History>")
+                .append("<PubMedPubDate PubStatus=\"received\"><Year>").append(year - 1)
+                .append("</Year><Month>").append(1 + random.nextInt(12)).append("</Month><Day>")
+                .append(1 + random.nextInt(28)).append("</Day></PubMedPubDate></History>")
+                .append("<PublicationStatus>ppublish</PublicationStatus><ArticleIdList>")
+                .append("<ArticleId IdType=\"pubmed\">").append(pmid).append("</ArticleId>")
+                .append("<ArticleId IdType=\"doi\">10.5555/synth.").append(pmid).append("</ArticleId>")
+                .append("</ArticleIdList></PubmedData></PubmedArticle>\n");
+    }
+
+    // arXiv Atom feed
+
+    private String arxivQuery(int entries) {
+        StringBuilder xml = new StringBuilder(entries * 2200);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<feed xmlns=\"http://www.w3.org/2005/Atom\">\n")
+                .append("  <link href=\"http://arxiv.org/api/query?search_query=all:p53&amp;start=0&amp;max_results=")
+                .append(entries).append("\" rel=\"self\" type=\"application/atom+xml\"/>\n")
+                .append("  <title type=\"html\">ArXiv Query: search_query=all:p53&amp;id_list=&amp;start=0")
+                .append("&amp;max_results=").append(entries).append("</title>\n")
+                .append("  <id>http://arxiv.org/api/synthetic</id>\n")
+                .append("  <updated>2024-02-10T00:00:00-05:00</updated>\n");
+        appendOpenSearch(xml, "totalResults", 1243);
+        appendOpenSearch(xml, "startIndex", 0);
+        appendOpenSearch(xml, "itemsPerPage", entries);
+        for (int i = 0; i < entries; i++) {
+            String id = "2401." + (90000 + i * 17) + "v" + (1 + random.nextInt(3));
+            String day = String.format("2024-01-%02d", 1 + i % 28);
+            xml.append("  <entry>\n")
+                    .append("    <id>http://arxiv.org/abs/").append(id).append("</id>\n")
+                    .append("    <updated>").append(day).append("T18:00:00Z</updated>\n")
+                    .append("    <published>").append(day).append("T18:00:00Z</published>\n")
+                    .append("    <title>").append(title()).append("</title>\n")
+                    .append("    <summary>  ").append(paragraph(7)).append("\n</summary>\n");
+            int authors = 2 + random.nextInt(5);
+            for (int a = 0; a < authors; a++) {
+                xml.append("    <author>\n      <name>").append(pick(FIRST_NAMES)).append(' ')
+                        .append(pick(LAST_NAMES)).append("</name>\n    </author>\n");
+            }
+            xml.append("    <arxiv:comment xmlns:arxiv=\"http://arxiv.org/schemas/atom\">")
+                    .append(8 + random.nextInt(20)).append(" pages, ").append(2 + random.nextInt(8))
+                    .append(" figures</arxiv:comment>\n")
+                    .append("    <link href=\"http://arxiv.org/abs/").append(id)
+                    .append("\" rel=\"alternate\" type=\"text/html\"/>\n")
+                    .append("    <link title=\"pdf\" href=\"http://arxiv.org/pdf/").append(id)
+                    .append("\" rel=\"related\" type=\"application/pdf\"/>\n")
+                    .append("    <arxiv:primary_category xmlns:arxiv=\"http://arxiv.org/schemas/atom\" term=\"q-bio.GN\"")
+                    .append(" scheme=\"http://arxiv.org/schemas/atom\"/>\n")
+                    .append("    <category term=\"q-bio.GN\" scheme=\"http://arxiv.org/schemas/atom\"/>\n")
+                    .append("    <category term=\"").append(random.nextBoolean() ? "cs.LG" : "q-bio.MN")
+                    .append("\" scheme=\"http://arxiv.org/schemas/atom\"/>\n")
+                    .append("  </entry>\n");
+        }
+        return xml.append("</feed>\n").toString();
+    }
+
+    private static void appendOpenSearch(StringBuilder xml, String element, int value) {
+        xml.append("  <opensearch:").append(element)
+                .append(" xmlns:opensearch=\"http://a9.com/-/spec/opensearch/1.1/\">").append(value)
+                .append("</opensearch:").append(element).append(">\n");
+    }
+
+    // KEGG flat file
+
+    private String keggPathway(int genes, int compounds, int references) {
+        StringBuilder text = new StringBuilder(genes * 90);
+        text.append("ENTRY       hsa04115                    Pathway\n")
+                .append("NAME        p53 signaling pathway - Homo sapiens (human)\n")
+                .append("DESCRIPTION ").append(paragraph(6)).append('\n')
+                .append("CLASS       Cellular Processes; Cell growth and death\n")
+                .append("PATHWAY_MAP hsa04115  p53 signaling pathway\n")
+                .append("NETWORK     nt99001  Synthetic network\n")
+                .append("  ELEMENT   N99001  Synthetic network element\n")
+                .append("DRUG        D99001  Synthetic drug\n")
+                .append("ORGANISM    Homo sapiens (human) [GN:hsa]\n");
+        for (int g = 0; g < genes; g++) {
+            text.append(g == 0 ? "GENE        " : "            ")
+                    .append(1000 + g * 7).append("  SYN").append(g).append("; synthetic gene product ").append(g)
+                    .append(" [KO:K9").append(String.format("%04d", g)).append("] [EC:2.7.11.")
+                    .append(1 + random.nextInt(30)).append("]\n");
+        }
+        for (int c = 0; c < compounds; c++) {
+            text.append(c == 0 ? "COMPOUND    " : "            ")
+                    .append(String.format("C9%04d", c)).append("  Synthetic compound ").append(c).append('\n');
+        }
+        for (int r = 0; r < references; r++) {
+            int year = 2000 + random.nextInt(24);
+            text.append("REFERENCE   PMID:").append(90000000 + r).append('\n')
+                    .append("  AUTHORS   ").append(pick(LAST_NAMES)).append(" A, ").append(pick(LAST_NAMES))
+                    .append(" B\n")
+                    .append("  TITLE     ").append(title()).append('\n')
+                    .append("  JOURNAL   J Synth Oncol ").append(year - 1990).append(':')
+                    .append(100 + random.nextInt(900)).append("-").append(1000 + random.nextInt(100))
+                    .append(" (").append(year).append(")\n")
+                    .append("            DOI:10.5555/synth.").append(90000000 + r).append('\n');
+        }
+        return text.append("REL_PATHWAY hsa04010  MAPK signaling pathway\n")
+                .append("            hsa04110  Cell cycle\n")
+                .append("            hsa04210  Apoptosis\n")
+                .append("KO_PATHWAY  ko04115\n")
+                .append("///\n").toString();
+    }
+
+    // UniProt
+
+    private JsonObject uniProtSearch(int entries) {
+        JsonArray results = new JsonArray();
+        for (int i = 0; i < entries; i++) {
+            results.add(uniProtEntry(i));
+        }
+        return obj("results", results);
+    }
+
+    private JsonObject uniProtEntry(int index) {
+        String accession = index == 0 ? "P04637" : String.format("Q9%04d", index);
+        JsonArray secondary = new JsonArray();
+        for (int s = 0; s < 26; s++) {
+            secondary.add(String.format("Q8%04d", index * 26 + s));
+        }
+        String sequence = sequence(393);
+
+        JsonArray comments = new JsonArray();
+        comments.add(obj("texts", arr(obj("evidences", evidences(3), "value", paragraph(4))),
+                "commentType", "FUNCTION"));
+        comments.add(obj("texts", arr(obj("value", paragraph(2))), "commentType", "SUBUNIT"));
+        comments.add(obj("commentType", "SUBCELLULAR LOCATION", "subcellularLocations", arr(
+                obj("location", obj("value", "Cytoplasm", "id", "SL-0086")),
+                obj("location", obj("value", "Nucleus", "id", "SL-0191")))));
+        for (int d = 0; d < 8; d++) {
+            comments.add(obj("commentType", "DISEASE", "disease", obj(
+                    "diseaseId", "Synthetic disorder " + (d + 1),
+                    "diseaseAccession", String.format("DI-9%04d", d),
+                    "acronym", "SYND" + (d + 1),
+                    "description", sentence(),
+                    "diseaseCrossReference", obj("database", "MIM", "id", String.valueOf(900000 + d)))));
+        }
+        comments.add(obj("texts", arr(obj("value", "Belongs to the p53 family.")), "commentType", "SIMILARITY"));
+
+        JsonArray features = new JsonArray();
+        features.add(feature("Chain", 1, 393, "Cellular tumor antigen p53"));
+        features.add(feature("DNA binding", 102, 292, ""));
+        for (int r = 0; r < 4; r++) {
+            int start = 1 + random.nextInt(300);
+            features.add(feature("Region", start, start + 20 + random.nextInt(60), capitalize(pick(OBJECTS))));
+        }
+        for (int b = 0; b < 4; b++) {
+            int position = 150 + random.nextInt(100);
+            JsonObject site = feature("Binding site", position, position, "");
+            site.add("ligand", obj("name", "Zn(2+)", "id", "ChEBI:CHEBI:29105"));
+            features.add(site);
+        }
+        for (int m = 0; m < 10; m++) {
+            int position = 1 + random.nextInt(393);
+            features.add(feature("Modified residue", position, position, "Phosphoserine"));
+        }
+        for (int v = 0; v < 4; v++) {
+            int position = 1 + random.nextInt(393);
+            JsonObject variant = feature("Natural variant", position, position, "in SYND" + (v + 1));
+            variant.add("alternativeSequence", obj(
+                    "originalSequence", String.valueOf(sequence.charAt(position - 1)),
+                    "alternativeSequences", arr(String.valueOf(pick(AMINO_ACIDS)))));
+            features.add(variant);
+        }
+
+        JsonArray crossReferences = new JsonArray();
+        for (int p = 0; p < 8; p++) {
+            crossReferences.add(obj("database", "PDB", "id", String.format("%d%c%c%c", 1 + random.nextInt(8),
+                    pick("ABCDEFGHJKLMNPQRSTVWXYZ"), pick("ABCDEFGHJKLMNPQRSTVWXYZ"), pick("0123456789")),
+                    "properties", arr(
+                            obj("key", "Method", "value", "X-ray"),
+                            obj("key", "Resolution", "value", String.format("%.2f A", 1.2 + random.nextDouble() * 2)),
+                            obj("key", "Chains", "value", "A/B=94-312"))));
+        }
+        for (int g = 0; g < 13; g++) {
+            crossReferences.add(obj("database", "GO", "id", String.format("GO:%07d", 1000 + random.nextInt(90000)),
+                    "properties", arr(
+                            obj("key", "GoTerm", "value", "P:" + pick(OBJECTS)),
+                            obj("key", "GoEvidenceType", "value", "IDA:UniProtKB"))));
+        }
+
+        return obj(
+                "entryType", "UniProtKB reviewed (Swiss-Prot)",
+                "primaryAccession", accession,
+                "secondaryAccessions", secondary,
+                "uniProtkbId", index == 0 ? "P53_HUMAN" : "SYN" + index + "_HUMAN",
+                "entryAudit", obj("firstPublicDate", "1987-08-13", "lastAnnotationUpdateDate", "2024-07-24",
+                        "lastSequenceUpdateDate", "1995-11-01", "entryVersion", 312, "sequenceVersion", 4),
+                "annotationScore", 5.0,
+                "organism", obj("scientificName", "Homo sapiens", "commonName", "Human", "taxonId", 9606,
+                        "lineage", arr("Eukaryota", "Metazoa", "Chordata", "Craniata", "Vertebrata", "Euteleostomi",
+                                "Mammalia", "Eutheria", "Euarchontoglires", "Primates", "Haplorrhini", "Catarrhini",
+                                "Hominidae", "Homo")),
+                "proteinExistence", "1: Evidence at protein level",
+                "proteinDescription", obj(
+                        "recommendedName", obj("fullName", obj("value", "Cellular tumor antigen p53")),
+                        "alternativeNames", arr(
+                                obj("fullName", obj("value", "Phosphoprotein p53")),
+                                obj("fullName", obj("value", "Tumor suppressor p53")))),
+                "genes", arr(obj("geneName", obj("value", "TP53"), "synonyms", arr(obj("value", "P53")))),
+                "comments", comments,
+                "features", features,
+                "keywords", arr(
+                        obj("id", "KW-0007", "category", "PTM", "name", "Acetylation"),
+                        obj("id", "KW-0053", "category", "Biological process", "name", "Apoptosis"),
+                        obj("id", "KW-0131", "category", "Biological process", "name", "Cell cycle"),
+                        obj("id", "KW-0238", "category", "Molecular function", "name", "DNA-binding")),
+                "references", arr(reference(1), reference(2)),
+                "uniProtKBCrossReferences", crossReferences,
+                "sequence", obj("value", sequence, "length", sequence.length(),
+                        "molWeight", 110 * sequence.length() + random.nextInt(1000), "md5", md5(sequence)));
+    }
+
+    private JsonObject feature(String type, int start, int end, String description) {
+        return obj("type", type,
+                "location", obj("start", obj("value", start, "modifier", "EXACT"),
+                        "end", obj("value", end, "modifier", "EXACT")),
+                "description", description);
+    }
+
+    private JsonArray evidences(int count) {
+        JsonArray evidences = new JsonArray();
+        for (int e = 0; e < count; e++) {
+            evidences.add(obj("evidenceCode", "ECO:0000269", "source", "PubMed",
+                    "id", String.valueOf(90000000 + random.nextInt(100000))));
+        }
+        return evidences;
+    }
+
+    private JsonObject reference(int number) {
+        String pmid = String.valueOf(90000000 + random.nextInt(100000));
+        return obj("referenceNumber", number,
+                "citation", obj("id", pmid, "citationType", "journal article",
+                        "authors", arr(author(), author(), author()),
+                        "citationCrossReferences", arr(obj("database", "PubMed", "id", pmid),
+                                obj("database", "DOI", "id", "10.5555/synth." + pmid)),
+                        "title", title(), "publicationDate", String.valueOf(1985 + random.nextInt(30)),
+                        "journal", "J. Synth. Oncol.", "firstPage", "1251", "lastPage", "1255", "volume", "4"),
+                "referencePositions", arr("NUCLEOTIDE SEQUENCE [MRNA]"));
+    }
+
+    private String author() {
+        return pick(LAST_NAMES) + " " + pick(FIRST_NAMES).charAt(0) + ".";
+    }
+
+    private String sequence(int length) {
+        StringBuilder sequence = new StringBuilder(length).append('M');
+        while (sequence.length() < length) {
+            sequence.append(pick(AMINO_ACIDS));
+        }
+        return sequence.toString();
+    }
+
+    private static String md5(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().withUpperCase().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is always available", e);
+        }
+    }
+
+    // Semantic Scholar
+
+    private JsonObject semanticScholarSearch(int papers) {
+        JsonArray data = new JsonArray();
+        for (int i = 0; i < papers; i++) {
+            int year = 2005 + random.nextInt(19);
+            boolean openAccess = random.nextBoolean();
+            JsonArray authors = new JsonArray();
+            int authorCount = 2 + random.nextInt(10);
+            for (int a = 0; a < authorCount; a++) {
+                authors.add(obj("authorId", String.valueOf(1000 + random.nextInt(9000)),
+                        "name", pick(FIRST_NAMES) + " " + pick(LAST_NAMES)));
+            }
+            String paperId = md5("s2-" + i).toLowerCase() + String.format("%08x", i);
+            data.add(obj(
+                    "paperId", paperId,
+                    "externalIds", obj("DOI", "10.5555/synth." + (91000000 + i),
+                            "PubMed", String.valueOf(91000000 + i), "CorpusId", 900000 + i),
+                    "url", "https://www.semanticscholar.org/paper/" + paperId,
+                    "title", title(),
+                    "abstract", paragraph(5),
+                    "venue", "Journal of synthetic oncology",
+                    "year", year,
+                    "referenceCount", 20 + random.nextInt(80),
+                    "citationCount", random.nextInt(4000),
+                    "influentialCitationCount", random.nextInt(200),
+                    "isOpenAccess", openAccess,
+                    "openAccessPdf", openAccess
+                            ? obj("url", "https://example.org/synthetic/" + i + ".pdf", "status", "GREEN")
+                            : null,
+                    "fieldsOfStudy", arr("Biology", "Medicine"),
+                    "s2FieldsOfStudy", arr(obj("category", "Biology", "source", "external"),
+                            obj("category", "Medicine", "source", "s2-fos-model")),
+                    "publicationTypes", arr("JournalArticle", random.nextBoolean() ? "Review" : "Study"),
+                    "publicationDate", String.format("%d-%02d-%02d", year, 1 + random.nextInt(12),
+                            1 + random.nextInt(28)),
+                    "journal", obj("name", "Journal of synthetic oncology", "volume", String.valueOf(year - 1990),
+                            "pages", (1 + random.nextInt(900)) + "-" + (1000 + random.nextInt(100))),
+                    "authors", authors));
+        }
+        return obj("total", 48213, "offset", 0, "next", papers, "data", data);
+    }
+
+    // dbSNP
+
+    private JsonObject dbSnpRefSnp() {
+        JsonArray merges = new JsonArray();
+        for (int m = 0; m < 200; m++) {
+            merges.add(obj("merged_rsid", String.valueOf(900000000 + random.nextInt(90000000)),
+                    "revision", String.valueOf(120 + random.nextInt(30)), "merge_date", "2008-05-24T05:44Z"));
+        }
+        JsonArray citations = new JsonArray();
+        for (int c = 0; c < 400; c++) {
+            citations.add(90000000 + random.nextInt(1000000));
+        }
+        JsonArray movements = new JsonArray();
+        for (int p = 0; p < 150; p++) {
+            movements.add(obj(
+                    "component_ids", arr(obj("type", "subsnp", "value", 9000000000L + random.nextInt(100000000))),
+                    "observation", spdi("NC_000019.10", 44908821, "C", "T"),
+                    "allele_in_cur_release", spdi("NC_000019.10", 44908821, "C", "T"),
+                    "other_rsids_in_cur_release", new JsonArray(),
+                    "previous_release", "155",
+                    "last_added_to_this_rs", "156"));
+        }
+        JsonArray placements = new JsonArray();
+        String[] sequences = {"NC_000019.10", "NC_000019.9", "NG_007084.2", "NM_000041.4", "NM_001302688.2",
+            "NP_000032.1"};
+        for (int p = 0; p < sequences.length; p++) {
+            int position = 44908821 - p * 1000;
+            placements.add(obj(
+                    "seq_id", sequences[p],
+                    "is_ptlp", p == 0,
+                    "placement_annot", obj("seq_type", p < 2 ? "refseq_chromosome" : "refseq_mrna",
+                            "mol_type", p < 3 ? "genomic" : "rna",
+                            "seq_id_traits_by_assembly", arr(obj("assembly_name", "GRCh38.p14",
+                                    "is_top_level", true))),
+                    "alleles", arr(
+                            obj("allele", obj("spdi", spdi(sequences[p], position, "C", "C")),
+                                    "hgvs", sequences[p] + ":g." + (position + 1) + "C="),
+                            obj("allele", obj("spdi", spdi(sequences[p], position, "C", "T")),
+                                    "hgvs", sequences[p] + ":g." + (position + 1) + "C>T"))));
+        }
+        JsonArray annotations = new JsonArray();
+        for (int a = 0; a < 2; a++) {
+            JsonArray frequency = new JsonArray();
+            for (int f = 0; f < 20; f++) {
+                int total = 1000 + random.nextInt(100000);
+                frequency.add(obj("study_name", "SYNTH_STUDY_" + f, "study_version", 1, "local_row_id", f,
+                        "observation", spdi("NC_000019.10", 44908821, "C", a == 0 ? "C" : "T"),
+                        "allele_count", random.nextInt(total), "total_count", total));
+            }
+            JsonArray clinical = new JsonArray();
+            for (int c = 0; c < 30; c++) {
+                clinical.add(obj("allele_id", 900000 + c,
+                        "accession_version", String.format("RCV9%08d.%d", c, 1 + random.nextInt(3)),
+                        "disease_names", arr("Synthetic disorder " + (1 + random.nextInt(8))),
+                        "clinical_significances", arr(random.nextBoolean() ? "benign" : "risk factor"),
+                        "review_status", "criteria_provided_single_submitter",
+                        "origin", "germline",
+                        "collection_method", arr("clinical testing")));
+            }
+            JsonArray rnas = new JsonArray();
+            for (int r = 0; r < 4; r++) {
+                rnas.add(obj("id", "NM_90000" + r + ".1",
+                        "codon_aligned_transcript_change", spdi("NM_90000" + r + ".1", 586, "CGC", "CGC"),
+                        "sequence_ontology", arr(obj("name", "coding_sequence_variant", "accession", "SO:0001580")),
+                        "protein", obj("variant", obj("spdi", spdi("NP_90000" + r + ".1", 175, "R", "C")),
+                                "sequence_ontology", new JsonArray())));
+            }
+            annotations.add(obj(
+                    "frequency", frequency,
+                    "clinical", clinical,
+                    "submissions", new JsonArray(),
+                    "assembly_annotation", arr(obj("seq_id", "NC_000019.10", "annotation_release", "110",
+                            "genes", arr(obj("name", "apolipoprotein E", "id", 348, "locus", "APOE",
+                                    "is_pseudo", false, "orientation", "plus",
+                                    "sequence_ontology", new JsonArray(), "rnas", rnas))))));
+        }
+        return obj(
+                "refsnp_id", "7412",
+                "create_date", "2000-09-19T17:02Z",
+                "last_update_date", "2024-04-27T04:11Z",
+                "last_update_build_id", "156",
+                "dbsnp1_merges", merges,
+                "citations", citations,
+                "lost_obs_movements", new JsonArray(),
+                "present_obs_movements", movements,
+                "primary_snapshot_data", obj(
+                        "placements_with_allele", placements,
+                        "allele_annotations", annotations,
+                        "anchor", "NC_000019.10:44908821:1:SNV",
+                        "variant_type", "snv"),
+                "mane_select_ids", arr("NM_000041.4"));
+    }
+
+    private static JsonObject spdi(String sequence, int position, String deleted, String inserted) {
+        return obj("seq_id", sequence, "position", position,
+                "deleted_sequence", deleted, "inserted_sequence", inserted);
+    }
+
+    // ClinicalTrials.gov
+
+    private JsonObject clinicalTrialsSearch(int studies) {
+        JsonArray results = new JsonArray();
+        for (int i = 0; i < studies; i++) {
+            String drug = "SYN-" + (100 + random.nextInt(900));
+            JsonArray locations = new JsonArray();
+            for (int l = 0; l < 15; l++) {
+                locations.add(obj("facility", "Example Cancer Center " + l, "status", "RECRUITING",
+                        "city", "City " + l, "state", "State " + l % 5, "zip", String.format("%05d", 10000 + l),
+                        "country", "United States",
+                        "geoPoint", obj("lat", 30 + random.nextInt(15) + 0.5, "lon", -70 - random.nextInt(50) - 0.5)));
+            }
+            results.add(obj(
+                    "protocolSection", obj(
+                            "identificationModule", obj("nctId", String.format("NCT9%07d", i),
+                                    "orgStudyIdInfo", obj("id", "SYN-" + i),
+                                    "organization", obj("fullName", "Example Oncology Group", "class", "OTHER"),
+                                    "briefTitle", title(),
+                                    "officialTitle", sentence() + " " + title()),
+                            "statusModule", obj("statusVerifiedDate", "2024-03", "overallStatus", "RECRUITING",
+                                    "startDateStruct", obj("date", "2021-06-01", "type", "ACTUAL"),
+                                    "primaryCompletionDateStruct", obj("date", "2026-12-31", "type", "ESTIMATED"),
+                                    "lastUpdatePostDateStruct", obj("date", "2024-03-11", "type", "ACTUAL")),
+                            "sponsorCollaboratorsModule", obj("responsibleParty", obj("type", "SPONSOR"),
+                                    "leadSponsor", obj("name", "Example Oncology Group", "class", "OTHER"),
+                                    "collaborators", arr(obj("name", "Example Trials Network", "class", "NETWORK"))),
+                            "descriptionModule", obj("briefSummary", paragraph(3),
+                                    "detailedDescription", paragraph(12)),
+                            "conditionsModule", obj("conditions", arr("Breast Cancer", "Li-Fraumeni Syndrome"),
+                                    "keywords", arr("p53", pick(OBJECTS))),
+                            "designModule", obj("studyType", "INTERVENTIONAL",
+                                    "phases", arr(random.nextBoolean() ? "PHASE2" : "PHASE3"),
+                                    "designInfo", obj("allocation", "RANDOMIZED", "interventionModel", "PARALLEL",
+                                            "primaryPurpose", "TREATMENT", "maskingInfo", obj("masking", "NONE")),
+                                    "enrollmentInfo", obj("count", 40 + random.nextInt(400), "type", "ESTIMATED")),
+                            "armsInterventionsModule", obj(
+                                    "armGroups", arr(
+                                            arm("Arm A", "EXPERIMENTAL", "Drug: " + drug),
+                                            arm("Arm B", "EXPERIMENTAL", "Drug: " + drug),
+                                            arm("Arm C", "ACTIVE_COMPARATOR", "Other: Standard of care")),
+                                    "interventions", arr(
+                                            obj("type", "DRUG", "name", drug, "description", paragraph(2),
+                                                    "armGroupLabels", arr("Arm A", "Arm B")),
+                                            obj("type", "OTHER", "name", "Standard of care",
+                                                    "description", sentence(), "armGroupLabels", arr("Arm C")))),
+                            "outcomesModule", obj("primaryOutcomes", arr(obj("measure", "Progression-free survival",
+                                    "description", paragraph(2), "timeFrame", "Up to 5 years"))),
+                            "eligibilityModule", obj(
+                                    "eligibilityCriteria", "Inclusion Criteria:\n\n* " + sentence() + "\n* "
+                                            + sentence() + "\n\nExclusion Criteria:\n\n* " + sentence() + "\n* "
+                                            + sentence(),
+                                    "healthyVolunteers", false, "sex", "ALL", "minimumAge", "18 Years",
+                                    "stdAges", arr("ADULT", "OLDER_ADULT")),
+                            "contactsLocationsModule", obj("locations", locations)),
+                    "derivedSection", obj(
+                            "miscInfoModule", obj("versionHolder", "2024-03-15"),
+                            "conditionBrowseModule", obj("meshes", arr(obj("id", "D001943",
+                                    "term", "Breast Neoplasms")))),
+                    "hasResults", false));
+        }
+        return obj("studies", results, "totalCount", 842, "nextPageToken", "synthetic-page-2");
+    }
+
+    private JsonObject arm(String label, String type, String intervention) {
+        return obj("label", label, "type", type, "description", paragraph(2),
+                "interventionNames", arr(intervention));
+    }
+
+    // Reactome
+
+    private JsonObject reactomePathway(int references, int events) {
+        JsonArray literature = new JsonArray();
+        for (int r = 0; r < references; r++) {
+            JsonArray authors = new JsonArray();
+            for (int a = 0; a < 5; a++) {
+                authors.add(obj("dbId", 9000000 + random.nextInt(100000),
+                        "displayName", pick(LAST_NAMES) + ", " + pick(FIRST_NAMES).charAt(0)));
+            }
+            String title = title();
+            literature.add(obj("dbId", 9100000 + r, "displayName", title, "title", title,
+                    "journal", "J Synth Oncol", "pages", (1 + random.nextInt(900)) + "-" + (1000 + random.nextInt(100)),
+                    "pubMedIdentifier", 90000000 + r, "volume", 10 + random.nextInt(40),
+                    "year", 1995 + random.nextInt(29), "author", authors, "schemaClass", "LiteratureReference"));
+        }
+        JsonArray children = new JsonArray();
+        for (int e = 0; e < events; e++) {
+            String name = capitalize(pick(OBJECTS)) + " step " + (e + 1);
+            boolean pathway = random.nextInt(4) == 0;
+            children.add(obj("dbId", 9200000 + e, "displayName", name,
+                    "stId", "R-HSA-" + (9200000 + e), "stIdVersion", "R-HSA-" + (9200000 + e) + ".2",
+                    "isInDisease", false, "isInferred", false, "name", arr(name),
+                    "releaseDate", "2004-09-20", "speciesName", "Homo sapiens",
+                    "schemaClass", pathway ? "Pathway" : "BlackBoxEvent",
+                    "className", pathway ? "Pathway" : "Reaction"));
+        }
+        return obj(
+                "dbId", 69541,
+                "displayName", "Stabilization of p53",
+                "stId", "R-HSA-69541",
+                "stIdVersion", "R-HSA-69541.5",
+                "isInDisease", false,
+                "isInferred", false,
+                "name", arr("Stabilization of p53"),
+                "releaseDate", "2004-09-20",
+                "speciesName", "Homo sapiens",
+                "summation", arr(obj("dbId", 9300000, "displayName", "summation", "text", paragraph(8),
+                        "schemaClass", "Summation")),
+                "literatureReference", literature,
+                "hasEvent", children,
+                "hasDiagram", false,
+                "hasEHLD", false,
+                "species", arr(obj("dbId", 48887, "displayName", "Homo sapiens", "taxId", "9606",
+                        "schemaClass", "Species")),
+                "compartment", arr(obj("dbId", 70101, "displayName", "cytosol", "accession", "0005829",
+                        "schemaClass", "Compartment")),
+                "schemaClass", "Pathway",
+                "className", "Pathway");
+    }
+
+    // Text and JSON helpers
+
+    private String sentence() {
+        StringBuilder sentence = new StringBuilder()
+                .append(pick(SUBJECTS)).append(' ').append(pick(VERBS)).append(' ').append(pick(OBJECTS));
+        if (random.nextInt(3) > 0) {
+            sentence.append(' ').append(pick(CONTEXTS));
+        }
+        return sentence.append('.').toString();
+    }
+
+    private String title() {
+        String title = pick(SUBJECTS) + " " + pick(VERBS) + " " + pick(OBJECTS) + " " + pick(CONTEXTS);
+        // Mention the gene symbol often enough for inline markup to occur
+        return (random.nextInt(3) == 0 ? "TP53: " : "") + title + ".";
+    }
+
+    private String paragraph(int sentences) {
+        StringBuilder paragraph = new StringBuilder();
+        for (int s = 0; s < sentences; s++) {
+            if (s > 0) {
+                paragraph.append(' ');
+            }
+            paragraph.append(sentence());
+        }
+        if (random.nextInt(4) == 0) {
+            paragraph.append(" Variant calls were confirmed by TP53 resequencing.");
+        }
+        return paragraph.toString();
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private char pick(String characters) {
+        return characters.charAt(random.nextInt(characters.length()));
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private static String month(int index) {
+        return new String[] {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"}[index];
+    }
+
+    private static JsonObject obj(Object... keysAndValues) {
+        JsonObject object = new JsonObject();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            object.add((String) keysAndValues[i], element(keysAndValues[i + 1]));
+        }
+        return object;
+    }
+
+    private static JsonArray arr(Object... values) {
+        JsonArray array = new JsonArray();
+        for (Object value : values) {
+            array.add(element(value));
+        }
+        return array;
+    }
+
+    private static JsonElement element(Object value) {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        } else if (value instanceof JsonElement json) {
+            return json;
+        } else if (value instanceof String text) {
+            return new JsonPrimitive(text);
+        } else if (value instanceof Number number) {
+            return new JsonPrimitive(number);
+        } else if (value instanceof Boolean flag) {
+            return new JsonPrimitive(flag);
+        }
+        throw new IllegalArgumentException("Unsupported fixture value: " + value);
+    }
+}
@@ -0,0 +1,45 @@
+package io.clavis.benchmarks.parsers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads the synthetic upstream responses bundled under {@code fixtures/}.
+ *
+ * <p>
+ * The fixtures are written by {@link FixtureGenerator}, not recorded. Each
+ * one follows the layout and size of a response from the corresponding
+ * service (e.g. a 50-article efetch set or a 100-paper Semantic Scholar
+ * search page), so parser benchmarks see realistic nesting and field
+ * counts, but the content and identifiers are made up.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Reads a fixture into a string.
+     *
+     * @param name the file name under {@code fixtures/}
+     * @return the fixture contents decoded as UTF-8
+     * @throws UncheckedIOException if the fixture is missing or unreadable
+     */
+    public static String load(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IOException("Fixture not found: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.clavis.benchmarks.parsers;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.clavis.arxiv.ArxivXmlParser;
+import io.clavis.clinicaltrials.ClinicalTrialsJsonParser;
+import io.clavis.core.models.Paper;
+import io.clavis.dbsnp.DbSnpJsonParser;
+import io.clavis.kegg.KEGGParser;
+import io.clavis.pubmed.parsers.PubMedXmlParser;
+import io.clavis.reactome.ReactomeJsonParser;
+import io.clavis.semanticscholar.SemanticScholarJsonParser;
+import io.clavis.uniprot.UniProtJsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every response parser on a synthetic upstream response from
+ * {@link FixtureGenerator}.
+ *
+ * <p>
+ * Each benchmark covers the work a tool does between receiving a body and
+ * handing a result to the MCP layer. Parsers that stream are fed through a
+ * {@code Reader}, as they are from the socket; dbSNP and Reactome include
+ * the formatting step their tools apply to the parsed tree. Network time is
+ * excluded.
+ * </p>
+ *
+ * <p>
+ * Reports throughput and, from sampled calls, latency percentiles (p50 to
+ * p99.99). Add {@code -prof gc} for the allocation rate and bytes allocated
+ * per parse:
+ *
+ * <pre>{@code
+ * java -jar clavis-benchmarks/target/benchmarks.jar ParserBenchmark -prof gc
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParserBenchmark {
+
+    private final PubMedXmlParser pubMed = new PubMedXmlParser();
+    private final ArxivXmlParser arxiv = new ArxivXmlParser();
+    private final DbSnpJsonParser dbSnp = new DbSnpJsonParser();
+    private final ReactomeJsonParser reactome = new ReactomeJsonParser();
+
+    private String pubMedEfetch;
+    private String arxivQuery;
+    private String keggPathway;
+    private String uniProtSearch;
+    private String uniProtEntry;
+    private String semanticScholarSearch;
+    private String dbSnpRefSnp;
+    private String clinicalTrialsSearch;
+    private String reactomePathway;
+
+    @Setup
+    public void setUp() throws IOException {
+        pubMedEfetch = Fixtures.load("pubmed-efetch.xml");
+        arxivQuery = Fixtures.load("arxiv-query.xml");
+        keggPathway = Fixtures.load("kegg-pathway-hsa04115.txt");
+        uniProtSearch = Fixtures.load("uniprot-search.json");
+        uniProtEntry = Fixtures.load("uniprot-entry-P04637.json");
+        semanticScholarSearch = Fixtures.load("s2-paper-search.json");
+        dbSnpRefSnp = Fixtures.load("dbsnp-refsnp-7412.json");
+        clinicalTrialsSearch = Fixtures.load("clinicaltrials-search.json");
+        reactomePathway = Fixtures.load("reactome-pathway.json");
+
+        // Fail fast if a fixture no longer matches what its parser expects
+        require(pubMedEfetch().size() == 50, "pubmed-efetch.xml");
+        require(arxivQuery().size() == 50, "arxiv-query.xml");
+        require(keggFlatFile().has("GENE"), "kegg-pathway-hsa04115.txt");
+        require(uniProtSearch().get("totalResults").getAsInt() == 25, "uniprot-search.json");
+        require(uniProtEntry().has("sequence"), "uniprot-entry-P04637.json");
+        require(semanticScholarSearch().size() == 100, "s2-paper-search.json");
+        require(dbSnpRefSnp().has("alleles"), "dbsnp-refsnp-7412.json");
+        require(clinicalTrialsSearch().getAsJsonArray("trials").size() == 20, "clinicaltrials-search.json");
+        require(reactomePathway().has("childEvents"), "reactome-pathway.json");
+    }
+
+    @Benchmark
+    public List<Paper> pubMedEfetch() throws IOException {
+        return pubMed.parsePapers(new StringReader(pubMedEfetch));
+    }
+
+    @Benchmark
+    public List<Paper> arxivQuery() {
+        return arxiv.parseSearchResults(arxivQuery);
+    }
+
+    @Benchmark
+    public JsonObject keggFlatFile() {
+        return KEGGParser.parseFlatFile(keggPathway);
+    }
+
+    @Benchmark
+    public JsonObject uniProtSearch() throws IOException {
+        return UniProtJsonParser.parseSearchResults(new StringReader(uniProtSearch));
+    }
+
+    @Benchmark
+    public JsonObject uniProtEntry() throws IOException {
+        return UniProtJsonParser.parseProteinDetail(new StringReader(uniProtEntry));
+    }
+
+    @Benchmark
+    public List<Paper> semanticScholarSearch() throws IOException {
+        return SemanticScholarJsonParser.parsePaperSearchResults(new StringReader(semanticScholarSearch));
+    }
+
+    @Benchmark
+    public JsonObject dbSnpRefSnp() throws IOException {
+        return dbSnp.formatRefSnp(DbSnpJsonParser.readRefSnp(new StringReader(dbSnpRefSnp)));
+    }
+
+    @Benchmark
+    public JsonObject clinicalTrialsSearch() {
+        return ClinicalTrialsJsonParser.parseStudySearch(clinicalTrialsSearch);
+    }
+
+    @Benchmark
+    public JsonObject reactomePathway() {
+        return reactome.formatPathwayDetail(JsonParser.parseString(reactomePathway).getAsJsonObject());
+    }
+
+    private static void require(boolean condition, String fixture) {
+        if (!condition) {
+            throw new IllegalStateException("Fixture did not parse as expected: " + fixture);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package io.clavis.benchmarks.pubmed;
+
+import io.clavis.core.models.Author;
+import io.clavis.core.models.Paper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Baseline copy of the original regex-based {@code PubMedXmlParser#parsePapers},
+ * kept only so {@link PubMedXmlParserBenchmark} can compare it with the
+ * streaming implementation.
+ *
+ * <p>
+ * Runs a DOTALL regex over the whole document to find each article, then
+ * one regex per field over each article.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class LegacyPubMedXmlParser {
+
+    private static final Pattern PMID_PATTERN = Pattern.compile("<PMID[^>]*>(\\d+)</PMID>");
+    private static final Pattern TITLE_PATTERN = Pattern.compile("<ArticleTitle>(.*?)</ArticleTitle>", Pattern.DOTALL);
+    private static final Pattern ABSTRACT_PATTERN = Pattern.compile("<AbstractText[^>]*>(.*?)</AbstractText>",
+            Pattern.DOTALL);
+    private static final Pattern AUTHOR_BLOCK_PATTERN = Pattern.compile("<Author[^>]*>(.*?)</Author>", Pattern.DOTALL);
+    private static final Pattern LAST_NAME_PATTERN = Pattern.compile("<LastName>(.*?)</LastName>", Pattern.DOTALL);
+    private static final Pattern FORE_NAME_PATTERN = Pattern.compile("<ForeName>(.*?)</ForeName>", Pattern.DOTALL);
+    private static final Pattern AUTHOR_AFFILIATION_PATTERN = Pattern.compile("<Affiliation>(.*?)</Affiliation>",
+            Pattern.DOTALL);
+    private static final Pattern MESH_HEADING_PATTERN = Pattern.compile("<MeshHeading>(.*?)</MeshHeading>",
+            Pattern.DOTALL);
+    private static final Pattern DESCRIPTOR_NAME_PATTERN = Pattern
+            .compile("<DescriptorName[^>]*>(.*?)</DescriptorName>", Pattern.DOTALL);
+    private static final Pattern PUBLICATION_TYPE_PATTERN = Pattern
+            .compile("<PublicationType[^>]*>(.*?)</PublicationType>", Pattern.DOTALL);
+    private static final Pattern KEYWORD_PATTERN = Pattern.compile("<Keyword[^>]*>(.*?)</Keyword>", Pattern.DOTALL);
+    private static final Pattern JOURNAL_PATTERN = Pattern.compile("<Title>(.*?)</Title>", Pattern.DOTALL);
+    private static final Pattern DOI_PATTERN = Pattern.compile(
+            "<ArticleId IdType=\"doi\">(.*?)</ArticleId>", Pattern.DOTALL);
+    private static final Pattern YEAR_PATTERN = Pattern.compile(
+            "<PubDate>.*?<Year>(\\d{4})</Year>.*?</PubDate>", Pattern.DOTALL);
+    private static final Pattern ARTICLE_PATTERN = Pattern.compile(
+            "<PubmedArticle>(.*?)</PubmedArticle>", Pattern.DOTALL);
+
+    /**
+     * Parses papers from an E-fetch XML response.
+     *
+     * @param xml the XML response from efetch
+     * @return list of parsed papers
+     */
+    List<Paper> parsePapers(String xml) {
+        List<Paper> papers = new ArrayList<>();
+
+        Matcher articleMatcher = ARTICLE_PATTERN.matcher(xml);
+        while (articleMatcher.find()) {
+            String articleXml = articleMatcher.group(1);
+            Paper paper = parseArticle(articleXml);
+            if (paper != null) {
+                papers.add(paper);
+            }
+        }
+
+        return papers;
+    }
+
+    private Paper parseArticle(String xml) {
+        String pmid = extractFirst(PMID_PATTERN, xml);
+        String title = extractFirst(TITLE_PATTERN, xml);
+
+        if (pmid == null || title == null) {
+            return null;
+        }
+
+        Paper.Builder builder = new Paper.Builder()
+                .id(pmid)
+                .source("pubmed")
+                .title(cleanHtml(title))
+                .url("https://pubmed.ncbi.nlm.nih.gov/" + pmid);
+
+        String abstractText = extractFirst(ABSTRACT_PATTERN, xml);
+        if (abstractText != null) {
+            builder.abstractText(cleanHtml(abstractText));
+        }
+
+        String journal = extractFirst(JOURNAL_PATTERN, xml);
+        if (journal != null) {
+            builder.journal(cleanHtml(journal));
+        }
+
+        String doi = extractFirst(DOI_PATTERN, xml);
+        if (doi != null) {
+            builder.doi(doi);
+        }
+
+        String year = extractFirst(YEAR_PATTERN, xml);
+        if (year != null) {
+            builder.publicationDate(year);
+        }
+
+        Matcher authorMatcher = AUTHOR_BLOCK_PATTERN.matcher(xml);
+        List<Author> authors = new ArrayList<>();
+        while (authorMatcher.find()) {
+            String authorXml = authorMatcher.group(1);
+            String lastName = extractFirst(LAST_NAME_PATTERN, authorXml);
+            String foreName = extractFirst(FORE_NAME_PATTERN, authorXml);
+            String affiliation = extractFirst(AUTHOR_AFFILIATION_PATTERN, authorXml);
+
+            if (lastName != null && foreName != null) {
+                authors.add(new Author(foreName + " " + lastName,
+                        affiliation != null ? cleanHtml(affiliation) : null, null));
+            }
+        }
+        builder.authors(authors);
+
+        List<String> meshTerms = new ArrayList<>();
+        Matcher meshMatcher = MESH_HEADING_PATTERN.matcher(xml);
+        while (meshMatcher.find()) {
+            String meshXml = meshMatcher.group(1);
+            String descriptor = extractFirst(DESCRIPTOR_NAME_PATTERN, meshXml);
+            if (descriptor != null) {
+                meshTerms.add(cleanHtml(descriptor));
+            }
+        }
+        builder.meshTerms(meshTerms);
+
+        List<String> publicationTypes = new ArrayList<>();
+        Matcher pubTypeMatcher = PUBLICATION_TYPE_PATTERN.matcher(xml);
+        while (pubTypeMatcher.find()) {
+            publicationTypes.add(cleanHtml(pubTypeMatcher.group(1)));
+        }
+        builder.publicationTypes(publicationTypes);
+
+        List<String> keywords = new ArrayList<>();
+        Matcher keywordMatcher = KEYWORD_PATTERN.matcher(xml);
+        while (keywordMatcher.find()) {
+            keywords.add(cleanHtml(keywordMatcher.group(1)));
+        }
+        builder.keywords(keywords);
+
+        return builder.build();
+    }
+
+    private String extractFirst(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        if (matcher.find()) {
+            return matcher.group(1).trim();
+        }
+        return null;
+    }
+
+    private String cleanHtml(String text) {
+        return text.replaceAll("<[^>]+>", "").trim();
+    }
+}
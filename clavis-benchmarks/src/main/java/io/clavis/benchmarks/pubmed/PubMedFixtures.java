@@ -0,0 +1,113 @@
+package io.clavis.benchmarks.pubmed;
+
+/**
+ * Generates efetch XML documents for {@link PubMedXmlParserBenchmark}.
+ *
+ * <p>
+ * Every article follows the layout of a real MEDLINE record: a structured
+ * abstract with inline markup, eight authors with affiliations, MeSH
+ * headings, keywords, a reference list and the PubmedData id list. Articles
+ * differ in PMID, title and year so no two are identical.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class PubMedFixtures {
+
+    private static final String[] MESH_TERMS = {
+        "Humans", "Tumor Suppressor Protein p53", "DNA Repair", "Mutation", "Neoplasms",
+        "Cell Line, Tumor", "Apoptosis", "Signal Transduction", "Gene Expression Regulation", "Mice"
+    };
+
+    private PubMedFixtures() {
+        // Static utility class
+    }
+
+    /**
+     * Builds an efetch document.
+     *
+     * @param articles number of {@code PubmedArticle} elements
+     * @return the XML document
+     */
+    static String efetchDocument(int articles) {
+        StringBuilder xml = new StringBuilder(articles * 6000);
+        xml.append("<?xml version=\"1.0\" ?>\n")
+                .append("<!DOCTYPE PubmedArticleSet PUBLIC \"-//NLM//DTD PubMedArticle, 1st January 2024//EN\"")
+                .append(" \"https://dtd.nlm.nih.gov/ncbi/pubmed/out/pubmed_240101.dtd\">\n")
+                .append("<PubmedArticleSet>\n");
+        for (int i = 0; i < articles; i++) {
+            appendArticle(xml, 30000000 + i);
+        }
+        return xml.append("</PubmedArticleSet>\n").toString();
+    }
+
+    private static void appendArticle(StringBuilder xml, int pmid) {
+        int year = 1990 + pmid % 35;
+        xml.append("<PubmedArticle>\n")
+                .append("  <MedlineCitation Status=\"MEDLINE\" Owner=\"NLM\">\n")
+                .append("    <PMID Version=\"1\">").append(pmid).append("</PMID>\n")
+                .append("    <Article PubModel=\"Print-Electronic\">\n")
+                .append("      <Journal>\n")
+                .append("        <ISSN IssnType=\"Electronic\">1546-1718</ISSN>\n")
+                .append("        <JournalIssue CitedMedium=\"Internet\"><Volume>51</Volume><Issue>10</Issue>\n")
+                .append("          <PubDate><Year>").append(year).append("</Year><Month>Oct</Month></PubDate>\n")
+                .append("        </JournalIssue>\n")
+                .append("        <Title>Nature genetics</Title>\n")
+                .append("        <ISOAbbreviation>Nat Genet</ISOAbbreviation>\n")
+                .append("      </Journal>\n")
+                .append("      <ArticleTitle>Germline <i>TP53</i> variants and cancer risk in cohort ")
+                .append(pmid).append(".</ArticleTitle>\n")
+                .append("      <Abstract>\n");
+        for (String label : new String[] {"BACKGROUND", "METHODS", "RESULTS", "CONCLUSIONS"}) {
+            xml.append("        <AbstractText Label=\"").append(label).append("\">")
+                    .append("The tumour suppressor p53 coordinates DNA repair, cell-cycle arrest and apoptosis ")
+                    .append("in response to genotoxic stress. We sequenced <i>TP53</i> in 12,000 carriers and ")
+                    .append("observed a hazard ratio of 2.4 (95% CI 1.9&#x2013;3.1) for early-onset tumours, ")
+                    .append("with <sup>a</sup> stronger effect in DNA-binding domain missense variants.")
+                    .append("</AbstractText>\n");
+        }
+        xml.append("      </Abstract>\n")
+                .append("      <AuthorList CompleteYN=\"Y\">\n");
+        for (int a = 0; a < 8; a++) {
+            xml.append("        <Author ValidYN=\"Y\"><LastName>Author").append(a).append("</LastName>")
+                    .append("<ForeName>Given").append(a).append("</ForeName><Initials>G</Initials>")
+                    .append("<AffiliationInfo><Affiliation>Department of Genetics, University ").append(a)
+                    .append(", Cambridge, UK.</Affiliation></AffiliationInfo></Author>\n");
+        }
+        xml.append("      </AuthorList>\n")
+                .append("      <Language>eng</Language>\n")
+                .append("      <PublicationTypeList>\n")
+                .append("        <PublicationType UI=\"D016428\">Journal Article</PublicationType>\n")
+                .append("        <PublicationType UI=\"D013485\">Research Support, Non-U.S. Gov't</PublicationType>\n")
+                .append("      </PublicationTypeList>\n")
+                .append("    </Article>\n")
+                .append("    <MeshHeadingList>\n");
+        for (int m = 0; m < MESH_TERMS.length; m++) {
+            xml.append("      <MeshHeading><DescriptorName UI=\"D00").append(m).append("\" MajorTopicYN=\"N\">")
+                    .append(MESH_TERMS[m]).append("</DescriptorName>")
+                    .append("<QualifierName UI=\"Q000235\" MajorTopicYN=\"Y\">genetics</QualifierName></MeshHeading>\n");
+        }
+        xml.append("    </MeshHeadingList>\n")
+                .append("    <KeywordList Owner=\"NOTNLM\"><Keyword MajorTopicYN=\"N\">Li-Fraumeni syndrome</Keyword>")
+                .append("<Keyword MajorTopicYN=\"N\">germline variants</Keyword></KeywordList>\n")
+                .append("  </MedlineCitation>\n")
+                .append("  <PubmedData>\n")
+                .append("    <PublicationStatus>ppublish</PublicationStatus>\n")
+                .append("    <ArticleIdList>\n")
+                .append("      <ArticleId IdType=\"pubmed\">").append(pmid).append("</ArticleId>\n")
+                .append("      <ArticleId IdType=\"doi\">10.1038/s41588-").append(pmid).append("</ArticleId>\n")
+                .append("    </ArticleIdList>\n")
+                .append("    <ReferenceList>\n");
+        for (int r = 0; r < 20; r++) {
+            xml.append("      <Reference><Citation>Reference author et al. A cited study number ").append(r)
+                    .append(". J Mol Biol. 2015;427(").append(r).append("):100-110.</Citation>")
+                    .append("<ArticleIdList><ArticleId IdType=\"pubmed\">").append(20000000 + r)
+                    .append("</ArticleId></ArticleIdList></Reference>\n");
+        }
+        xml.append("    </ReferenceList>\n")
+                .append("  </PubmedData>\n")
+                .append("</PubmedArticle>\n");
+    }
+}
@@ -0,0 +1,76 @@
+package io.clavis.benchmarks.pubmed;
+
+import io.clavis.core.models.Paper;
+import io.clavis.pubmed.parsers.PubMedXmlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming {@link PubMedXmlParser} with the original
+ * regex-based parser on efetch documents of 20, 200 and 2000 articles.
+ *
+ * <p>
+ * The streaming parser reads from a {@code Reader}, as it does when fed
+ * straight from the response body. Run with {@code -prof gc} to compare
+ * allocation per document as well as time.
+ * </p>
+ *
+ * <p>
+ * Run with:
+ *
+ * <pre>{@code
+ * java -jar clavis-benchmarks/target/benchmarks.jar PubMedXmlParserBenchmark -prof gc
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PubMedXmlParserBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int articles;
+
+    @Param({"legacy", "stax"})
+    public String implementation;
+
+    private String document;
+    private final LegacyPubMedXmlParser legacy = new LegacyPubMedXmlParser();
+    private final PubMedXmlParser stax = new PubMedXmlParser();
+
+    @Setup
+    public void setUp() throws IOException {
+        document = PubMedFixtures.efetchDocument(articles);
+        if (parse().size() != articles) {
+            throw new IllegalStateException("Fixture did not parse into " + articles + " papers");
+        }
+    }
+
+    @Benchmark
+    public List<Paper> parse() throws IOException {
+        if ("legacy".equals(implementation)) {
+            return legacy.parsePapers(document);
+        }
+        return stax.parsePapers(new StringReader(document));
+    }
+}
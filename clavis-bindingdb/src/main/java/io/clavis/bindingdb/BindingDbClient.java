@@ -4,12 +4,12 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonArray;
 import io.clavis.core.exception.ApiException;
+import io.clavis.core.http.HttpClientFactory;
 import okhttp3.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 
 public class BindingDbClient {
     private static final Logger logger = LoggerFactory.getLogger(BindingDbClient.class);
@@ -19,10 +19,7 @@ public class BindingDbClient {
     private final Gson gson;
 
     public BindingDbClient() {
-        this.httpClient = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .build();
+        this.httpClient = HttpClientFactory.createDefault("bindingdb");
         this.gson = new Gson();
     }
 
@@ -1,5 +1,7 @@
 package io.clavis.chembl;
 
+import com.google.gson.JsonObject;
+import io.clavis.core.http.BodyParser;
 import io.clavis.core.http.HttpClientFactory;
 import io.clavis.core.http.RateLimiter;
 import okhttp3.OkHttpClient;
@@ -18,31 +20,29 @@ public class ChEMBLClient {
     private static final String API_BASE = "https://www.ebi.ac.uk/chembl/api/data";
     
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
 
     public ChEMBLClient() {
-        this.httpClient = HttpClientFactory.createDefault();
         // ChEMBL is generous but let's be polite (e.g. 5 req/s)
-        this.rateLimiter = new RateLimiter(5);
+        this.httpClient = HttpClientFactory.createDefault("chembl", new RateLimiter(5));
     }
 
-    public String searchCompounds(String query, int limit) throws IOException {
+    public JsonObject searchCompounds(String query, int limit) throws IOException {
         String encodedQuery = URLEncoder.encode(query, StandardCharsets.UTF_8);
         String url = API_BASE + "/molecule/search?q=" + encodedQuery + "&format=json&limit=" + limit;
-        return executeRequest(url);
+        return executeRequest(url, ChEMBLJsonParser::parseCompoundSearch);
     }
 
-    public String getCompound(String chemblId) throws IOException {
+    public JsonObject getCompound(String chemblId) throws IOException {
         String url = API_BASE + "/molecule/" + chemblId + "?format=json";
-        return executeRequest(url);
+        return executeRequest(url, ChEMBLJsonParser::parseCompound);
     }
 
-    public String getDrugMechanism(String chemblId) throws IOException {
+    public JsonObject getDrugMechanism(String chemblId) throws IOException {
         String url = API_BASE + "/mechanism?molecule_chembl_id=" + chemblId + "&format=json";
-        return executeRequest(url);
+        return executeRequest(url, ChEMBLJsonParser::parseMechanisms);
     }
     
-    public String getBioactivity(String targetChemblId, String moleculeChemblId, int limit) throws IOException {
+    public JsonObject getBioactivity(String targetChemblId, String moleculeChemblId, int limit) throws IOException {
         StringBuilder url = new StringBuilder(API_BASE).append("/activity?format=json");
         if (targetChemblId != null) {
             url.append("&target_chembl_id=").append(targetChemblId);
@@ -51,16 +51,10 @@ public class ChEMBLClient {
             url.append("&molecule_chembl_id=").append(moleculeChemblId);
         }
         url.append("&limit=").append(limit);
-        return executeRequest(url.toString());
+        return executeRequest(url.toString(), ChEMBLJsonParser::parseBioactivity);
     }
 
-    private String executeRequest(String url) throws IOException {
-        try {
-            rateLimiter.acquire();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Request interrupted", e);
-        }
+    private <T> T executeRequest(String url, BodyParser<T> parser) throws IOException {
         Request request = new Request.Builder()
                 .url(url)
                 .header("Accept", "application/json")
@@ -71,7 +65,7 @@ public class ChEMBLClient {
             if (!response.isSuccessful()) {
                 throw new IOException("ChEMBL API error " + response.code() + ": " + response.message());
             }
-            return response.body().string();
+            return BodyParser.parse(response, parser);
         }
     }
 }
@@ -1,52 +1,60 @@
 package io.clavis.chembl;
 
 import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import io.clavis.core.util.StreamingJson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Set;
 
 public class ChEMBLJsonParser {
 
+    private static final Logger logger = LoggerFactory.getLogger(ChEMBLJsonParser.class);
+
+    /** Fields of a molecule record used by {@link #parseCompound(JsonObject)}. */
+    private static final Set<String> COMPOUND_FIELDS = Set.of(
+            "molecule_chembl_id", "pref_name", "molecule_properties", "molecule_structures", "max_phase");
+
     public static JsonObject parseCompoundSearch(String json) {
-        JsonObject result = new JsonObject();
-        JsonArray compounds = new JsonArray();
         try {
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            if (root.has("molecules")) {
-                for (JsonElement el : root.getAsJsonArray("molecules")) {
-                    JsonObject mol = el.getAsJsonObject();
-                    compounds.add(parseCompound(mol));
-                }
-            }
-            result.add("compounds", compounds);
-            result.addProperty("totalResults", compounds.size());
+            return parseCompoundSearch(new StringReader(json));
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.warn("Failed to parse ChEMBL compound search: {}", e.getMessage());
+            JsonObject result = new JsonObject();
             result.addProperty("error", "Failed to parse ChEMBL response");
+            return result;
         }
+    }
+
+    // The Reader overloads stream a response body and throw on a failed read or a malformed
+    // body; only the String overloads fall back to an empty result.
+    public static JsonObject parseCompoundSearch(Reader json) throws IOException {
+        JsonObject result = new JsonObject();
+        JsonArray compounds = new JsonArray();
+        StreamingJson.readArrayField(json, "molecules", el -> parseCompound(el.getAsJsonObject()))
+                .forEach(compounds::add);
+        result.add("compounds", compounds);
+        result.addProperty("totalResults", compounds.size());
         return result;
     }
 
     public static JsonObject parseCompound(String json) {
         try {
-            // If fetching single compound, ChEMBL returns dictionary with single key unless using search
-            // But we only wrapped search and get mechanism/activity
-            // Wait, getCompound returns what?
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            // Try to extract molecule object if wrapped under "molecule" key?
-            // Actually API usually returns just the object fields if asking for specific ID?
-            // Let's assume it returns single object or we handle wrapper
-            // Check curl for single molecule: /molecule/{chembl_id}.json
-            // It likely returns { "molecule_chembl_id": ... } or { "molecule": { ... } }?
-            // The list return was { "molecules": [...] }
-            
-            // Let's implement generic extraction
-            return parseCompound(root);
+            return parseCompound(new StringReader(json));
         } catch (Exception e) {
             return new JsonObject();
         }
     }
 
+    public static JsonObject parseCompound(Reader json) throws IOException {
+        // Only the summarized fields are kept; cross references and synonyms are skipped
+        return parseCompound(StreamingJson.readFields(json, COMPOUND_FIELDS));
+    }
+
     private static JsonObject parseCompound(JsonObject mol) {
         JsonObject summary = new JsonObject();
         summary.addProperty("chemblId", getStr(mol, "molecule_chembl_id"));
@@ -70,50 +78,54 @@ public class ChEMBLJsonParser {
     }
 
     public static JsonObject parseMechanisms(String json) {
-        JsonObject result = new JsonObject();
-        JsonArray mechanisms = new JsonArray();
         try {
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            if (root.has("mechanisms")) {
-                for (JsonElement el : root.getAsJsonArray("mechanisms")) {
-                    JsonObject mech = el.getAsJsonObject();
-                    JsonObject m = new JsonObject();
-                    m.addProperty("mechanismOfAction", getStr(mech, "mechanism_of_action"));
-                    m.addProperty("actionType", getStr(mech, "action_type"));
-                    m.addProperty("targetChemblId", getStr(mech, "target_chembl_id"));
-                    m.addProperty("description", getStr(mech, "mechanism_comment"));
-                    mechanisms.add(m);
-                }
-            }
-            result.add("mechanisms", mechanisms);
+            return parseMechanisms(new StringReader(json));
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.warn("Failed to parse ChEMBL mechanisms: {}", e.getMessage());
+            return new JsonObject();
         }
+    }
+
+    public static JsonObject parseMechanisms(Reader json) throws IOException {
+        JsonObject result = new JsonObject();
+        JsonArray mechanisms = new JsonArray();
+        StreamingJson.readArrayField(json, "mechanisms", el -> {
+            JsonObject mech = el.getAsJsonObject();
+            JsonObject m = new JsonObject();
+            m.addProperty("mechanismOfAction", getStr(mech, "mechanism_of_action"));
+            m.addProperty("actionType", getStr(mech, "action_type"));
+            m.addProperty("targetChemblId", getStr(mech, "target_chembl_id"));
+            m.addProperty("description", getStr(mech, "mechanism_comment"));
+            return m;
+        }).forEach(mechanisms::add);
+        result.add("mechanisms", mechanisms);
         return result;
     }
 
     public static JsonObject parseBioactivity(String json) {
-        JsonObject result = new JsonObject();
-        JsonArray activities = new JsonArray();
         try {
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            if (root.has("activities")) {
-                for (JsonElement el : root.getAsJsonArray("activities")) {
-                    JsonObject act = el.getAsJsonObject();
-                    JsonObject a = new JsonObject();
-                    a.addProperty("type", getStr(act, "standard_type")); // e.g. IC50
-                    a.addProperty("value", getStr(act, "standard_value"));
-                    a.addProperty("units", getStr(act, "standard_units"));
-                    a.addProperty("targetChemblId", getStr(act, "target_chembl_id"));
-                    a.addProperty("assayDescription", getStr(act, "assay_description"));
-                    a.addProperty("moleculeChemblId", getStr(act, "molecule_chembl_id"));
-                    activities.add(a);
-                }
-            }
-            result.add("activities", activities);
+            return parseBioactivity(new StringReader(json));
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.warn("Failed to parse ChEMBL bioactivity: {}", e.getMessage());
+            return new JsonObject();
         }
+    }
+
+    public static JsonObject parseBioactivity(Reader json) throws IOException {
+        JsonObject result = new JsonObject();
+        JsonArray activities = new JsonArray();
+        StreamingJson.readArrayField(json, "activities", el -> {
+            JsonObject act = el.getAsJsonObject();
+            JsonObject a = new JsonObject();
+            a.addProperty("type", getStr(act, "standard_type")); // e.g. IC50
+            a.addProperty("value", getStr(act, "standard_value"));
+            a.addProperty("units", getStr(act, "standard_units"));
+            a.addProperty("targetChemblId", getStr(act, "target_chembl_id"));
+            a.addProperty("assayDescription", getStr(act, "assay_description"));
+            a.addProperty("moleculeChemblId", getStr(act, "molecule_chembl_id"));
+            return a;
+        }).forEach(activities::add);
+        result.add("activities", activities);
         return result;
     }
 
@@ -0,0 +1,37 @@
+package io.clavis.chembl;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the ChEMBL tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class ChEMBLModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "chembl";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "ChEMBL";
+    }
+
+    @Override
+    public String getGroup() {
+        return "chemistry";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new ChEMBLTools().getAllTools();
+    }
+}
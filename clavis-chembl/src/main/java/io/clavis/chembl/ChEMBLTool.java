@@ -4,6 +4,7 @@ import com.google.gson.JsonObject;
 import io.clavis.core.mcp.MCPTool;
 import io.clavis.core.mcp.ToolExecutionException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -54,6 +55,20 @@ public class ChEMBLTool implements MCPTool {
         return schema;
     }
 
+    /**
+     * ChEMBL IDs are case-insensitive, so calls that differ only in their
+     * case share a cached result.
+     */
+    @Override
+    public JsonObject canonicalArguments(JsonObject arguments) {
+        for (String name : properties.keySet()) {
+            if (name.toLowerCase(Locale.ROOT).endsWith("chemblid")) {
+                MCPTool.upperCaseArguments(arguments, name);
+            }
+        }
+        return arguments;
+    }
+
     private String mapType(String type) {
         if ("integer".equals(type)) return "integer";
         return "string";
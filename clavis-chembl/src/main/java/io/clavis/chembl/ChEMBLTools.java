@@ -38,8 +38,7 @@ public class ChEMBLTools {
                 try {
                     String query = args.get("query").getAsString();
                     int limit = args.has("limit") ? args.get("limit").getAsInt() : 10;
-                    String json = client.searchCompounds(query, limit);
-                    return ChEMBLJsonParser.parseCompoundSearch(json).toString();
+                    return client.searchCompounds(query, limit).toString();
                 } catch (IOException e) {
                     return "{\"error\": \"" + e.getMessage() + "\"}";
                 }
@@ -58,8 +57,7 @@ public class ChEMBLTools {
             args -> {
                 try {
                     String chemblId = args.get("chemblId").getAsString();
-                    String json = client.getCompound(chemblId);
-                    return ChEMBLJsonParser.parseCompound(json).toString();
+                    return client.getCompound(chemblId).toString();
                 } catch (IOException e) {
                     return "{\"error\": \"" + e.getMessage() + "\"}";
                 }
@@ -78,8 +76,7 @@ public class ChEMBLTools {
             args -> {
                 try {
                     String chemblId = args.get("chemblId").getAsString();
-                    String json = client.getDrugMechanism(chemblId);
-                    return ChEMBLJsonParser.parseMechanisms(json).toString();
+                    return client.getDrugMechanism(chemblId).toString();
                 } catch (IOException e) {
                     return "{\"error\": \"" + e.getMessage() + "\"}";
                 }
@@ -107,8 +104,7 @@ public class ChEMBLTools {
                         return "{\"error\": \"Must provide either moleculeChemblId or targetChemblId\"}";
                     }
 
-                    String json = client.getBioactivity(targetChemblId, moleculeChemblId, limit);
-                    return ChEMBLJsonParser.parseBioactivity(json).toString();
+                    return client.getBioactivity(targetChemblId, moleculeChemblId, limit).toString();
                 } catch (IOException e) {
                     return "{\"error\": \"" + e.getMessage() + "\"}";
                 }
@@ -23,11 +23,9 @@ public class ClinicalTrialsClient {
     private static final String API_BASE = "https://clinicaltrials.gov/api/v2";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
 
     public ClinicalTrialsClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(3); // Polite rate limit
+        this.httpClient = HttpClientFactory.createDefault("clinicaltrials", new RateLimiter(3)); // Polite rate limit
     }
 
     /**
@@ -79,12 +77,6 @@ public class ClinicalTrialsClient {
     }
 
     private String executeRequest(String url) throws IOException {
-        try {
-            rateLimiter.acquire();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Request interrupted", e);
-        }
         logger.debug("ClinicalTrials request: {}", url);
         Request request = new Request.Builder()
                 .url(url)
@@ -0,0 +1,37 @@
+package io.clavis.clinicaltrials;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the ClinicalTrials tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class ClinicalTrialsModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "clinicaltrials";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "ClinicalTrials";
+    }
+
+    @Override
+    public String getGroup() {
+        return "clinical";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new ClinicalTrialsTools().getAllTools();
+    }
+}
@@ -5,6 +5,7 @@ import com.google.gson.JsonObject;
 import io.clavis.core.mcp.MCPTool;
 import io.clavis.core.mcp.ToolExecutionException;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -39,6 +40,11 @@ public class ClinicalTrialsTool implements MCPTool {
         return description;
     }
 
+    @Override
+    public Duration getResultCacheTtl() {
+        return Duration.ZERO; // Recruitment status and enrollment change without notice; always query live
+    }
+
     @Override
     public JsonObject getInputSchema() {
         JsonObject schema = new JsonObject();
@@ -1,7 +1,8 @@
 package io.clavis.clinvar;
 
+import io.clavis.core.config.ConfigManager;
 import io.clavis.core.http.HttpClientFactory;
-import io.clavis.core.http.RateLimiter;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RetryPolicy;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -21,13 +22,14 @@ public class ClinVarClient {
     private static final String EUTILS_BASE = "https://eutils.ncbi.nlm.nih.gov/entrez/eutils/";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
+    private final String apiKey;
 
     public ClinVarClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(3); // 3 req/s for E-utilities without API key
-        this.retryPolicy = RetryPolicy.defaultPolicy();
+        // E-utilities rate budget is shared with PubMed and dbSNP (3 req/s, 10 with NCBI_API_KEY)
+        this.httpClient = HttpClientFactory.createHostScoped("clinvar", 3);
+        this.apiKey = ConfigManager.getInstance().get("NCBI_API_KEY", "");
+        this.retryPolicy = RetryPolicy.forUpstream("clinvar");
     }
 
     /**
@@ -71,15 +73,17 @@ public class ClinVarClient {
     }
 
     private String executeRequest(HttpUrl url) throws IOException {
+        HttpUrl requestUrl = apiKey.isEmpty()
+                ? url
+                : url.newBuilder().addQueryParameter("api_key", apiKey).build();
         try {
             return retryPolicy.execute(() -> {
-                rateLimiter.acquire();
                 Request request = new Request.Builder()
-                        .url(url)
+                        .url(requestUrl)
                         .build();
                 try (Response response = httpClient.newCall(request).execute()) {
                     if (!response.isSuccessful()) {
-                        throw new IOException("ClinVar API error: " + response.code() + " " + response.message());
+                        throw new HttpStatusException("ClinVar API error: " + response.code() + " " + response.message(), response.code());
                     }
                     return Objects.requireNonNull(response.body()).string();
                 }
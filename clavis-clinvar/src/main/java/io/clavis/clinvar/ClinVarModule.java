@@ -0,0 +1,37 @@
+package io.clavis.clinvar;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the ClinVar tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class ClinVarModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "clinvar";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "ClinVar";
+    }
+
+    @Override
+    public String getGroup() {
+        return "genomics";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new ClinVarTools(new ClinVarClient()).getAllTools();
+    }
+}
@@ -3,12 +3,12 @@ package io.clavis.corepapers;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import io.clavis.core.exception.ApiException;
+import io.clavis.core.http.HttpClientFactory;
 import okhttp3.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 
 public class CorePapersClient {
     private static final Logger logger = LoggerFactory.getLogger(CorePapersClient.class);
@@ -19,10 +19,7 @@ public class CorePapersClient {
     private final String apiKey;
 
     public CorePapersClient() {
-        this.httpClient = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .build();
+        this.httpClient = HttpClientFactory.createDefault("corepapers");
         this.gson = new Gson();
         // Check for API key in environment
         String key = System.getenv("CORE_API_KEY");
@@ -0,0 +1,37 @@
+package io.clavis.corepapers;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the CORE tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class CorePapersModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "corepapers";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "CORE";
+    }
+
+    @Override
+    public String getGroup() {
+        return "literature";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new CorePapersTools(new CorePapersClient()).getAllTools();
+    }
+}
@@ -0,0 +1,109 @@
+package io.clavis.core.cache;
+
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of a successful upstream HTTP response.
+ *
+ * <p>
+ * Only the parts the API clients actually consume are kept: the status
+ * line, the content type and the fully buffered body. Each response also
+ * carries the stale window of the client that stored it, so the caches keep
+ * it past their TTL only for as long as that client serves stale responses.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class CachedResponse {
+
+    private final int code;
+    private final String message;
+    private final String contentType;
+    private final byte[] body;
+    private final long storedAtMillis;
+    private final long staleWindowMillis;
+
+    /**
+     * Creates a cached response.
+     *
+     * @param code        the HTTP status code
+     * @param message     the HTTP status message (may be empty)
+     * @param contentType the response content type, or null if unknown
+     * @param body        the response body bytes (cannot be null)
+     */
+    public CachedResponse(int code, String message, String contentType, byte[] body) {
+        this(code, message, contentType, body, System.currentTimeMillis());
+    }
+
+    /**
+     * Creates a cached response that was stored earlier, e.g. one read back
+     * from the {@link DiskCache}.
+     *
+     * @param code           the HTTP status code
+     * @param message        the HTTP status message (may be empty)
+     * @param contentType    the response content type, or null if unknown
+     * @param body           the response body bytes (cannot be null)
+     * @param storedAtMillis when the response was first stored
+     */
+    public CachedResponse(int code, String message, String contentType, byte[] body, long storedAtMillis) {
+        this(code, message, contentType, body, storedAtMillis, 0);
+    }
+
+    /**
+     * Creates a cached response that may be served stale after the cache's
+     * TTL.
+     *
+     * @param code              the HTTP status code
+     * @param message           the HTTP status message (may be empty)
+     * @param contentType       the response content type, or null if unknown
+     * @param body              the response body bytes (cannot be null)
+     * @param storedAtMillis    when the response was first stored
+     * @param staleWindowMillis how long after the TTL the response is kept,
+     *                          zero to expire it at the TTL
+     */
+    public CachedResponse(int code, String message, String contentType, byte[] body, long storedAtMillis,
+            long staleWindowMillis) {
+        this.code = code;
+        this.message = message != null ? message : "";
+        this.contentType = contentType;
+        this.body = Objects.requireNonNull(body, "body cannot be null");
+        this.storedAtMillis = storedAtMillis;
+        this.staleWindowMillis = Math.max(0, staleWindowMillis);
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Returns the body bytes. The array is shared; callers must not modify it.
+     *
+     * @return the response body
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    public long getStoredAtMillis() {
+        return storedAtMillis;
+    }
+
+    /**
+     * Returns how long after the cache's TTL this response is still kept.
+     *
+     * @return the stale window in milliseconds, zero if it expires at the TTL
+     */
+    public long getStaleWindowMillis() {
+        return staleWindowMillis;
+    }
+}
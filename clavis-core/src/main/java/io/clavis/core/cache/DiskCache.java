@@ -0,0 +1,751 @@
+package io.clavis.core.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Persistent cache of upstream HTTP responses, kept in local files so it
+ * survives restarts and can be shared by every CLAVIS process on a host.
+ *
+ * <p>
+ * Responses are appended to segment files ({@code segment-<n>.log}) as
+ * binary records: a magic number and length, the store and expiry times,
+ * the key, the status line and content type, and the body, deflated when
+ * that makes it smaller, followed by a CRC32. An in-memory index maps each
+ * key to the newest record for it; it is built by scanning the segments on
+ * open and caught up with records appended by other processes at most once
+ * a second on a miss.
+ * </p>
+ *
+ * <p>
+ * Appends and compaction take an exclusive lock on the directory's
+ * {@code .lock} file, so several processes can write to one store. Records
+ * are never modified once written, so reads take no lock; a record that is
+ * incomplete or fails its checksum is treated as a miss. A background
+ * thread compacts the store when it outgrows its size budget or is mostly
+ * superseded and expired records: the live records are copied into a new
+ * segment and the old segments deleted, dropping the oldest responses if
+ * needed to get back under budget. Writes happen on the same thread, so
+ * {@link #put} never blocks the caller on disk I/O.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * DiskCache disk = DiskCache.open(Path.of("/var/cache/clavis"), 256L << 20, Duration.ofHours(1));
+ * disk.put(key, response);
+ * CachedResponse hit = disk.get(key);
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class DiskCache implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiskCache.class);
+
+    private static final int RECORD_MAGIC = 0xC1A5CAC4;
+
+    /** Magic number and length of the record body. */
+    private static final int HEADER_BYTES = 8;
+
+    /** CRC32 of the record body. */
+    private static final int TRAILER_BYTES = 4;
+
+    /** Store time, expiry time and key length: enough of the body to index a record. */
+    private static final int INDEX_PREFIX_BYTES = 18;
+
+    private static final byte FLAG_DEFLATED = 1;
+    private static final byte FLAG_CONTENT_TYPE = 2;
+
+    /** Bodies smaller than this are stored as they are. */
+    private static final int COMPRESS_MIN_BYTES = 256;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String LOCK_FILE = ".lock";
+    private static final String COMPACT_FILE = "compact.tmp";
+
+    private static final long REFRESH_INTERVAL_MILLIS = 1000;
+    private static final long COMPACT_INTERVAL_MINUTES = 5;
+    private static final long MIN_SEGMENT_BYTES = 1024 * 1024;
+
+    /**
+     * File locks are held per process, so instances of one JVM that share a
+     * directory also serialize their writers on a common monitor.
+     */
+    private static final Map<Path, Object> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    /** Where the newest record for a key is stored. */
+    private static final class Location {
+        final long segment;
+        final long offset;
+        final int length;
+        final long storedAtMillis;
+        final long expiresAtMillis;
+
+        Location(long segment, long offset, int length, long storedAtMillis, long expiresAtMillis) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+            this.storedAtMillis = storedAtMillis;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long segmentBytes;
+    private final long ttlMillis;
+    private final Object processLock;
+    private final FileChannel lockChannel;
+    private final ScheduledExecutorService background;
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private final Map<Long, FileChannel> readers = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** Segment id to the end of its last complete record; guarded by this. */
+    private final Map<Long, Long> scanned = new HashMap<>();
+    private long lastSegment;
+    private volatile long lastRefreshMillis;
+
+    private DiskCache(Path directory, long maxBytes, Duration ttl) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.segmentBytes = Math.max(MIN_SEGMENT_BYTES, maxBytes / 8);
+        this.ttlMillis = ttl.toMillis();
+        this.processLock = PROCESS_LOCKS.computeIfAbsent(directory, dir -> new Object());
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "clavis-disk-cache");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens the cache in a directory, creating it if needed, and indexes the
+     * records already there.
+     *
+     * @param directory the cache directory
+     * @param maxBytes  the size compaction keeps the store under, in bytes
+     * @param ttl       time after which a stored response expires, plus
+     *                  its own stale window
+     * @return the open cache
+     * @throws IOException              if the directory cannot be used
+     * @throws IllegalArgumentException if any bound is not positive
+     */
+    public static DiskCache open(Path directory, long maxBytes, Duration ttl) throws IOException {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Disk cache size must be positive");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Disk cache TTL must be positive");
+        }
+        Path dir = directory.toAbsolutePath().normalize();
+        Files.createDirectories(dir);
+        DiskCache cache = new DiskCache(dir, maxBytes, ttl);
+        cache.refresh();
+        cache.background.scheduleWithFixedDelay(cache::compactQuietly,
+                COMPACT_INTERVAL_MINUTES, COMPACT_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        logger.info("Disk cache opened at {}: {} responses indexed", dir, cache.size());
+        return cache;
+    }
+
+    /**
+     * Looks up a stored response.
+     *
+     * @param key the canonical request key
+     * @return the response, or null if absent, expired or unreadable
+     */
+    public CachedResponse get(String key) {
+        Location location = index.get(key);
+        if (location == null && System.currentTimeMillis() - lastRefreshMillis >= REFRESH_INTERVAL_MILLIS) {
+            // Another process may have stored it since we last looked
+            refreshQuietly();
+            location = index.get(key);
+        }
+        if (location == null || location.expiresAtMillis <= System.currentTimeMillis()) {
+            misses.increment();
+            return null;
+        }
+        try {
+            CachedResponse response = decode(key, readRecord(location));
+            if (response != null) {
+                hits.increment();
+                return response;
+            }
+        } catch (NoSuchFileException e) {
+            // Compacted away by another process; the next refresh rebuilds the index
+            lastRefreshMillis = 0;
+        } catch (IOException | DataFormatException e) {
+            logger.debug("Unreadable disk cache record for {}: {}", key, e.getMessage());
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores a response in the background, replacing any earlier one for the
+     * key. The response keeps its original store time.
+     *
+     * @param key      the canonical request key
+     * @param response the response to store
+     */
+    public void put(String key, CachedResponse response) {
+        try {
+            background.execute(() -> {
+                try {
+                    append(key, response);
+                } catch (IOException e) {
+                    logger.warn("Failed to write disk cache record for {}: {}", key, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Disk cache closed, not storing {}", key);
+        }
+    }
+
+    /**
+     * Waits until the responses passed to {@link #put} so far are written.
+     *
+     * @throws IOException if the cache is closed or the wait is interrupted
+     */
+    public void flush() throws IOException {
+        try {
+            background.submit(() -> { }).get(1, TimeUnit.MINUTES);
+        } catch (RejectedExecutionException | ExecutionException | TimeoutException e) {
+            throw new IOException("Disk cache writes did not complete", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for disk cache writes", e);
+        }
+    }
+
+    /**
+     * Compacts the store now: copies the live records into a new segment and
+     * deletes the old ones, dropping the oldest responses if the store is
+     * over its size budget. Does nothing if there is little to reclaim.
+     *
+     * @throws IOException if the store cannot be rewritten
+     */
+    public void compact() throws IOException {
+        synchronized (processLock) {
+            FileLock lock = lockChannel.lock();
+            try {
+                synchronized (this) {
+                    compactLocked();
+                }
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Removes every stored response, for this and all other processes.
+     *
+     * @throws IOException if the segments cannot be deleted
+     */
+    public void invalidateAll() throws IOException {
+        synchronized (processLock) {
+            FileLock lock = lockChannel.lock();
+            try {
+                synchronized (this) {
+                    refresh();
+                    replaceSegments(List.of());
+                }
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of indexed keys, including expired ones not yet
+     * compacted away.
+     *
+     * @return the number of keys
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the total size of the segment files as last indexed.
+     *
+     * @return bytes on disk
+     */
+    public synchronized long diskBytes() {
+        long total = 0;
+        for (long end : scanned.values()) {
+            total += end;
+        }
+        return total;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Writes any pending responses and releases the files.
+     */
+    @Override
+    public void close() {
+        background.shutdown();
+        try {
+            if (!background.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Disk cache writes still pending at close");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            closeReaders();
+            try {
+                lockChannel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close disk cache lock file: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void append(String key, CachedResponse response) throws IOException {
+        long expiresAt = response.getStoredAtMillis() + ttlMillis + response.getStaleWindowMillis();
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        byte[] record = encode(key, response, expiresAt);
+        if (record == null) {
+            return;
+        }
+        boolean overBudget;
+        synchronized (processLock) {
+            FileLock lock = lockChannel.lock();
+            try {
+                synchronized (this) {
+                    refresh();
+                    long segment = lastSegment;
+                    long end = scanned.getOrDefault(segment, 0L);
+                    if (segment == 0 || end + record.length > segmentBytes) {
+                        segment = ++lastSegment;
+                        end = 0;
+                    }
+                    try (FileChannel out = FileChannel.open(segmentPath(segment),
+                            StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                        if (out.size() > end) {
+                            // Left behind by a process that died mid-write; no one else is writing
+                            logger.warn("Truncating incomplete record at {} in {}", end, segmentPath(segment));
+                            out.truncate(end);
+                        }
+                        writeFully(out, ByteBuffer.wrap(record), end);
+                    }
+                    scanned.put(segment, end + record.length);
+                    index.put(key, new Location(segment, end, record.length,
+                            response.getStoredAtMillis(), expiresAt));
+                    overBudget = diskBytes() > maxBytes;
+                }
+            } finally {
+                lock.release();
+            }
+        }
+        if (overBudget) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the live records into a new segment. Caller holds the
+     * process and file locks.
+     */
+    private void compactLocked() throws IOException {
+        refresh();
+        long now = System.currentTimeMillis();
+        List<Map.Entry<String, Location>> live = new ArrayList<>();
+        long liveBytes = 0;
+        for (Map.Entry<String, Location> entry : index.entrySet()) {
+            if (entry.getValue().expiresAtMillis > now) {
+                live.add(entry);
+                liveBytes += entry.getValue().length;
+            }
+        }
+        long onDisk = diskBytes();
+        if (onDisk <= maxBytes && liveBytes * 2 > onDisk) {
+            return;
+        }
+        if (liveBytes > maxBytes) {
+            // Keep the newest responses, leaving headroom so the next append does not compact again
+            live.sort(Comparator.comparingLong(
+                    (Map.Entry<String, Location> entry) -> entry.getValue().storedAtMillis).reversed());
+            long budget = maxBytes * 3 / 4;
+            long kept = 0;
+            int count = 0;
+            while (count < live.size() && kept + live.get(count).getValue().length <= budget) {
+                kept += live.get(count).getValue().length;
+                count++;
+            }
+            live = new ArrayList<>(live.subList(0, count));
+        }
+        logger.info("Compacting disk cache: {} of {} bytes live, keeping {} responses", liveBytes, onDisk, live.size());
+        replaceSegments(live);
+    }
+
+    /**
+     * Copies the given records into a new segment, then deletes every older
+     * segment. Caller holds the process and file locks.
+     */
+    private void replaceSegments(List<Map.Entry<String, Location>> keep) throws IOException {
+        long segment = lastSegment + 1;
+        Path temp = directory.resolve(COMPACT_FILE);
+        Map<String, Location> moved = new HashMap<>();
+        long end = 0;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Map.Entry<String, Location> entry : keep) {
+                Location location = entry.getValue();
+                ByteBuffer record;
+                try {
+                    record = readRecord(location);
+                } catch (IOException e) {
+                    continue;
+                }
+                writeFully(out, record, end);
+                moved.put(entry.getKey(), new Location(segment, end, location.length,
+                        location.storedAtMillis, location.expiresAtMillis));
+                end += location.length;
+            }
+            out.force(true);
+        }
+        Files.move(temp, segmentPath(segment), StandardCopyOption.ATOMIC_MOVE);
+        for (long old : listSegments()) {
+            if (old < segment) {
+                Files.deleteIfExists(segmentPath(old));
+            }
+        }
+        closeReaders();
+        index.clear();
+        index.putAll(moved);
+        scanned.clear();
+        scanned.put(segment, end);
+        lastSegment = segment;
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Disk cache compaction failed: {}", e.getMessage());
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (IOException e) {
+            logger.debug("Failed to refresh disk cache index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Catches the index up with the segment files: indexes records appended
+     * since the last scan and rebuilds it if another process compacted.
+     *
+     * @throws IOException if the directory cannot be read
+     */
+    synchronized void refresh() throws IOException {
+        List<Long> segments = listSegments();
+        if (!segments.containsAll(scanned.keySet())) {
+            index.clear();
+            scanned.clear();
+            closeReaders();
+        }
+        for (long segment : segments) {
+            lastSegment = Math.max(lastSegment, segment);
+            long from = scanned.getOrDefault(segment, 0L);
+            try {
+                if (reader(segment).size() > from) {
+                    scanned.put(segment, scan(segment, from));
+                } else {
+                    scanned.putIfAbsent(segment, from);
+                }
+            } catch (NoSuchFileException e) {
+                // Deleted by a compaction since the listing
+                scanned.remove(segment);
+            }
+        }
+        lastRefreshMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Indexes the complete records of a segment from an offset.
+     *
+     * @return the end of the last complete record
+     */
+    private long scan(long segment, long from) throws IOException {
+        FileChannel channel = reader(segment);
+        long size = channel.size();
+        long position = from;
+        ByteBuffer prefix = ByteBuffer.allocate(HEADER_BYTES + INDEX_PREFIX_BYTES);
+        while (position + HEADER_BYTES + INDEX_PREFIX_BYTES + TRAILER_BYTES <= size) {
+            prefix.clear();
+            readFully(channel, prefix, position);
+            prefix.flip();
+            int magic = prefix.getInt();
+            int bodyLength = prefix.getInt();
+            long recordEnd = position + HEADER_BYTES + bodyLength + TRAILER_BYTES;
+            if (magic != RECORD_MAGIC || bodyLength < INDEX_PREFIX_BYTES || recordEnd > size) {
+                // Incomplete: still being written, or torn by a crash
+                break;
+            }
+            long storedAt = prefix.getLong();
+            long expiresAt = prefix.getLong();
+            ByteBuffer keyBytes = ByteBuffer.allocate(2 + (prefix.getShort() & 0xFFFF));
+            keyBytes.putShort((short) (keyBytes.capacity() - 2));
+            readFully(channel, keyBytes, position + HEADER_BYTES + INDEX_PREFIX_BYTES);
+            String key = new DataInputStream(new ByteArrayInputStream(keyBytes.array())).readUTF();
+            Location current = index.get(key);
+            if (current == null || current.storedAtMillis <= storedAt) {
+                index.put(key, new Location(segment, position, (int) (recordEnd - position), storedAt, expiresAt));
+            }
+            position = recordEnd;
+        }
+        return position;
+    }
+
+    /**
+     * Reads a whole record and checks its header and checksum.
+     */
+    private ByteBuffer readRecord(Location location) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(location.length);
+        readFully(reader(location.segment), record, location.offset);
+        record.flip();
+        int bodyLength = location.length - HEADER_BYTES - TRAILER_BYTES;
+        if (record.getInt(0) != RECORD_MAGIC || record.getInt(4) != bodyLength) {
+            throw new IOException("Bad record header");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), HEADER_BYTES, bodyLength);
+        if ((int) crc.getValue() != record.getInt(HEADER_BYTES + bodyLength)) {
+            throw new IOException("Record checksum mismatch");
+        }
+        return record;
+    }
+
+    /**
+     * Encodes a response as a record.
+     *
+     * @return the record, or null if the key is too long to store
+     */
+    private static byte[] encode(String key, CachedResponse response, long expiresAt) throws IOException {
+        byte[] body = response.getBody();
+        byte flags = 0;
+        byte[] payload = body;
+        if (body.length >= COMPRESS_MIN_BYTES) {
+            byte[] deflated = deflate(body);
+            if (deflated.length < body.length) {
+                payload = deflated;
+                flags |= FLAG_DEFLATED;
+            }
+        }
+        if (response.getContentType() != null) {
+            flags |= FLAG_CONTENT_TYPE;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + key.length() + 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(RECORD_MAGIC);
+        out.writeInt(0);
+        out.writeLong(response.getStoredAtMillis());
+        out.writeLong(expiresAt);
+        try {
+            out.writeUTF(key);
+            out.writeShort(response.getCode());
+            out.writeByte(flags);
+            out.writeUTF(response.getMessage());
+            out.writeUTF(response.getContentType() != null ? response.getContentType() : "");
+        } catch (UTFDataFormatException e) {
+            logger.debug("Not storing {} on disk: key or header too long", key);
+            return null;
+        }
+        out.writeInt(body.length);
+        out.write(payload);
+        out.writeInt(0);
+
+        ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+        int bodyLength = record.capacity() - HEADER_BYTES - TRAILER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), HEADER_BYTES, bodyLength);
+        record.putInt(4, bodyLength);
+        record.putInt(HEADER_BYTES + bodyLength, (int) crc.getValue());
+        return record.array();
+    }
+
+    /**
+     * Decodes a checked record.
+     *
+     * @return the response, or null if the record belongs to another key
+     */
+    private CachedResponse decode(String key, ByteBuffer record) throws IOException, DataFormatException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                record.array(), HEADER_BYTES, record.capacity() - HEADER_BYTES - TRAILER_BYTES));
+        long storedAt = in.readLong();
+        long expiresAt = in.readLong();
+        if (!key.equals(in.readUTF())) {
+            return null;
+        }
+        int code = in.readUnsignedShort();
+        byte flags = in.readByte();
+        String message = in.readUTF();
+        String contentType = in.readUTF();
+        int bodyLength = in.readInt();
+        byte[] payload = in.readAllBytes();
+        byte[] body = (flags & FLAG_DEFLATED) != 0 ? inflate(payload, bodyLength) : payload;
+        if (body.length != bodyLength) {
+            throw new EOFException("Truncated body");
+        }
+        return new CachedResponse(code, message,
+                (flags & FLAG_CONTENT_TYPE) != 0 ? contentType : null, body, storedAt,
+                expiresAt - storedAt - ttlMillis);
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] out = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(out, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated compressed body");
+                }
+                read += n;
+            }
+            return out;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private FileChannel reader(long segment) throws IOException {
+        FileChannel channel = readers.get(segment);
+        if (channel == null) {
+            channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ);
+            FileChannel raced = readers.putIfAbsent(segment, channel);
+            if (raced != null) {
+                channel.close();
+                channel = raced;
+            }
+        }
+        return channel;
+    }
+
+    private void closeReaders() {
+        for (FileChannel channel : readers.values()) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close disk cache segment: {}", e.getMessage());
+            }
+        }
+        readers.clear();
+    }
+
+    private List<Long> listSegments() throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    segments.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    // Not one of ours
+                }
+            }
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                throw new EOFException("Unexpected end of segment");
+            }
+            position += n;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
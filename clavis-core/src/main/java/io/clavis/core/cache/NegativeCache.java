@@ -0,0 +1,242 @@
+package io.clavis.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.clavis.core.config.ConfigManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Short-lived cache of upstream "not found" responses.
+ *
+ * <p>
+ * Assistants often probe guessed identifiers, and every repeat of a lookup
+ * that already came back {@code 404} would otherwise cost a rate-limited
+ * round trip. Entries are kept far shorter than positive responses, with a
+ * TTL chosen per upstream, so a record that is published soon after is
+ * not hidden for long.
+ * </p>
+ *
+ * <p>
+ * Most lookups are for entities that exist, so the exact map is guarded by a
+ * Bloom filter of the keys recently stored: a key the filter has never seen
+ * is answered without touching the map. The filter has two generations of
+ * {@code maxEntries} keys each; when the current one fills up it becomes the
+ * previous one and the oldest is dropped, so keys are forgotten roughly as
+ * the map evicts them. A false positive costs one map lookup; the filter
+ * never decides on its own that a response is cached.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class NegativeCache {
+
+    /** Largest body kept with a not-found response; bigger ones are not cached. */
+    public static final int MAX_BODY_BYTES = 16 * 1024;
+
+    /** Bits per expected key and probes per key, for about 1% false positives. */
+    private static final int BITS_PER_KEY = 10;
+    private static final int PROBES = 7;
+
+    private final Cache<String, Entry> cache;
+    private final int generationCapacity;
+    private final AtomicLong filterSkips = new AtomicLong();
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    private record Entry(CachedResponse response, long ttlNanos) {
+    }
+
+    /**
+     * Creates a negative cache.
+     *
+     * @param maxEntries maximum number of cached responses
+     * @throws IllegalArgumentException if {@code maxEntries} is not positive
+     */
+    public NegativeCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Negative cache size must be positive");
+        }
+        this.generationCapacity = maxEntries;
+        this.current = new Generation(maxEntries);
+        this.previous = new Generation(maxEntries);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    private static final class SharedHolder {
+        static final NegativeCache INSTANCE =
+                new NegativeCache(Math.max(1, ConfigManager.getInstance().getNegativeCacheMaxEntries()));
+    }
+
+    /**
+     * Returns the process-wide negative cache, sized by
+     * {@code CLAVIS_NEGATIVE_CACHE_MAX_ENTRIES}.
+     *
+     * @return the shared instance, never null
+     */
+    public static NegativeCache shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Looks up a cached not-found response.
+     *
+     * @param key the canonical request key
+     * @return the cached response, or null if absent or expired
+     */
+    public CachedResponse get(String key) {
+        if (!mightContain(key)) {
+            filterSkips.incrementAndGet();
+            return null;
+        }
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.response() : null;
+    }
+
+    /**
+     * Stores a not-found response. Responses with a body larger than
+     * {@value #MAX_BODY_BYTES} bytes, or a non-positive TTL, are ignored.
+     *
+     * @param key      the canonical request key
+     * @param response the response
+     * @param ttl      how long to keep it
+     */
+    public void put(String key, CachedResponse response, Duration ttl) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero() || response.getBody().length > MAX_BODY_BYTES) {
+            return;
+        }
+        remember(key);
+        cache.put(key, new Entry(response, ttl.toNanos()));
+    }
+
+    /**
+     * Returns whether a key may have been stored recently. False means it
+     * certainly has not.
+     *
+     * @param key the canonical request key
+     * @return false if the key is not in either filter generation
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        return current.mightContain(hash) || previous.mightContain(hash);
+    }
+
+    /** Removes every cached response. */
+    public synchronized void invalidateAll() {
+        cache.invalidateAll();
+        current = new Generation(generationCapacity);
+        previous = new Generation(generationCapacity);
+    }
+
+    /** @return the approximate number of cached responses */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /** @return the number of lookups answered from the cache */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /** @return the number of lookups the Bloom filter answered without a map lookup */
+    public long getFilterSkipCount() {
+        return filterSkips.get();
+    }
+
+    private void remember(String key) {
+        long hash = hash(key);
+        Generation generation = current;
+        if (generation.mightContain(hash)) {
+            return;
+        }
+        if (generation.add(hash) >= generationCapacity) {
+            synchronized (this) {
+                if (current == generation) {
+                    previous = generation;
+                    current = new Generation(generationCapacity);
+                }
+            }
+        }
+    }
+
+    /** 64-bit FNV-1a over the key's characters, finished with a murmur3 mix. */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /** One Bloom filter generation, probed by double hashing. */
+    private static final class Generation {
+        private final AtomicLongArray words;
+        private final long bits;
+        private final AtomicInteger keys = new AtomicInteger();
+
+        Generation(int capacity) {
+            long wordCount = Math.max(1, ((long) capacity * BITS_PER_KEY + 63) / 64);
+            this.words = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE, wordCount));
+            this.bits = (long) words.length() * 64;
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= PROBES; i++) {
+                long bit = ((h1 + i * (long) h2) & Long.MAX_VALUE) % bits;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Sets the key's bits and returns the number of keys added so far. */
+        int add(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= PROBES; i++) {
+                long bit = ((h1 + i * (long) h2) & Long.MAX_VALUE) % bits;
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long value;
+                while (((value = words.get(word)) & mask) == 0 && !words.compareAndSet(word, value, value | mask)) {
+                    // Another thread set a bit in the same word; retry
+                }
+            }
+            return keys.incrementAndGet();
+        }
+    }
+}
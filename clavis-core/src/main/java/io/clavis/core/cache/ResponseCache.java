@@ -0,0 +1,288 @@
+package io.clavis.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.clavis.core.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory cache of upstream HTTP responses shared by all API clients.
+ *
+ * <p>
+ * Backed by Caffeine, whose Window TinyLFU eviction policy keeps frequently
+ * requested entries resident under a skewed workload instead of letting a
+ * burst of one-off lookups flush them. The cache is bounded both by entry
+ * count and by total body bytes: every entry weighs at least
+ * {@code maxBytes / maxEntries}, so the single weight bound enforces both.
+ * </p>
+ *
+ * <p>
+ * An optional {@link DiskCache} backs it as a second tier: stored responses
+ * are also written to disk, and a memory miss is looked up there before
+ * going to the network, so a freshly started server answers recently
+ * fetched entities without a call. Entries expire a fixed time after they
+ * were first stored, in either tier, however often they move between them.
+ * </p>
+ *
+ * <p>
+ * An entry is fresh for the TTL. An entry stored with a stale window (see
+ * {@link CachedResponse#getStaleWindowMillis()}) is then kept for that much
+ * longer, during which lookups still return it and {@link #isFresh} tells
+ * the caller to refresh it in the background (stale-while-revalidate). Only
+ * after the window does a lookup miss; entries without one expire at the
+ * TTL.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * ResponseCache cache = ResponseCache.shared(); // configured from CLAVIS_CACHE_*
+ * CachedResponse hit = cache.get(key);
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class ResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+
+    /** Approximate per-entry bookkeeping cost added to the body size. */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    /** A single response may use at most this fraction of the byte budget. */
+    private static final int MAX_ENTRY_FRACTION = 16;
+
+    private final Cache<String, CachedResponse> cache;
+    private final long maxEntryBytes;
+    private final DiskCache disk;
+    private final Duration ttl;
+
+    /**
+     * Creates a response cache.
+     *
+     * @param maxEntries maximum number of cached responses
+     * @param maxBytes   maximum total weight of cached responses in bytes
+     * @param ttl        time after which an entry expires
+     * @throws IllegalArgumentException if any bound is not positive
+     */
+    public ResponseCache(int maxEntries, long maxBytes, Duration ttl) {
+        this(maxEntries, maxBytes, ttl, null);
+    }
+
+    /**
+     * Creates a response cache backed by a disk tier.
+     *
+     * @param maxEntries maximum number of cached responses
+     * @param maxBytes   maximum total weight of cached responses in bytes
+     * @param ttl        time after which an entry expires
+     * @param disk       the second tier, or null for memory only
+     * @throws IllegalArgumentException if any bound is not positive
+     */
+    public ResponseCache(int maxEntries, long maxBytes, Duration ttl, DiskCache disk) {
+        if (maxEntries <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache bounds must be positive");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        this.ttl = ttl;
+        long minWeight = Math.max(1, maxBytes / maxEntries);
+        this.maxEntryBytes = Math.max(1, maxBytes / MAX_ENTRY_FRACTION);
+        this.disk = disk;
+        long ttlNanos = ttl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse value) -> (int) Math.min(Integer.MAX_VALUE,
+                        Math.max(minWeight, (long) value.getBody().length + key.length() + ENTRY_OVERHEAD_BYTES)))
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+                        return remainingNanos(value, ttlNanos);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse value, long currentTime,
+                            long currentDuration) {
+                        return remainingNanos(value, ttlNanos);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        logger.debug("ResponseCache created: {} entries, {} bytes, ttl {}", maxEntries, maxBytes, ttl);
+    }
+
+    private static final class SharedHolder {
+        static final ResponseCache INSTANCE = fromConfig(ConfigManager.getInstance());
+    }
+
+    /**
+     * Returns the process-wide cache configured from {@link ConfigManager}.
+     *
+     * @return the shared cache instance, never null
+     */
+    public static ResponseCache shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a cache sized by the {@code CLAVIS_CACHE_*} settings, backed by
+     * the disk cache when {@code CLAVIS_DISK_CACHE_ENABLED} is true.
+     *
+     * @param config the configuration source
+     * @return a new cache instance
+     */
+    public static ResponseCache fromConfig(ConfigManager config) {
+        Duration ttl = Duration.ofMinutes(Math.max(1, config.getCacheTtlMinutes()));
+        DiskCache disk = null;
+        if (config.isDiskCacheEnabled()) {
+            try {
+                disk = DiskCache.open(Path.of(config.getDiskCacheDir()),
+                        Math.max(1, config.getDiskCacheMaxSizeMb()) * 1024L * 1024L, ttl);
+                Runtime.getRuntime().addShutdownHook(new Thread(disk::close, "clavis-disk-cache-close"));
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Disk cache unavailable, caching in memory only: {}", e.getMessage());
+            }
+        }
+        return new ResponseCache(
+                Math.max(1, config.getCacheMaxEntries()),
+                Math.max(1, config.getCacheMaxSizeMb()) * 1024L * 1024L,
+                ttl, disk);
+    }
+
+    private static long remainingNanos(CachedResponse value, long ttlNanos) {
+        long ageNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - value.getStoredAtMillis());
+        long retentionNanos = ttlNanos + TimeUnit.MILLISECONDS.toNanos(value.getStaleWindowMillis());
+        return Math.max(0, retentionNanos - Math.max(0, ageNanos));
+    }
+
+    /**
+     * Looks up a cached response, which may be stale; see {@link #isFresh}.
+     *
+     * @param key the canonical request key
+     * @return the cached response, or null if absent or past its stale window
+     */
+    public CachedResponse get(String key) {
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached == null && disk != null) {
+            cached = disk.get(key);
+            if (cached != null) {
+                cache.put(key, cached);
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Stores a response, replacing any previous entry for the key.
+     *
+     * @param key      the canonical request key
+     * @param response the response to cache
+     */
+    public void put(String key, CachedResponse response) {
+        if (response.getBody().length > maxEntryBytes) {
+            logger.debug("Not caching {}: {} bytes exceeds entry limit", key, response.getBody().length);
+            return;
+        }
+        cache.put(key, response);
+        if (disk != null) {
+            disk.put(key, response);
+        }
+    }
+
+    /**
+     * Returns whether a cached response is still within its TTL.
+     *
+     * @param response a response returned by {@link #get}
+     * @return false if it is stale and should be refreshed
+     */
+    public boolean isFresh(CachedResponse response) {
+        return ageMillis(response) < ttl.toMillis();
+    }
+
+    /**
+     * Returns how long ago a response was first stored.
+     *
+     * @param response a cached response
+     * @return its age in milliseconds, never negative
+     */
+    public static long ageMillis(CachedResponse response) {
+        return Math.max(0, System.currentTimeMillis() - response.getStoredAtMillis());
+    }
+
+    /**
+     * Returns the time for which an entry is fresh.
+     *
+     * @return the TTL
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Returns the largest body, in bytes, that will be admitted to the cache.
+     *
+     * @return maximum cacheable body size
+     */
+    public long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /**
+     * Removes all entries, from the disk tier too.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        if (disk != null) {
+            try {
+                disk.invalidateAll();
+            } catch (IOException e) {
+                logger.warn("Failed to clear the disk cache: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the disk tier.
+     *
+     * @return the disk cache, or null if caching in memory only
+     */
+    public DiskCache getDiskCache() {
+        return disk;
+    }
+
+    /**
+     * Returns the approximate number of entries.
+     *
+     * @return current entry count
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Returns hit, miss and eviction counters.
+     *
+     * @return a snapshot of cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -4,7 +4,9 @@ import io.github.cdimascio.dotenv.Dotenv;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Thread-safe singleton for centralized configuration management.
@@ -31,6 +33,14 @@ public final class ConfigManager {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
 
+    private static final String CACHE_STALE_MINUTES = "CLAVIS_CACHE_STALE_MINUTES";
+
+    /** Modules whose data changes rarely enough to serve stale by default. */
+    private static final Set<String> STALE_BY_DEFAULT_MODULES =
+            Set.of("uniprot", "chembl", "kegg", "reactome", "pharmvar");
+
+    private static final int DEFAULT_MODULE_STALE_MINUTES = 240;
+
     private final Dotenv dotenv;
 
     private ConfigManager() {
@@ -201,4 +211,233 @@ public final class ConfigManager {
     public int getCacheTtlMinutes() {
         return getInt("CLAVIS_CACHE_TTL_MINUTES", 60);
     }
+
+    /**
+     * Gets how long a cached response of a module is still served after its
+     * TTL while it is refreshed in the background.
+     *
+     * <p>
+     * Serving stale data is off unless configured, except for the modules
+     * whose reference data rarely changes (UniProt, ChEMBL, KEGG, Reactome
+     * and PharmVar), which default to four hours.
+     * </p>
+     *
+     * @param module the module name (e.g. "uniprot"), or null for the default
+     * @return stale window in minutes from {@code CLAVIS_CACHE_STALE_MINUTES_<MODULE>},
+     *         else 240 for the modules above, else
+     *         {@code CLAVIS_CACHE_STALE_MINUTES}, defaults to 0; 0 disables
+     *         serving stale responses
+     */
+    public int getCacheStaleMinutes(String module) {
+        int defaultWindow = getInt(CACHE_STALE_MINUTES, 0);
+        if (module == null) {
+            return defaultWindow;
+        }
+        String name = module.toLowerCase(Locale.ROOT);
+        if (STALE_BY_DEFAULT_MODULES.contains(name)) {
+            defaultWindow = DEFAULT_MODULE_STALE_MINUTES;
+        }
+        return getInt(CACHE_STALE_MINUTES + "_" + name.toUpperCase(Locale.ROOT), defaultWindow);
+    }
+
+    /**
+     * Gets the maximum number of entries held by the response cache.
+     *
+     * @return maximum cache entries, defaults to 10000
+     */
+    public int getCacheMaxEntries() {
+        return getInt("CLAVIS_CACHE_MAX_ENTRIES", 10_000);
+    }
+
+    /**
+     * Gets the maximum total size of cached response bodies in megabytes.
+     *
+     * @return maximum cache size in megabytes, defaults to 64
+     */
+    public int getCacheMaxSizeMb() {
+        return getInt("CLAVIS_CACHE_MAX_SIZE_MB", 64);
+    }
+
+    /**
+     * Checks if responses are also kept in the on-disk cache, which survives
+     * restarts and is shared by the servers on one host.
+     *
+     * @return true if the disk cache is enabled, defaults to false
+     */
+    public boolean isDiskCacheEnabled() {
+        return getBoolean("CLAVIS_DISK_CACHE_ENABLED", false);
+    }
+
+    /**
+     * Gets the directory holding the on-disk response cache.
+     *
+     * @return the cache directory, defaults to {@code ~/.cache/clavis}
+     */
+    public String getDiskCacheDir() {
+        return get("CLAVIS_DISK_CACHE_DIR", System.getProperty("user.home") + "/.cache/clavis");
+    }
+
+    /**
+     * Gets the size the on-disk response cache is compacted down to.
+     *
+     * @return maximum disk cache size in megabytes, defaults to 256
+     */
+    public int getDiskCacheMaxSizeMb() {
+        return getInt("CLAVIS_DISK_CACHE_MAX_SIZE_MB", 256);
+    }
+
+    /**
+     * Checks if {@code 404} and {@code 410} responses are cached briefly, so
+     * repeated lookups of a missing ID do not reach the upstream.
+     *
+     * @return true if negative caching is enabled, defaults to true
+     */
+    public boolean isNegativeCacheEnabled() {
+        return getBoolean("CLAVIS_NEGATIVE_CACHE_ENABLED", true);
+    }
+
+    /**
+     * Gets how long a not-found response of a module is cached.
+     *
+     * @param module the module name (e.g. "uniprot"), or null for the default
+     * @return TTL in seconds from {@code CLAVIS_NEGATIVE_CACHE_TTL_<MODULE>},
+     *         else {@code CLAVIS_NEGATIVE_CACHE_TTL_SECONDS}, defaults to 300;
+     *         0 disables negative caching for the module
+     */
+    public int getNegativeCacheTtlSeconds(String module) {
+        int defaultTtl = getInt("CLAVIS_NEGATIVE_CACHE_TTL_SECONDS", 300);
+        if (module == null) {
+            return defaultTtl;
+        }
+        return getInt("CLAVIS_NEGATIVE_CACHE_TTL_" + module.toUpperCase(Locale.ROOT), defaultTtl);
+    }
+
+    /**
+     * Gets the maximum number of not-found responses held in memory.
+     *
+     * @return maximum negative cache entries, defaults to 10000
+     */
+    public int getNegativeCacheMaxEntries() {
+        return getInt("CLAVIS_NEGATIVE_CACHE_MAX_ENTRIES", 10_000);
+    }
+
+    /**
+     * Checks if {@code tools/call} results are cached by the MCP server.
+     *
+     * @return true if the tool result cache is enabled, defaults to false
+     */
+    public boolean isToolCacheEnabled() {
+        return getBoolean("CLAVIS_TOOL_CACHE_ENABLED", false);
+    }
+
+    /**
+     * Gets how long a tool result is cached when the tool does not set its
+     * own time.
+     *
+     * @return tool result TTL in minutes, defaults to 10
+     */
+    public int getToolCacheTtlMinutes() {
+        return getInt("CLAVIS_TOOL_CACHE_TTL_MINUTES", 10);
+    }
+
+    /**
+     * Gets the maximum total size of cached tool results in megabytes.
+     *
+     * @return maximum tool cache size in megabytes, defaults to 32
+     */
+    public int getToolCacheMaxSizeMb() {
+        return getInt("CLAVIS_TOOL_CACHE_MAX_SIZE_MB", 32);
+    }
+
+    /**
+     * Checks if identical concurrent GET requests share one upstream call.
+     *
+     * @return true if single-flight coalescing is enabled, defaults to true
+     */
+    public boolean isSingleFlightEnabled() {
+        return getBoolean("CLAVIS_SINGLE_FLIGHT_ENABLED", true);
+    }
+
+    /**
+     * Checks if slow GET requests of a module are hedged with a backup call.
+     *
+     * @param module the module name (e.g. "uniprot")
+     * @return true if {@code CLAVIS_HEDGE_<MODULE>} is true, defaults to false
+     */
+    public boolean isHedgingEnabled(String module) {
+        return getBoolean("CLAVIS_HEDGE_" + module.toUpperCase(Locale.ROOT), false);
+    }
+
+    /**
+     * Gets the share of a module's requests that may be hedged.
+     *
+     * @return hedge budget in percent, defaults to 5
+     */
+    public int getHedgeBudgetPercent() {
+        return getInt("CLAVIS_HEDGE_BUDGET_PERCENT", 5);
+    }
+
+    /**
+     * Checks if rate limiters keep their buckets in files shared by every
+     * CLAVIS process on the host.
+     *
+     * @return true if rate limits are shared, defaults to false
+     */
+    public boolean isSharedRateLimitEnabled() {
+        return getBoolean("CLAVIS_RATE_LIMIT_SHARED", false);
+    }
+
+    /**
+     * Gets the directory holding the shared rate limit buckets.
+     *
+     * @return the bucket directory, defaults to {@code ~/.cache/clavis/ratelimits}
+     */
+    public String getRateLimitDir() {
+        return get("CLAVIS_RATE_LIMIT_DIR", System.getProperty("user.home") + "/.cache/clavis/ratelimits");
+    }
+
+    /**
+     * Checks if per-host circuit breakers are enabled.
+     *
+     * @return true if circuit breakers are enabled, defaults to true
+     */
+    public boolean isCircuitBreakerEnabled() {
+        return getBoolean("CLAVIS_CIRCUIT_BREAKER_ENABLED", true);
+    }
+
+    /**
+     * Gets the failure rate, in percent, at which a circuit opens.
+     *
+     * @return failure rate threshold, defaults to 50
+     */
+    public int getCircuitFailureRateThreshold() {
+        return getInt("CLAVIS_CIRCUIT_FAILURE_RATE_THRESHOLD", 50);
+    }
+
+    /**
+     * Gets the duration in milliseconds above which a call counts as slow.
+     *
+     * @return slow-call threshold in milliseconds, defaults to 10000
+     */
+    public int getCircuitSlowCallMillis() {
+        return getInt("CLAVIS_CIRCUIT_SLOW_CALL_MS", 10_000);
+    }
+
+    /**
+     * Gets the slow-call rate, in percent, at which a circuit opens.
+     *
+     * @return slow-call rate threshold, defaults to 80
+     */
+    public int getCircuitSlowCallRateThreshold() {
+        return getInt("CLAVIS_CIRCUIT_SLOW_CALL_RATE_THRESHOLD", 80);
+    }
+
+    /**
+     * Gets how long an open circuit rejects calls before probing again.
+     *
+     * @return open duration in seconds, defaults to 30
+     */
+    public int getCircuitOpenSeconds() {
+        return getInt("CLAVIS_CIRCUIT_OPEN_SECONDS", 30);
+    }
 }
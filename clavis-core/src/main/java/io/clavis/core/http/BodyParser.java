@@ -0,0 +1,102 @@
+package io.clavis.core.http;
+
+import com.google.gson.JsonParseException;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+
+/**
+ * Parses an upstream response body while it streams in.
+ *
+ * <p>
+ * Clients hand a parser the body's character stream instead of first
+ * materializing the whole body as a {@code String}, so a multi-megabyte
+ * response never exists in memory twice. Parsers typically wrap the reader
+ * in a Gson {@link com.google.gson.stream.JsonReader} (see
+ * {@link io.clavis.core.util.StreamingJson}).
+ * </p>
+ *
+ * @param <T> the parsed type
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+@FunctionalInterface
+public interface BodyParser<T> {
+
+    /**
+     * Parses a response body.
+     *
+     * @param body the decoded character stream of the body
+     * @return the parsed value
+     * @throws IOException if reading the body fails
+     */
+    T parse(Reader body) throws IOException;
+
+    /**
+     * Returns a parser that reads the whole body into a string, for
+     * callers that genuinely need the raw text.
+     *
+     * @return a parser returning the body text
+     */
+    static BodyParser<String> asString() {
+        return body -> {
+            StringWriter text = new StringWriter();
+            body.transferTo(text);
+            return text.toString();
+        };
+    }
+
+    /**
+     * Streams a response body through a parser. The caller still owns and
+     * closes the response.
+     *
+     * <p>
+     * Failures reading the body are rethrown as they are, so they stay
+     * retryable, even when the parser caught them and returned normally: a
+     * body cut off mid-stream must never pass for a complete one. Any other
+     * {@link IOException} from the parser, such as a Gson
+     * {@code MalformedJsonException}, or a Gson {@link JsonParseException} or
+     * {@link IllegalStateException} for a body of the wrong shape, means the
+     * body itself is bad and is reported as a {@link ResponseParseException}.
+     * </p>
+     *
+     * @param <T>      the parsed type
+     * @param response the upstream response
+     * @param parser   the parser to apply
+     * @return the parsed value
+     * @throws ResponseParseException if the body was read but is malformed
+     * @throws IOException            if the response has no body or reading it fails
+     */
+    static <T> T parse(Response response, BodyParser<T> parser) throws IOException {
+        ResponseBody body = response.body();
+        if (body == null) {
+            throw new IOException("Response has no body");
+        }
+        ReadFailureTrackingReader reader = new ReadFailureTrackingReader(body.charStream());
+        T value;
+        try {
+            value = parser.parse(reader);
+        } catch (IOException | RuntimeException e) {
+            // Parsers may wrap read failures, e.g. Gson's JsonIOException
+            if (reader.getReadFailure() != null) {
+                throw reader.getReadFailure();
+            }
+            if (e instanceof ResponseParseException) {
+                throw e;
+            }
+            if (e instanceof IOException || e instanceof JsonParseException || e instanceof IllegalStateException) {
+                throw new ResponseParseException("Malformed response body: " + e.getMessage(), e);
+            }
+            throw e;
+        }
+        // A parser that swallowed a read failure has only seen part of the body
+        if (reader.getReadFailure() != null) {
+            throw reader.getReadFailure();
+        }
+        return value;
+    }
+}
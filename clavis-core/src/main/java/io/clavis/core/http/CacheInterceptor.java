@@ -0,0 +1,289 @@
+package io.clavis.core.http;
+
+import io.clavis.core.cache.CachedResponse;
+import io.clavis.core.cache.NegativeCache;
+import io.clavis.core.cache.ResponseCache;
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OkHttp interceptor that serves repeated GET requests from a
+ * {@link ResponseCache}.
+ *
+ * <p>
+ * Installed ahead of the rate-limiting interceptor, so cache hits neither
+ * touch the network nor consume a rate-limit token. Only {@code 200}
+ * responses whose body fits the cache's entry limit are stored; requests
+ * carrying {@code Cache-Control: no-cache} or {@code no-store} bypass it.
+ * </p>
+ *
+ * <p>
+ * With a {@link NegativeCache}, {@code 404} and {@code 410} responses are
+ * also kept, for the much shorter TTL of the client's upstream, so a retry
+ * or a repeated probe of a missing ID is answered without a call.
+ * </p>
+ *
+ * <p>
+ * A response past the cache's TTL but within the client's stale window is
+ * returned at once, marked {@code STALE}, and refreshed by a copy of the
+ * call run in the background. The copy passes the rest of the chain, rate
+ * limiter included, so refreshes stay within the upstream's budget, and at
+ * most one refresh per key is in flight. Refreshes run on a small pool of
+ * their own rather than the shared dispatcher, whose per-host slots they
+ * could otherwise fill while waiting on calls that need a slot too. Past the
+ * stale window a lookup misses and the caller waits for the network as
+ * usual.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class CacheInterceptor implements Interceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInterceptor.class);
+
+    /** Response header marking responses served from the cache. */
+    public static final String CACHE_HEADER = "X-Clavis-Cache";
+
+    private final ResponseCache cache;
+    private final NegativeCache negativeCache;
+    private final Duration negativeTtl;
+    private final long staleWindowMillis;
+
+    /** Threads running background refreshes; each blocks in one call. */
+    private static final int REFRESH_THREADS = 4;
+
+    /** Refreshes waiting beyond this are dropped; the next stale hit asks again. */
+    private static final int MAX_QUEUED_REFRESHES = 1024;
+
+    private static final ExecutorService REFRESHES = newRefreshExecutor();
+
+    /** Background refreshes in flight, by key. */
+    private final Map<String, Call> refreshing = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache interceptor that never serves stale responses.
+     *
+     * @param cache the cache to read from and populate
+     */
+    public CacheInterceptor(ResponseCache cache) {
+        this(cache, null, Duration.ZERO);
+    }
+
+    /**
+     * Creates a cache interceptor that also caches not-found responses.
+     *
+     * @param cache         the cache to read from and populate
+     * @param negativeCache the cache for {@code 404}/{@code 410} responses,
+     *                      or null to not cache them
+     * @param negativeTtl   how long this client's not-found responses are
+     *                      kept; zero to not cache them
+     */
+    public CacheInterceptor(ResponseCache cache, NegativeCache negativeCache, Duration negativeTtl) {
+        this(cache, negativeCache, negativeTtl, Duration.ZERO);
+    }
+
+    /**
+     * Creates a cache interceptor for a client with its own stale window.
+     *
+     * @param cache         the cache to read from and populate
+     * @param negativeCache the cache for {@code 404}/{@code 410} responses,
+     *                      or null to not cache them
+     * @param negativeTtl   how long this client's not-found responses are
+     *                      kept; zero to not cache them
+     * @param staleWindow   how long after the cache's TTL a response is still
+     *                      served while it is refreshed, zero to never
+     *                      serve stale responses; the responses this client
+     *                      stores are kept that much longer
+     */
+    public CacheInterceptor(ResponseCache cache, NegativeCache negativeCache, Duration negativeTtl,
+            Duration staleWindow) {
+        this.cache = Objects.requireNonNull(cache, "cache cannot be null");
+        this.staleWindowMillis = staleWindow == null || staleWindow.isNegative() ? 0 : staleWindow.toMillis();
+        boolean negative = negativeCache != null && negativeTtl != null
+                && !negativeTtl.isNegative() && !negativeTtl.isZero();
+        this.negativeCache = negative ? negativeCache : null;
+        this.negativeTtl = negative ? negativeTtl : Duration.ZERO;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!"GET".equals(request.method())
+                || request.cacheControl().noCache()
+                || request.cacheControl().noStore()) {
+            return chain.proceed(request);
+        }
+
+        String key = RequestKey.of(request);
+        if (refreshing.get(key) != chain.call()) {
+            CachedResponse cached = cache.get(key);
+            if (cached != null && cache.isFresh(cached)) {
+                logger.debug("Cache hit: {}", key);
+                return toResponse(request, cached, "HIT");
+            }
+            if (cached != null && isServableStale(cached)) {
+                logger.debug("Stale cache hit, refreshing: {}", key);
+                refresh(chain.call(), key);
+                return toResponse(request, cached, "STALE");
+            }
+
+            if (negativeCache != null) {
+                cached = negativeCache.get(key);
+                if (cached != null) {
+                    logger.debug("Negative cache hit: {}", key);
+                    return toResponse(request, cached, "HIT");
+                }
+            }
+        }
+
+        Response response = chain.proceed(request);
+        if (isNotFound(response.code()) && negativeCache != null && response.body() != null) {
+            return storeNegative(key, response);
+        }
+        if (response.code() != 200 || response.body() == null) {
+            return response;
+        }
+        byte[] body = bufferIfCacheable(response.body());
+        if (body == null) {
+            return response;
+        }
+
+        MediaType contentType = response.body().contentType();
+        response.close();
+        cache.put(key, new CachedResponse(response.code(), response.message(),
+                contentType != null ? contentType.toString() : null, body, System.currentTimeMillis(),
+                staleWindowMillis));
+        return response.newBuilder()
+                .body(ResponseBody.create(body, contentType))
+                .build();
+    }
+
+    private boolean isServableStale(CachedResponse cached) {
+        return ResponseCache.ageMillis(cached) < cache.getTtl().toMillis() + staleWindowMillis;
+    }
+
+    /**
+     * Runs a copy of a call to replace a stale entry. The copy comes back
+     * through this interceptor, which recognizes it and goes to the network;
+     * the response is stored as for any other miss.
+     */
+    private void refresh(Call call, String key) {
+        Call copy = call.clone();
+        if (refreshing.putIfAbsent(key, copy) != null) {
+            return;
+        }
+        try {
+            REFRESHES.execute(() -> {
+                try {
+                    // Stored on the way back through this interceptor
+                    copy.execute().close();
+                } catch (IOException | RuntimeException e) {
+                    logger.debug("Background refresh failed for {}: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key, copy);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Background refresh queue full, skipping {}", key);
+            refreshing.remove(key, copy);
+        }
+    }
+
+    private static ExecutorService newRefreshExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(MAX_QUEUED_REFRESHES), new ThreadFactory() {
+                    private final AtomicInteger counter = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "clavis-cache-refresh-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static boolean isNotFound(int code) {
+        return code == 404 || code == 410;
+    }
+
+    private Response storeNegative(String key, Response response) throws IOException {
+        ResponseBody responseBody = response.body();
+        if (responseBody.contentLength() > NegativeCache.MAX_BODY_BYTES) {
+            return response;
+        }
+        BufferedSource source = responseBody.source();
+        if (source.request(NegativeCache.MAX_BODY_BYTES + 1)) {
+            return response;
+        }
+        byte[] body = source.getBuffer().readByteArray();
+        MediaType contentType = responseBody.contentType();
+        response.close();
+        negativeCache.put(key, new CachedResponse(response.code(), response.message(),
+                contentType != null ? contentType.toString() : null, body), negativeTtl);
+        return response.newBuilder()
+                .body(ResponseBody.create(body, contentType))
+                .build();
+    }
+
+    /**
+     * Reads the whole body if it fits within the cache's entry limit.
+     * Oversized bodies are left readable by the caller and null is returned.
+     */
+    private byte[] bufferIfCacheable(ResponseBody body) throws IOException {
+        long limit = cache.getMaxEntryBytes();
+        if (body.contentLength() > limit) {
+            return null;
+        }
+        BufferedSource source = body.source();
+        if (source.request(limit + 1)) {
+            return null;
+        }
+        return source.getBuffer().readByteArray();
+    }
+
+    private static Response toResponse(Request request, CachedResponse cached, String status) {
+        MediaType contentType = cached.getContentType() != null
+                ? MediaType.parse(cached.getContentType())
+                : null;
+        long now = System.currentTimeMillis();
+        Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(cached.getCode())
+                .message(cached.getMessage())
+                .header(CACHE_HEADER, status)
+                .sentRequestAtMillis(now)
+                .receivedResponseAtMillis(now)
+                .body(ResponseBody.create(cached.getBody(), contentType));
+        if (contentType != null) {
+            builder.header("Content-Type", contentType.toString());
+        }
+        return builder.build();
+    }
+}
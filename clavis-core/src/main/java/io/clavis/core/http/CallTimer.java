@@ -0,0 +1,24 @@
+package io.clavis.core.http;
+
+/**
+ * Request tag timing the upstream part of a call.
+ *
+ * <p>
+ * {@link CircuitBreakerInterceptor} starts the timer; interceptors that
+ * queue the call further down the chain (the rate limiter) restart it once
+ * the call leaves the queue, so waiting for a permit never counts as a
+ * slow upstream.
+ * </p>
+ */
+final class CallTimer {
+
+    private volatile long startNanos = System.nanoTime();
+
+    void restart() {
+        startNanos = System.nanoTime();
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
@@ -0,0 +1,429 @@
+package io.clavis.core.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker guarding calls to one upstream host.
+ *
+ * <p>
+ * While {@link State#CLOSED}, the outcome of the last {@code windowSize}
+ * calls is recorded. Once at least {@code minimumCalls} have been seen and
+ * either the failure rate or the slow-call rate reaches its threshold, the
+ * circuit {@link State#OPEN opens} and every call is rejected without
+ * touching the network. After {@code openDuration} the circuit turns
+ * {@link State#HALF_OPEN half-open} and lets {@code halfOpenCalls} trial
+ * calls through: if all of them succeed quickly the circuit closes again,
+ * otherwise it reopens.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * CircuitBreaker breaker = CircuitBreaker.builder("www.ebi.ac.uk")
+ *         .failureRateThreshold(50)
+ *         .slowCallThreshold(Duration.ofSeconds(10))
+ *         .build();
+ * if (breaker.tryAcquirePermission()) {
+ *     long start = System.nanoTime();
+ *     // ... call upstream ...
+ *     breaker.onResult(System.nanoTime() - start, failed);
+ * }
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /**
+     * Circuit breaker states.
+     */
+    public enum State {
+        /** Calls flow and outcomes are recorded. */
+        CLOSED,
+        /** Calls are rejected until the open duration has elapsed. */
+        OPEN,
+        /** A limited number of trial calls decide whether to close or reopen. */
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private final LongAdder notPermittedCalls = new LongAdder();
+    private final LongAdder openTransitions = new LongAdder();
+
+    /* Guarded by this. */
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int recorded;
+    private int next;
+    private int failureCount;
+    private int slowCount;
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private CircuitBreaker(Builder builder) {
+        this.name = builder.name;
+        this.windowSize = builder.windowSize;
+        this.minimumCalls = Math.min(builder.minimumCalls, builder.windowSize);
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallNanos = builder.slowCallThreshold.toNanos();
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.openNanos = builder.openDuration.toNanos();
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.clock = builder.clock;
+        this.failed = new boolean[windowSize];
+        this.slow = new boolean[windowSize];
+    }
+
+    /**
+     * Creates a builder for a circuit breaker.
+     *
+     * @param name the name of the guarded upstream, usually its host
+     * @return a new builder with default settings
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Asks whether a call may proceed. A call that is permitted must be
+     * followed by {@link #onResult(long, boolean)} or {@link #onIgnored()}.
+     *
+     * @return true if the call may proceed, false if the circuit is open
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAtNanos < openNanos) {
+                notPermittedCalls.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                notPermittedCalls.increment();
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param durationNanos how long the upstream took to answer
+     * @param failure       true if the call failed
+     */
+    public synchronized void onResult(long durationNanos, boolean failure) {
+        boolean slowCall = durationNanos >= slowCallNanos;
+        switch (state) {
+            case HALF_OPEN:
+                if (failure || slowCall) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+                break;
+            case CLOSED:
+                record(failure, slowCall);
+                if (recorded >= minimumCalls
+                        && (rate(failureCount) >= failureRateThreshold
+                                || rate(slowCount) >= slowCallRateThreshold)) {
+                    transitionTo(State.OPEN);
+                }
+                break;
+            default:
+                // Call was permitted before the circuit opened; nothing to learn
+                break;
+        }
+    }
+
+    /**
+     * Releases a permitted call whose outcome says nothing about the
+     * upstream, e.g. because the caller cancelled it.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    /**
+     * Returns the name of the guarded upstream.
+     *
+     * @return the breaker name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the current state. An open circuit whose open duration has
+     * elapsed is reported as open until the next call probes it.
+     *
+     * @return the current state
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the failure rate over the recorded window.
+     *
+     * @return failure rate in percent, or -1 if fewer than the minimum
+     *         number of calls have been recorded
+     */
+    public synchronized double getFailureRate() {
+        return recorded < minimumCalls ? -1 : rate(failureCount);
+    }
+
+    /**
+     * Returns the slow-call rate over the recorded window.
+     *
+     * @return slow-call rate in percent, or -1 if fewer than the minimum
+     *         number of calls have been recorded
+     */
+    public synchronized double getSlowCallRate() {
+        return recorded < minimumCalls ? -1 : rate(slowCount);
+    }
+
+    /**
+     * Returns the number of calls in the recorded window.
+     *
+     * @return recorded calls
+     */
+    public synchronized int getBufferedCalls() {
+        return recorded;
+    }
+
+    /**
+     * Returns how long an open circuit keeps rejecting calls.
+     *
+     * @return milliseconds until the next trial call, or 0 if not open
+     */
+    public synchronized long getRemainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        long remaining = openNanos - (clock.getAsLong() - openedAtNanos);
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    /**
+     * Returns the number of calls rejected without reaching the upstream.
+     *
+     * @return rejected calls since creation
+     */
+    public long getNotPermittedCalls() {
+        return notPermittedCalls.sum();
+    }
+
+    /**
+     * Returns how often the circuit has opened.
+     *
+     * @return transitions to {@link State#OPEN} since creation
+     */
+    public long getOpenTransitions() {
+        return openTransitions.sum();
+    }
+
+    private void record(boolean failure, boolean slowCall) {
+        if (recorded == windowSize) {
+            if (failed[next]) {
+                failureCount--;
+            }
+            if (slow[next]) {
+                slowCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = slowCall;
+        if (failure) {
+            failureCount++;
+        }
+        if (slowCall) {
+            slowCount++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private double rate(int count) {
+        return recorded == 0 ? 0 : 100.0 * count / recorded;
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        state = target;
+        switch (target) {
+            case OPEN:
+                openedAtNanos = clock.getAsLong();
+                openTransitions.increment();
+                logger.warn("Circuit for {} opened (was {}), failing fast for {}ms",
+                        name, previous, TimeUnit.NANOSECONDS.toMillis(openNanos));
+                break;
+            case HALF_OPEN:
+                halfOpenPermits = 0;
+                halfOpenSuccesses = 0;
+                logger.info("Circuit for {} half-open, probing with {} calls", name, halfOpenCalls);
+                break;
+            default:
+                recorded = 0;
+                next = 0;
+                failureCount = 0;
+                slowCount = 0;
+                logger.info("Circuit for {} closed", name);
+                break;
+        }
+    }
+
+    /**
+     * Builder for {@link CircuitBreaker}.
+     */
+    public static final class Builder {
+        private final String name;
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 50;
+        private Duration slowCallThreshold = Duration.ofSeconds(10);
+        private double slowCallRateThreshold = 80;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(String name) {
+            this.name = Objects.requireNonNull(name, "name cannot be null");
+        }
+
+        /**
+         * Sets how many recent calls the failure and slow-call rates cover.
+         *
+         * @param windowSize number of calls, at least 1
+         * @return this builder
+         */
+        public Builder windowSize(int windowSize) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("Window size must be at least 1");
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Sets how many calls must be recorded before the circuit may open.
+         *
+         * @param minimumCalls number of calls, at least 1
+         * @return this builder
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls < 1) {
+                throw new IllegalArgumentException("Minimum calls must be at least 1");
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets the failure rate at which the circuit opens.
+         *
+         * @param percent threshold in percent (1-100)
+         * @return this builder
+         */
+        public Builder failureRateThreshold(double percent) {
+            this.failureRateThreshold = checkPercent(percent);
+            return this;
+        }
+
+        /**
+         * Sets the duration at or above which a call counts as slow.
+         *
+         * @param threshold the slow-call duration
+         * @return this builder
+         */
+        public Builder slowCallThreshold(Duration threshold) {
+            this.slowCallThreshold = Objects.requireNonNull(threshold, "threshold cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the slow-call rate at which the circuit opens.
+         *
+         * @param percent threshold in percent (1-100)
+         * @return this builder
+         */
+        public Builder slowCallRateThreshold(double percent) {
+            this.slowCallRateThreshold = checkPercent(percent);
+            return this;
+        }
+
+        /**
+         * Sets how long an open circuit rejects calls before probing.
+         *
+         * @param openDuration the open duration
+         * @return this builder
+         */
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = Objects.requireNonNull(openDuration, "openDuration cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets how many trial calls a half-open circuit lets through.
+         *
+         * @param halfOpenCalls number of calls, at least 1
+         * @return this builder
+         */
+        public Builder halfOpenCalls(int halfOpenCalls) {
+            if (halfOpenCalls < 1) {
+                throw new IllegalArgumentException("Half-open calls must be at least 1");
+            }
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        Builder clock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds the circuit breaker.
+         *
+         * @return a new closed CircuitBreaker
+         */
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+
+        private static double checkPercent(double percent) {
+            if (percent <= 0 || percent > 100) {
+                throw new IllegalArgumentException("Threshold must be in (0, 100]");
+            }
+            return percent;
+        }
+    }
+}
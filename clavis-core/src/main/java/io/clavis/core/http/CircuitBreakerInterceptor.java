@@ -0,0 +1,74 @@
+package io.clavis.core.http;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Objects;
+
+/**
+ * OkHttp interceptor that guards each call with its host's
+ * {@link CircuitBreaker}.
+ *
+ * <p>
+ * It sits in front of the rate limiter: while a circuit is open, calls fail
+ * immediately with a {@link CircuitOpenException} instead of queueing for a
+ * permit and then waiting out the read timeout. I/O errors, timeouts and
+ * HTTP 5xx responses count as failures; calls whose response headers take
+ * longer than the slow-call threshold count as slow. Cancelled calls are
+ * not recorded.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class CircuitBreakerInterceptor implements Interceptor {
+
+    private final CircuitBreakerRegistry registry;
+
+    /**
+     * Creates an interceptor using the breakers of the given registry.
+     *
+     * @param registry the registry holding host breakers
+     */
+    public CircuitBreakerInterceptor(CircuitBreakerRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "registry cannot be null");
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String host = request.url().host();
+        CircuitBreaker breaker = registry.forHost(host);
+        if (!breaker.tryAcquirePermission()) {
+            throw new CircuitOpenException(host, breaker.getRemainingOpenMillis());
+        }
+
+        CallTimer timer = new CallTimer();
+        Response response;
+        try {
+            response = chain.proceed(request.newBuilder().tag(CallTimer.class, timer).build());
+        } catch (IOException e) {
+            if (isCancellation(chain, e)) {
+                breaker.onIgnored();
+            } else {
+                breaker.onResult(timer.elapsedNanos(), true);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            breaker.onIgnored();
+            throw e;
+        }
+        breaker.onResult(timer.elapsedNanos(), response.code() >= 500);
+        return response;
+    }
+
+    private static boolean isCancellation(Chain chain, IOException e) {
+        return chain.call().isCanceled()
+                || (e instanceof InterruptedIOException && !(e instanceof SocketTimeoutException));
+    }
+}
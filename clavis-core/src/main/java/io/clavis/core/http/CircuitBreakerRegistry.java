@@ -0,0 +1,72 @@
+package io.clavis.core.http;
+
+import io.clavis.core.config.ConfigManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of host-scoped {@link CircuitBreaker}s.
+ *
+ * <p>
+ * Every client that calls a host shares its breaker, so when an upstream
+ * such as {@code www.ebi.ac.uk} goes down, all modules using it fail fast
+ * together. Thresholds come from the {@code CLAVIS_CIRCUIT_*} settings.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class CircuitBreakerRegistry {
+
+    private final ConfigManager config;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    CircuitBreakerRegistry(ConfigManager config) {
+        this.config = config;
+    }
+
+    private static final class LazyHolder {
+        static final CircuitBreakerRegistry INSTANCE = new CircuitBreakerRegistry(ConfigManager.getInstance());
+    }
+
+    /**
+     * Returns the process-wide registry.
+     *
+     * @return the registry instance, never null
+     */
+    public static CircuitBreakerRegistry getInstance() {
+        return LazyHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the breaker shared by all clients of a host, creating it on
+     * first use.
+     *
+     * @param host the upstream host name
+     * @return the shared breaker for the host
+     */
+    public CircuitBreaker forHost(String host) {
+        String key = Objects.requireNonNull(host, "host cannot be null").toLowerCase(Locale.ROOT);
+        return breakers.computeIfAbsent(key, h -> CircuitBreaker.builder(h)
+                .failureRateThreshold(config.getCircuitFailureRateThreshold())
+                .slowCallThreshold(Duration.ofMillis(config.getCircuitSlowCallMillis()))
+                .slowCallRateThreshold(config.getCircuitSlowCallRateThreshold())
+                .openDuration(Duration.ofSeconds(config.getCircuitOpenSeconds()))
+                .build());
+    }
+
+    /**
+     * Returns the breakers of every host seen so far.
+     *
+     * @return an unmodifiable view keyed by host name
+     */
+    public Map<String, CircuitBreaker> all() {
+        return Collections.unmodifiableMap(breakers);
+    }
+}
@@ -0,0 +1,57 @@
+package io.clavis.core.http;
+
+import java.io.IOException;
+
+/**
+ * Signals that a call was rejected because the upstream's circuit is open.
+ *
+ * <p>
+ * Thrown from the OkHttp interceptor chain without touching the network.
+ * {@link RetryPolicy} never retries it and reports it as an
+ * {@link io.clavis.core.exception.ApiException}. Clients that do not use
+ * {@code RetryPolicy} see it as a plain {@link IOException}; their tools
+ * report its message, which names the host and the wait.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class CircuitOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+    private final long retryAfterMillis;
+
+    /**
+     * Creates a new circuit open exception.
+     *
+     * @param host             the upstream host
+     * @param retryAfterMillis time until the circuit lets a trial call through
+     */
+    public CircuitOpenException(String host, long retryAfterMillis) {
+        super("Circuit breaker open for " + host + ": upstream is failing, not calling it for another "
+                + Math.max(1, (retryAfterMillis + 999) / 1000) + "s");
+        this.host = host;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * Returns the upstream host.
+     *
+     * @return the host name
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Returns the time until the circuit lets a trial call through.
+     *
+     * @return milliseconds until the next trial call
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,404 @@
+package io.clavis.core.http;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * OkHttp interceptor that hedges slow idempotent requests.
+ *
+ * <p>
+ * GET and HEAD requests are sent as a primary call. If the primary has not
+ * answered by the host's observed p95 latency, one backup call is sent and
+ * whichever response arrives first is used; the other call is cancelled.
+ * A {@code 429} or {@code 5xx} answer does not win while the other call is
+ * still pending; it is returned only if that call fails too. Non-idempotent
+ * requests pass through untouched.
+ * </p>
+ *
+ * <p>
+ * Both calls run on this interceptor's own threads and block there, rather
+ * than being enqueued on the shared client's dispatcher: the caller may
+ * itself hold one of the dispatcher's per-host slots, and the calls it waits
+ * for must not queue behind it. At most {@value #MAX_ATTEMPT_THREADS} calls
+ * run on these threads at once; beyond that, requests are sent unhedged on
+ * the caller's thread.
+ * </p>
+ *
+ * <p>
+ * Installed after the {@link RateLimitInterceptor}, which charges the
+ * primary. A backup is only sent if the same {@link RateLimiter} has a
+ * token available right now and the module's hedge budget allows it, so
+ * hedging never queues and adds at most the budget's share of extra load.
+ * Hedging starts once {@value #MIN_SAMPLES} latencies have been observed
+ * for a host.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class HedgingInterceptor implements Interceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgingInterceptor.class);
+
+    /** Response header marking responses that came from the backup call. */
+    public static final String HEDGE_HEADER = "X-Clavis-Hedge";
+
+    static final int MIN_SAMPLES = 20;
+    static final long MIN_DELAY_MILLIS = 50;
+
+    private static final long CANCEL_POLL_MILLIS = 100;
+    private static final Map<String, HedgingInterceptor> MODULES = new ConcurrentHashMap<>();
+
+    /** Upper bound on attempt threads, matching OkHttp's default limit on concurrent calls. */
+    static final int MAX_ATTEMPT_THREADS = 64;
+
+    /**
+     * Runs primary and backup calls; each thread blocks in one call. Nothing
+     * queues: when every thread is busy a request goes out unhedged on its
+     * caller's thread, and a backup is not sent.
+     */
+    private static final ThreadPoolExecutor ATTEMPTS = new ThreadPoolExecutor(0, MAX_ATTEMPT_THREADS,
+            60, TimeUnit.SECONDS, new SynchronousQueue<>(), new ThreadFactory() {
+                private final AtomicInteger counter = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "clavis-hedge-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    private final String module;
+    private final Function<Request, RateLimiter> limiterForRequest;
+    private final RetryBudget budget;
+    private final OkHttpClient downstream;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    private final LongAdder hedgesSent = new LongAdder();
+    private final LongAdder hedgesWon = new LongAdder();
+    private final LongAdder hedgesDenied = new LongAdder();
+
+    /**
+     * Creates a hedging interceptor.
+     *
+     * @param module            the module name under which hedges are reported
+     * @param limiterForRequest the limiter that charged the primary call
+     * @param budget            share of requests that may be hedged
+     * @param downstream        client without application interceptors that
+     *                          executes primary and backup calls
+     */
+    public HedgingInterceptor(String module, Function<Request, RateLimiter> limiterForRequest,
+            RetryBudget budget, OkHttpClient downstream) {
+        this.module = Objects.requireNonNull(module, "module cannot be null");
+        this.limiterForRequest = Objects.requireNonNull(limiterForRequest, "limiterForRequest cannot be null");
+        this.budget = Objects.requireNonNull(budget, "budget cannot be null");
+        this.downstream = Objects.requireNonNull(downstream, "downstream cannot be null");
+        MODULES.put(module.toLowerCase(Locale.ROOT), this);
+    }
+
+    /**
+     * Returns the most recent hedging interceptor of every module with
+     * hedging enabled.
+     *
+     * @return an unmodifiable view keyed by module name
+     */
+    public static Map<String, HedgingInterceptor> all() {
+        return Collections.unmodifiableMap(MODULES);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!"GET".equals(request.method()) && !"HEAD".equals(request.method())) {
+            return chain.proceed(request);
+        }
+
+        LatencyWindow window = latencies.computeIfAbsent(request.url().host(), h -> new LatencyWindow());
+        budget.onRequest();
+        OkHttpClient client = clientFor(chain);
+        long hedgeDelay = window.hedgeDelayMillis();
+
+        Attempt primary = Attempt.start(client, request, window);
+        if (primary == null) {
+            // Every attempt thread is busy: send this request unhedged on the caller's thread
+            long start = System.nanoTime();
+            Response response = chain.proceed(request);
+            window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return response;
+        }
+        List<Attempt> attempts = new ArrayList<>(Arrays.asList(primary));
+        if (hedgeDelay >= 0 && !primary.result.isDone()) {
+            try {
+                primary.result.get(hedgeDelay, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                Attempt hedge = tryHedge(client, request, window);
+                if (hedge != null) {
+                    attempts.add(hedge);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll(attempts);
+                throw new InterruptedIOException("Interrupted while waiting for upstream");
+            } catch (ExecutionException e) {
+                // Primary failed before the hedge delay; reported below
+            }
+        }
+        return awaitFirst(chain, attempts);
+    }
+
+    /**
+     * Returns the module name.
+     *
+     * @return the module whose requests are hedged
+     */
+    public String getModule() {
+        return module;
+    }
+
+    /**
+     * Returns the number of backup calls sent.
+     *
+     * @return hedges sent since creation
+     */
+    public long getHedgesSent() {
+        return hedgesSent.sum();
+    }
+
+    /**
+     * Returns the number of backup calls that answered before the primary.
+     *
+     * @return hedges won since creation
+     */
+    public long getHedgesWon() {
+        return hedgesWon.sum();
+    }
+
+    /**
+     * Returns the number of hedges skipped for lack of budget or tokens.
+     *
+     * @return hedges denied since creation
+     */
+    public long getHedgesDenied() {
+        return hedgesDenied.sum();
+    }
+
+    /**
+     * Returns the current hedge delay for a host.
+     *
+     * @param host the upstream host
+     * @return the p95 latency in milliseconds, or -1 while too few
+     *         latencies have been observed
+     */
+    public long getHedgeDelayMillis(String host) {
+        LatencyWindow window = latencies.get(host);
+        return window == null ? -1 : window.hedgeDelayMillis();
+    }
+
+    private Attempt tryHedge(OkHttpClient client, Request request, LatencyWindow window) {
+        if (!budget.tryRetry() || !limiterForRequest.apply(request).tryAcquire()) {
+            hedgesDenied.increment();
+            return null;
+        }
+        Attempt hedge = Attempt.start(client, request, window);
+        if (hedge == null) {
+            hedgesDenied.increment();
+            return null;
+        }
+        hedgesSent.increment();
+        logger.debug("Hedging slow request to {}", request.url().host());
+        return hedge;
+    }
+
+    private Response awaitFirst(Chain chain, List<Attempt> attempts) throws IOException {
+        List<Attempt> pending = new ArrayList<>(attempts);
+        IOException firstFailure = null;
+        Attempt failedAttempt = null;
+        Response failedResponse = null;
+        while (!pending.isEmpty()) {
+            CompletableFuture<?>[] futures = pending.stream().map(a -> a.result).toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.anyOf(futures).get(CANCEL_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (chain.call().isCanceled()) {
+                    cancelAll(pending);
+                    closeQuietly(failedResponse);
+                    throw new IOException("Canceled");
+                }
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll(pending);
+                closeQuietly(failedResponse);
+                throw new InterruptedIOException("Interrupted while waiting for upstream");
+            } catch (ExecutionException e) {
+                // Inspected per attempt below
+            }
+
+            for (Attempt attempt : new ArrayList<>(pending)) {
+                if (!attempt.result.isDone()) {
+                    continue;
+                }
+                pending.remove(attempt);
+                try {
+                    Response response = attempt.result.join();
+                    if (isRetryable(response) && !pending.isEmpty()) {
+                        // Let the other call answer; keep this one in case it fails as well
+                        if (failedResponse == null) {
+                            failedAttempt = attempt;
+                            failedResponse = response;
+                        } else {
+                            response.close();
+                        }
+                        continue;
+                    }
+                    cancelAll(pending);
+                    closeQuietly(failedResponse);
+                    return finish(chain, attempts, attempt, response);
+                } catch (RuntimeException e) {
+                    if (firstFailure == null) {
+                        firstFailure = asIOException(e.getCause() != null ? e.getCause() : e);
+                    }
+                }
+            }
+        }
+        if (failedResponse != null) {
+            return finish(chain, attempts, failedAttempt, failedResponse);
+        }
+        throw firstFailure;
+    }
+
+    private Response finish(Chain chain, List<Attempt> attempts, Attempt attempt, Response response) {
+        if (attempt != attempts.get(0)) {
+            hedgesWon.increment();
+            return response.newBuilder().request(chain.request()).header(HEDGE_HEADER, "WON").build();
+        }
+        return response.newBuilder().request(chain.request()).build();
+    }
+
+    private static boolean isRetryable(Response response) {
+        return response.code() == 429 || response.code() >= 500;
+    }
+
+    private static void closeQuietly(Response response) {
+        if (response != null) {
+            response.close();
+        }
+    }
+
+    private OkHttpClient clientFor(Chain chain) {
+        if (chain.connectTimeoutMillis() == downstream.connectTimeoutMillis()
+                && chain.readTimeoutMillis() == downstream.readTimeoutMillis()
+                && chain.writeTimeoutMillis() == downstream.writeTimeoutMillis()) {
+            return downstream;
+        }
+        return downstream.newBuilder()
+                .connectTimeout(chain.connectTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(chain.readTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(chain.writeTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    private static void cancelAll(List<Attempt> attempts) {
+        for (Attempt attempt : attempts) {
+            attempt.call.cancel();
+            attempt.result.thenAccept(Response::close);
+        }
+    }
+
+    private static IOException asIOException(Throwable error) {
+        return error instanceof IOException ? (IOException) error : new IOException(error);
+    }
+
+    /** One in-flight call and its eventual response. */
+    private static final class Attempt {
+        final Call call;
+        final CompletableFuture<Response> result = new CompletableFuture<>();
+
+        private Attempt(Call call) {
+            this.call = call;
+        }
+
+        /** Starts a call on an attempt thread; null if every thread is busy. */
+        static Attempt start(OkHttpClient client, Request request, LatencyWindow window) {
+            Attempt attempt = new Attempt(client.newCall(request));
+            long start = System.nanoTime();
+            try {
+                ATTEMPTS.execute(() -> {
+                    try {
+                        Response response = attempt.call.execute();
+                        window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        if (!attempt.result.complete(response)) {
+                            response.close();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        attempt.result.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                return null;
+            }
+            return attempt;
+        }
+    }
+
+    /**
+     * Recent response latencies of one host. The p95 is recomputed every
+     * {@value #RECOMPUTE_EVERY} samples rather than on every request.
+     */
+    static final class LatencyWindow {
+        private static final int SIZE = 256;
+        private static final int RECOMPUTE_EVERY = 16;
+
+        /* Guarded by this. */
+        private final long[] samples = new long[SIZE];
+        private int count;
+        private int next;
+        private int sinceRecompute;
+        private long p95 = -1;
+
+        synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % SIZE;
+            count = Math.min(count + 1, SIZE);
+            if (count >= MIN_SAMPLES && (++sinceRecompute >= RECOMPUTE_EVERY || p95 < 0)) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                p95 = sorted[(int) Math.ceil(0.95 * count) - 1];
+                sinceRecompute = 0;
+            }
+        }
+
+        synchronized long hedgeDelayMillis() {
+            return p95 < 0 ? -1 : Math.max(MIN_DELAY_MILLIS, p95);
+        }
+    }
+}
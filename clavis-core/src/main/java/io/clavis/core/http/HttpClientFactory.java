@@ -1,10 +1,19 @@
 package io.clavis.core.http;
 
+import io.clavis.core.cache.NegativeCache;
+import io.clavis.core.cache.ResponseCache;
+import io.clavis.core.config.ConfigManager;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Factory for creating configured OkHttpClient instances.
@@ -14,6 +23,42 @@ import java.util.concurrent.TimeUnit;
  * logging, and optional rate limiting.
  * </p>
  *
+ * <p>
+ * All clients are derived from a single root client via
+ * {@link OkHttpClient#newBuilder()}, so every module shares one connection
+ * pool and one dispatcher. Per-upstream timeouts and interceptors remain
+ * independent, while keep-alive connections to a host are reused by every
+ * module that calls it (e.g. {@code www.ebi.ac.uk}).
+ * </p>
+ *
+ * <p>
+ * When {@code CLAVIS_CACHE_ENABLED} is true (the default), GET requests are
+ * served from the shared {@link ResponseCache} before any rate limiter is
+ * consulted, so repeated lookups cost neither a network round trip nor a
+ * token. Not-found ({@code 404}/{@code 410}) responses are kept in the
+ * {@link NegativeCache} for a short, per-module TTL. Responses past the
+ * cache TTL are served while a background call refreshes them.
+ * </p>
+ *
+ * <p>
+ * Cache misses then pass the shared {@link SingleFlightInterceptor}: while
+ * a GET is in flight, identical GETs from any client wait for its response
+ * instead of making their own call.
+ * </p>
+ *
+ * <p>
+ * When {@code CLAVIS_CIRCUIT_BREAKER_ENABLED} is true (the default), each
+ * call then passes the {@link CircuitBreaker} of its host, so a dead
+ * upstream is rejected immediately instead of holding a thread for the
+ * full read timeout on every call.
+ * </p>
+ *
+ * <p>
+ * Modules with {@code CLAVIS_HEDGE_<MODULE>=true} also hedge slow GET
+ * requests with a backup call charged to the same rate limiter (see
+ * {@link HedgingInterceptor}).
+ * </p>
+ *
  * @author CLAVIS Team
  * @version 1.0.0
  * @since 2025-01-01
@@ -26,10 +71,40 @@ public final class HttpClientFactory {
     private static final int DEFAULT_READ_TIMEOUT = 30;
     private static final int DEFAULT_WRITE_TIMEOUT = 30;
 
+    private static final int MAX_IDLE_CONNECTIONS = 32;
+    private static final int KEEP_ALIVE_MINUTES = 5;
+    private static final int MAX_REQUESTS_PER_HOST = 16;
+
+    private static final String RATE_LIMIT_MAX_PREFIX = "CLAVIS_RATE_LIMIT_MAX_";
+
     private HttpClientFactory() {
         // Static factory — no instances
     }
 
+    private static final class RootHolder {
+        static final OkHttpClient ROOT = createRoot();
+
+        private static OkHttpClient createRoot() {
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+            logger.debug("Creating shared root HTTP client");
+            return new OkHttpClient.Builder()
+                    .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                    .dispatcher(dispatcher)
+                    .build();
+        }
+    }
+
+    /**
+     * Returns the shared root client whose connection pool and dispatcher
+     * back every client handed out by this factory.
+     *
+     * @return the shared root OkHttpClient
+     */
+    public static OkHttpClient sharedClient() {
+        return RootHolder.ROOT;
+    }
+
     /**
      * Creates an OkHttpClient with default timeouts.
      *
@@ -40,6 +115,68 @@ public final class HttpClientFactory {
                 .build();
     }
 
+    /**
+     * Creates an OkHttpClient with default timeouts for a module whose
+     * upstream needs no rate limiter. The module's cache settings apply, as
+     * described for {@link #createBuilder(String)}.
+     *
+     * @param module the module name
+     * @return a new OkHttpClient instance
+     */
+    public static OkHttpClient createDefault(String module) {
+        return createBuilder(module)
+                .build();
+    }
+
+    /**
+     * Creates an OkHttpClient with default timeouts whose outgoing calls are
+     * throttled by the given rate limiter. Cached responses bypass the limiter.
+     *
+     * <p>
+     * Setting {@code CLAVIS_RATE_LIMIT_MAX_<MODULE>} (e.g.
+     * {@code CLAVIS_RATE_LIMIT_MAX_UNIPROT=10}) raises the ceiling the
+     * limiter may adaptively probe up to. With
+     * {@code CLAVIS_RATE_LIMIT_SHARED=true} the limiter is replaced by one
+     * with the same rates whose bucket is shared by every process on the
+     * host (see {@link RateLimiterRegistry#forModule}).
+     * </p>
+     *
+     * @param module      the module name under which queue-wait times are recorded
+     * @param rateLimiter the limiter to acquire from before each network call
+     * @return a new OkHttpClient instance
+     */
+    public static OkHttpClient createDefault(String module, RateLimiter rateLimiter) {
+        RateLimiterRegistry registry = RateLimiterRegistry.getInstance();
+        RateLimiter limiter = registry.forModule(module, rateLimiter);
+        int ceiling = ConfigManager.getInstance()
+                .getInt(RATE_LIMIT_MAX_PREFIX + module.toUpperCase(Locale.ROOT), 0);
+        if (ceiling > 0) {
+            limiter.setMaxRate(ceiling);
+        }
+        OkHttpClient.Builder builder = createBuilder(module)
+                .addInterceptor(new RateLimitInterceptor(limiter, registry.waitStats(module)));
+        return addHedging(builder, module, request -> limiter).build();
+    }
+
+    /**
+     * Creates an OkHttpClient with default timeouts whose outgoing calls are
+     * throttled by the limiter shared by all clients of the request's host,
+     * from {@link RateLimiterRegistry}.
+     *
+     * @param module                   the module name under which queue-wait
+     *                                 times are recorded
+     * @param defaultRequestsPerSecond rate for hosts without a known policy
+     * @return a new OkHttpClient instance
+     */
+    public static OkHttpClient createHostScoped(String module, int defaultRequestsPerSecond) {
+        RateLimiterRegistry registry = RateLimiterRegistry.getInstance();
+        OkHttpClient.Builder builder = createBuilder(module)
+                .addInterceptor(RateLimitInterceptor.hostScoped(
+                        registry, defaultRequestsPerSecond, registry.waitStats(module)));
+        return addHedging(builder, module,
+                request -> registry.forHost(request.url().host(), defaultRequestsPerSecond)).build();
+    }
+
     /**
      * Creates an OkHttpClient with custom timeouts.
      *
@@ -55,15 +192,66 @@ public final class HttpClientFactory {
     }
 
     /**
-     * Creates a preconfigured OkHttpClient builder.
+     * Adds a {@link HedgingInterceptor} after the rate limiter when
+     * {@code CLAVIS_HEDGE_<MODULE>} is true. Primary and backup calls run on
+     * a client derived from the shared root without application interceptors.
+     */
+    private static OkHttpClient.Builder addHedging(OkHttpClient.Builder builder, String module,
+            Function<Request, RateLimiter> limiterForRequest) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (!config.isHedgingEnabled(module)) {
+            return builder;
+        }
+        OkHttpClient downstream = sharedClient().newBuilder()
+                .connectTimeout(DEFAULT_CONNECT_TIMEOUT, TimeUnit.SECONDS)
+                .readTimeout(DEFAULT_READ_TIMEOUT, TimeUnit.SECONDS)
+                .writeTimeout(DEFAULT_WRITE_TIMEOUT, TimeUnit.SECONDS)
+                .build();
+        RetryBudget budget = new RetryBudget(config.getHedgeBudgetPercent() / 100.0, 0);
+        logger.info("Hedging enabled for {} (budget {}%)", module, config.getHedgeBudgetPercent());
+        return builder.addInterceptor(new HedgingInterceptor(module, limiterForRequest, budget, downstream));
+    }
+
+    /**
+     * Creates a preconfigured OkHttpClient builder derived from the shared
+     * root client. Clients built from it share its connection pool and
+     * dispatcher.
      *
      * @return an OkHttpClient.Builder with default settings
      */
     public static OkHttpClient.Builder createBuilder() {
+        return createBuilder(null);
+    }
+
+    /**
+     * Creates a preconfigured OkHttpClient builder for a module's upstream.
+     * Its not-found responses are cached for
+     * {@code CLAVIS_NEGATIVE_CACHE_TTL_<MODULE>} seconds, and its expired
+     * responses are served while being refreshed for
+     * {@code CLAVIS_CACHE_STALE_MINUTES_<MODULE>} minutes.
+     *
+     * @param module the module name, or null for the default negative TTL
+     * @return an OkHttpClient.Builder with default settings
+     */
+    public static OkHttpClient.Builder createBuilder(String module) {
         logger.debug("Creating HTTP client with default timeouts");
-        return new OkHttpClient.Builder()
+        ConfigManager config = ConfigManager.getInstance();
+        OkHttpClient.Builder builder = sharedClient().newBuilder()
                 .connectTimeout(DEFAULT_CONNECT_TIMEOUT, TimeUnit.SECONDS)
                 .readTimeout(DEFAULT_READ_TIMEOUT, TimeUnit.SECONDS)
                 .writeTimeout(DEFAULT_WRITE_TIMEOUT, TimeUnit.SECONDS);
+        if (config.isCacheEnabled()) {
+            builder.addInterceptor(new CacheInterceptor(ResponseCache.shared(),
+                    config.isNegativeCacheEnabled() ? NegativeCache.shared() : null,
+                    Duration.ofSeconds(Math.max(0, config.getNegativeCacheTtlSeconds(module))),
+                    Duration.ofMinutes(Math.max(0, config.getCacheStaleMinutes(module)))));
+        }
+        if (ConfigManager.getInstance().isSingleFlightEnabled()) {
+            builder.addInterceptor(SingleFlightInterceptor.shared());
+        }
+        if (ConfigManager.getInstance().isCircuitBreakerEnabled()) {
+            builder.addInterceptor(new CircuitBreakerInterceptor(CircuitBreakerRegistry.getInstance()));
+        }
+        return builder;
     }
 }
@@ -0,0 +1,90 @@
+package io.clavis.core.http;
+
+import com.google.gson.JsonObject;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point-in-time view of the shared HTTP layer's health.
+ *
+ * <p>
+ * Collects the state of every host's {@link CircuitBreaker}, the
+ * rate-limit queue waits of every module, request coalescing counts and
+ * hedging counts into one JSON object, suitable for a metrics or health endpoint.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class HttpMetrics {
+
+    private HttpMetrics() {
+        // Utility class
+    }
+
+    /**
+     * Returns a snapshot of the process-wide HTTP metrics.
+     *
+     * @return a JSON object with {@code circuitBreakers},
+     *         {@code rateLimitWaits}, {@code singleFlight} and
+     *         {@code hedging} sections
+     */
+    public static JsonObject snapshot() {
+        JsonObject metrics = new JsonObject();
+        metrics.add("circuitBreakers", circuitBreakers(CircuitBreakerRegistry.getInstance().all()));
+        metrics.add("rateLimitWaits", rateLimitWaits(RateLimiterRegistry.getInstance().allWaitStats()));
+        metrics.add("singleFlight", singleFlight(SingleFlightInterceptor.shared()));
+        metrics.add("hedging", hedging(HedgingInterceptor.all()));
+        return metrics;
+    }
+
+    static JsonObject hedging(Map<String, HedgingInterceptor> interceptors) {
+        JsonObject json = new JsonObject();
+        interceptors.forEach((module, hedging) -> {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("hedgesSent", hedging.getHedgesSent());
+            entry.addProperty("hedgesWon", hedging.getHedgesWon());
+            entry.addProperty("hedgesDenied", hedging.getHedgesDenied());
+            json.add(module, entry);
+        });
+        return json;
+    }
+
+    static JsonObject singleFlight(SingleFlightInterceptor interceptor) {
+        JsonObject json = new JsonObject();
+        json.addProperty("leaderRequests", interceptor.getLeaderRequests());
+        json.addProperty("coalescedRequests", interceptor.getCoalescedRequests());
+        json.addProperty("inFlight", interceptor.getInFlight());
+        return json;
+    }
+
+    static JsonObject circuitBreakers(Map<String, CircuitBreaker> breakers) {
+        JsonObject json = new JsonObject();
+        breakers.forEach((host, breaker) -> {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("state", breaker.getState().name());
+            entry.addProperty("failureRate", breaker.getFailureRate());
+            entry.addProperty("slowCallRate", breaker.getSlowCallRate());
+            entry.addProperty("bufferedCalls", breaker.getBufferedCalls());
+            entry.addProperty("notPermittedCalls", breaker.getNotPermittedCalls());
+            entry.addProperty("openTransitions", breaker.getOpenTransitions());
+            entry.addProperty("remainingOpenMillis", breaker.getRemainingOpenMillis());
+            json.add(host, entry);
+        });
+        return json;
+    }
+
+    static JsonObject rateLimitWaits(Map<String, QueueWaitStats> stats) {
+        JsonObject json = new JsonObject();
+        stats.forEach((module, wait) -> {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("acquisitions", wait.getAcquisitions());
+            entry.addProperty("meanWaitMillis", wait.getMeanWaitMillis());
+            entry.addProperty("maxWaitMillis", TimeUnit.NANOSECONDS.toMillis(wait.getMaxWaitNanos()));
+            json.add(module, entry);
+        });
+        return json;
+    }
+}
@@ -0,0 +1,42 @@
+package io.clavis.core.http;
+
+import java.io.IOException;
+
+/**
+ * Signals that an upstream API answered with an unsuccessful HTTP status.
+ *
+ * <p>
+ * Carries the status code so {@link RetryPolicy} can tell transient
+ * failures (429, 5xx) from permanent ones (other 4xx).
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class HttpStatusException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+
+    /**
+     * Creates a new HTTP status exception.
+     *
+     * @param message    the error message
+     * @param statusCode the HTTP status code
+     */
+    public HttpStatusException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Returns the HTTP status code.
+     *
+     * @return the HTTP status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
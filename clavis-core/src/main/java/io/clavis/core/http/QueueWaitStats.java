@@ -0,0 +1,79 @@
+package io.clavis.core.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time spent waiting for rate-limit permits, accumulated per module.
+ *
+ * <p>
+ * When several modules share one {@link RateLimiter}, each keeps its own
+ * statistics so a slow upstream can be attributed to the module whose
+ * requests are queueing.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class QueueWaitStats {
+
+    private final String name;
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates empty statistics.
+     *
+     * @param name the module name
+     */
+    public QueueWaitStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records one permit acquisition.
+     *
+     * @param waitNanos time spent waiting for the permit
+     */
+    public void record(long waitNanos) {
+        acquisitions.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    /**
+     * Returns the mean wait per acquisition.
+     *
+     * @return mean wait in milliseconds, or 0 if nothing was recorded
+     */
+    public double getMeanWaitMillis() {
+        long count = getAcquisitions();
+        return count == 0 ? 0 : (double) getTotalWaitNanos() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: acquisitions=%d, meanWait=%.1fms, maxWait=%dms",
+                name, getAcquisitions(), getMeanWaitMillis(),
+                TimeUnit.NANOSECONDS.toMillis(getMaxWaitNanos()));
+    }
+}
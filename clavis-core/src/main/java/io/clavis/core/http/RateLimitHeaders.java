@@ -0,0 +1,101 @@
+package io.clavis.core.http;
+
+import okhttp3.Response;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Reads rate-limit feedback from upstream response headers.
+ *
+ * <p>
+ * Understands {@code Retry-After} (delta seconds or an HTTP date) and the
+ * common {@code X-RateLimit-Remaining} / {@code X-RateLimit-Reset} pair,
+ * including the unprefixed {@code RateLimit-*} variants. Reset values
+ * larger than {@value #EPOCH_SECONDS_THRESHOLD} are treated as epoch
+ * seconds, smaller ones as seconds from now.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class RateLimitHeaders {
+
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private RateLimitHeaders() {
+        // Utility class
+    }
+
+    /**
+     * Returns the delay requested by a {@code Retry-After} header.
+     *
+     * @param response the upstream response
+     * @return the delay in milliseconds, or -1 if absent or unparseable
+     */
+    public static long retryAfterMillis(Response response) {
+        String value = response.header("Retry-After");
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        value = value.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException e) {
+            // Fall through to HTTP-date form
+        }
+        try {
+            Instant at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return Math.max(0, Duration.between(Instant.now(), at).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the number of requests left in the current window.
+     *
+     * @param response the upstream response
+     * @return the remaining request count, or -1 if not reported
+     */
+    public static long remaining(Response response) {
+        return parseLong(header(response, "X-RateLimit-Remaining", "RateLimit-Remaining"));
+    }
+
+    /**
+     * Returns the time until the current rate-limit window resets.
+     *
+     * @param response the upstream response
+     * @return milliseconds until reset, or -1 if not reported
+     */
+    public static long resetMillis(Response response) {
+        long reset = parseLong(header(response, "X-RateLimit-Reset", "RateLimit-Reset"));
+        if (reset < 0) {
+            return -1;
+        }
+        if (reset > EPOCH_SECONDS_THRESHOLD) {
+            return Math.max(0, reset * 1000 - System.currentTimeMillis());
+        }
+        return reset * 1000;
+    }
+
+    private static String header(Response response, String name, String alternative) {
+        String value = response.header(name);
+        return value != null ? value : response.header(alternative);
+    }
+
+    private static long parseLong(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.clavis.core.http;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * OkHttp interceptor that blocks each outgoing call on a {@link RateLimiter}.
+ *
+ * <p>
+ * Placing the limiter in the interceptor chain, behind the response cache,
+ * means only requests that actually reach the upstream are charged a token.
+ * The limiter is either fixed or, for host-scoped clients, looked up per
+ * request host in the {@link RateLimiterRegistry}. Time spent waiting is
+ * recorded in the module's {@link QueueWaitStats}.
+ * </p>
+ *
+ * <p>
+ * Each response is fed back to the limiter: HTTP 429 and 503 count as
+ * throttling (honouring {@code Retry-After}), an exhausted
+ * {@code X-RateLimit-Remaining} pauses the limiter until the reported
+ * reset, and other responses let an adaptive limiter probe upward.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class RateLimitInterceptor implements Interceptor {
+
+    private final Function<Request, RateLimiter> limiterForRequest;
+    private final QueueWaitStats waitStats;
+
+    /**
+     * Creates an interceptor throttled by a single limiter.
+     *
+     * @param rateLimiter the limiter to acquire from before each call
+     * @param waitStats   where to record queue-wait times
+     */
+    public RateLimitInterceptor(RateLimiter rateLimiter, QueueWaitStats waitStats) {
+        Objects.requireNonNull(rateLimiter, "rateLimiter cannot be null");
+        this.limiterForRequest = request -> rateLimiter;
+        this.waitStats = Objects.requireNonNull(waitStats, "waitStats cannot be null");
+    }
+
+    private RateLimitInterceptor(Function<Request, RateLimiter> limiterForRequest, QueueWaitStats waitStats) {
+        this.limiterForRequest = limiterForRequest;
+        this.waitStats = Objects.requireNonNull(waitStats, "waitStats cannot be null");
+    }
+
+    /**
+     * Creates an interceptor that throttles each request with the limiter
+     * shared by all clients of the request's host.
+     *
+     * @param registry                 the registry holding host limiters
+     * @param defaultRequestsPerSecond rate for hosts without a known policy
+     * @param waitStats                where to record queue-wait times
+     * @return a host-scoped interceptor
+     */
+    public static RateLimitInterceptor hostScoped(RateLimiterRegistry registry, int defaultRequestsPerSecond,
+            QueueWaitStats waitStats) {
+        Objects.requireNonNull(registry, "registry cannot be null");
+        return new RateLimitInterceptor(
+                request -> registry.forHost(request.url().host(), defaultRequestsPerSecond), waitStats);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        RateLimiter rateLimiter = limiterForRequest.apply(chain.request());
+        long start = System.nanoTime();
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rate limit");
+        }
+        waitStats.record(System.nanoTime() - start);
+        CallTimer timer = chain.request().tag(CallTimer.class);
+        if (timer != null) {
+            timer.restart();
+        }
+        Response response = chain.proceed(chain.request());
+        feedback(rateLimiter, response);
+        return response;
+    }
+
+    private static void feedback(RateLimiter rateLimiter, Response response) {
+        int code = response.code();
+        if (code == 429 || code == 503) {
+            rateLimiter.onThrottled(RateLimitHeaders.retryAfterMillis(response));
+            return;
+        }
+        if (RateLimitHeaders.remaining(response) == 0) {
+            rateLimiter.pause(RateLimitHeaders.resetMillis(response));
+        } else if (code < 500) {
+            rateLimiter.onSuccess();
+        }
+    }
+}
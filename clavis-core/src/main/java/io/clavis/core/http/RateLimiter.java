@@ -3,28 +3,56 @@ package io.clavis.core.http;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Thread-safe token bucket rate limiter.
  *
  * <p>
  * Allows bursts up to the configured capacity, then refills
- * tokens at a constant rate. Safe for concurrent use from
- * multiple threads.
+ * tokens continuously at a constant rate, measured in nanoseconds.
+ * Safe for concurrent use from multiple threads.
+ * </p>
+ *
+ * <p>
+ * Callers that cannot be served immediately reserve the next free
+ * permit: the balance goes negative and each reservation is assigned a
+ * due time one refill interval after the previous one. Waiters are
+ * therefore served in FIFO order, are parked rather than polled, and
+ * wake exactly when their permit is due. New callers never overtake
+ * queued ones, because {@link #tryAcquire()} only succeeds while the
+ * balance is positive.
+ * </p>
+ *
+ * <p>
+ * The limiter reacts to upstream feedback reported through
+ * {@link #onThrottled(long)} and {@link #onSuccess()}. Every limiter honours
+ * {@code Retry-After} by pausing all permits. A limiter created with a
+ * ceiling above its starting rate is <em>adaptive</em>: it halves its rate
+ * when throttled (at most once per second, never below
+ * {@value #MIN_REQUESTS_PER_SECOND} req/s) and probes back up additively,
+ * by about one request per second for every second of successful traffic,
+ * until it reaches the ceiling.
  * </p>
  *
  * <p>
  * Example usage:
- * 
+ *
  * <pre>{@code
  * RateLimiter limiter = new RateLimiter(10); // 10 requests/sec
  * limiter.acquire(); // blocks until permitted
  * // make request
+ *
+ * RateLimiter adaptive = new RateLimiter(1, 5); // start at 1 req/s, probe up to 5
  * }</pre>
  *
+ * <p>
+ * The bucket lives in this object, so it limits one process. See
+ * {@link SharedRateLimiter} for a bucket shared by every process on a host.
+ * </p>
+ *
  * @author CLAVIS Team
  * @version 1.0.0
  * @since 2025-01-01
@@ -32,12 +60,32 @@ import java.util.concurrent.atomic.AtomicLong;
 public class RateLimiter {
 
     private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
-    private static final long WAIT_INTERVAL_MS = 50;
 
-    private final int capacity;
-    private final int refillRate;
-    private final AtomicInteger tokens;
-    private final AtomicLong lastRefillTimeNanos;
+    /** Lowest rate an adaptive limiter backs off to. */
+    public static final double MIN_REQUESTS_PER_SECOND = 0.2;
+
+    private static final double BACKOFF_FACTOR = 0.5;
+    private static final long BACKOFF_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_PAUSE_MILLIS = TimeUnit.MINUTES.toMillis(2);
+
+    /* All mutable state is guarded by this. */
+    private double rate;
+    private double maxRate;
+    private boolean adaptive;
+    private double capacity;
+    private double nanosPerPermit;
+
+    /** Available permits; negative while reservations are queued. */
+    private double permits;
+    /** Refill accounting point; lies in the future while paused. */
+    private long lastRefillNanos;
+    private long lastBackoffNanos;
+    /**
+     * Total time reservations have been pushed back by pauses. Waiters
+     * compare it with its value when they reserved, so a pause delays
+     * permits that were already queued as well as new ones.
+     */
+    private volatile long pauseShiftNanos;
 
     /**
      * Creates a new rate limiter.
@@ -46,14 +94,32 @@ public class RateLimiter {
      * @throws IllegalArgumentException if requestsPerSecond is not positive
      */
     public RateLimiter(int requestsPerSecond) {
+        this(requestsPerSecond, requestsPerSecond);
+    }
+
+    /**
+     * Creates a rate limiter that adapts between its starting rate and a
+     * ceiling based on upstream feedback.
+     *
+     * @param requestsPerSecond    starting requests per second
+     * @param maxRequestsPerSecond ceiling the rate may probe up to
+     * @throws IllegalArgumentException if a rate is not positive or the
+     *                                  ceiling is below the starting rate
+     */
+    public RateLimiter(int requestsPerSecond, int maxRequestsPerSecond) {
         if (requestsPerSecond <= 0) {
             throw new IllegalArgumentException("Requests per second must be positive");
         }
-        this.capacity = requestsPerSecond;
-        this.refillRate = requestsPerSecond;
-        this.tokens = new AtomicInteger(capacity);
-        this.lastRefillTimeNanos = new AtomicLong(System.nanoTime());
-        logger.debug("RateLimiter created: {} req/s", requestsPerSecond);
+        if (maxRequestsPerSecond < requestsPerSecond) {
+            throw new IllegalArgumentException("Maximum requests per second must not be below the starting rate");
+        }
+        this.maxRate = maxRequestsPerSecond;
+        this.adaptive = maxRequestsPerSecond > requestsPerSecond;
+        this.lastRefillNanos = System.nanoTime();
+        this.lastBackoffNanos = lastRefillNanos - BACKOFF_INTERVAL_NANOS;
+        applyRate(requestsPerSecond);
+        this.permits = capacity;
+        logger.debug("RateLimiter created: {} req/s (max {})", requestsPerSecond, maxRequestsPerSecond);
     }
 
     /**
@@ -61,37 +127,172 @@ public class RateLimiter {
      *
      * @return true if the request is allowed, false if rate limited
      */
-    public boolean tryAcquire() {
-        refillTokens();
-        int current;
-        do {
-            current = tokens.get();
-            if (current <= 0) {
-                return false;
-            }
-        } while (!tokens.compareAndSet(current, current - 1));
+    public synchronized boolean tryAcquire() {
+        refill(System.nanoTime());
+        if (permits < 1) {
+            return false;
+        }
+        permits -= 1;
         return true;
     }
 
     /**
      * Blocks until permission is granted for one request.
      *
-     * @throws InterruptedException if interrupted while waiting
+     * @throws InterruptedException if interrupted while waiting; the
+     *                              reserved permit is returned to the bucket
      */
     public void acquire() throws InterruptedException {
-        while (!tryAcquire()) {
-            Thread.sleep(WAIT_INTERVAL_MS);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        long shift = pauseShiftNanos;
+        long deadline = reserve();
+        long remaining;
+        while ((remaining = deadline + (pauseShiftNanos - shift) - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                refund();
+                throw new InterruptedException();
+            }
         }
     }
 
+    /**
+     * Reserves a permit and returns a future that completes when it is due.
+     *
+     * <p>
+     * No thread is blocked while waiting. Cancelling the future before it
+     * completes returns the permit to the bucket.
+     * </p>
+     *
+     * @return a future completed when the caller may proceed
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        long shift = pauseShiftNanos;
+        long deadline = reserve();
+        if (deadline - System.nanoTime() <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.whenComplete((ignored, error) -> {
+            if (future.isCancelled()) {
+                refund();
+            }
+        });
+        completeWhenDue(future, deadline, shift);
+        return future;
+    }
+
+    private void completeWhenDue(CompletableFuture<Void> future, long deadline, long shift) {
+        long remaining = deadline + (pauseShiftNanos - shift) - System.nanoTime();
+        if (remaining <= 0) {
+            future.complete(null);
+        } else if (!future.isDone()) {
+            CompletableFuture.delayedExecutor(remaining, TimeUnit.NANOSECONDS)
+                    .execute(() -> completeWhenDue(future, deadline, shift));
+        }
+    }
+
+    /**
+     * Reports that the upstream throttled a request (HTTP 429 or 503).
+     *
+     * <p>
+     * If the response carried a retry delay, no permits are issued until
+     * it has passed. An adaptive limiter additionally halves its rate.
+     * </p>
+     *
+     * @param retryAfterMillis delay requested by the upstream, or a
+     *                         negative value if none was given
+     */
+    public synchronized void onThrottled(long retryAfterMillis) {
+        long now = System.nanoTime();
+        if (retryAfterMillis > 0) {
+            pauseUntil(now + TimeUnit.MILLISECONDS.toNanos(Math.min(retryAfterMillis, MAX_PAUSE_MILLIS)));
+        }
+        if (isAdaptive() && now - lastBackoffNanos >= BACKOFF_INTERVAL_NANOS) {
+            lastBackoffNanos = now;
+            double previous = rate;
+            refill(now);
+            applyRate(Math.max(MIN_REQUESTS_PER_SECOND, rate * BACKOFF_FACTOR));
+            permits = Math.min(permits, capacity);
+            logger.info("Throttled upstream: rate lowered from {} to {} req/s",
+                    String.format("%.2f", previous), String.format("%.2f", rate));
+        }
+    }
+
+    /**
+     * Reports that the upstream served a request normally. An adaptive
+     * limiter raises its rate by {@code 1 / rate}, i.e. by about one
+     * request per second per second of saturated traffic.
+     */
+    public synchronized void onSuccess() {
+        if (isAdaptive() && rate < maxRate) {
+            refill(System.nanoTime());
+            applyRate(Math.min(maxRate, rate + 1 / rate));
+        }
+    }
+
+    /**
+     * Stops issuing permits for the given time, e.g. until an
+     * {@code X-RateLimit-Reset} instant.
+     *
+     * @param pauseMillis how long to pause, capped at two minutes
+     */
+    public synchronized void pause(long pauseMillis) {
+        if (pauseMillis > 0) {
+            pauseUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(pauseMillis, MAX_PAUSE_MILLIS)));
+        }
+    }
+
+    /**
+     * Raises the ceiling an adaptive limiter may probe up to. Setting it
+     * above the current rate makes the limiter adaptive.
+     *
+     * @param maxRequestsPerSecond the new ceiling
+     */
+    public synchronized void setMaxRate(double maxRequestsPerSecond) {
+        if (maxRequestsPerSecond > maxRate) {
+            maxRate = maxRequestsPerSecond;
+            adaptive = true;
+        }
+    }
+
+    /**
+     * Returns the current rate.
+     *
+     * @return permits issued per second
+     */
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    /**
+     * Returns the ceiling of the rate.
+     *
+     * @return maximum permits per second
+     */
+    public synchronized double getMaxRate() {
+        return maxRate;
+    }
+
+    /**
+     * Checks whether the rate adapts to upstream feedback.
+     *
+     * @return true if the limiter was given a ceiling above its starting rate
+     */
+    public synchronized boolean isAdaptive() {
+        return adaptive;
+    }
+
     /**
      * Returns current number of available tokens.
      *
      * @return available tokens
      */
-    public int getAvailableTokens() {
-        refillTokens();
-        return tokens.get();
+    public synchronized int getAvailableTokens() {
+        refill(System.nanoTime());
+        return permits > 0 ? (int) permits : 0;
     }
 
     /**
@@ -103,21 +304,66 @@ public class RateLimiter {
         return getAvailableTokens() > 0;
     }
 
-    private void refillTokens() {
+    /**
+     * Takes one permit, going into deficit if necessary.
+     *
+     * @return the {@link System#nanoTime()} at which the permit is due
+     */
+    protected synchronized long reserve() {
         long now = System.nanoTime();
-        long lastRefill = lastRefillTimeNanos.get();
-        long elapsedNanos = now - lastRefill;
-        long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(elapsedNanos);
-
-        if (elapsedSeconds > 0 && lastRefillTimeNanos.compareAndSet(lastRefill, now)) {
-            int tokensToAdd = (int) (elapsedSeconds * refillRate);
-            int current;
-            int next;
-            do {
-                current = tokens.get();
-                next = Math.min(capacity, current + tokensToAdd);
-            } while (!tokens.compareAndSet(current, next));
-            logger.trace("Refilled {} tokens, available: {}", tokensToAdd, next);
+        refill(now);
+        permits -= 1;
+        if (permits >= 0) {
+            return now;
+        }
+        // While paused, the refill point lies in the future
+        return Math.max(now, lastRefillNanos) + (long) Math.ceil(-permits * nanosPerPermit);
+    }
+
+    /**
+     * Returns a reserved permit that will not be used.
+     */
+    protected synchronized void refund() {
+        permits = Math.min(capacity, permits + 1);
+    }
+
+    /**
+     * Pushes back every permit reserved so far, because a pause moved the
+     * bucket's refill point forward by the same amount. Callers waiting in
+     * {@link #acquire()} or {@link #acquireAsync()} see the change the next
+     * time they wake.
+     *
+     * @param nanos how far to push reservations back
+     */
+    protected synchronized void delayReservations(long nanos) {
+        if (nanos > 0) {
+            pauseShiftNanos += nanos;
+        }
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            permits = Math.min(capacity, permits + elapsed / nanosPerPermit);
+            lastRefillNanos = now;
+        }
+    }
+
+    private void applyRate(double requestsPerSecond) {
+        rate = requestsPerSecond;
+        nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        capacity = Math.max(1, Math.floor(requestsPerSecond));
+    }
+
+    private void pauseUntil(long untilNanos) {
+        refill(System.nanoTime());
+        if (untilNanos - lastRefillNanos > 0) {
+            // Queued reservations were due relative to the old refill point
+            delayReservations(untilNanos - lastRefillNanos);
+            permits = Math.min(permits, 0);
+            lastRefillNanos = untilNanos;
+            logger.debug("Rate limiter paused for {}ms",
+                    TimeUnit.NANOSECONDS.toMillis(untilNanos - System.nanoTime()));
         }
     }
 }
@@ -0,0 +1,158 @@
+package io.clavis.core.http;
+
+import io.clavis.core.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide registry of host-scoped {@link RateLimiter}s.
+ *
+ * <p>
+ * Upstream rate limits apply per host (often per client IP), not per
+ * module. Clients that call the same host obtain the same limiter from
+ * this registry, so their combined rate stays within the host's budget
+ * when they run together in the unified server.
+ * </p>
+ *
+ * <p>
+ * Some hosts have a known policy that takes precedence over the rate a
+ * client asks for. NCBI E-utilities ({@value #NCBI_EUTILS_HOST}) allows
+ * 3 req/s, or 10 req/s when {@code NCBI_API_KEY} is set.
+ * </p>
+ *
+ * <p>
+ * With {@code CLAVIS_RATE_LIMIT_SHARED=true} the limiters handed out are
+ * {@link SharedRateLimiter}s whose buckets live in
+ * {@code CLAVIS_RATE_LIMIT_DIR}, one file per host or module, so every
+ * CLAVIS process on the machine draws from the same budget.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * RateLimiter limiter = RateLimiterRegistry.getInstance()
+ *         .forHost(RateLimiterRegistry.NCBI_EUTILS_HOST, 3);
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class RateLimiterRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiterRegistry.class);
+
+    /** Host serving PubMed, ClinVar and dbSNP E-utilities requests. */
+    public static final String NCBI_EUTILS_HOST = "eutils.ncbi.nlm.nih.gov";
+
+    private static final int NCBI_RATE_WITHOUT_KEY = 3;
+    private static final int NCBI_RATE_WITH_KEY = 10;
+
+    private final ConfigManager config;
+    private final Map<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> moduleLimiters = new ConcurrentHashMap<>();
+    private final Map<String, QueueWaitStats> waitStats = new ConcurrentHashMap<>();
+
+    RateLimiterRegistry(ConfigManager config) {
+        this.config = config;
+    }
+
+    private static final class LazyHolder {
+        static final RateLimiterRegistry INSTANCE = new RateLimiterRegistry(ConfigManager.getInstance());
+    }
+
+    /**
+     * Returns the process-wide registry.
+     *
+     * @return the registry instance, never null
+     */
+    public static RateLimiterRegistry getInstance() {
+        return LazyHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the limiter shared by all clients of a host, creating it on
+     * first use.
+     *
+     * @param host              the upstream host name
+     * @param requestsPerSecond rate to use if the host has no known policy
+     *                          and no limiter exists yet
+     * @return the shared limiter for the host
+     */
+    public RateLimiter forHost(String host, int requestsPerSecond) {
+        String key = Objects.requireNonNull(host, "host cannot be null").toLowerCase(Locale.ROOT);
+        return limiters.computeIfAbsent(key, h -> {
+            int rate = policyRate(h, requestsPerSecond);
+            logger.info("Rate limiter for {}: {} req/s", h, rate);
+            return create("host-" + h, rate, rate, () -> new RateLimiter(rate));
+        });
+    }
+
+    /**
+     * Returns the limiter to use for a module's own client: the one it
+     * created, or, when rate limits are shared between processes, a shared
+     * limiter with the same rates in the module's bucket file.
+     *
+     * @param module the module name (e.g. "uniprot")
+     * @param local  the limiter the module created
+     * @return the limiter to throttle the module's calls with
+     */
+    public RateLimiter forModule(String module, RateLimiter local) {
+        Objects.requireNonNull(local, "local cannot be null");
+        if (!config.isSharedRateLimitEnabled()) {
+            return local;
+        }
+        return moduleLimiters.computeIfAbsent(module.toLowerCase(Locale.ROOT), m -> create("module-" + m,
+                (int) Math.max(1, Math.round(local.getRate())),
+                (int) Math.max(1, Math.round(local.getMaxRate())), () -> local));
+    }
+
+    /**
+     * Returns the queue-wait statistics of a module, creating them on first use.
+     *
+     * @param module the module name (e.g. "pubmed")
+     * @return the module's statistics
+     */
+    public QueueWaitStats waitStats(String module) {
+        return waitStats.computeIfAbsent(module, QueueWaitStats::new);
+    }
+
+    /**
+     * Returns the queue-wait statistics of every module seen so far.
+     *
+     * @return an unmodifiable view keyed by module name
+     */
+    public Map<String, QueueWaitStats> allWaitStats() {
+        return Collections.unmodifiableMap(waitStats);
+    }
+
+    private RateLimiter create(String bucket, int requestsPerSecond, int maxRequestsPerSecond,
+            Supplier<RateLimiter> local) {
+        if (config.isSharedRateLimitEnabled()) {
+            Path file = Path.of(config.getRateLimitDir(), bucket + ".bucket");
+            try {
+                return SharedRateLimiter.open(file, requestsPerSecond, maxRequestsPerSecond);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Cannot share rate limit {}, limiting this process only: {}", bucket, e.getMessage());
+            }
+        }
+        return local.get();
+    }
+
+    private int policyRate(String host, int requestsPerSecond) {
+        if (NCBI_EUTILS_HOST.equals(host)) {
+            return config.isSet("NCBI_API_KEY") ? NCBI_RATE_WITH_KEY : NCBI_RATE_WITHOUT_KEY;
+        }
+        return requestsPerSecond;
+    }
+}
@@ -0,0 +1,65 @@
+package io.clavis.core.http;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader that remembers the first failure of the underlying stream, so a
+ * caller can tell a dropped connection from a parser rejecting the text.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class ReadFailureTrackingReader extends FilterReader {
+
+    private IOException readFailure;
+
+    ReadFailureTrackingReader(Reader in) {
+        super(in);
+    }
+
+    /**
+     * Returns the first exception thrown by the underlying stream.
+     *
+     * @return the read failure, or null if every read succeeded
+     */
+    IOException getReadFailure() {
+        return readFailure;
+    }
+
+    @Override
+    public int read() throws IOException {
+        try {
+            return super.read();
+        } catch (IOException e) {
+            throw remember(e);
+        }
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        try {
+            return super.read(buffer, offset, length);
+        } catch (IOException e) {
+            throw remember(e);
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        try {
+            return super.skip(n);
+        } catch (IOException e) {
+            throw remember(e);
+        }
+    }
+
+    private IOException remember(IOException e) {
+        if (readFailure == null) {
+            readFailure = e;
+        }
+        return e;
+    }
+}
@@ -0,0 +1,75 @@
+package io.clavis.core.http;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds canonical keys identifying equivalent upstream requests.
+ *
+ * <p>
+ * Two requests get the same key when they would return the same
+ * representation: query parameters are sorted, credential and contact
+ * parameters (which do not change the payload) are dropped, and only the
+ * content-negotiation headers are included.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class RequestKey {
+
+    private static final Set<String> IGNORED_PARAMETERS = Set.of("api_key", "apikey", "email", "tool");
+
+    private static final List<String> VARY_HEADERS = List.of("Accept", "Accept-Language");
+
+    private RequestKey() {
+        // Utility class
+    }
+
+    /**
+     * Returns the canonical key for a request.
+     *
+     * @param request the request
+     * @return a key such as {@code GET https://host/path?a=1&b=2|Accept=application/json}
+     */
+    public static String of(Request request) {
+        StringBuilder key = new StringBuilder(128)
+                .append(request.method())
+                .append(' ')
+                .append(canonicalUrl(request.url()));
+        for (String name : VARY_HEADERS) {
+            String value = request.header(name);
+            if (value != null) {
+                key.append('|').append(name).append('=').append(value.trim());
+            }
+        }
+        return key.toString();
+    }
+
+    private static String canonicalUrl(HttpUrl url) {
+        List<Map.Entry<String, String>> parameters = new ArrayList<>(url.querySize());
+        for (int i = 0; i < url.querySize(); i++) {
+            String name = url.queryParameterName(i);
+            if (!IGNORED_PARAMETERS.contains(name.toLowerCase(Locale.ROOT))) {
+                String value = url.queryParameterValue(i);
+                parameters.add(Map.entry(name, value != null ? value : ""));
+            }
+        }
+        parameters.sort(Map.Entry.<String, String>comparingByKey()
+                .thenComparing(Map.Entry.comparingByValue(Comparator.naturalOrder())));
+
+        HttpUrl.Builder builder = url.newBuilder().query(null).fragment(null);
+        for (Map.Entry<String, String> parameter : parameters) {
+            builder.addQueryParameter(parameter.getKey(), parameter.getValue());
+        }
+        return builder.build().toString();
+    }
+}
@@ -0,0 +1,32 @@
+package io.clavis.core.http;
+
+import java.io.IOException;
+
+/**
+ * Signals that an upstream response body was read completely but could not
+ * be parsed.
+ *
+ * <p>
+ * Streaming parsers report syntax errors as {@link IOException}s, which
+ * would otherwise look like a dropped connection. {@link RetryPolicy} never
+ * retries this exception: asking again returns the same malformed body.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class ResponseParseException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new response parse exception.
+     *
+     * @param message the detail message
+     * @param cause   the parser's exception
+     */
+    public ResponseParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,106 @@
+package io.clavis.core.http;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps retries to a fraction of an upstream's request volume.
+ *
+ * <p>
+ * Every first attempt deposits {@code ratio} of a token and every retry
+ * withdraws a whole one, so retries add at most about {@code ratio} extra
+ * load. A small trickle of {@code minRetriesPerSecond} keeps retries
+ * possible at low traffic. When an upstream browns out, the budget drains
+ * and failing calls return immediately instead of multiplying the load.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class RetryBudget {
+
+    /** Default share of extra load retries may add. */
+    public static final double DEFAULT_RATIO = 0.1;
+
+    private static final double DEFAULT_MIN_RETRIES_PER_SECOND = 0.5;
+    private static final double MAX_BALANCE = 10;
+
+    private static final Map<String, RetryBudget> UPSTREAMS = new ConcurrentHashMap<>();
+
+    private final double ratio;
+    private final double minRetriesPerSecond;
+
+    /* Guarded by this. */
+    private double balance;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a retry budget.
+     *
+     * @param ratio               retries allowed per first attempt (e.g. 0.1)
+     * @param minRetriesPerSecond retries always allowed regardless of traffic
+     * @throws IllegalArgumentException if either value is negative
+     */
+    public RetryBudget(double ratio, double minRetriesPerSecond) {
+        if (ratio < 0 || minRetriesPerSecond < 0) {
+            throw new IllegalArgumentException("Retry budget parameters cannot be negative");
+        }
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.balance = MAX_BALANCE;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the budget shared by all callers of an upstream.
+     *
+     * @param upstream the upstream name (e.g. "pubmed")
+     * @return the shared budget, created on first use
+     */
+    public static RetryBudget forUpstream(String upstream) {
+        return UPSTREAMS.computeIfAbsent(upstream.toLowerCase(Locale.ROOT),
+                name -> new RetryBudget(DEFAULT_RATIO, DEFAULT_MIN_RETRIES_PER_SECOND));
+    }
+
+    /**
+     * Records a first attempt, earning credit for future retries.
+     */
+    public synchronized void onRequest() {
+        refill();
+        balance = Math.min(MAX_BALANCE, balance + ratio);
+    }
+
+    /**
+     * Spends one retry if the budget allows it.
+     *
+     * @return true if the retry may proceed
+     */
+    public synchronized boolean tryRetry() {
+        refill();
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+
+    /**
+     * Returns the retries currently available.
+     *
+     * @return whole retries in the budget
+     */
+    public synchronized int getAvailableRetries() {
+        refill();
+        return (int) balance;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double seconds = (double) (now - lastRefillNanos) / TimeUnit.SECONDS.toNanos(1);
+        balance = Math.min(MAX_BALANCE, balance + seconds * minRetriesPerSecond);
+        lastRefillNanos = now;
+    }
+}
@@ -4,15 +4,31 @@ import io.clavis.core.exception.ApiException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
 import java.time.Duration;
+import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
 
 /**
  * Retry policy with exponential backoff for failed API requests.
  *
  * <p>
- * Retries failing operations up to a configurable number of attempts,
- * with exponentially increasing delays between retries.
+ * Retries failing operations up to a configurable number of attempts.
+ * The delay before retry {@code n} is drawn uniformly from
+ * {@code [0, min(maxDelay, initialDelay * 2^(n-1))]} ("full jitter"), so
+ * callers that failed together do not retry together.
+ * </p>
+ *
+ * <p>
+ * Only failures accepted by the classifier are retried. The default,
+ * {@link #isTransient(Exception)}, retries I/O errors, HTTP 429 and
+ * HTTP 5xx, and never other 4xx responses or programming errors. A policy
+ * bound to an upstream also draws from that upstream's {@link RetryBudget},
+ * so a brownout cannot multiply the load sent to it.
  * </p>
  *
  * @author CLAVIS Team
@@ -23,8 +39,13 @@ public class RetryPolicy {
 
     private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
 
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+
     private final int maxRetries;
     private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final Predicate<? super Exception> classifier;
+    private final RetryBudget budget;
 
     /**
      * Creates a new retry policy.
@@ -35,14 +56,36 @@ public class RetryPolicy {
      *                                  null
      */
     public RetryPolicy(int maxRetries, Duration initialDelay) {
+        this(maxRetries, initialDelay, DEFAULT_MAX_DELAY, RetryPolicy::isTransient, null);
+    }
+
+    /**
+     * Creates a fully configured retry policy.
+     *
+     * @param maxRetries   maximum number of retry attempts
+     * @param initialDelay upper bound of the first backoff
+     * @param maxDelay     upper bound of any backoff
+     * @param classifier   decides which failures are retried
+     * @param budget       retry budget to draw from, or null for none
+     * @throws IllegalArgumentException if maxRetries is negative or a delay
+     *                                  or the classifier is null
+     */
+    public RetryPolicy(int maxRetries, Duration initialDelay, Duration maxDelay,
+            Predicate<? super Exception> classifier, RetryBudget budget) {
         if (maxRetries < 0) {
             throw new IllegalArgumentException("Max retries cannot be negative");
         }
         if (initialDelay == null) {
             throw new IllegalArgumentException("Initial delay cannot be null");
         }
+        if (maxDelay == null || classifier == null) {
+            throw new IllegalArgumentException("Max delay and classifier cannot be null");
+        }
         this.maxRetries = maxRetries;
         this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.classifier = classifier;
+        this.budget = budget;
     }
 
     /**
@@ -54,40 +97,97 @@ public class RetryPolicy {
         return new RetryPolicy(3, Duration.ofSeconds(2));
     }
 
+    /**
+     * Creates a retry policy with default settings that shares the retry
+     * budget of the named upstream.
+     *
+     * @param upstream the upstream name (e.g. "pubmed")
+     * @return a new RetryPolicy with defaults and a retry budget
+     */
+    public static RetryPolicy forUpstream(String upstream) {
+        return new RetryPolicy(3, Duration.ofSeconds(2), DEFAULT_MAX_DELAY,
+                RetryPolicy::isTransient, RetryBudget.forUpstream(upstream));
+    }
+
+    /**
+     * Returns a copy of this policy that retries failures accepted by the
+     * given classifier.
+     *
+     * @param retryable decides which failures are retried
+     * @return a new RetryPolicy
+     */
+    public RetryPolicy withClassifier(Predicate<? super Exception> retryable) {
+        return new RetryPolicy(maxRetries, initialDelay, maxDelay,
+                Objects.requireNonNull(retryable, "classifier cannot be null"), budget);
+    }
+
+    /**
+     * Default classifier: retries I/O failures, HTTP 429 and HTTP 5xx, but
+     * not calls rejected by an open circuit or bodies that failed to parse.
+     *
+     * @param error the failure
+     * @return true if the failure is likely transient
+     */
+    public static boolean isTransient(Exception error) {
+        if (error instanceof CircuitOpenException || error instanceof ResponseParseException) {
+            return false;
+        }
+        int status = -1;
+        if (error instanceof HttpStatusException) {
+            status = ((HttpStatusException) error).getStatusCode();
+        } else if (error instanceof ApiException) {
+            status = ((ApiException) error).getStatusCode();
+        }
+        if (status > 0) {
+            return status == 429 || status >= 500;
+        }
+        if (error instanceof InterruptedIOException && !(error instanceof SocketTimeoutException)) {
+            return false;
+        }
+        return error instanceof IOException;
+    }
+
     /**
      * Executes an operation with retry logic.
      *
      * @param <T>       the return type of the operation
      * @param operation the operation to execute
      * @return the result of the operation
-     * @throws ApiException if all retry attempts fail
+     * @throws ApiException if the operation fails with a non-retryable error,
+     *                      or all permitted attempts fail
      */
     public <T> T execute(Callable<T> operation) throws ApiException {
+        if (budget != null) {
+            budget.onRequest();
+        }
         int attempts = 0;
-        Exception lastException = null;
 
-        while (attempts <= maxRetries) {
+        while (true) {
             try {
                 return operation.call();
             } catch (Exception e) {
-                lastException = e;
                 attempts++;
+                if (!classifier.test(e)) {
+                    throw asApiException(e, e.getMessage());
+                }
+                if (attempts > maxRetries) {
+                    throw asApiException(e, "Failed after " + attempts + " attempts: " + e.getMessage());
+                }
+                if (budget != null && !budget.tryRetry()) {
+                    throw asApiException(e, "Retry budget exhausted: " + e.getMessage());
+                }
 
-                if (attempts <= maxRetries) {
-                    long delayMs = initialDelay.toMillis() * attempts;
-                    logger.warn("Request failed (attempt {}/{}), retrying in {}ms: {}",
-                            attempts, maxRetries + 1, delayMs, e.getMessage());
-                    try {
-                        Thread.sleep(delayMs);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new ApiException("Interrupted during retry", ie);
-                    }
+                long delayMs = backoffMillis(attempts);
+                logger.warn("Request failed (attempt {}/{}), retrying in {}ms: {}",
+                        attempts, maxRetries + 1, delayMs, e.getMessage());
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new ApiException("Interrupted during retry", ie);
                 }
             }
         }
-
-        throw new ApiException("Failed after " + (maxRetries + 1) + " attempts", lastException);
     }
 
     /**
@@ -98,4 +198,30 @@ public class RetryPolicy {
     public int getMaxRetries() {
         return maxRetries;
     }
+
+    /**
+     * Returns a full-jitter delay for the given retry.
+     *
+     * @param retry the retry number, starting at 1
+     * @return delay in milliseconds
+     */
+    long backoffMillis(int retry) {
+        long cap = maxDelay.toMillis();
+        long ceiling = initialDelay.toMillis() << Math.min(retry - 1, 30);
+        long bound = ceiling < 0 ? cap : Math.min(cap, ceiling);
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    private static ApiException asApiException(Exception error, String message) {
+        if (error instanceof ApiException && Objects.equals(message, error.getMessage())) {
+            return (ApiException) error;
+        }
+        int status = -1;
+        if (error instanceof HttpStatusException) {
+            status = ((HttpStatusException) error).getStatusCode();
+        } else if (error instanceof ApiException) {
+            status = ((ApiException) error).getStatusCode();
+        }
+        return new ApiException(message, status, error);
+    }
 }
@@ -0,0 +1,521 @@
+package io.clavis.core.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter whose state lives in a small file shared by
+ * every process on the host.
+ *
+ * <p>
+ * Each MCP client starts its own server process, so limiters held in memory
+ * multiply an upstream's budget by the number of clients. This limiter keeps
+ * the bucket in a 64-byte file instead, memory-mapped and updated with
+ * compare-and-set on its words, so all processes that open the same file
+ * draw from one budget without a coordinating service. Where atomic access
+ * to the mapping is not available, each update holds a lock on the file
+ * instead; processes on one host run the same JVM and so agree on which.
+ * </p>
+ *
+ * <p>
+ * The bucket is tracked as a single theoretical arrival time (GCRA): a
+ * permit is due once wall-clock time reaches that time minus the burst
+ * tolerance, and taking one moves it forward by one refill interval.
+ * Waiters are served in reservation order, as with {@link RateLimiter}.
+ * The current rate, the ceiling and the time of the last backoff are shared
+ * too, so throttling seen by one process slows all of them, and only once
+ * per second however many saw it. Wall-clock time is used because it is the
+ * only clock the processes have in common; an arrival time further ahead
+ * than the longest pause, as left behind when the clock is stepped back, is
+ * pulled back to it.
+ * </p>
+ *
+ * <p>
+ * The bucket also records the starting rate and ceiling it was opened with.
+ * A process opening it with different ones replaces them, resetting the
+ * shared rate to its own starting rate, so a configuration change takes
+ * effect even though the file outlives the processes using it.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * RateLimiter limiter = SharedRateLimiter.open(Path.of("/var/cache/clavis/ratelimits/uniprot.bucket"), 1, 5);
+ * limiter.acquire();
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class SharedRateLimiter extends RateLimiter implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedRateLimiter.class);
+
+    private static final long MAGIC = 0x434C415649535242L;
+    private static final int FILE_BYTES = 64;
+
+    private static final int SLOT_MAGIC = 0;
+    private static final int SLOT_ARRIVAL = 1;
+    private static final int SLOT_RATE = 2;
+    private static final int SLOT_MAX_RATE = 3;
+    private static final int SLOT_LAST_BACKOFF = 4;
+    private static final int SLOT_BASE_RATE = 5;
+    private static final int SLOT_CONFIGURED_MAX_RATE = 6;
+
+    private static final double BACKOFF_FACTOR = 0.5;
+    private static final long BACKOFF_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_PAUSE_MILLIS = TimeUnit.MINUTES.toMillis(2);
+    private static final long MAX_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(MAX_PAUSE_MILLIS);
+
+    /**
+     * File locks are held per process, so limiters of one JVM that share a
+     * file also serialize their locked updates on a common monitor.
+     */
+    private static final Map<Path, Object> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    /** The shared words of the bucket file. */
+    private interface Slots extends Closeable {
+        long get(int slot) throws IOException;
+
+        boolean compareAndSet(int slot, long expected, long value) throws IOException;
+    }
+
+    /** Words of a memory-mapped file, updated with atomic instructions. */
+    private static final class MappedSlots implements Slots {
+        private static final VarHandle LONGS =
+                MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        MappedSlots(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_BYTES);
+            // Probe with a compare-and-set that leaves the word unchanged; it throws
+            // if the platform cannot update the mapping atomically
+            long magic;
+            do {
+                magic = (long) LONGS.getVolatile(buffer, 0);
+            } while (!LONGS.compareAndSet(buffer, 0, magic, magic));
+        }
+
+        @Override
+        public long get(int slot) {
+            return (long) LONGS.getVolatile(buffer, slot * Long.BYTES);
+        }
+
+        @Override
+        public boolean compareAndSet(int slot, long expected, long value) {
+            return LONGS.compareAndSet(buffer, slot * Long.BYTES, expected, value);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /** Words of a file, each update made under an exclusive file lock. */
+    private static final class LockedSlots implements Slots {
+        private final FileChannel channel;
+        private final Object processLock;
+        private final ByteBuffer word = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder());
+
+        LockedSlots(FileChannel channel, Path file) {
+            this.channel = channel;
+            this.processLock = PROCESS_LOCKS.computeIfAbsent(file, path -> new Object());
+        }
+
+        @Override
+        public long get(int slot) throws IOException {
+            synchronized (processLock) {
+                FileLock lock = channel.lock(0, FILE_BYTES, true);
+                try {
+                    return read(slot);
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+
+        @Override
+        public boolean compareAndSet(int slot, long expected, long value) throws IOException {
+            synchronized (processLock) {
+                FileLock lock = channel.lock(0, FILE_BYTES, false);
+                try {
+                    if (read(slot) != expected) {
+                        return false;
+                    }
+                    word.clear();
+                    word.putLong(value).flip();
+                    while (word.hasRemaining()) {
+                        channel.write(word, (long) slot * Long.BYTES + word.position());
+                    }
+                    return true;
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+
+        private long read(int slot) throws IOException {
+            word.clear();
+            while (word.hasRemaining()) {
+                if (channel.read(word, (long) slot * Long.BYTES + word.position()) < 0) {
+                    return 0;
+                }
+            }
+            return word.flip().getLong();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private final Path file;
+    private final Slots slots;
+
+    private SharedRateLimiter(Path file, Slots slots, int requestsPerSecond, int maxRequestsPerSecond) {
+        super(requestsPerSecond, maxRequestsPerSecond);
+        this.file = file;
+        this.slots = slots;
+    }
+
+    /**
+     * Opens the bucket stored in a file, creating it if needed. A process
+     * opening it with the rates it already has joins it and keeps the shared
+     * rate; one with different rates replaces them (last opener wins).
+     *
+     * @param file                 the bucket file
+     * @param requestsPerSecond    starting requests per second
+     * @param maxRequestsPerSecond ceiling the rate may probe up to
+     * @return the limiter
+     * @throws IOException              if the file cannot be used
+     * @throws IllegalArgumentException if a rate is not positive or the
+     *                                  ceiling is below the starting rate
+     */
+    public static SharedRateLimiter open(Path file, int requestsPerSecond, int maxRequestsPerSecond)
+            throws IOException {
+        return open(file, requestsPerSecond, maxRequestsPerSecond, false);
+    }
+
+    static SharedRateLimiter open(Path file, int requestsPerSecond, int maxRequestsPerSecond, boolean fileLocks)
+            throws IOException {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Requests per second must be positive");
+        }
+        if (maxRequestsPerSecond < requestsPerSecond) {
+            throw new IllegalArgumentException("Maximum requests per second must not be below the starting rate");
+        }
+        Path path = file.toAbsolutePath().normalize();
+        Files.createDirectories(path.getParent());
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Slots slots;
+        try {
+            if (channel.size() < FILE_BYTES) {
+                // Extending with zeros is harmless if another process got here first
+                channel.write(ByteBuffer.allocate(1), FILE_BYTES - 1);
+            }
+            slots = fileLocks ? new LockedSlots(channel, path) : mapped(channel, path);
+            long magic = slots.get(SLOT_MAGIC);
+            if (magic != MAGIC && !slots.compareAndSet(SLOT_MAGIC, 0, MAGIC) && slots.get(SLOT_MAGIC) != MAGIC) {
+                throw new IOException(path + " is not a rate limit bucket");
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        SharedRateLimiter limiter = new SharedRateLimiter(path, slots, requestsPerSecond, maxRequestsPerSecond);
+        try {
+            limiter.reconcile(requestsPerSecond, maxRequestsPerSecond);
+        } catch (RuntimeException e) {
+            limiter.close();
+            throw e;
+        }
+        logger.info("Shared rate limiter {}: {} req/s (max {})",
+                path, format(limiter.getRate()), format(limiter.getMaxRate()));
+        return limiter;
+    }
+
+    /** Makes the bucket's rates this process's configuration, unless they already are. */
+    private void reconcile(double requestsPerSecond, double maxRequestsPerSecond) {
+        double base = Double.longBitsToDouble(get(SLOT_BASE_RATE));
+        double configuredMax = Double.longBitsToDouble(get(SLOT_CONFIGURED_MAX_RATE));
+        if (base == requestsPerSecond && configuredMax == maxRequestsPerSecond && getRate() > 0) {
+            return;
+        }
+        if (base > 0) {
+            logger.info("Shared rate limiter {} reconfigured from {} req/s (max {}) to {} req/s (max {})",
+                    file, format(base), format(configuredMax), format(requestsPerSecond), format(maxRequestsPerSecond));
+        }
+        set(SLOT_BASE_RATE, Double.doubleToLongBits(requestsPerSecond));
+        set(SLOT_CONFIGURED_MAX_RATE, Double.doubleToLongBits(maxRequestsPerSecond));
+        set(SLOT_MAX_RATE, Double.doubleToLongBits(maxRequestsPerSecond));
+        set(SLOT_RATE, Double.doubleToLongBits(requestsPerSecond));
+    }
+
+    private static Slots mapped(FileChannel channel, Path path) throws IOException {
+        try {
+            return new MappedSlots(channel);
+        } catch (UnsupportedOperationException | IllegalStateException e) {
+            logger.info("Atomic updates of {} not supported, using file locks: {}", path, e.getMessage());
+            return new LockedSlots(channel, path);
+        }
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        while (true) {
+            long now = epochNanos();
+            double rate = getRate();
+            long arrival = arrival(now, rate);
+            if (arrival - tolerance(rate) > now) {
+                return false;
+            }
+            if (compareAndSet(SLOT_ARRIVAL, arrival, Math.max(arrival, now) + (long) nanosPerPermit(rate))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    protected long reserve() {
+        while (true) {
+            long now = epochNanos();
+            double rate = getRate();
+            long arrival = arrival(now, rate);
+            long due = Math.max(now, arrival - tolerance(rate));
+            if (compareAndSet(SLOT_ARRIVAL, arrival, Math.max(arrival, now) + (long) nanosPerPermit(rate))) {
+                return System.nanoTime() + (due - now);
+            }
+        }
+    }
+
+    @Override
+    protected void refund() {
+        while (true) {
+            long arrival = get(SLOT_ARRIVAL);
+            long refunded = arrival - (long) nanosPerPermit(getRate());
+            if (refunded < epochNanos() || compareAndSet(SLOT_ARRIVAL, arrival, refunded)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onThrottled(long retryAfterMillis) {
+        if (retryAfterMillis > 0) {
+            pause(retryAfterMillis);
+        }
+        if (!isAdaptive()) {
+            return;
+        }
+        long now = epochNanos();
+        long lastBackoff = get(SLOT_LAST_BACKOFF);
+        if (now - lastBackoff < BACKOFF_INTERVAL_NANOS || !compareAndSet(SLOT_LAST_BACKOFF, lastBackoff, now)) {
+            // Another thread or process backed off within the last second
+            return;
+        }
+        while (true) {
+            long bits = get(SLOT_RATE);
+            double previous = Double.longBitsToDouble(bits);
+            double lowered = Math.max(MIN_REQUESTS_PER_SECOND, previous * BACKOFF_FACTOR);
+            if (compareAndSet(SLOT_RATE, bits, Double.doubleToLongBits(lowered))) {
+                logger.info("Throttled upstream: shared rate lowered from {} to {} req/s",
+                        format(previous), format(lowered));
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onSuccess() {
+        if (!isAdaptive()) {
+            return;
+        }
+        while (true) {
+            long bits = get(SLOT_RATE);
+            double rate = Double.longBitsToDouble(bits);
+            double max = getMaxRate();
+            if (rate >= max || compareAndSet(SLOT_RATE, bits, Double.doubleToLongBits(Math.min(max, rate + 1 / rate)))) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void pause(long pauseMillis) {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        long now = epochNanos();
+        long until = now + TimeUnit.MILLISECONDS.toNanos(Math.min(pauseMillis, MAX_PAUSE_MILLIS));
+        while (true) {
+            double rate = getRate();
+            long arrival = arrival(now, rate);
+            // The first permit after the pause is due at until
+            long paused = until + tolerance(rate);
+            if (arrival >= paused) {
+                return;
+            }
+            if (compareAndSet(SLOT_ARRIVAL, arrival, paused)) {
+                // Permits this process has queued were due before until
+                delayReservations(until - Math.max(now, arrival - tolerance(rate)));
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void setMaxRate(double maxRequestsPerSecond) {
+        raiseMaxRate(maxRequestsPerSecond);
+    }
+
+    @Override
+    public double getRate() {
+        return Double.longBitsToDouble(get(SLOT_RATE));
+    }
+
+    @Override
+    public double getMaxRate() {
+        return Double.longBitsToDouble(get(SLOT_MAX_RATE));
+    }
+
+    /**
+     * Checks whether the shared rate adapts to upstream feedback.
+     *
+     * @return true if the bucket's ceiling is above its starting rate
+     */
+    @Override
+    public boolean isAdaptive() {
+        return getMaxRate() > Double.longBitsToDouble(get(SLOT_BASE_RATE));
+    }
+
+    @Override
+    public int getAvailableTokens() {
+        long now = epochNanos();
+        double rate = getRate();
+        long available = (long) Math.floor(
+                (now - arrival(now, rate) + tolerance(rate)) / nanosPerPermit(rate)) + 1;
+        return (int) Math.max(0, Math.min(capacity(rate), available));
+    }
+
+    /**
+     * Returns the bucket file.
+     *
+     * @return the file shared with other processes
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Releases the bucket file. The limiter must not be used afterwards.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        slots.close();
+    }
+
+    private void raiseMaxRate(double maxRequestsPerSecond) {
+        while (true) {
+            long bits = get(SLOT_MAX_RATE);
+            if (Double.longBitsToDouble(bits) >= maxRequestsPerSecond
+                    || compareAndSet(SLOT_MAX_RATE, bits, Double.doubleToLongBits(maxRequestsPerSecond))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads the theoretical arrival time. No pause puts it further ahead
+     * than the longest pause plus a full bucket, so a time beyond that means
+     * the wall clock was stepped back; it is pulled back rather than
+     * blocking every process until the clock catches up.
+     */
+    private long arrival(long now, double rate) {
+        while (true) {
+            long arrival = get(SLOT_ARRIVAL);
+            long latest = now + MAX_PAUSE_NANOS + tolerance(rate);
+            if (arrival <= latest) {
+                return arrival;
+            }
+            if (compareAndSet(SLOT_ARRIVAL, arrival, latest)) {
+                logger.warn("Rate limit bucket {} was {}s ahead of the clock; the clock was probably set back",
+                        file, TimeUnit.NANOSECONDS.toSeconds(arrival - now));
+                return latest;
+            }
+        }
+    }
+
+    private void set(int slot, long value) {
+        while (true) {
+            long current = get(slot);
+            if (current == value || compareAndSet(slot, current, value)) {
+                return;
+            }
+        }
+    }
+
+    private long get(int slot) {
+        try {
+            return slots.get(slot);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read rate limit bucket " + file, e);
+        }
+    }
+
+    private boolean compareAndSet(int slot, long expected, long value) {
+        try {
+            return slots.compareAndSet(slot, expected, value);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot update rate limit bucket " + file, e);
+        }
+    }
+
+    private static double capacity(double rate) {
+        return Math.max(1, Math.floor(rate));
+    }
+
+    private static double nanosPerPermit(double rate) {
+        return TimeUnit.SECONDS.toNanos(1) / rate;
+    }
+
+    /** How far the arrival time may run ahead of now while permits are still free: a full bucket. */
+    private static long tolerance(double rate) {
+        return (long) ((capacity(rate) - 1) * nanosPerPermit(rate));
+    }
+
+    private static long epochNanos() {
+        Instant now = Instant.now();
+        return TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+    }
+
+    private static String format(double rate) {
+        return String.format("%.2f", rate);
+    }
+}
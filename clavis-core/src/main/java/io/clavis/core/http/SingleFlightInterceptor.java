@@ -0,0 +1,281 @@
+package io.clavis.core.http;
+
+import io.clavis.core.cache.CachedResponse;
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OkHttp interceptor that coalesces identical concurrent GET requests.
+ *
+ * <p>
+ * The first caller for a {@link RequestKey} becomes the leader and makes
+ * the upstream call; callers arriving while it is in flight wait for the
+ * leader's response and receive a copy of the same body. Only the leader
+ * consumes a rate-limit token. Installed behind the response cache, so it
+ * only sees cache misses, and ahead of the circuit breaker and rate limiter.
+ * </p>
+ *
+ * <p>
+ * The leader buffers the body only if someone joined its flight by the time
+ * the response headers arrive; a request nobody waited for gets the network
+ * body back unread, so it can still be streamed into a parser. Callers
+ * arriving after that point make their own call. Leader failures are shared
+ * with the waiters. If the leader is cancelled, or its body is larger than
+ * {@value #MAX_SHARED_BYTES} bytes, waiters make their own calls instead.
+ * A waiter stops waiting when its own call is cancelled or reaches its call
+ * timeout.
+ * Requests carrying {@code Cache-Control: no-cache} are never coalesced.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class SingleFlightInterceptor implements Interceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlightInterceptor.class);
+
+    /** Response header marking responses shared from another caller's call. */
+    public static final String COALESCED_HEADER = "X-Clavis-Coalesced";
+
+    static final long MAX_SHARED_BYTES = 16L * 1024 * 1024;
+
+    /** How often a waiter checks whether its own call was cancelled. */
+    private static final long CANCEL_POLL_MILLIS = 100;
+
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /** One leader's call and the callers waiting on it. */
+    private static final class Flight {
+        final CompletableFuture<CachedResponse> result = new CompletableFuture<>();
+        /** Number of joined callers, or -1 once the leader stopped accepting them. */
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        boolean join() {
+            int count;
+            do {
+                count = waiters.get();
+                if (count < 0) {
+                    return false;
+                }
+            } while (!waiters.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        /** Stops accepting callers; true if none joined. */
+        boolean closeIfUnjoined() {
+            return waiters.compareAndSet(0, -1);
+        }
+    }
+
+    private static final class SharedHolder {
+        static final SingleFlightInterceptor INSTANCE = new SingleFlightInterceptor();
+    }
+
+    /**
+     * Returns the process-wide interceptor, so identical requests are
+     * coalesced across every client built by {@link HttpClientFactory}.
+     *
+     * @return the shared interceptor
+     */
+    public static SingleFlightInterceptor shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!"GET".equals(request.method()) || request.cacheControl().noCache()) {
+            return chain.proceed(request);
+        }
+
+        String key = RequestKey.of(request);
+        Flight flight = new Flight();
+        Flight leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            if (!leader.join()) {
+                // The leader's response is already streaming to its caller
+                return chain.proceed(request);
+            }
+            CachedResponse shared = await(chain.call(), leader.result);
+            if (shared == null) {
+                return chain.proceed(request);
+            }
+            coalesced.increment();
+            logger.debug("Coalesced with in-flight request: {}", key);
+            return toResponse(request, shared);
+        }
+
+        leaders.increment();
+        try {
+            return lead(chain, request, flight);
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Returns the number of requests that made their own upstream call.
+     *
+     * @return leader requests since creation
+     */
+    public long getLeaderRequests() {
+        return leaders.sum();
+    }
+
+    /**
+     * Returns the number of requests served from another caller's call.
+     *
+     * @return coalesced requests since creation
+     */
+    public long getCoalescedRequests() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Returns the number of distinct requests currently in flight.
+     *
+     * @return in-flight keys
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private static Response lead(Chain chain, Request request, Flight flight) throws IOException {
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            if (chain.call().isCanceled()
+                    || (e instanceof InterruptedIOException && !(e instanceof SocketTimeoutException))) {
+                flight.result.complete(null);
+            } else {
+                flight.result.completeExceptionally(e);
+            }
+            throw e;
+        } catch (RuntimeException | Error e) {
+            flight.result.complete(null);
+            throw e;
+        }
+        if (flight.closeIfUnjoined()) {
+            flight.result.complete(null);
+            return response;
+        }
+
+        byte[] body;
+        try {
+            body = bufferIfShareable(response.body());
+        } catch (IOException e) {
+            flight.result.completeExceptionally(e);
+            response.close();
+            throw e;
+        }
+        if (body == null) {
+            flight.result.complete(null);
+            return response;
+        }
+
+        MediaType contentType = response.body().contentType();
+        response.close();
+        flight.result.complete(new CachedResponse(response.code(), response.message(),
+                contentType != null ? contentType.toString() : null, body));
+        return response.newBuilder()
+                .body(ResponseBody.create(body, contentType))
+                .build();
+    }
+
+    /**
+     * Waits for the leader's response, giving up when the waiter's own call
+     * is cancelled or times out.
+     */
+    private static CachedResponse await(Call call, CompletableFuture<CachedResponse> leader) throws IOException {
+        long timeoutNanos = call.timeout().timeoutNanos();
+        long deadline = System.nanoTime() + timeoutNanos;
+        try {
+            while (true) {
+                if (call.isCanceled()) {
+                    throw new IOException("Canceled");
+                }
+                long waitNanos = TimeUnit.MILLISECONDS.toNanos(CANCEL_POLL_MILLIS);
+                if (timeoutNanos > 0) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new InterruptedIOException("timeout");
+                    }
+                    waitNanos = Math.min(waitNanos, remaining);
+                }
+                try {
+                    return leader.get(waitNanos, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // Check the waiter's own call again
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for coalesced request");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CircuitOpenException) {
+                throw (CircuitOpenException) cause;
+            }
+            throw new IOException("Coalesced request failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Reads the whole body if it fits within the sharing limit. Oversized
+     * bodies are left readable by the caller and null is returned.
+     */
+    private static byte[] bufferIfShareable(ResponseBody body) throws IOException {
+        if (body == null || body.contentLength() > MAX_SHARED_BYTES) {
+            return null;
+        }
+        BufferedSource source = body.source();
+        if (source.request(MAX_SHARED_BYTES + 1)) {
+            return null;
+        }
+        return source.getBuffer().readByteArray();
+    }
+
+    private static Response toResponse(Request request, CachedResponse shared) {
+        MediaType contentType = shared.getContentType() != null
+                ? MediaType.parse(shared.getContentType())
+                : null;
+        long now = System.currentTimeMillis();
+        Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(shared.getCode())
+                .message(shared.getMessage())
+                .header(COALESCED_HEADER, "true")
+                .sentRequestAtMillis(now)
+                .receivedResponseAtMillis(now)
+                .body(ResponseBody.create(shared.getBody(), contentType));
+        if (contentType != null) {
+            builder.header("Content-Type", contentType.toString());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,54 @@
+package io.clavis.core.mcp;
+
+import java.util.List;
+
+/**
+ * A CLAVIS data source that contributes tools to a server.
+ *
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}: each
+ * module lists its implementation in
+ * {@code META-INF/services/io.clavis.core.mcp.ClavisModule}, so a server
+ * provides the tools of whichever modules are on its classpath. Discovery
+ * only instantiates the implementation; {@link #createTools()} builds the
+ * module's client and should be deferred until the tools are needed.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public interface ClavisModule {
+
+    /**
+     * Returns the module name, which tool filters and module selection refer
+     * to.
+     *
+     * @return the lower-case module name, e.g. "pubmed"
+     */
+    String getName();
+
+    /**
+     * Returns the name of the data source for log messages.
+     *
+     * @return the display name, e.g. "PubMed"
+     */
+    String getDisplayName();
+
+    /**
+     * Returns the group this module belongs to, so related modules can be
+     * selected together.
+     *
+     * @return the group name, e.g. "literature"
+     */
+    String getGroup();
+
+    /**
+     * Creates the module's client and tools.
+     *
+     * @return the tools in the order they should be listed
+     * @throws RuntimeException if the client cannot be created, e.g. because
+     *                          of invalid configuration
+     */
+    List<MCPTool> createTools();
+}
@@ -0,0 +1,136 @@
+package io.clavis.core.mcp;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer that escapes everything written to it as the contents of a JSON
+ * string, using the same escapes as Gson's {@code JsonWriter}.
+ *
+ * <p>
+ * Lets a JSON document be embedded as a string value while it is being
+ * serialized, instead of serializing it to a {@code String} first and
+ * escaping that. Runs of characters that need no escape are passed to the
+ * underlying writer in one call. The opening and closing quotes are not
+ * written.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class JsonStringEscapingWriter extends Writer {
+
+    private static final char LINE_SEPARATOR = 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = 0x2029;
+    private static final String[] REPLACEMENT_CHARS = new String[128];
+    private static final String[] HTML_SAFE_REPLACEMENT_CHARS;
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            REPLACEMENT_CHARS[i] = String.format("\\u%04x", i);
+        }
+        REPLACEMENT_CHARS['"'] = "\\\"";
+        REPLACEMENT_CHARS['\\'] = "\\\\";
+        REPLACEMENT_CHARS['\t'] = "\\t";
+        REPLACEMENT_CHARS['\b'] = "\\b";
+        REPLACEMENT_CHARS['\n'] = "\\n";
+        REPLACEMENT_CHARS['\r'] = "\\r";
+        REPLACEMENT_CHARS['\f'] = "\\f";
+        HTML_SAFE_REPLACEMENT_CHARS = REPLACEMENT_CHARS.clone();
+        HTML_SAFE_REPLACEMENT_CHARS['<'] = "\\u003c";
+        HTML_SAFE_REPLACEMENT_CHARS['>'] = "\\u003e";
+        HTML_SAFE_REPLACEMENT_CHARS['&'] = "\\u0026";
+        HTML_SAFE_REPLACEMENT_CHARS['='] = "\\u003d";
+        HTML_SAFE_REPLACEMENT_CHARS['\''] = "\\u0027";
+    }
+
+    private final Writer out;
+    private final String[] replacements;
+
+    /**
+     * Creates an escaping writer.
+     *
+     * @param out      the writer that receives the escaped characters
+     * @param htmlSafe whether to also escape {@code < > & = '}, as Gson does
+     *                 by default
+     */
+    JsonStringEscapingWriter(Writer out, boolean htmlSafe) {
+        this.out = out;
+        this.replacements = htmlSafe ? HTML_SAFE_REPLACEMENT_CHARS : REPLACEMENT_CHARS;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        String replacement = replacementFor((char) c);
+        if (replacement != null) {
+            out.write(replacement);
+        } else {
+            out.write(c);
+        }
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        int last = off;
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            String replacement = replacementFor(cbuf[i]);
+            if (replacement == null) {
+                continue;
+            }
+            if (last < i) {
+                out.write(cbuf, last, i - last);
+            }
+            out.write(replacement);
+            last = i + 1;
+        }
+        if (last < end) {
+            out.write(cbuf, last, end - last);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        int last = off;
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            String replacement = replacementFor(str.charAt(i));
+            if (replacement == null) {
+                continue;
+            }
+            if (last < i) {
+                out.write(str, last, i - last);
+            }
+            out.write(replacement);
+            last = i + 1;
+        }
+        if (last < end) {
+            out.write(str, last, end - last);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /** Does not close the underlying writer, which still has to end the string. */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private String replacementFor(char c) {
+        if (c < 128) {
+            return replacements[c];
+        }
+        if (c == LINE_SEPARATOR) {
+            return "\\u2028";
+        }
+        if (c == PARAGRAPH_SEPARATOR) {
+            return "\\u2029";
+        }
+        return null;
+    }
+}
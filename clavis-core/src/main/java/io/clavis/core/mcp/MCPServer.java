@@ -2,7 +2,10 @@ package io.clavis.core.mcp;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import io.clavis.core.config.ConfigManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -11,10 +14,19 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.io.PrintStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract base class for all MCP servers.
@@ -39,25 +51,57 @@ public abstract class MCPServer {
 
     private static final String JSONRPC_VERSION = "2.0";
     private static final String MCP_PROTOCOL_VERSION = "2024-11-05";
+    private static final String DISPATCH_MODE_KEY = "CLAVIS_DISPATCH_MODE";
+    /** Maximum tool calls in flight per client: per stdio server, or per SSE session. */
+    protected static final String MAX_CONCURRENT_CALLS_KEY = "CLAVIS_MAX_CONCURRENT_TOOL_CALLS";
+    protected static final int DEFAULT_MAX_CONCURRENT_CALLS = 16;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+    private static final String TOOLS_FILTER_KEY = "CLAVIS_TOOLS";
+    private static final String TOOLS_PAGE_SIZE_KEY = "CLAVIS_TOOLS_PAGE_SIZE";
 
     protected final String name;
     protected final String version;
     protected final Logger logger;
     protected final Gson gson;
-    protected final List<MCPTool> tools;
+    protected final ToolRegistry tools;
+
+    private final ToolFilter defaultToolFilter;
+    private final int toolsPageSize;
+    private final ToolResultCache resultCache;
 
     /**
-     * Creates a new MCP server.
+     * Creates a new MCP server. {@code tools/call} results are cached when
+     * {@code CLAVIS_TOOL_CACHE_ENABLED} is set.
      *
      * @param name    the server name
      * @param version the server version
      */
     protected MCPServer(String name, String version) {
+        this(name, version, ConfigManager.getInstance().isToolCacheEnabled());
+    }
+
+    /**
+     * Creates a new MCP server, caching {@code tools/call} results or not
+     * regardless of {@code CLAVIS_TOOL_CACHE_ENABLED}.
+     *
+     * @param name             the server name
+     * @param version          the server version
+     * @param cacheToolResults whether to cache {@code tools/call} results
+     */
+    protected MCPServer(String name, String version, boolean cacheToolResults) {
         this.name = name;
         this.version = version;
         this.logger = LoggerFactory.getLogger(getClass());
         this.gson = new Gson();
-        this.tools = new ArrayList<>();
+        this.tools = new ToolRegistry(gson);
+
+        ConfigManager config = ConfigManager.getInstance();
+        this.defaultToolFilter = ToolFilter.parse(config.get(TOOLS_FILTER_KEY, ""));
+        this.toolsPageSize = Math.max(0, config.getInt(TOOLS_PAGE_SIZE_KEY, 0));
+        this.resultCache = cacheToolResults
+                ? new ToolResultCache(Math.max(1, config.getToolCacheMaxSizeMb()) * 1024L * 1024L,
+                        Duration.ofMinutes(Math.max(1, config.getToolCacheTtlMinutes())))
+                : null;
     }
 
     /**
@@ -78,28 +122,95 @@ public abstract class MCPServer {
         try (BufferedReader reader = new BufferedReader(
                 new InputStreamReader(System.in, StandardCharsets.UTF_8));
                 PrintWriter writer = new PrintWriter(protocolOut, true, StandardCharsets.UTF_8)) {
+            serve(reader, writer);
+        } catch (IOException e) {
+            logger.error("I/O error in MCP server", e);
+        }
+
+        logger.info("{} MCP Server stopped", name);
+    }
+
+    /**
+     * A JSON-RPC response that is serialized only when it is written.
+     *
+     * <p>
+     * Writing goes straight to the destination (stdout, an SSE stream), so a
+     * large tool result never exists as a {@code String} unless it is kept in
+     * the tool result cache.
+     * </p>
+     */
+    @FunctionalInterface
+    protected interface Response {
+
+        /**
+         * Writes this response as a single line of JSON, without a line
+         * terminator.
+         *
+         * @param out the destination
+         * @throws IOException if writing fails
+         */
+        void writeTo(Writer out) throws IOException;
+    }
 
+    /**
+     * Runs the read-dispatch-write loop until the input is exhausted.
+     *
+     * <p>
+     * {@code initialize}, {@code tools/list} and notifications are answered
+     * inline. In concurrent mode (the default) each {@code tools/call} runs
+     * as its own task, and responses are written by a single writer thread
+     * in completion order; clients correlate them by JSON-RPC {@code id}.
+     * Set {@code CLAVIS_DISPATCH_MODE=sequential} to handle every message
+     * inline in arrival order. Responses are serialized by the writer thread
+     * directly into {@code writer}.
+     * </p>
+     *
+     * @param reader source of newline-delimited JSON-RPC messages
+     * @param writer destination for newline-delimited JSON-RPC responses
+     * @throws IOException if reading from the input fails
+     */
+    void serve(BufferedReader reader, PrintWriter writer) throws IOException {
+        ConfigManager config = ConfigManager.getInstance();
+        boolean concurrent = !"sequential".equalsIgnoreCase(config.get(DISPATCH_MODE_KEY, "concurrent"));
+        int maxInFlight = Math.max(1, config.getInt(MAX_CONCURRENT_CALLS_KEY, DEFAULT_MAX_CONCURRENT_CALLS));
+
+        ExecutorService responseWriter = Executors.newSingleThreadExecutor(daemonThreads("clavis-mcp-writer"));
+        ExecutorService toolExecutor = concurrent ? createToolExecutor() : null;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        try {
             String line;
             while ((line = reader.readLine()) != null) {
                 if (line.trim().isEmpty()) {
                     continue;
                 }
-                String response = handleMessage(line);
-                if (response != null) {
-                    writer.println(response);
-                    writer.flush();
+                JsonObject request = parseRequest(line);
+                if (request == null) {
+                    emit(responseWriter, writer, dispatch(line)); // Reports the parse error
+                } else if (toolExecutor != null && isToolCall(request)) {
+                    inFlight.acquireUninterruptibly();
+                    toolExecutor.execute(() -> {
+                        try {
+                            emit(responseWriter, writer, dispatch(request));
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } else {
+                    emit(responseWriter, writer, dispatch(request));
                 }
             }
-        } catch (IOException e) {
-            logger.error("I/O error in MCP server", e);
+        } finally {
+            if (toolExecutor != null) {
+                awaitQuietly(toolExecutor);
+            }
+            awaitQuietly(responseWriter);
         }
-
-        logger.info("{} MCP Server stopped", name);
     }
 
     /**
      * Registers all tools this server provides.
-     * Subclasses must add tools to the {@code tools} list.
+     * Subclasses must add tools to the {@code tools} registry.
      */
     protected abstract void registerTools();
 
@@ -110,20 +221,85 @@ public abstract class MCPServer {
      * @return the JSON response, or null if no response needed
      */
     protected String handleMessage(String message) {
+        return render(dispatch(message));
+    }
+
+    /**
+     * Handles a single, already parsed JSON-RPC request.
+     *
+     * @param request the parsed request
+     * @return the JSON response, or null if no response needed
+     */
+    protected String handleRequest(JsonObject request) {
+        return render(dispatch(request));
+    }
+
+    /**
+     * Handles a single JSON-RPC message without serializing the response.
+     *
+     * @param message the raw JSON message
+     * @return the response to write, or null if no response needed
+     */
+    protected Response dispatch(String message) {
+        return dispatch(message, defaultToolFilter);
+    }
+
+    /**
+     * Handles a single JSON-RPC message for a client that sees only some
+     * tools. Tools outside the filter are neither listed nor callable.
+     *
+     * @param message the raw JSON message
+     * @param filter  the tools visible to the client
+     * @return the response to write, or null if no response needed
+     */
+    protected Response dispatch(String message, ToolFilter filter) {
+        JsonObject request;
         try {
-            JsonObject request = gson.fromJson(message, JsonObject.class);
-            String method = request.has("method") ? request.get("method").getAsString() : null;
+            request = gson.fromJson(message, JsonObject.class);
+        } catch (Exception e) {
+            logger.error("Error handling message", e);
+            return createErrorResponse(null, -32700, "Parse error: " + e.getMessage());
+        }
+        return dispatch(request, filter);
+    }
 
-            if (method == null) {
+    /**
+     * Handles a single, already parsed JSON-RPC request without serializing
+     * the response. Tool calls run before this method returns; only the
+     * encoding of the result is deferred to {@link Response#writeTo}.
+     *
+     * @param request the parsed request
+     * @return the response to write, or null if no response needed
+     */
+    protected Response dispatch(JsonObject request) {
+        return dispatch(request, defaultToolFilter);
+    }
+
+    /**
+     * Handles a single, already parsed JSON-RPC request for a client that
+     * sees only some tools.
+     *
+     * @param request the parsed request
+     * @param filter  the tools visible to the client
+     * @return the response to write, or null if no response needed
+     */
+    protected Response dispatch(JsonObject request, ToolFilter filter) {
+        // Read the id first so that every error, however it arises, can be matched to its call
+        Object id = request.has("id") ? request.get("id") : null;
+        try {
+            JsonElement methodElement = request.get("method");
+            if (methodElement == null) {
                 return null;
             }
-
-            Object id = request.has("id") ? request.get("id") : null;
+            if (!methodElement.isJsonPrimitive() || !methodElement.getAsJsonPrimitive().isString()) {
+                return createErrorResponse(id, -32600, "Invalid Request: method must be a string");
+            }
+            String method = methodElement.getAsString();
 
             return switch (method) {
                 case "initialize" -> handleInitialize(id);
-                case "tools/list" -> handleToolsList(id);
-                case "tools/call" -> handleToolsCall(id, request.getAsJsonObject("params"));
+                case "tools/list" -> handleToolsList(id, request.getAsJsonObject("params"), filter);
+                case "tools/call" -> handleToolsCall(id, request.getAsJsonObject("params"), filter);
                 case "notifications/initialized" -> null; // Notification, no response
                 default -> {
                     logger.warn("Unknown method: {}", method);
@@ -132,11 +308,108 @@ public abstract class MCPServer {
             };
         } catch (Exception e) {
             logger.error("Error handling message", e);
-            return createErrorResponse(null, -32700, "Parse error: " + e.getMessage());
+            return createErrorResponse(id, -32603, "Internal error: " + e.getMessage());
         }
     }
 
-    private String handleInitialize(Object id) {
+    /**
+     * Parses a JSON-RPC message without handling it.
+     *
+     * @param message the raw JSON message
+     * @return the request, or null if the message is not valid JSON
+     */
+    protected JsonObject parseRequest(String message) {
+        try {
+            return gson.fromJson(message, JsonObject.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether a request is a {@code tools/call}, the only method that
+     * may take long enough to be worth running off the transport's thread.
+     *
+     * @param request a parsed request
+     * @return true for {@code tools/call}; false for any other method,
+     *         including one that is not a string
+     */
+    protected static boolean isToolCall(JsonObject request) {
+        JsonElement method = request.get("method");
+        return method != null && method.isJsonPrimitive() && method.getAsJsonPrimitive().isString()
+                && "tools/call".equals(method.getAsString());
+    }
+
+    private void emit(ExecutorService responseWriter, PrintWriter writer, Response response) {
+        if (response == null) {
+            return;
+        }
+        responseWriter.execute(() -> {
+            try {
+                response.writeTo(writer);
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to write response", e);
+            } finally {
+                // End the line even after a failure, so the next response starts on its own line
+                writer.println();
+                writer.flush();
+            }
+        });
+    }
+
+    private static String render(Response response) {
+        if (response == null) {
+            return null;
+        }
+        StringWriter out = new StringWriter();
+        try {
+            response.writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("StringWriter cannot fail", e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Creates the executor tool calls run on: one virtual thread per call on
+     * Java 21+, otherwise a cached pool of daemon threads. Callers bound the
+     * number of calls in flight themselves.
+     *
+     * @return a new executor
+     */
+    protected ExecutorService createToolExecutor() {
+        try {
+            // Virtual threads (Java 21+) are looked up reflectively so the core still targets Java 17
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            logger.debug("Dispatching tool calls on virtual threads");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.debug("Virtual threads unavailable, dispatching tool calls on a cached thread pool");
+            return Executors.newCachedThreadPool(daemonThreads("clavis-tool"));
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private void awaitQuietly(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Timed out waiting for in-flight MCP work to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Response handleInitialize(Object id) {
         JsonObject result = new JsonObject();
         result.addProperty("protocolVersion", MCP_PROTOCOL_VERSION);
 
@@ -153,82 +426,143 @@ public abstract class MCPServer {
         return createResponse(id, result);
     }
 
-    private String handleToolsList(Object id) {
-        JsonObject result = new JsonObject();
-        JsonArray toolsArray = new JsonArray();
-
-        for (MCPTool tool : tools) {
-            JsonObject toolObj = new JsonObject();
-            toolObj.addProperty("name", tool.getName());
-            toolObj.addProperty("description", tool.getDescription());
-            toolObj.add("inputSchema", tool.getInputSchema());
-            toolsArray.add(toolObj);
+    private Response handleToolsList(Object id, JsonObject params, ToolFilter filter) {
+        String cursor = params != null && params.has("cursor") && !params.get("cursor").isJsonNull()
+                ? params.get("cursor").getAsString()
+                : null;
+        String result;
+        try {
+            result = tools.listResult(filter, cursor, toolsPageSize);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(id, -32602, e.getMessage());
         }
-
-        result.add("tools", toolsArray);
-        return createResponse(id, result);
+        return createRawResponse(id, result);
     }
 
-    private String handleToolsCall(Object id, JsonObject params) {
-        String toolName = params.get("name").getAsString();
+    private Response handleToolsCall(Object id, JsonObject params, ToolFilter filter) {
+        JsonElement nameElement = params != null ? params.get("name") : null;
+        if (nameElement == null || !nameElement.isJsonPrimitive()) {
+            return createErrorResponse(id, -32602, "Invalid params: tool name is required");
+        }
+        String toolName = nameElement.getAsString();
         JsonObject arguments = params.has("arguments")
                 ? params.getAsJsonObject("arguments")
                 : new JsonObject();
 
-        MCPTool tool = findTool(toolName);
+        MCPTool tool = tools.find(toolName, filter);
         if (tool == null) {
             return createErrorResponse(id, -32602, "Unknown tool: " + toolName);
         }
 
+        String cacheKey = resultCache != null && resultCache.isCacheable(tool)
+                ? resultCache.key(tool, tools.argumentDefaults(toolName), arguments)
+                : null;
+        if (cacheKey != null) {
+            String cached = resultCache.get(cacheKey);
+            if (cached != null) {
+                logger.debug("Serving cached result of tool: {}", toolName);
+                return createRawResponse(id, cached);
+            }
+        }
+
         try {
             logger.info("Executing tool: {}", toolName);
             JsonObject toolResult = tool.execute(arguments);
-
-            JsonObject result = new JsonObject();
-            JsonArray content = new JsonArray();
-            JsonObject textContent = new JsonObject();
-            textContent.addProperty("type", "text");
-            textContent.addProperty("text", gson.toJson(toolResult));
-            content.add(textContent);
-            result.add("content", content);
-
-            return createResponse(id, result);
+            // Tools that report failures as an "error" member get a fresh try on the next call
+            if (cacheKey != null && toolResult != null && !toolResult.has("error")) {
+                // Serialize once, now, so later hits are spliced in as is
+                String resultJson = renderToolResult(toolResult);
+                resultCache.put(tool, cacheKey, resultJson);
+                return createRawResponse(id, resultJson);
+            }
+            return createToolResponse(id, toolResult);
         } catch (ToolExecutionException e) {
             logger.error("Tool execution failed: {}", toolName, e);
-
-            JsonObject result = new JsonObject();
-            JsonArray content = new JsonArray();
-            JsonObject textContent = new JsonObject();
-            textContent.addProperty("type", "text");
-            textContent.addProperty("text", "Error: " + e.getMessage());
-            content.add(textContent);
-            result.add("content", content);
-            result.addProperty("isError", true);
-
-            return createResponse(id, result);
+            return createToolErrorResponse(id, e.getMessage());
+        } catch (RuntimeException e) {
+            // A tool bug, such as reading a missing required argument, is still reported against its call
+            logger.error("Tool failed unexpectedly: {}", toolName, e);
+            return createToolErrorResponse(id, e.toString());
         }
     }
 
-    private MCPTool findTool(String name) {
-        for (MCPTool tool : tools) {
-            if (tool.getName().equals(name)) {
-                return tool;
-            }
-        }
-        return null;
+    private Response createToolErrorResponse(Object id, String message) {
+        JsonObject result = new JsonObject();
+        JsonArray content = new JsonArray();
+        JsonObject textContent = new JsonObject();
+        textContent.addProperty("type", "text");
+        textContent.addProperty("text", "Error: " + message);
+        content.add(textContent);
+        result.add("content", content);
+        result.addProperty("isError", true);
+
+        return createResponse(id, result);
     }
 
-    private String createResponse(Object id, JsonObject result) {
+    private Response createResponse(Object id, JsonObject result) {
         JsonObject response = new JsonObject();
         response.addProperty("jsonrpc", JSONRPC_VERSION);
         if (id != null) {
             response.add("id", gson.toJsonTree(id));
         }
         response.add("result", result);
-        return gson.toJson(response);
+        return out -> gson.toJson(response, out);
+    }
+
+    /** Wraps a result that is already serialized, such as a cached tool list or tool result. */
+    private Response createRawResponse(Object id, String resultJson) {
+        JsonElement idTree = id != null ? gson.toJsonTree(id) : null;
+        return out -> {
+            out.write("{\"jsonrpc\":\"" + JSONRPC_VERSION + "\"");
+            if (idTree != null) {
+                out.write(",\"id\":");
+                gson.toJson(idTree, out);
+            }
+            out.write(",\"result\":");
+            out.write(resultJson);
+            out.write("}");
+        };
+    }
+
+    /**
+     * Wraps a tool result as the text content of a response. The result is
+     * serialized once, escaped on the fly into the {@code text} string,
+     * rather than serialized to a string that is then escaped again.
+     */
+    private Response createToolResponse(Object id, JsonObject toolResult) {
+        JsonElement idTree = id != null ? gson.toJsonTree(id) : null;
+        return out -> {
+            out.write("{\"jsonrpc\":\"" + JSONRPC_VERSION + "\"");
+            if (idTree != null) {
+                out.write(",\"id\":");
+                gson.toJson(idTree, out);
+            }
+            out.write(",\"result\":");
+            writeToolResult(toolResult, out);
+            out.write("}");
+        };
+    }
+
+    /** Serializes the {@code result} member {@link #createToolResponse} would write. */
+    private String renderToolResult(JsonObject toolResult) {
+        StringWriter out = new StringWriter();
+        try {
+            writeToolResult(toolResult, out);
+        } catch (IOException e) {
+            throw new IllegalStateException("StringWriter cannot fail", e);
+        }
+        return out.toString();
+    }
+
+    private void writeToolResult(JsonObject toolResult, Writer out) throws IOException {
+        out.write("{\"content\":[{\"type\":\"text\",\"text\":\"");
+        JsonWriter text = gson.newJsonWriter(new JsonStringEscapingWriter(out, gson.htmlSafe()));
+        gson.toJson(toolResult, text);
+        text.flush();
+        out.write("\"}]}");
     }
 
-    private String createErrorResponse(Object id, int code, String message) {
+    private Response createErrorResponse(Object id, int code, String message) {
         JsonObject response = new JsonObject();
         response.addProperty("jsonrpc", JSONRPC_VERSION);
         if (id != null) {
@@ -238,7 +572,7 @@ public abstract class MCPServer {
         error.addProperty("code", code);
         error.addProperty("message", message);
         response.add("error", error);
-        return gson.toJson(response);
+        return out -> gson.toJson(response, out);
     }
 
     /**
@@ -1,7 +1,11 @@
 package io.clavis.core.mcp;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+import java.time.Duration;
+import java.util.Locale;
+
 /**
  * Interface for MCP tool implementations.
  *
@@ -38,6 +42,63 @@ public interface MCPTool {
      */
     JsonObject getInputSchema();
 
+    /**
+     * Returns the module this tool belongs to, which {@link ToolFilter}s can
+     * select.
+     *
+     * @return the module name; by default the last segment of the
+     *         implementing class's package, e.g. "pubmed"
+     */
+    default String getModule() {
+        String packageName = getClass().getPackageName();
+        return packageName.substring(packageName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Returns how long a result of this tool may be served from the server's
+     * tool result cache. Tools whose answers change from one call to the
+     * next, such as live recall listings, return {@link Duration#ZERO}.
+     *
+     * @return the time a result stays cached, {@link Duration#ZERO} to never
+     *         cache it, or null (the default) for the server-wide
+     *         {@code CLAVIS_TOOL_CACHE_TTL_MINUTES}
+     */
+    default Duration getResultCacheTtl() {
+        return null;
+    }
+
+    /**
+     * Normalizes arguments that this tool treats as equivalent, so that
+     * calls differing only in, say, the case of an identifier share one
+     * cached result. Only the cache key is derived from the returned
+     * object; {@link #execute} still receives the caller's arguments.
+     *
+     * @param arguments a copy of the call's arguments, with schema defaults
+     *                  applied, that may be modified in place
+     * @return the canonical arguments
+     */
+    default JsonObject canonicalArguments(JsonObject arguments) {
+        return arguments;
+    }
+
+    /**
+     * Upper-cases the named string arguments, for tools whose identifiers
+     * (UniProt accessions, ChEMBL IDs) are case-insensitive.
+     *
+     * @param arguments the arguments to modify in place
+     * @param names     the arguments to upper-case
+     * @return {@code arguments}
+     */
+    static JsonObject upperCaseArguments(JsonObject arguments, String... names) {
+        for (String name : names) {
+            JsonElement value = arguments.get(name);
+            if (value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isString()) {
+                arguments.addProperty(name, value.getAsString().trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        return arguments;
+    }
+
     /**
      * Executes this tool with the given parameters.
      *
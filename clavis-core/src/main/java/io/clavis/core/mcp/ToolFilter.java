@@ -0,0 +1,121 @@
+package io.clavis.core.mcp;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Selects the tools a client sees.
+ *
+ * <p>
+ * A filter is parsed from a comma-separated list of terms. A term matches a
+ * tool if it equals the tool's name, the tool's module
+ * ({@link MCPTool#getModule()}, e.g. {@code pubmed} or
+ * {@code semanticscholar}), or a group defined with
+ * {@link ToolRegistry#defineGroup}. Terms containing {@code *}
+ * are matched against tool names as wildcards, e.g. {@code s2_*}. Matching
+ * ignores case. An empty list selects every tool.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class ToolFilter {
+
+    /** Selects every tool. */
+    public static final ToolFilter ALL = new ToolFilter(Collections.emptySet());
+
+    private final Set<String> terms;
+
+    private ToolFilter(Set<String> terms) {
+        this.terms = terms;
+    }
+
+    /**
+     * Parses a filter.
+     *
+     * @param spec comma-separated terms, or null or blank for every tool
+     * @return the filter
+     */
+    public static ToolFilter parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return ALL;
+        }
+        Set<String> terms = Arrays.stream(spec.split(","))
+                .map(term -> term.trim().toLowerCase(Locale.ROOT))
+                .filter(term -> !term.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return terms.isEmpty() ? ALL : new ToolFilter(Collections.unmodifiableSet(terms));
+    }
+
+    /**
+     * Returns whether this filter selects every tool.
+     *
+     * @return true if no terms were given
+     */
+    public boolean isAll() {
+        return terms.isEmpty();
+    }
+
+    /**
+     * Returns the terms of this filter.
+     *
+     * @return the lower-cased terms in the order given
+     */
+    public Set<String> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Returns whether a single term matches a tool.
+     *
+     * @param term   a lower-cased term
+     * @param name   the tool name
+     * @param module the tool's module
+     * @return true if the term names the tool, its module, or matches the
+     *         name as a wildcard
+     */
+    static boolean matchesTerm(String term, String name, String module) {
+        String lowerName = name.toLowerCase(Locale.ROOT);
+        if (term.indexOf('*') >= 0) {
+            return wildcardMatch(term, lowerName);
+        }
+        return term.equals(lowerName) || term.equals(module);
+    }
+
+    private static boolean wildcardMatch(String pattern, String text) {
+        String[] parts = pattern.split("\\*", -1);
+        if (!text.startsWith(parts[0])) {
+            return false;
+        }
+        int position = parts[0].length();
+        for (int i = 1; i < parts.length - 1; i++) {
+            int found = text.indexOf(parts[i], position);
+            if (found < 0) {
+                return false;
+            }
+            position = found + parts[i].length();
+        }
+        String last = parts[parts.length - 1];
+        return text.length() - position >= last.length() && text.endsWith(last);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ToolFilter && terms.equals(((ToolFilter) o).terms);
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "*" : String.join(",", terms);
+    }
+}
@@ -0,0 +1,301 @@
+package io.clavis.core.mcp;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * The tools an {@link MCPServer} provides, indexed by name.
+ *
+ * <p>
+ * Behaves as a list so servers keep registering tools with
+ * {@code tools.add(...)}. On registration each tool's {@code tools/list}
+ * entry (name, description and input schema) is built once, and lookups by
+ * name are constant time. The serialized {@code tools/list} result is cached
+ * per filter and page until the registry changes. A tool whose name is
+ * already registered is ignored with a warning, as it could never be called.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class ToolRegistry extends AbstractList<MCPTool> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolRegistry.class);
+
+    /** Bounds the page cache, since clients choose their own filters. */
+    private static final int MAX_CACHED_PAGES = 256;
+
+    private final Gson gson;
+    private final List<Registered> ordered = new CopyOnWriteArrayList<>();
+    private final Map<String, Registered> byName = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> groups = new ConcurrentHashMap<>();
+    private final Map<PageKey, String> pages = new ConcurrentHashMap<>();
+    private volatile int generation;
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param gson the instance used to serialize {@code tools/list} results
+     */
+    public ToolRegistry(Gson gson) {
+        this.gson = Objects.requireNonNull(gson, "gson cannot be null");
+    }
+
+    @Override
+    public MCPTool get(int index) {
+        return ordered.get(index).tool;
+    }
+
+    @Override
+    public int size() {
+        return ordered.size();
+    }
+
+    @Override
+    public synchronized boolean add(MCPTool tool) {
+        return insert(ordered.size(), tool);
+    }
+
+    @Override
+    public synchronized void add(int index, MCPTool tool) {
+        insert(index, tool);
+    }
+
+    @Override
+    public synchronized MCPTool set(int index, MCPTool tool) {
+        Registered replacement = new Registered(tool);
+        Registered previous = ordered.get(index);
+        Registered existing = byName.get(replacement.name);
+        if (existing != null && existing != previous) {
+            throw new IllegalArgumentException("Tool already registered: " + replacement.name);
+        }
+        byName.remove(previous.name);
+        byName.put(replacement.name, replacement);
+        ordered.set(index, replacement);
+        invalidate();
+        return previous.tool;
+    }
+
+    @Override
+    public synchronized MCPTool remove(int index) {
+        Registered removed = ordered.remove(index);
+        byName.remove(removed.name);
+        invalidate();
+        return removed.tool;
+    }
+
+    /**
+     * Defines a named group of tools that filters can refer to, e.g.
+     * {@code literature} for the paper search modules.
+     *
+     * @param group the group name
+     * @param terms module names, tool names or wildcards, as in
+     *              {@link ToolFilter}
+     */
+    public synchronized void defineGroup(String group, String... terms) {
+        groups.put(group.toLowerCase(Locale.ROOT), Arrays.stream(terms)
+                .map(term -> term.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet()));
+        invalidate();
+    }
+
+    /**
+     * Looks up a tool by name.
+     *
+     * @param name   the tool name
+     * @param filter the tools visible to the caller
+     * @return the tool, or null if it is not registered or not selected by
+     *         the filter
+     */
+    public MCPTool find(String name, ToolFilter filter) {
+        Registered registered = byName.get(name);
+        return registered != null && matches(registered, filter) ? registered.tool : null;
+    }
+
+    /**
+     * Returns the argument defaults of a registered tool, collected from its
+     * input schema at registration.
+     *
+     * @param name the tool name
+     * @return the defaults by argument name; empty if the tool has none or
+     *         is not registered
+     */
+    JsonObject argumentDefaults(String name) {
+        Registered registered = byName.get(name);
+        return registered != null ? registered.defaults : new JsonObject();
+    }
+
+    /**
+     * Returns the serialized {@code tools/list} result for one page.
+     *
+     * @param filter   the tools visible to the caller
+     * @param cursor   the {@code nextCursor} of the previous page, or null for
+     *                 the first page
+     * @param pageSize the maximum number of tools per page, or 0 for all
+     * @return the result object as JSON, with {@code nextCursor} set when
+     *         more tools follow
+     * @throws IllegalArgumentException if the cursor is not one this
+     *                                  registry issued
+     */
+    public String listResult(ToolFilter filter, String cursor, int pageSize) {
+        int offset = decodeCursor(cursor);
+        int size = Math.max(0, pageSize);
+        if (pages.size() >= MAX_CACHED_PAGES) {
+            pages.clear();
+        }
+        return pages.computeIfAbsent(new PageKey(generation, filter, offset, size), this::renderPage);
+    }
+
+    private boolean insert(int index, MCPTool tool) {
+        Registered registered = new Registered(tool);
+        if (byName.putIfAbsent(registered.name, registered) != null) {
+            logger.warn("Ignoring duplicate tool registration: {}", registered.name);
+            return false;
+        }
+        ordered.add(index, registered);
+        invalidate();
+        return true;
+    }
+
+    private void invalidate() {
+        generation++;
+        pages.clear();
+    }
+
+    private String renderPage(PageKey key) {
+        List<Registered> visible = new ArrayList<>();
+        for (Registered registered : ordered) {
+            if (matches(registered, key.filter)) {
+                visible.add(registered);
+            }
+        }
+        if (key.offset > visible.size()) {
+            throw new IllegalArgumentException("Cursor past the end of the tool list");
+        }
+        int end = key.pageSize == 0 ? visible.size() : Math.min(visible.size(), key.offset + key.pageSize);
+
+        JsonArray tools = new JsonArray();
+        for (Registered registered : visible.subList(key.offset, end)) {
+            tools.add(registered.descriptor);
+        }
+        JsonObject result = new JsonObject();
+        result.add("tools", tools);
+        if (end < visible.size()) {
+            result.addProperty("nextCursor", encodeCursor(end));
+        }
+        return gson.toJson(result);
+    }
+
+    private boolean matches(Registered registered, ToolFilter filter) {
+        if (filter.isAll()) {
+            return true;
+        }
+        for (String term : filter.getTerms()) {
+            Set<String> group = groups.get(term);
+            if (group == null) {
+                if (ToolFilter.matchesTerm(term, registered.name, registered.module)) {
+                    return true;
+                }
+                continue;
+            }
+            for (String member : group) {
+                if (ToolFilter.matchesTerm(member, registered.name, registered.module)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String encodeCursor(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("offset:" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeCursor(String cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith("offset:")) {
+                int offset = Integer.parseInt(decoded.substring("offset:".length()));
+                if (offset >= 0) {
+                    return offset;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
+    /** A registered tool with its precomputed {@code tools/list} entry and argument defaults. */
+    private static final class Registered {
+        final MCPTool tool;
+        final String name;
+        final String module;
+        final JsonObject descriptor;
+        final JsonObject defaults;
+
+        Registered(MCPTool tool) {
+            this.tool = Objects.requireNonNull(tool, "tool cannot be null");
+            this.name = Objects.requireNonNull(tool.getName(), "tool name cannot be null");
+            this.module = tool.getModule().toLowerCase(Locale.ROOT);
+            this.descriptor = new JsonObject();
+            descriptor.addProperty("name", name);
+            descriptor.addProperty("description", tool.getDescription());
+            JsonObject schema = tool.getInputSchema();
+            descriptor.add("inputSchema", schema);
+            this.defaults = ToolResultCache.argumentDefaults(schema);
+        }
+    }
+
+    /** Identifies one cached page; the generation retires pages on change. */
+    private static final class PageKey {
+        final int generation;
+        final ToolFilter filter;
+        final int offset;
+        final int pageSize;
+
+        PageKey(int generation, ToolFilter filter, int offset, int pageSize) {
+            this.generation = generation;
+            this.filter = filter;
+            this.offset = offset;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof PageKey)) {
+                return false;
+            }
+            PageKey other = (PageKey) o;
+            return generation == other.generation && offset == other.offset
+                    && pageSize == other.pageSize && filter.equals(other.filter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(generation, filter, offset, pageSize);
+        }
+    }
+}
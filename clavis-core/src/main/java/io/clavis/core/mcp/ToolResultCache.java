@@ -0,0 +1,272 @@
+package io.clavis.core.mcp;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of serialized {@code tools/call} results, keyed by tool name and
+ * canonical arguments.
+ *
+ * <p>
+ * Entries hold the {@code result} member of the JSON-RPC response exactly as
+ * it is written, so a hit is spliced into the envelope without executing the
+ * tool, building a {@code JsonObject} or escaping its text again. The key
+ * ignores the order of argument members, fills in missing arguments from the
+ * {@code default} values of the tool's input schema, writes integral numbers
+ * without a fraction and applies the tool's own
+ * {@link MCPTool#canonicalArguments} normalization.
+ * </p>
+ *
+ * <p>
+ * Each entry expires after its tool's {@link MCPTool#getResultCacheTtl()},
+ * or the cache-wide default when the tool does not set one. The cache is
+ * bounded by the total length of the stored results.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class ToolResultCache {
+
+    /** Approximate per-entry bookkeeping cost, in characters, added to the result size. */
+    private static final int ENTRY_OVERHEAD_CHARS = 128;
+
+    /** A single result may use at most this fraction of the budget. */
+    private static final int MAX_ENTRY_FRACTION = 16;
+
+    /** Separates the tool name from the arguments in a key; cannot occur in either unescaped. */
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    /** Larger integral arguments keep their exponent in the key. */
+    private static final int MAX_PLAIN_EXPONENT = 64;
+
+    private record Entry(String resultJson, long ttlNanos) {
+    }
+
+    private final Cache<String, Entry> cache;
+    private final Duration defaultTtl;
+    private final long maxEntryChars;
+
+    /**
+     * Creates a tool result cache.
+     *
+     * @param maxChars   maximum total length of cached results in characters
+     * @param defaultTtl time after which a result expires when its tool does
+     *                   not set one
+     * @throws IllegalArgumentException if a bound is not positive
+     */
+    ToolResultCache(long maxChars, Duration defaultTtl) {
+        if (maxChars <= 0) {
+            throw new IllegalArgumentException("Tool cache size must be positive");
+        }
+        if (defaultTtl == null || defaultTtl.isNegative() || defaultTtl.isZero()) {
+            throw new IllegalArgumentException("Tool cache TTL must be positive");
+        }
+        this.defaultTtl = defaultTtl;
+        this.maxEntryChars = Math.max(1, maxChars / MAX_ENTRY_FRACTION);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxChars)
+                .weigher((String key, Entry entry) -> (int) Math.min(Integer.MAX_VALUE,
+                        (long) entry.resultJson().length() + key.length() + ENTRY_OVERHEAD_CHARS))
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns how long results of a tool are cached.
+     *
+     * @param tool the tool
+     * @return the tool's TTL, or the default; zero or negative if its results are never cached
+     */
+    Duration ttl(MCPTool tool) {
+        Duration ttl = tool.getResultCacheTtl();
+        return ttl != null ? ttl : defaultTtl;
+    }
+
+    /**
+     * Returns whether results of a tool are cached at all.
+     *
+     * @param tool the tool
+     * @return false if the tool opted out
+     */
+    boolean isCacheable(MCPTool tool) {
+        Duration ttl = ttl(tool);
+        return !ttl.isNegative() && !ttl.isZero();
+    }
+
+    /**
+     * Derives the cache key of a call.
+     *
+     * @param tool      the tool being called
+     * @param defaults  the tool's argument defaults, from
+     *                  {@link #argumentDefaults}
+     * @param arguments the call's arguments, which are not modified
+     * @return the key
+     */
+    String key(MCPTool tool, JsonObject defaults, JsonObject arguments) {
+        JsonObject canonical = arguments.deepCopy();
+        for (Map.Entry<String, JsonElement> defaultValue : defaults.entrySet()) {
+            if (!canonical.has(defaultValue.getKey())) {
+                canonical.add(defaultValue.getKey(), defaultValue.getValue().deepCopy());
+            }
+        }
+        canonical = tool.canonicalArguments(canonical);
+
+        StringWriter key = new StringWriter();
+        key.write(tool.getName());
+        key.write(KEY_SEPARATOR);
+        try {
+            JsonWriter writer = new JsonWriter(key);
+            writeCanonical(canonical, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("StringWriter cannot fail", e);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Looks up a cached result.
+     *
+     * @param key the key from {@link #key}
+     * @return the serialized result, or null if absent or expired
+     */
+    String get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.resultJson() : null;
+    }
+
+    /**
+     * Stores a serialized result. Results larger than a sixteenth of the
+     * budget are not stored, so that one of them cannot flush the cache.
+     *
+     * @param tool       the tool that produced the result
+     * @param key        the key from {@link #key}
+     * @param resultJson the {@code result} member of the response
+     */
+    void put(MCPTool tool, String key, String resultJson) {
+        Duration ttl = ttl(tool);
+        if (ttl.isNegative() || ttl.isZero() || resultJson.length() > maxEntryChars) {
+            return;
+        }
+        cache.put(key, new Entry(resultJson, ttl.toNanos()));
+    }
+
+    /** Removes every cached result. */
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /** @return the approximate number of cached results */
+    long size() {
+        return cache.estimatedSize();
+    }
+
+    /** @return the number of lookups that found a result */
+    long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /** @return the number of lookups that found nothing */
+    long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Collects the {@code default} values of an input schema's properties.
+     * {@link ToolRegistry} does this once per tool at registration.
+     *
+     * @param schema the tool's input schema, or null
+     * @return the defaults by argument name; empty if there are none
+     */
+    static JsonObject argumentDefaults(JsonObject schema) {
+        JsonObject defaults = new JsonObject();
+        if (schema == null || !schema.has("properties") || !schema.get("properties").isJsonObject()) {
+            return defaults;
+        }
+        for (Map.Entry<String, JsonElement> property : schema.getAsJsonObject("properties").entrySet()) {
+            if (property.getValue().isJsonObject()) {
+                JsonElement defaultValue = property.getValue().getAsJsonObject().get("default");
+                if (defaultValue != null) {
+                    defaults.add(property.getKey(), defaultValue.deepCopy());
+                }
+            }
+        }
+        return defaults;
+    }
+
+    private static void writeCanonical(JsonElement element, JsonWriter out) throws IOException {
+        if (element == null || element.isJsonNull()) {
+            out.nullValue();
+        } else if (element.isJsonObject()) {
+            List<String> names = new ArrayList<>(element.getAsJsonObject().keySet());
+            names.sort(null);
+            out.beginObject();
+            for (String name : names) {
+                out.name(name);
+                writeCanonical(element.getAsJsonObject().get(name), out);
+            }
+            out.endObject();
+        } else if (element.isJsonArray()) {
+            out.beginArray();
+            for (JsonElement item : (JsonArray) element) {
+                writeCanonical(item, out);
+            }
+            out.endArray();
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isNumber()) {
+                out.jsonValue(canonicalNumber(primitive));
+            } else if (primitive.isBoolean()) {
+                out.value(primitive.getAsBoolean());
+            } else {
+                out.value(primitive.getAsString());
+            }
+        }
+    }
+
+    /** Writes 10, 10.0 and 1e1 alike. */
+    private static String canonicalNumber(JsonPrimitive number) {
+        try {
+            BigDecimal value = new BigDecimal(number.getAsString()).stripTrailingZeros();
+            if (value.signum() == 0) {
+                return "0";
+            }
+            // Huge exponents stay in scientific notation rather than expanding to their digits
+            return value.scale() < -MAX_PLAIN_EXPONENT ? value.toString() : value.toPlainString();
+        } catch (NumberFormatException e) {
+            return number.getAsString();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.clavis.core.util;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Incremental JSON reading on top of Gson's {@link JsonReader}.
+ *
+ * <p>
+ * Upstream responses are usually an envelope around one large array
+ * ({@code {"data": [...]}}) or one large object of which only a few fields
+ * are used. These helpers walk the envelope with a streaming reader, build
+ * a Gson tree for one array element or one wanted field at a time, and
+ * skip everything else without allocating it. Peak memory is bounded by
+ * the largest element rather than the whole body.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class StreamingJson {
+
+    private StreamingJson() {
+        // Static utility class
+    }
+
+    /**
+     * Reads the array stored under a top-level field, mapping each element
+     * as soon as it has been read. Elements mapped to null are dropped.
+     * Other fields are skipped.
+     *
+     * @param <T>     the mapped type
+     * @param reader  the JSON source
+     * @param field   the top-level field holding the array
+     * @param mapper  converts one element
+     * @return the mapped elements, empty if the field is absent or not an array
+     * @throws IOException if reading fails or the envelope is malformed
+     * @throws com.google.gson.JsonParseException if an element is malformed
+     *         or truncated
+     */
+    public static <T> List<T> readArrayField(Reader reader, String field, Function<JsonElement, T> mapper)
+            throws IOException {
+        List<T> results = new ArrayList<>();
+        JsonReader json = new JsonReader(reader);
+        json.beginObject();
+        while (json.hasNext()) {
+            if (field.equals(json.nextName()) && json.peek() == JsonToken.BEGIN_ARRAY) {
+                json.beginArray();
+                while (json.hasNext()) {
+                    T mapped = mapper.apply(JsonParser.parseReader(json));
+                    if (mapped != null) {
+                        results.add(mapped);
+                    }
+                }
+                json.endArray();
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+        return results;
+    }
+
+    /**
+     * Reads a top-level object keeping only the given fields. Values of all
+     * other fields are skipped without being materialized.
+     *
+     * @param reader the JSON source
+     * @param fields the field names to keep
+     * @return an object holding only the kept fields that were present
+     * @throws IOException if reading fails or the envelope is malformed
+     * @throws com.google.gson.JsonParseException if a kept value is malformed
+     *         or truncated
+     */
+    public static JsonObject readFields(Reader reader, Set<String> fields) throws IOException {
+        JsonObject result = new JsonObject();
+        JsonReader json = new JsonReader(reader);
+        json.beginObject();
+        while (json.hasNext()) {
+            String name = json.nextName();
+            if (fields.contains(name)) {
+                result.add(name, JsonParser.parseReader(json));
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+        return result;
+    }
+}
@@ -0,0 +1,215 @@
+package io.clavis.core.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link DiskCache}.
+ */
+class DiskCacheTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private static CachedResponse json(String body) {
+        return new CachedResponse(200, "OK", "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String body(CachedResponse response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Responses should survive closing and reopening the cache")
+    void testSurvivesReopen() throws Exception {
+        CachedResponse stored = new CachedResponse(200, "OK", null, "{\"id\":\"P04637\"}".getBytes(StandardCharsets.UTF_8));
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            cache.put("GET https://rest.uniprot.org/uniprotkb/P04637", stored);
+        }
+
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            CachedResponse cached = cache.get("GET https://rest.uniprot.org/uniprotkb/P04637");
+            assertNotNull(cached);
+            assertEquals("{\"id\":\"P04637\"}", body(cached));
+            assertEquals(200, cached.getCode());
+            assertEquals("OK", cached.getMessage());
+            assertNull(cached.getContentType());
+            assertEquals(stored.getStoredAtMillis(), cached.getStoredAtMillis());
+            assertNull(cache.get("GET https://rest.uniprot.org/uniprotkb/P38398"));
+        }
+    }
+
+    @Test
+    @DisplayName("Large bodies should be stored compressed")
+    void testCompressesLargeBodies() throws Exception {
+        String large = "{\"abstract\":\"" + "tumor suppressor ".repeat(1000) + "\"}";
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            cache.put("big", json(large));
+            cache.flush();
+
+            assertTrue(cache.diskBytes() < large.length() / 4, "stored " + cache.diskBytes() + " bytes");
+            assertEquals(large, body(cache.get("big")));
+            assertEquals("application/json", cache.get("big").getContentType());
+        }
+    }
+
+    @Test
+    @DisplayName("Expired responses should not be returned")
+    void testExpiry() throws Exception {
+        long tenMinutesAgo = System.currentTimeMillis() - Duration.ofMinutes(10).toMillis();
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            cache.put("fresh", json("{}"));
+            cache.put("expired", new CachedResponse(200, "OK", null, new byte[1], tenMinutesAgo));
+            cache.put("stale", new CachedResponse(200, "OK", null, new byte[1], tenMinutesAgo,
+                    Duration.ofMinutes(10).toMillis()));
+            cache.flush();
+
+            assertNotNull(cache.get("fresh"));
+            assertNull(cache.get("expired"));
+            assertEquals(Duration.ofMinutes(10).toMillis(), cache.get("stale").getStaleWindowMillis());
+        }
+    }
+
+    @Test
+    @DisplayName("Processes sharing a directory should see each other's responses")
+    void testSharedBetweenInstances() throws Exception {
+        try (DiskCache first = DiskCache.open(dir, MB, Duration.ofMinutes(5));
+                DiskCache second = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            first.put("a", json("{\"from\":\"first\"}"));
+            first.flush();
+            second.put("b", json("{\"from\":\"second\"}"));
+            second.flush();
+
+            second.refresh();
+            first.refresh();
+            assertEquals("{\"from\":\"first\"}", body(second.get("a")));
+            assertEquals("{\"from\":\"second\"}", body(first.get("b")));
+        }
+    }
+
+    @Test
+    @DisplayName("Compaction should drop superseded records and keep the newest ones readable")
+    void testCompaction() throws Exception {
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5));
+                DiskCache other = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            for (int i = 0; i < 100; i++) {
+                cache.put("same", json("{\"version\":" + i + "}"));
+            }
+            cache.put("other", json("{}"));
+            cache.flush();
+            other.refresh();
+            long before = cache.diskBytes();
+
+            cache.compact();
+
+            assertTrue(cache.diskBytes() < before / 10, before + " -> " + cache.diskBytes());
+            assertEquals(1, segments().size());
+            assertEquals("{\"version\":99}", body(cache.get("same")));
+            assertNotNull(cache.get("other"));
+
+            // The other instance indexed the deleted segment and has to notice the compaction
+            other.refresh();
+            assertEquals("{\"version\":99}", body(other.get("same")));
+        }
+    }
+
+    @Test
+    @DisplayName("Compaction should keep the newest responses within the size budget")
+    void testCompactionEnforcesBudget() throws Exception {
+        byte[] noise = new byte[8 * 1024];
+        try (DiskCache cache = DiskCache.open(dir, 64 * 1024, Duration.ofMinutes(5))) {
+            for (int i = 0; i < 20; i++) {
+                new Random(i).nextBytes(noise);
+                cache.put("key" + i, new CachedResponse(200, "OK", null, noise.clone(),
+                        System.currentTimeMillis() - 1000 + i));
+            }
+            cache.flush();
+
+            assertTrue(cache.diskBytes() <= 64 * 1024, "stored " + cache.diskBytes() + " bytes");
+            assertNotNull(cache.get("key19"));
+            assertNull(cache.get("key0"));
+        }
+    }
+
+    @Test
+    @DisplayName("An incomplete record left by a crash should be ignored and overwritten")
+    void testTornRecord() throws Exception {
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            cache.put("before", json("{}"));
+        }
+        Path segment = segments().get(0);
+        long complete = Files.size(segment);
+        Files.write(segment, new byte[] {(byte) 0xC1, (byte) 0xA5, 0, 0, 0, 0, 1}, StandardOpenOption.APPEND);
+
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            assertNotNull(cache.get("before"));
+            cache.put("after", json("{}"));
+        }
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            assertNotNull(cache.get("before"));
+            assertNotNull(cache.get("after"));
+            assertTrue(Files.size(segment) > complete);
+        }
+    }
+
+    @Test
+    @DisplayName("A corrupted record should be treated as a miss")
+    void testCorruptedRecord() throws Exception {
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            cache.put("key", json("{\"value\":\"intact\"}"));
+        }
+        Path segment = segments().get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 8] ^= 0x7F;
+        Files.write(segment, bytes);
+
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            assertNull(cache.get("key"));
+        }
+    }
+
+    @Test
+    @DisplayName("invalidateAll() should clear the store for every instance")
+    void testInvalidateAll() throws Exception {
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            cache.put("key", json("{}"));
+            cache.flush();
+            cache.invalidateAll();
+            assertNull(cache.get("key"));
+        }
+        try (DiskCache cache = DiskCache.open(dir, MB, Duration.ofMinutes(5))) {
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive bounds")
+    void testInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> DiskCache.open(dir, 0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> DiskCache.open(dir, MB, Duration.ZERO));
+    }
+}
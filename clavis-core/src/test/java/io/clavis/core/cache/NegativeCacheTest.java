@@ -0,0 +1,90 @@
+package io.clavis.core.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link NegativeCache}.
+ */
+class NegativeCacheTest {
+
+    private static CachedResponse notFound() {
+        return new CachedResponse(404, "Not Found", "application/json",
+                "{\"messages\":[\"Resource not found\"]}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Stored responses should be returned until their TTL passes")
+    void testExpiry() throws InterruptedException {
+        NegativeCache cache = new NegativeCache(100);
+        cache.put("GET https://rest.uniprot.org/uniprotkb/P99999", notFound(), Duration.ofMillis(100));
+
+        assertEquals(404, cache.get("GET https://rest.uniprot.org/uniprotkb/P99999").getCode());
+        Thread.sleep(200);
+        assertNull(cache.get("GET https://rest.uniprot.org/uniprotkb/P99999"));
+    }
+
+    @Test
+    @DisplayName("Keys never stored should be rejected by the Bloom filter")
+    void testFilterSkipsUnknownKeys() {
+        NegativeCache cache = new NegativeCache(1000);
+        for (int i = 0; i < 500; i++) {
+            cache.put("missing-" + i, notFound(), Duration.ofMinutes(5));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (cache.mightContain("present-" + i)) {
+                falsePositives++;
+            }
+            assertNull(cache.get("present-" + i));
+        }
+        for (int i = 0; i < 500; i++) {
+            assertTrue(cache.mightContain("missing-" + i));
+        }
+        assertTrue(falsePositives < 200, falsePositives + " false positives");
+        assertEquals(10_000 - falsePositives, cache.getFilterSkipCount());
+    }
+
+    @Test
+    @DisplayName("Rotating the filter should keep the previous generation's keys")
+    void testGenerations() {
+        NegativeCache cache = new NegativeCache(10);
+        for (int i = 0; i < 15; i++) {
+            cache.put("id-" + i, notFound(), Duration.ofMinutes(5));
+        }
+
+        assertTrue(cache.mightContain("id-0"));
+        assertTrue(cache.mightContain("id-14"));
+        assertNotNull(cache.get("id-14"));
+    }
+
+    @Test
+    @DisplayName("Zero TTLs and large bodies should not be stored")
+    void testRejectedEntries() {
+        NegativeCache cache = new NegativeCache(100);
+        cache.put("zero", notFound(), Duration.ZERO);
+        cache.put("large", new CachedResponse(404, "Not Found", null,
+                new byte[NegativeCache.MAX_BODY_BYTES + 1]), Duration.ofMinutes(1));
+
+        assertNull(cache.get("zero"));
+        assertNull(cache.get("large"));
+        assertThrows(IllegalArgumentException.class, () -> new NegativeCache(0));
+    }
+
+    @Test
+    @DisplayName("invalidateAll() should forget every entry")
+    void testInvalidateAll() {
+        NegativeCache cache = new NegativeCache(100);
+        cache.put("key", notFound(), Duration.ofMinutes(1));
+        cache.invalidateAll();
+
+        assertNull(cache.get("key"));
+        assertFalse(cache.mightContain("key"));
+    }
+}
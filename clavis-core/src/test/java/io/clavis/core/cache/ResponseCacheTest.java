@@ -0,0 +1,106 @@
+package io.clavis.core.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ResponseCache}.
+ */
+class ResponseCacheTest {
+
+    private static CachedResponse response(int bodySize) {
+        return new CachedResponse(200, "OK", "application/json", new byte[bodySize]);
+    }
+
+    @Test
+    @DisplayName("Should return stored responses")
+    void testPutAndGet() {
+        ResponseCache cache = new ResponseCache(10, 1024 * 1024, Duration.ofMinutes(1));
+        byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+        cache.put("GET https://example.org/a", new CachedResponse(200, "OK", "application/json", body));
+
+        CachedResponse cached = cache.get("GET https://example.org/a");
+        assertNotNull(cached);
+        assertArrayEquals(body, cached.getBody());
+        assertNull(cache.get("GET https://example.org/b"));
+    }
+
+    @Test
+    @DisplayName("Should bound the number of entries")
+    void testEntryBound() {
+        ResponseCache cache = new ResponseCache(5, 1024 * 1024, Duration.ofMinutes(1));
+        for (int i = 0; i < 50; i++) {
+            cache.put("key" + i, response(10));
+        }
+        assertTrue(cache.size() <= 5, "size was " + cache.size());
+    }
+
+    @Test
+    @DisplayName("Should bound the total body bytes")
+    void testByteBound() {
+        ResponseCache cache = new ResponseCache(1000, 64 * 1024, Duration.ofMinutes(1));
+        for (int i = 0; i < 50; i++) {
+            cache.put("key" + i, response(4 * 1024));
+        }
+        assertTrue(cache.size() * 4 * 1024 <= 64 * 1024, "size was " + cache.size());
+    }
+
+    @Test
+    @DisplayName("Should not admit responses larger than the entry limit")
+    void testOversizedEntryRejected() {
+        ResponseCache cache = new ResponseCache(10, 16 * 1024, Duration.ofMinutes(1));
+        cache.put("big", response((int) cache.getMaxEntryBytes() + 1));
+        assertNull(cache.get("big"));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive bounds")
+    void testInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new ResponseCache(0, 1024, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new ResponseCache(10, 1024, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("A new cache should be served from the disk tier and keep the original expiry")
+    void testDiskTier(@TempDir Path dir) throws Exception {
+        byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+        try (DiskCache disk = DiskCache.open(dir, 1024 * 1024, Duration.ofMinutes(1))) {
+            new ResponseCache(10, 1024 * 1024, Duration.ofMinutes(1), disk)
+                    .put("GET https://example.org/a", new CachedResponse(200, "OK", "application/json", body));
+            disk.put("GET https://example.org/old", new CachedResponse(200, "OK", null, body,
+                    System.currentTimeMillis() - Duration.ofMinutes(2).toMillis()));
+        }
+
+        try (DiskCache disk = DiskCache.open(dir, 1024 * 1024, Duration.ofMinutes(1))) {
+            ResponseCache cache = new ResponseCache(10, 1024 * 1024, Duration.ofMinutes(1), disk);
+            assertArrayEquals(body, cache.get("GET https://example.org/a").getBody());
+            assertEquals(1, cache.size());
+            assertNull(cache.get("GET https://example.org/old"));
+        }
+    }
+
+    @Test
+    @DisplayName("Entries should stay retrievable but not fresh during their own stale window only")
+    void testStaleWindow() throws InterruptedException {
+        ResponseCache cache = new ResponseCache(10, 1024 * 1024, Duration.ofMillis(50));
+        cache.put("stale", new CachedResponse(200, "OK", null, new byte[10], System.currentTimeMillis(), 150));
+        cache.put("plain", response(10));
+        assertTrue(cache.isFresh(cache.get("stale")));
+
+        Thread.sleep(100);
+        CachedResponse stale = cache.get("stale");
+        assertNotNull(stale);
+        assertFalse(cache.isFresh(stale));
+        assertNull(cache.get("plain"));
+
+        Thread.sleep(150);
+        assertNull(cache.get("stale"));
+    }
+}
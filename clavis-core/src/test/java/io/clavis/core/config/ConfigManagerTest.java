@@ -82,4 +82,39 @@ class ConfigManagerTest {
         ConfigManager config = ConfigManager.getInstance();
         assertEquals(60, config.getCacheTtlMinutes());
     }
+
+    @Test
+    @DisplayName("isDiskCacheEnabled() should return default false")
+    void testDiskCacheDisabledByDefault() {
+        ConfigManager config = ConfigManager.getInstance();
+        assertFalse(config.isDiskCacheEnabled());
+    }
+
+    @Test
+    @DisplayName("Tool result cache should default to disabled with a 10 minute TTL")
+    void testToolCacheDefaults() {
+        ConfigManager config = ConfigManager.getInstance();
+        assertFalse(config.isToolCacheEnabled());
+        assertEquals(10, config.getToolCacheTtlMinutes());
+        assertEquals(32, config.getToolCacheMaxSizeMb());
+    }
+
+    @Test
+    @DisplayName("Negative cache TTL should fall back to the default for modules without an override")
+    void testNegativeCacheDefaults() {
+        ConfigManager config = ConfigManager.getInstance();
+        assertTrue(config.isNegativeCacheEnabled());
+        assertEquals(300, config.getNegativeCacheTtlSeconds(null));
+        assertEquals(300, config.getNegativeCacheTtlSeconds("uniprot"));
+    }
+
+    @Test
+    @DisplayName("Stale window should default to off, except four hours for slow-changing reference modules")
+    void testCacheStaleDefaults() {
+        ConfigManager config = ConfigManager.getInstance();
+        assertEquals(0, config.getCacheStaleMinutes(null));
+        assertEquals(0, config.getCacheStaleMinutes("openfda"));
+        assertEquals(240, config.getCacheStaleMinutes("uniprot"));
+        assertEquals(240, config.getCacheStaleMinutes("PharmVar"));
+    }
 }
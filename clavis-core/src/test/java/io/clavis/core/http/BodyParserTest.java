@@ -0,0 +1,130 @@
+package io.clavis.core.http;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BodyParser}.
+ */
+class BodyParserTest {
+
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private static Response response(ResponseBody body) {
+        return new Response.Builder()
+                .request(new Request.Builder().url("https://example.org/").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(body)
+                .build();
+    }
+
+    /** Body that returns its text, then fails as if the connection dropped. */
+    private static ResponseBody truncated(String text) {
+        Buffer buffer = new Buffer().writeUtf8(text);
+        ForwardingSource source = new ForwardingSource(buffer) {
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                long read = super.read(sink, byteCount);
+                if (read == -1) {
+                    throw new IOException("connection reset");
+                }
+                return read;
+            }
+        };
+        return ResponseBody.create(Okio.buffer(source), JSON, -1);
+    }
+
+    private static JsonObject readObject(Reader body) throws IOException {
+        JsonReader json = new JsonReader(body);
+        JsonObject result = new JsonObject();
+        json.beginObject();
+        while (json.hasNext()) {
+            result.addProperty(json.nextName(), json.nextString());
+        }
+        json.endObject();
+        return result;
+    }
+
+    @Test
+    @DisplayName("Should stream a well-formed body through the parser")
+    void testParses() throws IOException {
+        try (Response response = response(ResponseBody.create("{\"id\":\"P04637\"}", JSON))) {
+            assertEquals("P04637", BodyParser.parse(response, BodyParserTest::readObject).get("id").getAsString());
+        }
+    }
+
+    @Test
+    @DisplayName("A malformed body should be reported as a non-retryable parse failure")
+    void testMalformedBody() {
+        try (Response response = response(ResponseBody.create("{\"id\":}", JSON))) {
+            ResponseParseException e = assertThrows(ResponseParseException.class,
+                    () -> BodyParser.parse(response, BodyParserTest::readObject));
+            assertFalse(RetryPolicy.isTransient(e));
+        }
+    }
+
+    @Test
+    @DisplayName("A failure reading the body should stay a retryable I/O error")
+    void testReadFailure() {
+        try (Response response = response(truncated("{\"id\":\"P04"))) {
+            IOException e = assertThrows(IOException.class,
+                    () -> BodyParser.parse(response, BodyParserTest::readObject));
+            assertEquals("connection reset", e.getMessage());
+            assertTrue(RetryPolicy.isTransient(e));
+        }
+    }
+
+    @Test
+    @DisplayName("A read failure wrapped by the parser should be unwrapped")
+    void testWrappedReadFailure() {
+        try (Response response = response(truncated("{\"id\":\"P04"))) {
+            IOException e = assertThrows(IOException.class,
+                    () -> BodyParser.parse(response, body -> JsonParser.parseReader(body)));
+            assertEquals("connection reset", e.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("A body cut off mid-stream should fail even if the parser swallows the error")
+    void testSwallowedReadFailure() {
+        BodyParser<JsonObject> lenient = body -> {
+            try {
+                return readObject(body);
+            } catch (IOException e) {
+                return new JsonObject();
+            }
+        };
+        try (Response response = response(truncated("{\"id\":\"P04637\",\"name\":\"TP"))) {
+            IOException e = assertThrows(IOException.class, () -> BodyParser.parse(response, lenient));
+            assertEquals("connection reset", e.getMessage());
+            assertTrue(RetryPolicy.isTransient(e));
+        }
+    }
+
+    @Test
+    @DisplayName("A body of the wrong shape should be reported as a parse failure")
+    void testWrongShape() {
+        try (Response response = response(ResponseBody.create("[1, 2]", JSON))) {
+            assertThrows(ResponseParseException.class,
+                    () -> BodyParser.parse(response, body -> JsonParser.parseReader(body).getAsJsonObject()));
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package io.clavis.core.http;
+
+import io.clavis.core.cache.NegativeCache;
+import io.clavis.core.cache.ResponseCache;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CacheInterceptor} and {@link RequestKey}.
+ */
+class CacheInterceptorTest {
+
+    /** Stands in for the network: answers every call without proceeding. */
+    private static final class FakeUpstream implements Interceptor {
+        final AtomicInteger calls = new AtomicInteger();
+        volatile int code = 200;
+
+        @Override
+        public Response intercept(Chain chain) {
+            int n = calls.incrementAndGet();
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(code)
+                    .message("test")
+                    .body(ResponseBody.create("body-" + n, MediaType.get("text/plain")))
+                    .build();
+        }
+    }
+
+    private final FakeUpstream upstream = new FakeUpstream();
+    private final RateLimiter rateLimiter = new RateLimiter(100);
+    private final OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(new CacheInterceptor(new ResponseCache(100, 1024 * 1024, Duration.ofMinutes(1))))
+            .addInterceptor(new RateLimitInterceptor(rateLimiter, new QueueWaitStats("test")))
+            .addInterceptor(upstream)
+            .build();
+
+    private String get(String url) throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(url).build()).execute()) {
+            return response.body().string();
+        }
+    }
+
+    @Test
+    @DisplayName("Repeated GETs should be served from cache without consuming tokens")
+    void testRepeatedGetIsCached() throws IOException {
+        assertEquals("body-1", get("https://example.org/a?x=1"));
+        int tokensAfterMiss = rateLimiter.getAvailableTokens();
+
+        assertEquals("body-1", get("https://example.org/a?x=1"));
+        assertEquals(1, upstream.calls.get());
+        assertEquals(tokensAfterMiss, rateLimiter.getAvailableTokens());
+    }
+
+    @Test
+    @DisplayName("Query parameter order and credentials should not affect the key")
+    void testCanonicalKey() throws IOException {
+        get("https://example.org/a?b=2&a=1&api_key=secret");
+        assertEquals("body-1", get("https://example.org/a?a=1&b=2"));
+        assertEquals(1, upstream.calls.get());
+        assertFalse(RequestKey.of(new Request.Builder().url("https://example.org/?api_key=secret").build())
+                .contains("secret"));
+    }
+
+    @Test
+    @DisplayName("Accept header should be part of the key")
+    void testAcceptHeaderVaries() {
+        Request json = new Request.Builder().url("https://example.org/a").header("Accept", "application/json").build();
+        Request xml = new Request.Builder().url("https://example.org/a").header("Accept", "application/xml").build();
+        assertNotEquals(RequestKey.of(json), RequestKey.of(xml));
+    }
+
+    @Test
+    @DisplayName("Error responses should not be cached")
+    void testErrorsNotCached() throws IOException {
+        upstream.code = 500;
+        get("https://example.org/err");
+        get("https://example.org/err");
+        assertEquals(2, upstream.calls.get());
+    }
+
+    @Test
+    @DisplayName("Not-found responses should be cached for the negative TTL")
+    void testNotFoundCached() throws Exception {
+        NegativeCache negativeCache = new NegativeCache(100);
+        OkHttpClient negativeClient = new OkHttpClient.Builder()
+                .addInterceptor(new CacheInterceptor(new ResponseCache(100, 1024 * 1024, Duration.ofMinutes(1)),
+                        negativeCache, Duration.ofMillis(200)))
+                .addInterceptor(upstream)
+                .build();
+        upstream.code = 404;
+
+        for (int i = 0; i < 3; i++) {
+            try (Response response = negativeClient.newCall(
+                    new Request.Builder().url("https://example.org/uniprotkb/P99999").build()).execute()) {
+                assertEquals(404, response.code());
+                assertEquals("body-1", response.body().string());
+            }
+        }
+        assertEquals(1, upstream.calls.get());
+        assertEquals(2, negativeCache.getHitCount());
+
+        Thread.sleep(300);
+        try (Response response = negativeClient.newCall(
+                new Request.Builder().url("https://example.org/uniprotkb/P99999").build()).execute()) {
+            assertEquals("body-2", response.body().string());
+        }
+    }
+
+    @Test
+    @DisplayName("Not-found responses should not be cached without a negative cache")
+    void testNotFoundNotCachedByDefault() throws IOException {
+        upstream.code = 404;
+        get("https://example.org/missing");
+        get("https://example.org/missing");
+        assertEquals(2, upstream.calls.get());
+    }
+
+    private static String getVia(OkHttpClient client, String url, String[] cacheStatus) throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(url).build()).execute()) {
+            cacheStatus[0] = response.header(CacheInterceptor.CACHE_HEADER);
+            return response.body().string();
+        }
+    }
+
+    @Test
+    @DisplayName("Stale responses should be served at once and refreshed in the background")
+    void testStaleWhileRevalidate() throws Exception {
+        OkHttpClient staleClient = new OkHttpClient.Builder()
+                .addInterceptor(new CacheInterceptor(new ResponseCache(100, 1024 * 1024, Duration.ofMillis(100)),
+                        null, Duration.ZERO, Duration.ofMinutes(1)))
+                .addInterceptor(new RateLimitInterceptor(rateLimiter, new QueueWaitStats("test")))
+                .addInterceptor(upstream)
+                .build();
+        String[] status = new String[1];
+
+        assertEquals("body-1", getVia(staleClient, "https://example.org/uniprotkb/P04637", status));
+        assertNull(status[0]);
+        Thread.sleep(150);
+
+        assertEquals("body-1", getVia(staleClient, "https://example.org/uniprotkb/P04637", status));
+        assertEquals("STALE", status[0]);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (upstream.calls.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, upstream.calls.get());
+
+        deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String body;
+        do {
+            body = getVia(staleClient, "https://example.org/uniprotkb/P04637", status);
+        } while (!"body-2".equals(body) && System.nanoTime() < deadline);
+        assertEquals("body-2", body);
+        assertEquals("HIT", status[0]);
+        assertEquals(2, upstream.calls.get());
+    }
+
+    @Test
+    @DisplayName("Responses past the client's stale window should be fetched before returning")
+    void testPastStaleWindowBlocks() throws Exception {
+        OkHttpClient staleClient = new OkHttpClient.Builder()
+                .addInterceptor(new CacheInterceptor(new ResponseCache(100, 1024 * 1024, Duration.ofMillis(100)),
+                        null, Duration.ZERO, Duration.ofMillis(50)))
+                .addInterceptor(upstream)
+                .build();
+        String[] status = new String[1];
+
+        getVia(staleClient, "https://example.org/a", status);
+        Thread.sleep(200);
+
+        assertEquals("body-2", getVia(staleClient, "https://example.org/a", status));
+        assertNull(status[0]);
+        assertEquals(2, upstream.calls.get());
+    }
+
+    @Test
+    @DisplayName("Refreshes should not hold the dispatcher's host slots that their own downstream calls need")
+    void testRefreshesDoNotStarveDispatcher() throws Exception {
+        int keys = 20;
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(16);
+        OkHttpClient backup = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .addInterceptor(upstream)
+                .build();
+        AtomicBoolean holdRefreshes = new AtomicBoolean();
+        CountDownLatch allStale = new CountDownLatch(1);
+        AtomicInteger starved = new AtomicInteger();
+        // Like a hedged call: the network step waits on a call enqueued on the same dispatcher
+        Interceptor nested = chain -> {
+            if (holdRefreshes.get()) {
+                try {
+                    allStale.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            CompletableFuture<Response> result = new CompletableFuture<>();
+            backup.newCall(chain.request()).enqueue(new Callback() {
+                @Override
+                public void onResponse(Call call, Response response) {
+                    result.complete(response);
+                }
+
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            try {
+                return result.get(2, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                starved.incrementAndGet();
+                throw new IOException("Nested call did not run", e);
+            }
+        };
+        OkHttpClient staleClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .addInterceptor(new CacheInterceptor(new ResponseCache(100, 1024 * 1024, Duration.ofMillis(100)),
+                        null, Duration.ZERO, Duration.ofMinutes(1)))
+                .addInterceptor(nested)
+                .build();
+        String[] status = new String[1];
+        for (int i = 0; i < keys; i++) {
+            getVia(staleClient, "https://example.org/key/" + i, status);
+        }
+        Thread.sleep(150);
+
+        // Every key goes stale at once, so all refreshes are in flight together
+        holdRefreshes.set(true);
+        for (int i = 0; i < keys; i++) {
+            getVia(staleClient, "https://example.org/key/" + i, status);
+            assertEquals("STALE", status[0]);
+        }
+        allStale.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        int refreshed = 0;
+        while (refreshed < keys && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            refreshed = 0;
+            for (int i = 0; i < keys; i++) {
+                getVia(staleClient, "https://example.org/key/" + i, status);
+                if ("HIT".equals(status[0])) {
+                    refreshed++;
+                }
+            }
+        }
+        assertEquals(keys, refreshed);
+        assertEquals(0, starved.get());
+        assertEquals(2 * keys, upstream.calls.get());
+    }
+}
@@ -0,0 +1,124 @@
+package io.clavis.core.http;
+
+import io.clavis.core.config.ConfigManager;
+import io.clavis.core.exception.ApiException;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link CircuitBreakerInterceptor}.
+ */
+class CircuitBreakerInterceptorTest {
+
+    /** Stands in for the network: answers every call without proceeding. */
+    private static final class FakeUpstream implements Interceptor {
+        final AtomicInteger calls = new AtomicInteger();
+        volatile int code = 200;
+
+        @Override
+        public Response intercept(Chain chain) {
+            calls.incrementAndGet();
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(code)
+                    .message("test")
+                    .body(ResponseBody.create("ok", MediaType.get("text/plain")))
+                    .build();
+        }
+    }
+
+    private final FakeUpstream upstream = new FakeUpstream();
+    private final RateLimiter rateLimiter = new RateLimiter(100);
+    private final CircuitBreakerRegistry registry = new CircuitBreakerRegistry(config());
+    private final OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(new CircuitBreakerInterceptor(registry))
+            .addInterceptor(new RateLimitInterceptor(rateLimiter, new QueueWaitStats("test")))
+            .addInterceptor(upstream)
+            .build();
+
+    private static ConfigManager config() {
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.getCircuitFailureRateThreshold()).thenReturn(50);
+        when(config.getCircuitSlowCallMillis()).thenReturn(50);
+        when(config.getCircuitSlowCallRateThreshold()).thenReturn(80);
+        when(config.getCircuitOpenSeconds()).thenReturn(30);
+        return config;
+    }
+
+    private int get(String url) throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(url).build()).execute()) {
+            return response.code();
+        }
+    }
+
+    @Test
+    @DisplayName("Server errors should open the host's circuit and then fail fast")
+    void testOpensAndFailsFast() throws IOException {
+        upstream.code = 503;
+        for (int i = 0; i < 10; i++) {
+            get("https://down.example.org/a");
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, registry.forHost("down.example.org").getState());
+        assertThrows(CircuitOpenException.class, () -> get("https://down.example.org/b"));
+        assertEquals(10, upstream.calls.get());
+
+        upstream.code = 200;
+        assertEquals(200, get("https://up.example.org/a"));
+    }
+
+    @Test
+    @DisplayName("Client errors should not count as failures")
+    void testClientErrorsIgnored() throws IOException {
+        upstream.code = 404;
+        for (int i = 0; i < 10; i++) {
+            get("https://example.org/missing");
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, registry.forHost("example.org").getState());
+        assertEquals(0.0, registry.forHost("example.org").getFailureRate());
+    }
+
+    @Test
+    @DisplayName("Time spent waiting for a rate-limit permit should not count as slow")
+    void testRateLimitWaitNotSlow() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.pause(80);
+            get("https://example.org/queued");
+        }
+        assertEquals(0.0, registry.forHost("example.org").getSlowCallRate());
+    }
+
+    @Test
+    @DisplayName("Retry policy should surface an open circuit as an ApiException without retrying")
+    void testRetryPolicyFailsFast() throws IOException {
+        upstream.code = 500;
+        for (int i = 0; i < 10; i++) {
+            get("https://down.example.org/a");
+        }
+        AtomicInteger attempts = new AtomicInteger();
+        RetryPolicy policy = new RetryPolicy(3, Duration.ofMillis(1));
+
+        ApiException e = assertThrows(ApiException.class, () -> policy.execute(() -> {
+            attempts.incrementAndGet();
+            return get("https://down.example.org/a");
+        }));
+        assertEquals(1, attempts.get());
+        assertTrue(e.getMessage().contains("Circuit breaker open for down.example.org"));
+    }
+}
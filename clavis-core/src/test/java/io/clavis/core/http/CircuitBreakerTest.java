@@ -0,0 +1,157 @@
+package io.clavis.core.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CircuitBreaker}.
+ */
+class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker breaker() {
+        return CircuitBreaker.builder("example.org")
+                .windowSize(10)
+                .minimumCalls(4)
+                .failureRateThreshold(50)
+                .slowCallThreshold(Duration.ofSeconds(1))
+                .slowCallRateThreshold(75)
+                .openDuration(Duration.ofSeconds(30))
+                .halfOpenCalls(2)
+                .clock(now::get)
+                .build();
+    }
+
+    private static void call(CircuitBreaker breaker, long durationNanos, boolean failure) {
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onResult(durationNanos, failure);
+    }
+
+    private CircuitBreaker opened() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            call(breaker, FAST, true);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+
+    @Test
+    @DisplayName("Circuit should stay closed below the minimum number of calls")
+    void testMinimumCalls() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 3; i++) {
+            call(breaker, FAST, true);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(-1, breaker.getFailureRate());
+    }
+
+    @Test
+    @DisplayName("Circuit should open when the failure rate reaches the threshold")
+    void testOpensOnFailureRate() {
+        CircuitBreaker breaker = breaker();
+        call(breaker, FAST, false);
+        call(breaker, FAST, false);
+        call(breaker, FAST, true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        call(breaker, FAST, true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, breaker.getOpenTransitions());
+    }
+
+    @Test
+    @DisplayName("Circuit should open when the slow-call rate reaches the threshold")
+    void testOpensOnSlowCallRate() {
+        CircuitBreaker breaker = breaker();
+        call(breaker, FAST, false);
+        for (int i = 0; i < 3; i++) {
+            call(breaker, SLOW, false);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Old outcomes should slide out of the window")
+    void testSlidingWindow() {
+        CircuitBreaker breaker = breaker();
+        call(breaker, FAST, true);
+        for (int i = 0; i < 10; i++) {
+            call(breaker, FAST, false);
+        }
+        assertEquals(0.0, breaker.getFailureRate());
+        assertEquals(10, breaker.getBufferedCalls());
+    }
+
+    @Test
+    @DisplayName("Open circuit should reject calls until the open duration elapses")
+    void testOpenRejects() {
+        CircuitBreaker breaker = opened();
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1, breaker.getNotPermittedCalls());
+        assertEquals(30_000, breaker.getRemainingOpenMillis());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Half-open circuit should close after successful trial calls")
+    void testHalfOpenCloses() {
+        CircuitBreaker breaker = opened();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.onResult(FAST, false);
+        breaker.onResult(FAST, false);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getBufferedCalls());
+    }
+
+    @Test
+    @DisplayName("Half-open circuit should reopen on a failed or slow trial call")
+    void testHalfOpenReopens() {
+        CircuitBreaker breaker = opened();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        call(breaker, SLOW, false);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(2, breaker.getOpenTransitions());
+    }
+
+    @Test
+    @DisplayName("Ignored trial calls should release their half-open permit")
+    void testIgnoredReleasesPermit() {
+        CircuitBreaker breaker = opened();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onIgnored();
+
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("Builder should reject invalid thresholds")
+    void testBuilderValidation() {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder("x").failureRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder("x").slowCallRateThreshold(101));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder("x").windowSize(0));
+    }
+}
@@ -0,0 +1,263 @@
+package io.clavis.core.http;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HedgingInterceptor}.
+ */
+class HedgingInterceptorTest {
+
+    /** Stands in for the network: each call answers after a queued delay. */
+    private static final class FakeUpstream implements Interceptor {
+        final AtomicInteger calls = new AtomicInteger();
+        final Queue<Long> delays = new ConcurrentLinkedQueue<>();
+        final Queue<Integer> codes = new ConcurrentLinkedQueue<>();
+        final CountDownLatch never = new CountDownLatch(1);
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            int n = calls.incrementAndGet();
+            Long delay = delays.poll();
+            Integer code = codes.poll();
+            if (delay != null) {
+                try {
+                    never.await(delay, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(code != null ? code : 200)
+                    .message(code != null ? "Error" : "OK")
+                    .body(ResponseBody.create("body-" + n, MediaType.get("text/plain")))
+                    .build();
+        }
+    }
+
+    private final FakeUpstream upstream = new FakeUpstream();
+    private final RateLimiter rateLimiter = new RateLimiter(1);
+    private final HedgingInterceptor hedging = new HedgingInterceptor("test", request -> rateLimiter,
+            new RetryBudget(1.0, 0), new OkHttpClient.Builder().addInterceptor(upstream).build());
+    private final OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(hedging)
+            .addInterceptor(upstream)
+            .build();
+
+    private Response get() throws IOException {
+        Response response = client.newCall(new Request.Builder().url("https://example.org/slow").build()).execute();
+        response.body().bytes();
+        return response;
+    }
+
+    private void warmUp() throws IOException {
+        for (int i = 0; i < HedgingInterceptor.MIN_SAMPLES; i++) {
+            get();
+        }
+        assertEquals(HedgingInterceptor.MIN_DELAY_MILLIS, hedging.getHedgeDelayMillis("example.org"));
+    }
+
+    @Test
+    @DisplayName("Requests should not be hedged before enough latencies are observed")
+    void testNoHedgeWithoutHistory() throws IOException {
+        upstream.delays.add(200L);
+        get();
+        assertEquals(1, upstream.calls.get());
+        assertEquals(0, hedging.getHedgesSent());
+        assertEquals(-1, hedging.getHedgeDelayMillis("example.org"));
+    }
+
+    @Test
+    @DisplayName("A slow primary should be hedged and the faster backup used")
+    void testHedgeWins() throws IOException {
+        warmUp();
+        int tokensBefore = rateLimiter.getAvailableTokens();
+        upstream.delays.add(2000L);
+        upstream.delays.add(0L);
+
+        long start = System.nanoTime();
+        Response response = get();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals("WON", response.header(HedgingInterceptor.HEDGE_HEADER));
+        assertTrue(elapsedMillis < 1500, "took " + elapsedMillis + "ms");
+        assertEquals(1, hedging.getHedgesSent());
+        assertEquals(1, hedging.getHedgesWon());
+        assertTrue(rateLimiter.getAvailableTokens() < tokensBefore);
+    }
+
+    @Test
+    @DisplayName("A backup answering 503 should not win while the primary is pending")
+    void testFailedHedgeDoesNotWin() throws IOException {
+        warmUp();
+        upstream.delays.add(400L);
+        upstream.codes.add(200);
+        upstream.delays.add(0L);
+        upstream.codes.add(503);
+
+        Response response = get();
+
+        assertEquals(200, response.code());
+        assertNull(response.header(HedgingInterceptor.HEDGE_HEADER));
+        assertEquals(1, hedging.getHedgesSent());
+        assertEquals(0, hedging.getHedgesWon());
+    }
+
+    @Test
+    @DisplayName("Attempts should not queue behind an async caller on a saturated dispatcher")
+    void testAsyncCallerOnSaturatedDispatcher() throws Exception {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(1);
+        OkHttpClient downstream = new OkHttpClient.Builder().dispatcher(dispatcher).addInterceptor(upstream).build();
+        OkHttpClient hedged = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .addInterceptor(new HedgingInterceptor("test-async", request -> rateLimiter,
+                        new RetryBudget(1.0, 0), downstream))
+                .addInterceptor(upstream)
+                .build();
+        CompletableFuture<Integer> code = new CompletableFuture<>();
+
+        hedged.newCall(new Request.Builder().url("https://example.org/slow").build()).enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                code.complete(response.code());
+                response.close();
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                code.completeExceptionally(e);
+            }
+        });
+
+        assertEquals(200, code.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Attempt threads should be bounded; further requests run unhedged on their caller's thread")
+    void testAttemptThreadsBounded() throws Exception {
+        int callers = HedgingInterceptor.MAX_ATTEMPT_THREADS + 8;
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger onCallerThreads = new AtomicInteger();
+        Interceptor blocking = chain -> {
+            if (!Thread.currentThread().getName().startsWith("clavis-hedge-")) {
+                onCallerThreads.incrementAndGet();
+            }
+            inFlight.incrementAndGet();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create("ok", MediaType.get("text/plain")))
+                    .build();
+        };
+        OkHttpClient bounded = new OkHttpClient.Builder()
+                .addInterceptor(new HedgingInterceptor("test-bounded", request -> rateLimiter,
+                        new RetryBudget(1.0, 0), new OkHttpClient.Builder().addInterceptor(blocking).build()))
+                .addInterceptor(blocking)
+                .build();
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Integer>> codes = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                codes.add(pool.submit(() -> {
+                    try (Response response = bounded.newCall(
+                            new Request.Builder().url("https://example.org/burst").build()).execute()) {
+                        return response.code();
+                    }
+                }));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (inFlight.get() < callers && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(callers, inFlight.get());
+            assertTrue(onCallerThreads.get() >= 8, "only " + onCallerThreads.get() + " ran on callers");
+
+            release.countDown();
+            for (Future<Integer> code : codes) {
+                assertEquals(200, code.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("No hedge should be sent when the rate limiter has no token available")
+    void testHedgeDeniedWithoutToken() throws IOException {
+        warmUp();
+        while (rateLimiter.tryAcquire()) {
+            // Drain the bucket
+        }
+        upstream.delays.add(150L);
+        int callsBefore = upstream.calls.get();
+
+        Response response = get();
+
+        assertNull(response.header(HedgingInterceptor.HEDGE_HEADER));
+        assertEquals(callsBefore + 1, upstream.calls.get());
+        assertEquals(1, hedging.getHedgesDenied());
+    }
+
+    @Test
+    @DisplayName("Non-idempotent requests should pass through unhedged")
+    void testPostNotHedged() throws IOException {
+        warmUp();
+        upstream.delays.add(150L);
+        Request post = new Request.Builder().url("https://example.org/slow")
+                .post(RequestBody.create("{}", MediaType.get("application/json"))).build();
+        int callsBefore = upstream.calls.get();
+        try (Response response = client.newCall(post).execute()) {
+            assertEquals(200, response.code());
+        }
+        assertEquals(callsBefore + 1, upstream.calls.get());
+        assertEquals(0, hedging.getHedgesSent());
+    }
+
+    @Test
+    @DisplayName("Latency window should report the p95 of recent samples")
+    void testLatencyWindowP95() {
+        HedgingInterceptor.LatencyWindow window = new HedgingInterceptor.LatencyWindow();
+        for (int i = 1; i <= 100; i++) {
+            window.record(i * 10L);
+        }
+        assertEquals(950, window.hedgeDelayMillis());
+    }
+}
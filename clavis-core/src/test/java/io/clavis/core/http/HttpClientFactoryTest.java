@@ -0,0 +1,43 @@
+package io.clavis.core.http;
+
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HttpClientFactory}.
+ */
+class HttpClientFactoryTest {
+
+    @Test
+    @DisplayName("Derived clients should share the root connection pool and dispatcher")
+    void testClientsShareRootResources() {
+        OkHttpClient a = HttpClientFactory.createDefault();
+        OkHttpClient b = HttpClientFactory.createDefault("test", new RateLimiter(5));
+        OkHttpClient root = HttpClientFactory.sharedClient();
+
+        assertSame(root.connectionPool(), a.connectionPool());
+        assertSame(root.connectionPool(), b.connectionPool());
+        assertSame(root.dispatcher(), a.dispatcher());
+        assertSame(root.dispatcher(), b.dispatcher());
+    }
+
+    @Test
+    @DisplayName("Derived clients should keep their own timeouts and interceptors")
+    void testClientsKeepOwnSettings() {
+        OkHttpClient plain = HttpClientFactory.create(5, 60);
+        OkHttpClient limited = HttpClientFactory.createDefault("test", new RateLimiter(5));
+        OkHttpClient unlimited = HttpClientFactory.createDefault("test");
+
+        assertEquals(5_000, plain.connectTimeoutMillis());
+        assertEquals(60_000, plain.readTimeoutMillis());
+        assertEquals(30_000, limited.readTimeoutMillis());
+        assertTrue(limited.interceptors().stream().anyMatch(RateLimitInterceptor.class::isInstance));
+        assertFalse(plain.interceptors().stream().anyMatch(RateLimitInterceptor.class::isInstance));
+        assertFalse(unlimited.interceptors().stream().anyMatch(RateLimitInterceptor.class::isInstance));
+        assertEquals(30_000, unlimited.readTimeoutMillis());
+        assertTrue(HttpClientFactory.sharedClient().interceptors().isEmpty());
+    }
+}
@@ -0,0 +1,90 @@
+package io.clavis.core.http;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RateLimitInterceptor} and {@link RateLimitHeaders}.
+ */
+class RateLimitInterceptorTest {
+
+    private static Response.Builder response(Request request, int code) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("test")
+                .body(ResponseBody.create("", null));
+    }
+
+    private static void call(RateLimiter limiter, int code, String header, String value) throws IOException {
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new RateLimitInterceptor(limiter, new QueueWaitStats("test")))
+                .addInterceptor(chain -> {
+                    Response.Builder builder = response(chain.request(), code);
+                    if (header != null) {
+                        builder.header(header, value);
+                    }
+                    return builder.build();
+                })
+                .build();
+        client.newCall(new Request.Builder().url("https://example.org/").build()).execute().close();
+    }
+
+    @Test
+    @DisplayName("HTTP 429 should back off an adaptive limiter and pause for Retry-After")
+    void testTooManyRequests() throws IOException {
+        RateLimiter limiter = new RateLimiter(10, 20);
+        call(limiter, 429, "Retry-After", "2");
+
+        assertEquals(5.0, limiter.getRate(), 1e-9);
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Successful responses should let an adaptive limiter probe upward")
+    void testSuccessProbes() throws IOException {
+        RateLimiter limiter = new RateLimiter(2, 4);
+        call(limiter, 200, null, null);
+        assertTrue(limiter.getRate() > 2.0);
+    }
+
+    @Test
+    @DisplayName("Exhausted X-RateLimit-Remaining should pause the limiter")
+    void testRemainingExhausted() throws IOException {
+        RateLimiter limiter = new RateLimiter(10, 20);
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new RateLimitInterceptor(limiter, new QueueWaitStats("test")))
+                .addInterceptor(chain -> response(chain.request(), 200)
+                        .header("X-RateLimit-Remaining", "0")
+                        .header("X-RateLimit-Reset", "5")
+                        .build())
+                .build();
+        client.newCall(new Request.Builder().url("https://example.org/").build()).execute().close();
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(10.0, limiter.getRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Retry-After should parse delta seconds and HTTP dates")
+    void testRetryAfterParsing() {
+        Request request = new Request.Builder().url("https://example.org/").build();
+        assertEquals(120_000, RateLimitHeaders.retryAfterMillis(
+                response(request, 429).header("Retry-After", "120").build()));
+        assertEquals(0, RateLimitHeaders.retryAfterMillis(
+                response(request, 429).header("Retry-After", "Wed, 21 Oct 2015 07:28:00 GMT").build()));
+        assertEquals(-1, RateLimitHeaders.retryAfterMillis(response(request, 429).build()));
+        assertEquals(-1, RateLimitHeaders.retryAfterMillis(
+                response(request, 429).header("Retry-After", "soon").build()));
+    }
+}
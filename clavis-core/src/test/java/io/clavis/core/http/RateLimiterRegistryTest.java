@@ -0,0 +1,115 @@
+package io.clavis.core.http;
+
+import io.clavis.core.config.ConfigManager;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link RateLimiterRegistry}.
+ */
+class RateLimiterRegistryTest {
+
+    private static RateLimiterRegistry registry(boolean ncbiKeySet) {
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.isSet("NCBI_API_KEY")).thenReturn(ncbiKeySet);
+        return new RateLimiterRegistry(config);
+    }
+
+    @Test
+    @DisplayName("Clients of the same host should share one limiter")
+    void testSameHostSharesLimiter() {
+        RateLimiterRegistry registry = registry(false);
+        RateLimiter a = registry.forHost("www.ebi.ac.uk", 5);
+        RateLimiter b = registry.forHost("WWW.EBI.AC.UK", 10);
+
+        assertSame(a, b);
+        assertNotSame(a, registry.forHost("rest.uniprot.org", 5));
+        assertEquals(5, a.getAvailableTokens());
+    }
+
+    @Test
+    @DisplayName("E-utilities should get 3 req/s without an API key")
+    void testEutilsWithoutKey() {
+        RateLimiter limiter = registry(false).forHost(RateLimiterRegistry.NCBI_EUTILS_HOST, 10);
+        assertEquals(3, limiter.getAvailableTokens());
+    }
+
+    @Test
+    @DisplayName("E-utilities should get 10 req/s when NCBI_API_KEY is set")
+    void testEutilsWithKey() {
+        RateLimiter limiter = registry(true).forHost(RateLimiterRegistry.NCBI_EUTILS_HOST, 3);
+        assertEquals(10, limiter.getAvailableTokens());
+    }
+
+    @Test
+    @DisplayName("Host-scoped clients should share the bucket but keep per-module wait stats")
+    void testHostScopedInterceptor() throws IOException {
+        RateLimiterRegistry registry = registry(false);
+        Interceptor upstream = chain -> new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create("", null))
+                .build();
+        OkHttpClient pubmed = new OkHttpClient.Builder()
+                .addInterceptor(RateLimitInterceptor.hostScoped(registry, 3, registry.waitStats("pubmed")))
+                .addInterceptor(upstream)
+                .build();
+        OkHttpClient clinvar = new OkHttpClient.Builder()
+                .addInterceptor(RateLimitInterceptor.hostScoped(registry, 3, registry.waitStats("clinvar")))
+                .addInterceptor(upstream)
+                .build();
+
+        String url = "https://" + RateLimiterRegistry.NCBI_EUTILS_HOST + "/entrez/eutils/esearch.fcgi";
+        pubmed.newCall(new Request.Builder().url(url).build()).execute().close();
+        pubmed.newCall(new Request.Builder().url(url).build()).execute().close();
+        clinvar.newCall(new Request.Builder().url(url).build()).execute().close();
+
+        assertEquals(0, registry.forHost(RateLimiterRegistry.NCBI_EUTILS_HOST, 3).getAvailableTokens());
+        assertEquals(2, registry.waitStats("pubmed").getAcquisitions());
+        assertEquals(1, registry.waitStats("clinvar").getAcquisitions());
+        assertEquals(2, registry.allWaitStats().size());
+    }
+
+    @Test
+    @DisplayName("With shared rate limits enabled, limiters should be backed by bucket files")
+    void testSharedLimiters(@TempDir Path dir) {
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.isSharedRateLimitEnabled()).thenReturn(true);
+        when(config.getRateLimitDir()).thenReturn(dir.toString());
+        RateLimiterRegistry registry = new RateLimiterRegistry(config);
+
+        RateLimiter host = registry.forHost("www.ebi.ac.uk", 5);
+        RateLimiter module = registry.forModule("UniProt", new RateLimiter(1, 5));
+
+        assertInstanceOf(SharedRateLimiter.class, host);
+        assertInstanceOf(SharedRateLimiter.class, module);
+        assertSame(module, registry.forModule("uniprot", new RateLimiter(1, 5)));
+        assertEquals(5.0, module.getMaxRate(), 1e-9);
+        assertTrue(Files.exists(dir.resolve("host-www.ebi.ac.uk.bucket")));
+        assertTrue(Files.exists(dir.resolve("module-uniprot.bucket")));
+    }
+
+    @Test
+    @DisplayName("Without shared rate limits, a module should keep its own limiter")
+    void testModuleKeepsLocalLimiter() {
+        RateLimiter local = new RateLimiter(3);
+        assertSame(local, registry(false).forModule("kegg", local));
+    }
+}
@@ -3,6 +3,17 @@ package io.clavis.core.http;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -67,4 +78,180 @@ class RateLimiterTest {
         limiter.acquire(); // Should not block
         assertEquals(4, limiter.getAvailableTokens());
     }
+
+    @Test
+    @DisplayName("tokens should refill continuously, not in whole seconds")
+    void testSubSecondRefill() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(10);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        Thread.sleep(150); // one permit is due after 100ms
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("acquire() under contention should issue permits at the configured rate")
+    void testContention() throws Exception {
+        int rate = 100;
+        int threads = 8;
+        int perThread = 20;
+        RateLimiter limiter = new RateLimiter(rate);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    limiter.acquire();
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        pool.shutdown();
+
+        // 100 permits are available up front; the remaining 60 take 600ms at 100/s
+        int deficit = threads * perThread - rate;
+        long expectedMs = deficit * 1000L / rate;
+        assertTrue(elapsedMs >= expectedMs - 50, "finished too early: " + elapsedMs + "ms");
+        assertTrue(elapsedMs < expectedMs + 1000, "finished too late: " + elapsedMs + "ms");
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("acquireAsync() should complete waiters in FIFO order")
+    void testAcquireAsyncFifo() {
+        RateLimiter limiter = new RateLimiter(20);
+        while (limiter.tryAcquire()) {
+            // drain the burst
+        }
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> waiters = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            waiters.add(limiter.acquireAsync().thenRun(() -> order.add(id)));
+        }
+        assertFalse(waiters.get(0).isDone());
+        CompletableFuture.allOf(waiters.toArray(CompletableFuture<?>[]::new)).join();
+        assertEquals(List.of(0, 1, 2, 3, 4), order);
+    }
+
+    @Test
+    @DisplayName("acquireAsync() should complete immediately when a token is available")
+    void testAcquireAsyncImmediate() {
+        RateLimiter limiter = new RateLimiter(5);
+        assertTrue(limiter.acquireAsync().isDone());
+        assertEquals(4, limiter.getAvailableTokens());
+    }
+
+    @Test
+    @DisplayName("interrupted acquire() should return its reserved permit")
+    void testInterruptRefundsPermit() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(1);
+        assertTrue(limiter.tryAcquire());
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        waiter.start();
+        Thread.sleep(100);
+        waiter.interrupt();
+        waiter.join(2000);
+        assertTrue(interrupted.get());
+
+        // Without the refund the balance would still be one permit short here
+        Thread.sleep(1000);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("adaptive limiter should halve its rate when throttled")
+    void testAdaptiveBackoff() {
+        RateLimiter limiter = new RateLimiter(8, 16);
+        assertTrue(limiter.isAdaptive());
+        limiter.onThrottled(-1);
+        assertEquals(4.0, limiter.getRate(), 1e-9);
+
+        // A burst of 429s within one second backs off only once
+        limiter.onThrottled(-1);
+        assertEquals(4.0, limiter.getRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("adaptive limiter should probe additively up to its ceiling")
+    void testAdaptiveProbe() {
+        RateLimiter limiter = new RateLimiter(2, 4);
+        limiter.onSuccess();
+        assertEquals(2.5, limiter.getRate(), 1e-9);
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(4.0, limiter.getRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("fixed limiter should keep its rate but honour Retry-After")
+    void testFixedLimiterHonoursRetryAfter() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(10);
+        assertFalse(limiter.isAdaptive());
+        limiter.onThrottled(300);
+        limiter.onSuccess();
+        assertEquals(10.0, limiter.getRate(), 1e-9);
+        assertFalse(limiter.tryAcquire());
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(waitedMs >= 250, "waited only " + waitedMs + "ms");
+    }
+
+    @Test
+    @DisplayName("a pause should also delay permits that were already queued")
+    void testPauseDelaysQueuedReservations() throws Exception {
+        RateLimiter limiter = new RateLimiter(10);
+        while (limiter.tryAcquire()) {
+            // drain the burst
+        }
+        long start = System.nanoTime();
+        CompletableFuture<Void> queuedAsync = limiter.acquireAsync();
+        Thread queued = new Thread(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queued.start();
+        Thread.sleep(20);
+        limiter.pause(400);
+
+        queuedAsync.get(2, TimeUnit.SECONDS);
+        long asyncMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        queued.join(2000);
+        long blockingMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(asyncMs >= 350, "async waiter released after " + asyncMs + "ms");
+        assertTrue(blockingMs >= 350, "blocking waiter released after " + blockingMs + "ms");
+        assertFalse(queued.isAlive());
+    }
+
+    @Test
+    @DisplayName("setMaxRate() above the current rate should enable adaptation")
+    void testSetMaxRate() {
+        RateLimiter limiter = new RateLimiter(3);
+        limiter.setMaxRate(6);
+        assertTrue(limiter.isAdaptive());
+        assertEquals(6.0, limiter.getMaxRate(), 1e-9);
+    }
 }
@@ -4,6 +4,9 @@ import io.clavis.core.exception.ApiException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -30,7 +33,7 @@ class RetryPolicyTest {
 
         String result = policy.execute(() -> {
             if (attempts.incrementAndGet() < 3) {
-                throw new RuntimeException("transient failure");
+                throw new IOException("transient failure");
             }
             return "eventually succeeded";
         });
@@ -45,10 +48,138 @@ class RetryPolicyTest {
         RetryPolicy policy = new RetryPolicy(2, Duration.ofMillis(10));
 
         assertThrows(ApiException.class, () -> policy.execute(() -> {
-            throw new RuntimeException("always fails");
+            throw new IOException("always fails");
         }));
     }
 
+    @Test
+    @DisplayName("execute() should not retry programming errors")
+    void testExecuteDoesNotRetryRuntimeException() {
+        RetryPolicy policy = new RetryPolicy(3, Duration.ofMillis(10));
+        AtomicInteger attempts = new AtomicInteger(0);
+
+        assertThrows(ApiException.class, () -> policy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("bug");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("execute() should not retry 4xx responses other than 429")
+    void testExecuteDoesNotRetryClientErrors() {
+        RetryPolicy policy = new RetryPolicy(3, Duration.ofMillis(10));
+        AtomicInteger attempts = new AtomicInteger(0);
+
+        ApiException e = assertThrows(ApiException.class, () -> policy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new HttpStatusException("not found", 404);
+        }));
+        assertEquals(1, attempts.get());
+        assertEquals(404, e.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("execute() should retry 429 and 5xx responses")
+    void testExecuteRetriesThrottlingAndServerErrors() throws ApiException {
+        RetryPolicy policy = new RetryPolicy(3, Duration.ofMillis(1));
+        AtomicInteger attempts = new AtomicInteger(0);
+
+        String result = policy.execute(() -> {
+            int attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                throw new HttpStatusException("throttled", 429);
+            }
+            if (attempt == 2) {
+                throw new HttpStatusException("unavailable", 503);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("isTransient() should classify failures")
+    void testIsTransient() {
+        assertTrue(RetryPolicy.isTransient(new IOException("reset")));
+        assertTrue(RetryPolicy.isTransient(new SocketTimeoutException("timeout")));
+        assertTrue(RetryPolicy.isTransient(new HttpStatusException("bad gateway", 502)));
+        assertTrue(RetryPolicy.isTransient(new ApiException("throttled", 429)));
+        assertFalse(RetryPolicy.isTransient(new HttpStatusException("bad request", 400)));
+        assertFalse(RetryPolicy.isTransient(new ApiException("forbidden", 403)));
+        assertFalse(RetryPolicy.isTransient(new InterruptedIOException("interrupted")));
+        assertFalse(RetryPolicy.isTransient(new ResponseParseException("bad json", new IOException("eof"))));
+        assertFalse(RetryPolicy.isTransient(new RuntimeException("bug")));
+    }
+
+    @Test
+    @DisplayName("withClassifier() should replace the retry decision")
+    void testWithClassifier() throws ApiException {
+        RetryPolicy policy = new RetryPolicy(3, Duration.ofMillis(1))
+                .withClassifier(e -> e instanceof IllegalStateException);
+        AtomicInteger attempts = new AtomicInteger(0);
+
+        String result = policy.execute(() -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new IllegalStateException("flaky");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("execute() should stop retrying once the retry budget is exhausted")
+    void testExecuteStopsWhenBudgetExhausted() {
+        RetryBudget budget = new RetryBudget(0, 0);
+        while (budget.tryRetry()) {
+            // Drain the initial balance
+        }
+        RetryPolicy policy = new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(1),
+                RetryPolicy::isTransient, budget);
+        AtomicInteger attempts = new AtomicInteger(0);
+
+        ApiException e = assertThrows(ApiException.class, () -> policy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IOException("down");
+        }));
+        assertEquals(1, attempts.get());
+        assertTrue(e.getMessage().startsWith("Retry budget exhausted"));
+    }
+
+    @Test
+    @DisplayName("retry budget should earn a fraction of a retry per request")
+    void testRetryBudgetRatio() {
+        RetryBudget budget = new RetryBudget(0.25, 0);
+        while (budget.tryRetry()) {
+            // Drain the initial balance
+        }
+        for (int i = 0; i < 3; i++) {
+            budget.onRequest();
+        }
+        assertFalse(budget.tryRetry());
+        budget.onRequest();
+        assertTrue(budget.tryRetry());
+        assertFalse(budget.tryRetry());
+    }
+
+    @Test
+    @DisplayName("backoffMillis() should stay within the full-jitter bounds")
+    void testBackoffWithinJitterBounds() {
+        RetryPolicy policy = new RetryPolicy(10, Duration.ofMillis(100), Duration.ofMillis(1000),
+                RetryPolicy::isTransient, null);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(policy.backoffMillis(1) <= 100);
+            assertTrue(policy.backoffMillis(3) <= 400);
+            long capped = policy.backoffMillis(20);
+            assertTrue(capped >= 0 && capped <= 1000);
+        }
+    }
+
     @Test
     @DisplayName("defaultPolicy() should create policy with 3 retries")
     void testDefaultPolicy() {
@@ -0,0 +1,158 @@
+package io.clavis.core.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SharedRateLimiter}. Two limiters opened on one file
+ * stand in for two processes.
+ */
+class SharedRateLimiterTest {
+
+    @TempDir
+    Path dir;
+
+    private Path bucket() {
+        return dir.resolve("uniprot.bucket");
+    }
+
+    @ParameterizedTest(name = "file locks: {0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Limiters on one file should draw from one budget")
+    void testSharedBudget(boolean fileLocks) throws IOException {
+        try (SharedRateLimiter first = SharedRateLimiter.open(bucket(), 5, 5, fileLocks);
+                SharedRateLimiter second = SharedRateLimiter.open(bucket(), 5, 5, fileLocks)) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(first.tryAcquire());
+            }
+            assertEquals(2, second.getAvailableTokens());
+            assertTrue(second.tryAcquire());
+            assertTrue(second.tryAcquire());
+            assertFalse(second.tryAcquire());
+            assertFalse(first.tryAcquire());
+        }
+    }
+
+    @Test
+    @DisplayName("acquire() should wait for the permit freed by the shared refill")
+    void testAcquireWaitsForSharedRefill() throws Exception {
+        try (SharedRateLimiter first = SharedRateLimiter.open(bucket(), 10, 10);
+                SharedRateLimiter second = SharedRateLimiter.open(bucket(), 10, 10)) {
+            while (first.tryAcquire()) {
+                // Drain the bucket from one process
+            }
+            long start = System.nanoTime();
+            second.acquire();
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(waitedMillis >= 50, "waited " + waitedMillis + "ms");
+            assertTrue(waitedMillis < 1000, "waited " + waitedMillis + "ms");
+        }
+    }
+
+    @Test
+    @DisplayName("A pause reported by one process should hold back the others")
+    void testPauseIsShared() throws IOException {
+        try (SharedRateLimiter first = SharedRateLimiter.open(bucket(), 5, 5);
+                SharedRateLimiter second = SharedRateLimiter.open(bucket(), 5, 5)) {
+            first.pause(500);
+            assertFalse(second.tryAcquire());
+            assertEquals(0, second.getAvailableTokens());
+        }
+    }
+
+    @Test
+    @DisplayName("Throttling should lower the shared rate once per second")
+    void testThrottlingIsShared() throws IOException {
+        try (SharedRateLimiter first = SharedRateLimiter.open(bucket(), 8, 16);
+                SharedRateLimiter second = SharedRateLimiter.open(bucket(), 8, 16)) {
+            first.onThrottled(-1);
+            second.onThrottled(-1);
+
+            assertEquals(4.0, second.getRate(), 1e-9);
+            assertEquals(4.0, first.getRate(), 1e-9);
+
+            second.onSuccess();
+            assertEquals(4.25, first.getRate(), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("A process opening the bucket with other rates should replace them")
+    void testLastOpenerSetsRates() throws IOException {
+        try (SharedRateLimiter first = SharedRateLimiter.open(bucket(), 2, 2);
+                SharedRateLimiter second = SharedRateLimiter.open(bucket(), 10, 20)) {
+            assertEquals(10.0, first.getRate(), 1e-9);
+            assertEquals(20.0, first.getMaxRate(), 1e-9);
+            assertTrue(first.isAdaptive());
+            assertTrue(second.isAdaptive());
+
+            try (SharedRateLimiter third = SharedRateLimiter.open(bucket(), 3, 3)) {
+                assertEquals(3.0, second.getRate(), 1e-9);
+                assertEquals(3.0, second.getMaxRate(), 1e-9);
+                assertFalse(second.isAdaptive());
+                assertFalse(third.isAdaptive());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A process opening the bucket with the same rates should keep the shared rate")
+    void testSameRatesKeepSharedRate() throws IOException {
+        try (SharedRateLimiter first = SharedRateLimiter.open(bucket(), 8, 16)) {
+            first.onThrottled(-1);
+            first.setMaxRate(32);
+            try (SharedRateLimiter second = SharedRateLimiter.open(bucket(), 8, 16)) {
+                assertEquals(4.0, second.getRate(), 1e-9);
+                assertEquals(32.0, second.getMaxRate(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("An arrival time far ahead of the clock should be pulled back to the longest pause")
+    void testClockSteppedBack() throws IOException {
+        try (SharedRateLimiter limiter = SharedRateLimiter.open(bucket(), 5, 5)) {
+            // As if the bucket was last used an hour ahead of the current wall clock
+            long epochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+            ByteBuffer arrival = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder())
+                    .putLong(epochNanos + TimeUnit.HOURS.toNanos(1)).flip();
+            try (FileChannel channel = FileChannel.open(bucket(), StandardOpenOption.WRITE)) {
+                channel.write(arrival, Long.BYTES);
+            }
+
+            long waitNanos = limiter.reserve() - System.nanoTime();
+            assertTrue(waitNanos > TimeUnit.SECONDS.toNanos(100), "waits " + waitNanos + "ns");
+            assertTrue(waitNanos <= TimeUnit.MINUTES.toNanos(2) + TimeUnit.SECONDS.toNanos(2),
+                    "waits " + waitNanos + "ns");
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse a file that is not a bucket")
+    void testRejectsForeignFile() throws IOException {
+        Files.write(bucket(), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> SharedRateLimiter.open(bucket(), 5, 5));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid rates")
+    void testInvalidRates() {
+        assertThrows(IllegalArgumentException.class, () -> SharedRateLimiter.open(bucket(), 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> SharedRateLimiter.open(bucket(), 5, 2));
+    }
+}
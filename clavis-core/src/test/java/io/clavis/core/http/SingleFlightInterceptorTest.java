@@ -0,0 +1,203 @@
+package io.clavis.core.http;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SingleFlightInterceptor}.
+ */
+class SingleFlightInterceptorTest {
+
+    private static final int CALLERS = 8;
+
+    /** Stands in for the network: holds every call until released. */
+    private static final class SlowUpstream implements Interceptor {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean fail;
+        volatile ResponseBody lastBody;
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            int n = calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (fail) {
+                throw new IOException("connection reset");
+            }
+            lastBody = ResponseBody.create("body-" + n, MediaType.get("application/json"));
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(lastBody)
+                    .build();
+        }
+    }
+
+    private final SlowUpstream upstream = new SlowUpstream();
+    private final SingleFlightInterceptor singleFlight = new SingleFlightInterceptor();
+    private final OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(singleFlight)
+            .addInterceptor(upstream)
+            .build();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private String call(Request request) throws IOException {
+        try (Response response = client.newCall(request).execute()) {
+            return response.body().string();
+        }
+    }
+
+    private List<Future<String>> callConcurrently(Request request) throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> call(request)));
+        }
+        // Let every caller reach the interceptor before the upstream answers
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (upstream.calls.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+        upstream.release.countDown();
+        return results;
+    }
+
+    @Test
+    @DisplayName("Identical concurrent GETs should share one upstream call and body")
+    void testCoalescesIdenticalGets() throws Exception {
+        Request request = new Request.Builder().url("https://example.org/p?id=P04637").build();
+        List<Future<String>> results = callConcurrently(request);
+
+        for (Future<String> result : results) {
+            assertEquals("body-1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, upstream.calls.get());
+        assertEquals(1, singleFlight.getLeaderRequests());
+        assertEquals(CALLERS - 1, singleFlight.getCoalescedRequests());
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Waiters should see the leader's failure")
+    void testSharesFailure() throws Exception {
+        upstream.fail = true;
+        Request request = new Request.Builder().url("https://example.org/down").build();
+        List<Future<String>> results = callConcurrently(request);
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, e.getCause());
+        }
+        assertEquals(1, upstream.calls.get());
+    }
+
+    @Test
+    @DisplayName("Later requests should make a new call once the flight has landed")
+    void testSequentialRequestsNotCoalesced() throws IOException {
+        upstream.release.countDown();
+        Request request = new Request.Builder().url("https://example.org/p").build();
+        assertEquals("body-1", call(request));
+        assertEquals("body-2", call(request));
+        assertEquals(0, singleFlight.getCoalescedRequests());
+    }
+
+    @Test
+    @DisplayName("A request nobody joined should get the upstream body unbuffered")
+    void testLoneRequestStreams() throws IOException {
+        upstream.release.countDown();
+        Request request = new Request.Builder().url("https://example.org/p").build();
+        try (Response response = client.newCall(request).execute()) {
+            assertSame(upstream.lastBody, response.body());
+            assertEquals("body-1", response.body().string());
+        }
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    @DisplayName("POST and no-cache requests should not be coalesced")
+    void testBypass() throws Exception {
+        Request post = new Request.Builder().url("https://example.org/p")
+                .post(RequestBody.create("{}", MediaType.get("application/json"))).build();
+        Request noCache = new Request.Builder().url("https://example.org/p")
+                .header("Cache-Control", "no-cache").build();
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> call(post)));
+        results.add(executor.submit(() -> call(post)));
+        results.add(executor.submit(() -> call(noCache)));
+        results.add(executor.submit(() -> call(noCache)));
+        Thread.sleep(100);
+        upstream.release.countDown();
+
+        for (Future<String> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(4, upstream.calls.get());
+        assertEquals(0, singleFlight.getCoalescedRequests());
+    }
+
+    @Test
+    @DisplayName("A waiter should give up at its own call timeout or cancellation, not the leader's")
+    void testWaiterHonoursOwnTimeoutAndCancel() throws Exception {
+        Request request = new Request.Builder().url("https://example.org/stuck").build();
+        Future<String> leader = executor.submit(() -> call(request));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (upstream.calls.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        OkHttpClient impatient = client.newBuilder().callTimeout(300, TimeUnit.MILLISECONDS).build();
+        long start = System.nanoTime();
+        assertThrows(IOException.class, () -> impatient.newCall(request).execute());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+
+        okhttp3.Call cancelled = client.newCall(request);
+        Future<String> waiter = executor.submit(() -> {
+            try (Response response = cancelled.execute()) {
+                return response.body().string();
+            }
+        });
+        Thread.sleep(100);
+        start = System.nanoTime();
+        cancelled.cancel();
+        ExecutionException e = assertThrows(ExecutionException.class, () -> waiter.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, e.getCause());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+
+        upstream.release.countDown();
+        assertEquals("body-1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, upstream.calls.get());
+    }
+}
@@ -0,0 +1,364 @@
+package io.clavis.core.mcp;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MCPServer}.
+ */
+class MCPServerTest {
+
+    private static class TestTool implements MCPTool {
+        private final String name;
+        private final Runnable action;
+
+        TestTool(String name, Runnable action) {
+            this.name = name;
+            this.action = action;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Test tool " + name;
+        }
+
+        @Override
+        public JsonObject getInputSchema() {
+            JsonObject schema = new JsonObject();
+            schema.addProperty("type", "object");
+            return schema;
+        }
+
+        @Override
+        public JsonObject execute(JsonObject parameters) {
+            action.run();
+            JsonObject result = new JsonObject();
+            result.addProperty("tool", name);
+            return result;
+        }
+    }
+
+    private static final class PayloadTool implements MCPTool {
+        private final JsonObject payload;
+
+        PayloadTool(JsonObject payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public String getName() {
+            return "payload";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Returns a fixed payload";
+        }
+
+        @Override
+        public JsonObject getInputSchema() {
+            return new JsonObject();
+        }
+
+        @Override
+        public JsonObject execute(JsonObject parameters) {
+            return payload;
+        }
+    }
+
+    private static final class TestServer extends MCPServer {
+        private final MCPTool[] testTools;
+
+        TestServer(MCPTool... testTools) {
+            super("test", "1.0.0");
+            this.testTools = testTools;
+        }
+
+        TestServer(boolean cacheToolResults, MCPTool... testTools) {
+            super("test", "1.0.0", cacheToolResults);
+            this.testTools = testTools;
+        }
+
+        @Override
+        protected void registerTools() {
+            tools.addAll(List.of(testTools));
+        }
+    }
+
+    private static String call(int id, String tool) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":" + id
+                + ",\"method\":\"tools/call\",\"params\":{\"name\":\"" + tool + "\"}}";
+    }
+
+    private static String[] serve(MCPServer server, String... lines) throws IOException {
+        return serve(server, new StringWriter(), lines);
+    }
+
+    private static String[] serve(MCPServer server, StringWriter out, String... lines) throws IOException {
+        server.registerTools();
+        BufferedReader in = new BufferedReader(new StringReader(String.join("\n", lines)));
+        server.serve(in, new PrintWriter(out, true));
+        return out.toString().trim().split("\\R");
+    }
+
+    @Test
+    @DisplayName("serve() should not let a slow tool call block a later one")
+    void testSlowCallDoesNotBlockFastCall() throws IOException {
+        StringWriter out = new StringWriter();
+        MCPServer server = new TestServer(
+                new TestTool("slow", () -> {
+                    // Finish only once the later call has been answered
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                    while (!out.toString().contains("\"id\":2") && System.nanoTime() < deadline) {
+                        Thread.onSpinWait();
+                    }
+                }),
+                new TestTool("fast", () -> { }));
+
+        String[] responses = serve(server, out, call(1, "slow"), call(2, "fast"));
+
+        assertEquals(2, responses.length);
+        assertEquals(2, JsonParser.parseString(responses[0]).getAsJsonObject().get("id").getAsInt());
+        assertEquals(1, JsonParser.parseString(responses[1]).getAsJsonObject().get("id").getAsInt());
+    }
+
+    @Test
+    @DisplayName("serve() should answer initialize inline and skip notifications")
+    void testInitializeAndNotifications() throws IOException {
+        MCPServer server = new TestServer();
+
+        String[] responses = serve(server,
+                "{\"jsonrpc\":\"2.0\",\"id\":7,\"method\":\"initialize\"}",
+                "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}");
+
+        assertEquals(1, responses.length);
+        JsonObject response = JsonParser.parseString(responses[0]).getAsJsonObject();
+        assertEquals(7, response.get("id").getAsInt());
+        assertEquals("test", response.getAsJsonObject("result")
+                .getAsJsonObject("serverInfo").get("name").getAsString());
+    }
+
+    @Test
+    @DisplayName("Tool results should be embedded as text exactly as a separate serialization would")
+    void testToolResultMatchesDoubleSerialization() throws IOException {
+        JsonObject payload = new JsonObject();
+        payload.addProperty("quote", "say \"hi\" \\ back");
+        payload.addProperty("html", "<b>p53</b> & 'MDM2' = 1");
+        payload.addProperty("controls", "line\nbreak\ttab\u0001\u2028end");
+        payload.addProperty("unicode", "\u00e9t\u00e9 \u03b2-catenin \ud83e\uddec");
+        JsonArray values = new JsonArray();
+        values.add(1.5);
+        values.add(JsonNull.INSTANCE);
+        payload.add("values", values);
+        MCPServer server = new TestServer(new PayloadTool(payload));
+
+        String[] responses = serve(server, call(3, "payload"));
+
+        Gson gson = new Gson();
+        JsonObject textContent = new JsonObject();
+        textContent.addProperty("type", "text");
+        textContent.addProperty("text", gson.toJson(payload));
+        JsonArray content = new JsonArray();
+        content.add(textContent);
+        JsonObject result = new JsonObject();
+        result.add("content", content);
+        JsonObject expected = new JsonObject();
+        expected.addProperty("jsonrpc", "2.0");
+        expected.addProperty("id", 3);
+        expected.add("result", result);
+
+        assertEquals(1, responses.length);
+        assertEquals(gson.toJson(expected), responses[0]);
+        String text = JsonParser.parseString(responses[0]).getAsJsonObject().getAsJsonObject("result")
+                .getAsJsonArray("content").get(0).getAsJsonObject().get("text").getAsString();
+        assertEquals(payload, JsonParser.parseString(text));
+    }
+
+    private static String call(int id, String tool, String arguments) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"tools/call\",\"params\":{\"name\":\""
+                + tool + "\",\"arguments\":" + arguments + "}}";
+    }
+
+    @Test
+    @DisplayName("Repeated calls with equivalent arguments should be answered from the result cache")
+    void testToolResultCache() {
+        AtomicInteger executions = new AtomicInteger();
+        MCPServer server = new TestServer(true, new TestTool("lookup", executions::incrementAndGet));
+        server.registerTools();
+
+        String first = server.handleMessage(call(1, "lookup", "{\"id\":\"P04637\",\"limit\":10}"));
+        String second = server.handleMessage(call(2, "lookup", "{\"limit\":10.0,\"id\":\"P04637\"}"));
+        String other = server.handleMessage(call(3, "lookup", "{\"id\":\"P38398\",\"limit\":10}"));
+
+        assertEquals(2, executions.get());
+        assertEquals(first.replace("\"id\":1", "\"id\":2"), second);
+        assertTrue(other.startsWith("{\"jsonrpc\":\"2.0\",\"id\":3,"));
+        assertEquals("lookup", JsonParser.parseString(JsonParser.parseString(second).getAsJsonObject()
+                .getAsJsonObject("result").getAsJsonArray("content").get(0).getAsJsonObject()
+                .get("text").getAsString()).getAsJsonObject().get("tool").getAsString());
+    }
+
+    @Test
+    @DisplayName("Tool results should not be cached unless the cache is enabled")
+    void testToolResultCacheOffByDefault() {
+        AtomicInteger executions = new AtomicInteger();
+        MCPServer server = new TestServer(new TestTool("lookup", executions::incrementAndGet));
+        server.registerTools();
+
+        server.handleMessage(call(1, "lookup", "{\"id\":\"P04637\"}"));
+        server.handleMessage(call(2, "lookup", "{\"id\":\"P04637\"}"));
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("Cache keys should use the defaults collected at registration, not rebuild the schema")
+    void testToolResultCacheUsesRegisteredDefaults() {
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger schemaBuilds = new AtomicInteger();
+        MCPServer server = new TestServer(true, new TestTool("lookup", executions::incrementAndGet) {
+            @Override
+            public JsonObject getInputSchema() {
+                schemaBuilds.incrementAndGet();
+                return JsonParser.parseString("{\"type\":\"object\",\"properties\":{"
+                        + "\"limit\":{\"type\":\"integer\",\"default\":10}}}").getAsJsonObject();
+            }
+        });
+        server.registerTools();
+
+        server.handleMessage(call(1, "lookup", "{\"id\":\"P04637\",\"limit\":10}"));
+        server.handleMessage(call(2, "lookup", "{\"id\":\"P04637\"}"));
+
+        assertEquals(1, executions.get());
+        assertEquals(1, schemaBuilds.get());
+    }
+
+    @Test
+    @DisplayName("Tools that opt out of caching should run on every call")
+    void testToolResultCacheOptOut() {
+        AtomicInteger executions = new AtomicInteger();
+        MCPServer server = new TestServer(true, new TestTool("recalls", executions::incrementAndGet) {
+            @Override
+            public Duration getResultCacheTtl() {
+                return Duration.ZERO;
+            }
+        });
+        server.registerTools();
+
+        server.handleMessage(call(1, "recalls", "{\"query\":\"city:Boston\"}"));
+        server.handleMessage(call(2, "recalls", "{\"query\":\"city:Boston\"}"));
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("tools/list should list registered tools and reject unknown cursors")
+    void testToolsList() throws IOException {
+        MCPServer server = new TestServer(new TestTool("first", () -> { }), new TestTool("second", () -> { }));
+
+        String[] responses = serve(server,
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"tools/list\"}",
+                "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\",\"params\":{\"cursor\":\"nope\"}}");
+
+        JsonObject list = JsonParser.parseString(responses[0]).getAsJsonObject();
+        assertEquals(1, list.get("id").getAsInt());
+        JsonArray tools = list.getAsJsonObject("result").getAsJsonArray("tools");
+        assertEquals(2, tools.size());
+        assertEquals("first", tools.get(0).getAsJsonObject().get("name").getAsString());
+        assertEquals("object", tools.get(0).getAsJsonObject().getAsJsonObject("inputSchema")
+                .get("type").getAsString());
+
+        JsonObject error = JsonParser.parseString(responses[1]).getAsJsonObject();
+        assertEquals(-32602, error.getAsJsonObject("error").get("code").getAsInt());
+    }
+
+    @Test
+    @DisplayName("serve() should report malformed JSON as a parse error")
+    void testMalformedMessage() throws IOException {
+        String[] responses = serve(new TestServer(), "{not json");
+
+        JsonObject response = JsonParser.parseString(responses[0]).getAsJsonObject();
+        assertEquals(-32700, response.getAsJsonObject("error").get("code").getAsInt());
+    }
+
+    @Test
+    @DisplayName("serve() should answer a method that is not a string with an error and keep serving")
+    void testNonStringMethod() throws IOException {
+        MCPServer server = new TestServer(new TestTool("fast", () -> { }));
+
+        String[] responses = serve(server,
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":null}",
+                "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":{\"name\":\"tools/call\"}}",
+                "{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":[\"tools/call\"]}",
+                call(4, "fast"));
+
+        assertEquals(4, responses.length);
+        int errors = 0;
+        for (String line : responses) {
+            JsonObject response = JsonParser.parseString(line).getAsJsonObject();
+            int id = response.get("id").getAsInt();
+            if (response.has("error")) {
+                assertTrue(id >= 1 && id <= 3);
+                assertEquals(-32600, response.getAsJsonObject("error").get("code").getAsInt());
+                errors++;
+            } else {
+                assertEquals(4, id);
+            }
+        }
+        assertEquals(3, errors);
+    }
+
+    @Test
+    @DisplayName("serve() should report a tool that throws against that call's id")
+    void testToolFailureKeepsId() throws IOException {
+        MCPServer server = new TestServer(
+                new TestTool("broken", () -> {
+                    throw new IllegalStateException("missing argument");
+                }),
+                new TestTool("fast", () -> { }));
+
+        String[] responses = serve(server,
+                call(1, "fast"),
+                call(2, "broken"),
+                call(3, "fast"),
+                "{\"jsonrpc\":\"2.0\",\"id\":4,\"method\":\"tools/call\"}");
+
+        assertEquals(4, responses.length);
+        for (String line : responses) {
+            JsonObject response = JsonParser.parseString(line).getAsJsonObject();
+            int id = response.get("id").getAsInt();
+            if (id == 2) {
+                JsonObject result = response.getAsJsonObject("result");
+                assertTrue(result.get("isError").getAsBoolean());
+                assertTrue(result.getAsJsonArray("content").get(0).getAsJsonObject()
+                        .get("text").getAsString().contains("missing argument"));
+            } else if (id == 4) {
+                assertEquals(-32602, response.getAsJsonObject("error").get("code").getAsInt());
+            } else {
+                assertFalse(response.getAsJsonObject("result").has("isError"));
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.clavis.core.mcp;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ToolRegistry} and {@link ToolFilter}.
+ */
+class ToolRegistryTest {
+
+    private final AtomicInteger schemaBuilds = new AtomicInteger();
+    private final ToolRegistry registry = new ToolRegistry(new Gson());
+
+    private MCPTool tool(String name) {
+        return new MCPTool() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return "Tool " + name;
+            }
+
+            @Override
+            public JsonObject getInputSchema() {
+                schemaBuilds.incrementAndGet();
+                JsonObject schema = new JsonObject();
+                schema.addProperty("type", "object");
+                return schema;
+            }
+
+            @Override
+            public JsonObject execute(JsonObject parameters) {
+                return new JsonObject();
+            }
+        };
+    }
+
+    private static List<String> names(String listResult) {
+        List<String> names = new ArrayList<>();
+        JsonArray tools = JsonParser.parseString(listResult).getAsJsonObject().getAsJsonArray("tools");
+        for (JsonElement tool : tools) {
+            names.add(tool.getAsJsonObject().get("name").getAsString());
+        }
+        return names;
+    }
+
+    private static String nextCursor(String listResult) {
+        JsonObject result = JsonParser.parseString(listResult).getAsJsonObject();
+        return result.has("nextCursor") ? result.get("nextCursor").getAsString() : null;
+    }
+
+    @Test
+    @DisplayName("Tools should be found by name, the first registration winning")
+    void testFindAndDuplicates() {
+        MCPTool first = tool("s2_search");
+        registry.addAll(List.of(first, tool("search_pubmed")));
+
+        assertFalse(registry.add(tool("s2_search")));
+        assertEquals(2, registry.size());
+        assertSame(first, registry.find("s2_search", ToolFilter.ALL));
+        assertNull(registry.find("missing", ToolFilter.ALL));
+    }
+
+    @Test
+    @DisplayName("Schemas should be built once and the list result cached until the registry changes")
+    void testListResultCached() {
+        registry.add(tool("a"));
+        registry.add(tool("b"));
+
+        String first = registry.listResult(ToolFilter.ALL, null, 0);
+        assertSame(first, registry.listResult(ToolFilter.ALL, null, 0));
+        assertEquals(2, schemaBuilds.get());
+        assertEquals(List.of("a", "b"), names(first));
+        assertNull(nextCursor(first));
+
+        registry.add(tool("c"));
+        assertEquals(List.of("a", "b", "c"), names(registry.listResult(ToolFilter.ALL, null, 0)));
+        assertEquals(3, schemaBuilds.get());
+    }
+
+    @Test
+    @DisplayName("Pages should follow nextCursor through every tool in registration order")
+    void testPagination() {
+        for (int i = 0; i < 5; i++) {
+            registry.add(tool("tool" + i));
+        }
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String page = registry.listResult(ToolFilter.ALL, cursor, 2);
+            seen.addAll(names(page));
+            cursor = nextCursor(page);
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(List.of("tool0", "tool1", "tool2", "tool3", "tool4"), seen);
+        assertThrows(IllegalArgumentException.class, () -> registry.listResult(ToolFilter.ALL, "bogus", 2));
+    }
+
+    @Test
+    @DisplayName("Filters should select tools by name, wildcard, module and group")
+    void testFilters() {
+        registry.addAll(List.of(tool("s2_search"), tool("s2_get_paper"), tool("uniprot_search")));
+        registry.defineGroup("literature", "s2_*");
+
+        assertEquals(List.of("s2_search", "s2_get_paper"),
+                names(registry.listResult(ToolFilter.parse("S2_*"), null, 0)));
+        assertEquals(List.of("s2_search", "s2_get_paper"),
+                names(registry.listResult(ToolFilter.parse("literature"), null, 0)));
+        assertEquals(List.of("s2_get_paper", "uniprot_search"),
+                names(registry.listResult(ToolFilter.parse("uniprot_search, s2_get_paper"), null, 0)));
+        // Tools declared in this package belong to the "mcp" module
+        assertEquals(3, names(registry.listResult(ToolFilter.parse("mcp"), null, 0)).size());
+
+        assertNull(registry.find("uniprot_search", ToolFilter.parse("literature")));
+        assertNotNull(registry.find("s2_search", ToolFilter.parse("literature")));
+        assertTrue(ToolFilter.parse(" , ").isAll());
+    }
+}
@@ -0,0 +1,135 @@
+package io.clavis.core.mcp;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ToolResultCache}.
+ */
+class ToolResultCacheTest {
+
+    private final ToolResultCache cache = new ToolResultCache(1024 * 1024, Duration.ofMinutes(10));
+
+    /** Tool with a defaulted {@code limit} and a case-insensitive {@code accession}. */
+    private static class ProteinTool implements MCPTool {
+
+        @Override
+        public String getName() {
+            return "get_protein";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Looks up a protein";
+        }
+
+        @Override
+        public JsonObject getInputSchema() {
+            return JsonParser.parseString("{\"type\":\"object\",\"properties\":{"
+                    + "\"accession\":{\"type\":\"string\"},"
+                    + "\"limit\":{\"type\":\"integer\",\"default\":10}}}").getAsJsonObject();
+        }
+
+        @Override
+        public JsonObject canonicalArguments(JsonObject arguments) {
+            return MCPTool.upperCaseArguments(arguments, "accession");
+        }
+
+        @Override
+        public JsonObject execute(JsonObject parameters) {
+            return new JsonObject();
+        }
+    }
+
+    private static JsonObject json(String json) {
+        return JsonParser.parseString(json).getAsJsonObject();
+    }
+
+    private String key(MCPTool tool, JsonObject arguments) {
+        return cache.key(tool, ToolResultCache.argumentDefaults(tool.getInputSchema()), arguments);
+    }
+
+    @Test
+    @DisplayName("Keys should ignore member order, number formatting, schema defaults and ID case")
+    void testEquivalentArgumentsShareKey() {
+        ProteinTool tool = new ProteinTool();
+        String key = key(tool, json("{\"accession\":\"P04637\",\"limit\":10}"));
+
+        assertEquals(key, key(tool, json("{\"limit\":10,\"accession\":\"P04637\"}")));
+        assertEquals(key, key(tool, json("{\"limit\":1e1,\"accession\":\" p04637\"}")));
+        assertEquals(key, key(tool, json("{\"accession\":\"p04637\"}")));
+        assertNotEquals(key, key(tool, json("{\"accession\":\"P04637\",\"limit\":5}")));
+        assertNotEquals(key, key(tool, json("{\"accession\":\"P38398\"}")));
+    }
+
+    @Test
+    @DisplayName("Nested objects should be normalized and the caller's arguments left untouched")
+    void testNestedArguments() {
+        ProteinTool tool = new ProteinTool();
+        JsonObject arguments = json("{\"accession\":\"p04637\",\"filter\":{\"b\":[2,1],\"a\":true}}");
+
+        String key = key(tool, arguments);
+
+        assertEquals(key, key(tool, json("{\"filter\":{\"a\":true,\"b\":[2.0,1]},\"accession\":\"P04637\"}")));
+        assertNotEquals(key, key(tool, json("{\"filter\":{\"a\":true,\"b\":[1,2]},\"accession\":\"P04637\"}")));
+        assertEquals("p04637", arguments.get("accession").getAsString());
+        assertFalse(arguments.has("limit"));
+    }
+
+    @Test
+    @DisplayName("Results should be stored only for cacheable tools and within the per-entry bound")
+    void testPut() {
+        ProteinTool tool = new ProteinTool();
+        MCPTool volatileTool = new ProteinTool() {
+            @Override
+            public Duration getResultCacheTtl() {
+                return Duration.ZERO;
+            }
+        };
+        String key = key(tool, json("{\"accession\":\"P04637\"}"));
+
+        assertTrue(cache.isCacheable(tool));
+        assertFalse(cache.isCacheable(volatileTool));
+        assertNull(cache.get(key));
+
+        cache.put(tool, key, "{\"content\":[]}");
+        assertEquals("{\"content\":[]}", cache.get(key));
+
+        cache.put(volatileTool, "volatile", "{}");
+        assertNull(cache.get("volatile"));
+
+        cache.put(tool, "huge", "x".repeat(1024 * 1024 / 8));
+        assertNull(cache.get("huge"));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Entries should expire after the tool's own TTL")
+    void testToolTtl() throws InterruptedException {
+        MCPTool shortLived = new ProteinTool() {
+            @Override
+            public Duration getResultCacheTtl() {
+                return Duration.ofMillis(50);
+            }
+        };
+        String key = key(shortLived, json("{}"));
+        cache.put(shortLived, key, "{}");
+        assertNotNull(cache.get(key));
+
+        Thread.sleep(150);
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive bounds")
+    void testInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new ToolResultCache(0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new ToolResultCache(1024, Duration.ZERO));
+    }
+}
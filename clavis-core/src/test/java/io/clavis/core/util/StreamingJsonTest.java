@@ -0,0 +1,81 @@
+package io.clavis.core.util;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StreamingJson}.
+ */
+class StreamingJsonTest {
+
+    @Test
+    @DisplayName("readArrayField() should map each element and skip other fields")
+    void testReadArrayField() throws IOException {
+        String json = "{\"total\": 3, \"meta\": {\"next\": [1, 2]},"
+                + " \"data\": [{\"id\": \"a\"}, {\"id\": \"b\"}, {\"id\": \"c\"}], \"tail\": null}";
+
+        List<String> ids = StreamingJson.readArrayField(new StringReader(json), "data",
+                element -> element.getAsJsonObject().get("id").getAsString());
+
+        assertEquals(List.of("a", "b", "c"), ids);
+    }
+
+    @Test
+    @DisplayName("readArrayField() should drop elements mapped to null")
+    void testReadArrayFieldDropsNulls() throws IOException {
+        String json = "{\"data\": [1, 2, 3, 4]}";
+
+        List<Integer> even = StreamingJson.readArrayField(new StringReader(json), "data",
+                element -> element.getAsInt() % 2 == 0 ? element.getAsInt() : null);
+
+        assertEquals(List.of(2, 4), even);
+    }
+
+    @Test
+    @DisplayName("readArrayField() should return an empty list when the field is absent or not an array")
+    void testReadArrayFieldMissing() throws IOException {
+        assertTrue(StreamingJson.readArrayField(new StringReader("{\"other\": []}"), "data",
+                element -> element).isEmpty());
+        assertTrue(StreamingJson.readArrayField(new StringReader("{\"data\": {\"x\": 1}}"), "data",
+                element -> element).isEmpty());
+    }
+
+    @Test
+    @DisplayName("readArrayField() should fail on truncated input")
+    void testReadArrayFieldTruncated() {
+        assertThrows(JsonParseException.class, () -> StreamingJson.readArrayField(
+                new StringReader("{\"data\": [{\"id\": \"a\"}, {\"id\""), "data", element -> element));
+    }
+
+    @Test
+    @DisplayName("readFields() should keep only the requested fields")
+    void testReadFields() throws IOException {
+        String json = "{\"id\": \"7412\", \"history\": [{\"big\": [1, 2, 3]}],"
+                + " \"snapshot\": {\"type\": \"snv\"}, \"unused\": \"x\"}";
+
+        JsonObject result = StreamingJson.readFields(new StringReader(json), Set.of("id", "snapshot", "absent"));
+
+        assertEquals(Set.of("id", "snapshot"), result.keySet());
+        assertEquals("7412", result.get("id").getAsString());
+        assertEquals("snv", result.getAsJsonObject("snapshot").get("type").getAsString());
+    }
+
+    @Test
+    @DisplayName("readFields() should reject a body that is not an object")
+    void testReadFieldsNotObject() {
+        assertThrows(IllegalStateException.class,
+                () -> StreamingJson.readFields(new StringReader("[1, 2]"), Set.of("id")));
+        assertThrows(JsonSyntaxException.class,
+                () -> StreamingJson.readFields(new StringReader("{\"id\": [1, }"), Set.of("id")));
+    }
+}
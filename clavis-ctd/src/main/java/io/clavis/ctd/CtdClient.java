@@ -2,6 +2,7 @@ package io.clavis.ctd;
 
 import io.clavis.core.http.HttpClientFactory;
 import io.clavis.core.http.RateLimiter;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RetryPolicy;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -22,13 +23,11 @@ public class CtdClient {
     private static final String MYGENE_BASE = "https://mygene.info/v1/";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
 
     public CtdClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(10); // 10 req/s for BioThings
-        this.retryPolicy = RetryPolicy.defaultPolicy();
+        this.httpClient = HttpClientFactory.createDefault("ctd", new RateLimiter(10)); // 10 req/s for BioThings
+        this.retryPolicy = RetryPolicy.forUpstream("ctd");
     }
 
     /**
@@ -58,14 +57,13 @@ public class CtdClient {
     private String executeRequest(HttpUrl url) throws IOException {
         try {
             return retryPolicy.execute(() -> {
-                rateLimiter.acquire();
                 Request request = new Request.Builder()
                         .url(url)
                         .addHeader("Accept", "application/json")
                         .build();
                 try (Response response = httpClient.newCall(request).execute()) {
                     if (!response.isSuccessful()) {
-                        throw new IOException("BioThings API error: " + response.code() + " " + response.message());
+                        throw new HttpStatusException("BioThings API error: " + response.code() + " " + response.message(), response.code());
                     }
                     return Objects.requireNonNull(response.body()).string();
                 }
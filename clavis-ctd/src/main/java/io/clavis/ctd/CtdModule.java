@@ -0,0 +1,37 @@
+package io.clavis.ctd;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the CTD tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class CtdModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "ctd";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "CTD";
+    }
+
+    @Override
+    public String getGroup() {
+        return "clinical";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new CtdTools(new CtdClient()).getAllTools();
+    }
+}
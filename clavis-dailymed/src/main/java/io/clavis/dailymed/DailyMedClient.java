@@ -20,14 +20,12 @@ public class DailyMedClient {
     private static final String BASE_URL = "https://dailymed.nlm.nih.gov/dailymed/services/v2";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final Gson gson;
 
     public DailyMedClient() {
-        this.httpClient = HttpClientFactory.createDefault();
         // DailyMed doesn't specify hard limits but suggests being "mindful"
         // 5 requests per second is a safe baseline.
-        this.rateLimiter = new RateLimiter(5);
+        this.httpClient = HttpClientFactory.createDefault("dailymed", new RateLimiter(5));
         this.gson = new Gson();
     }
 
@@ -58,13 +56,6 @@ public class DailyMedClient {
     }
 
     private JsonObject executeGet(String endpoint) throws IOException {
-        try {
-            rateLimiter.acquire();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Interrupted while waiting for rate limiter", e);
-        }
-
         String url = BASE_URL + endpoint;
         logger.debug("Executing DailyMed query: {}", url);
 
@@ -0,0 +1,37 @@
+package io.clavis.dailymed;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the DailyMed tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class DailyMedModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "dailymed";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "DailyMed";
+    }
+
+    @Override
+    public String getGroup() {
+        return "clinical";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new DailyMedTools(new DailyMedClient()).getAllTools();
+    }
+}
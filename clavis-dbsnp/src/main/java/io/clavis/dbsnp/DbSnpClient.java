@@ -1,7 +1,11 @@
 package io.clavis.dbsnp;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.clavis.core.config.ConfigManager;
+import io.clavis.core.http.BodyParser;
 import io.clavis.core.http.HttpClientFactory;
-import io.clavis.core.http.RateLimiter;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RetryPolicy;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -9,6 +13,7 @@ import okhttp3.Request;
 import okhttp3.Response;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.Objects;
 
 /**
@@ -20,13 +25,15 @@ public class DbSnpClient {
     private static final String EUTILS_API = "https://eutils.ncbi.nlm.nih.gov/entrez/eutils";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
+    private final String apiKey;
 
     public DbSnpClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(3); // 3 req/s without API key
-        this.retryPolicy = RetryPolicy.defaultPolicy();
+        // One bucket per host: E-utilities is shared with PubMed and ClinVar
+        // (3 req/s, 10 with NCBI_API_KEY); the Variation API gets 3 req/s
+        this.httpClient = HttpClientFactory.createHostScoped("dbsnp", 3);
+        this.apiKey = ConfigManager.getInstance().get("NCBI_API_KEY", "");
+        this.retryPolicy = RetryPolicy.forUpstream("dbsnp");
     }
 
     /**
@@ -34,12 +41,12 @@ public class DbSnpClient {
      *
      * @param rsId numeric rsID (e.g. "7412" for rs7412)
      */
-    public String getRefSnp(String rsId) throws IOException {
+    public JsonObject getRefSnp(String rsId) throws IOException {
         // Strip "rs" prefix if present
         String numericId = rsId.toLowerCase().startsWith("rs") ? rsId.substring(2) : rsId;
         HttpUrl url = Objects.requireNonNull(
                 HttpUrl.parse(VARIATION_API + "/refsnp/" + numericId));
-        return executeRequest(url);
+        return executeRequest(url, DbSnpJsonParser::readRefSnp);
     }
 
     /**
@@ -48,7 +55,7 @@ public class DbSnpClient {
      * @param gene   gene symbol (e.g. "BRCA1")
      * @param maxResults max results
      */
-    public String searchByGene(String gene, int maxResults) throws IOException {
+    public JsonObject searchByGene(String gene, int maxResults) throws IOException {
         // Step 1: search dbSNP for SNPs associated with a gene
         HttpUrl searchUrl = Objects.requireNonNull(HttpUrl.parse(EUTILS_API + "/esearch.fcgi"))
                 .newBuilder()
@@ -57,7 +64,7 @@ public class DbSnpClient {
                 .addQueryParameter("retmax", String.valueOf(maxResults))
                 .addQueryParameter("retmode", "json")
                 .build();
-        return executeRequest(searchUrl);
+        return executeRequest(searchUrl, DbSnpClient::readObject);
     }
 
     /**
@@ -65,33 +72,39 @@ public class DbSnpClient {
      *
      * @param rsIds comma-separated rsIDs (numeric)
      */
-    public String getSummary(String rsIds) throws IOException {
+    public JsonObject getSummary(String rsIds) throws IOException {
         HttpUrl url = Objects.requireNonNull(HttpUrl.parse(EUTILS_API + "/esummary.fcgi"))
                 .newBuilder()
                 .addQueryParameter("db", "snp")
                 .addQueryParameter("id", rsIds)
                 .addQueryParameter("retmode", "json")
                 .build();
-        return executeRequest(url);
+        return executeRequest(url, DbSnpClient::readObject);
     }
 
-    private String executeRequest(HttpUrl url) throws IOException {
+    private <T> T executeRequest(HttpUrl url, BodyParser<T> parser) throws IOException {
+        HttpUrl requestUrl = apiKey.isEmpty() || !url.toString().startsWith(EUTILS_API)
+                ? url
+                : url.newBuilder().addQueryParameter("api_key", apiKey).build();
         try {
             return retryPolicy.execute(() -> {
-                rateLimiter.acquire();
                 Request request = new Request.Builder()
-                        .url(url)
+                        .url(requestUrl)
                         .addHeader("Accept", "application/json")
                         .build();
                 try (Response response = httpClient.newCall(request).execute()) {
                     if (!response.isSuccessful()) {
-                        throw new IOException("dbSNP API error: " + response.code() + " " + response.message());
+                        throw new HttpStatusException("dbSNP API error: " + response.code() + " " + response.message(), response.code());
                     }
-                    return Objects.requireNonNull(response.body()).string();
+                    return BodyParser.parse(response, parser);
                 }
             });
         } catch (io.clavis.core.exception.ApiException e) {
             throw new IOException(e.getMessage(), e);
         }
     }
+
+    private static JsonObject readObject(Reader json) {
+        return JsonParser.parseReader(json).getAsJsonObject();
+    }
 }
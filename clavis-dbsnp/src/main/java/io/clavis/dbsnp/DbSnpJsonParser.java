@@ -4,12 +4,29 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import io.clavis.core.util.JsonUtils;
+import io.clavis.core.util.StreamingJson;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Set;
 
 /**
  * Parses NCBI Variation Services API and E-utilities JSON responses.
  */
 public class DbSnpJsonParser {
 
+    /** Top-level RefSNP fields read by {@link #formatRefSnp(JsonObject)}. */
+    private static final Set<String> REFSNP_FIELDS = Set.of("refsnp_id", "primary_snapshot_data");
+
+    /**
+     * Read a RefSNP response as it streams in, keeping only the fields
+     * {@link #formatRefSnp(JsonObject)} uses. Merge history and other
+     * snapshots are skipped without being materialized.
+     */
+    public static JsonObject readRefSnp(Reader json) throws IOException {
+        return StreamingJson.readFields(json, REFSNP_FIELDS);
+    }
+
     /**
      * Format a RefSNP response from the Variation API.
      */
@@ -0,0 +1,42 @@
+package io.clavis.dbsnp;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the dbSNP tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class DbSnpModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "dbsnp";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "dbSNP";
+    }
+
+    @Override
+    public String getGroup() {
+        return "genomics";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        DbSnpTools toolFactory = new DbSnpTools(new DbSnpClient());
+        return List.of(
+                toolFactory.createGetVariantTool(),
+                toolFactory.createSearchGeneTool(),
+                toolFactory.createGetFrequencyTool(),
+                toolFactory.createGetClinicalTool());
+    }
+}
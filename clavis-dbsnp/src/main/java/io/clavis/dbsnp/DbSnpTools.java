@@ -52,8 +52,7 @@ public class DbSnpTools {
             public JsonObject execute(JsonObject params) {
                 try {
                     String rsId = params.get("rsId").getAsString();
-                    String json = client.getRefSnp(rsId);
-                    JsonObject refsnp = com.google.gson.JsonParser.parseString(json).getAsJsonObject();
+                    JsonObject refsnp = client.getRefSnp(rsId);
                     return parser.formatRefSnp(refsnp);
                 } catch (IOException e) {
                     return JsonUtils.formatError("Failed to get variant: " + e.getMessage());
@@ -101,8 +100,7 @@ public class DbSnpTools {
                     int max = params.has("maxResults") ? Math.min(params.get("maxResults").getAsInt(), 20) : 10;
 
                     // Step 1: Search for SNP IDs
-                    String searchJson = client.searchByGene(gene, max);
-                    JsonObject searchResult = com.google.gson.JsonParser.parseString(searchJson).getAsJsonObject();
+                    JsonObject searchResult = client.searchByGene(gene, max);
 
                     JsonObject result = new JsonObject();
                     result.addProperty("gene", gene);
@@ -121,9 +119,7 @@ public class DbSnpTools {
                                     if (ids.length() > 0) ids.append(",");
                                     ids.append(id.getAsString());
                                 }
-                                String summaryJson = client.getSummary(ids.toString());
-                                JsonObject summaryResult = com.google.gson.JsonParser
-                                        .parseString(summaryJson).getAsJsonObject();
+                                JsonObject summaryResult = client.getSummary(ids.toString());
 
                                 JsonArray variants = new JsonArray();
                                 if (summaryResult.has("result")) {
@@ -183,8 +179,7 @@ public class DbSnpTools {
             public JsonObject execute(JsonObject params) {
                 try {
                     String rsId = params.get("rsId").getAsString();
-                    String json = client.getRefSnp(rsId);
-                    JsonObject refsnp = com.google.gson.JsonParser.parseString(json).getAsJsonObject();
+                    JsonObject refsnp = client.getRefSnp(rsId);
                     JsonObject full = parser.formatRefSnp(refsnp);
 
                     // Return only frequency-related data
@@ -236,8 +231,7 @@ public class DbSnpTools {
             public JsonObject execute(JsonObject params) {
                 try {
                     String rsId = params.get("rsId").getAsString();
-                    String json = client.getRefSnp(rsId);
-                    JsonObject refsnp = com.google.gson.JsonParser.parseString(json).getAsJsonObject();
+                    JsonObject refsnp = client.getRefSnp(rsId);
                     JsonObject full = parser.formatRefSnp(refsnp);
 
                     // Return only clinical data
@@ -5,6 +5,10 @@ import com.google.gson.JsonObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DbSnpJsonParserTest {
@@ -108,4 +112,18 @@ class DbSnpJsonParserTest {
         assertEquals("pathogenic", result.get("clinicalSignificance").getAsString());
         assertTrue(result.get("url").getAsString().contains("rs7412"));
     }
+
+    @Test
+    void testReadRefSnpSkipsUnusedFields() throws IOException {
+        String json = "{\"refsnp_id\": \"7412\", \"create_date\": \"2000-09-19T17:02Z\","
+                + " \"present_obs_movements\": [{\"component_ids\": [1, 2, 3]}],"
+                + " \"primary_snapshot_data\": {\"variant_type\": \"snv\"}}";
+
+        JsonObject refsnp = DbSnpJsonParser.readRefSnp(new StringReader(json));
+
+        assertEquals(Set.of("refsnp_id", "primary_snapshot_data"), refsnp.keySet());
+        JsonObject result = parser.formatRefSnp(refsnp);
+        assertEquals("rs7412", result.get("rsId").getAsString());
+        assertEquals("snv", result.get("variantType").getAsString());
+    }
 }
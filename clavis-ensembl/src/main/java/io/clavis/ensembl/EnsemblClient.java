@@ -2,6 +2,7 @@ package io.clavis.ensembl;
 
 import io.clavis.core.http.HttpClientFactory;
 import io.clavis.core.http.RateLimiter;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RetryPolicy;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -22,13 +23,11 @@ public class EnsemblClient {
     private static final String BASE_URL = "https://rest.ensembl.org/";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
 
     public EnsemblClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(15); // Ensembl allows up to 15 req/s
-        this.retryPolicy = RetryPolicy.defaultPolicy();
+        this.httpClient = HttpClientFactory.createDefault("ensembl", new RateLimiter(15)); // Ensembl allows up to 15 req/s
+        this.retryPolicy = RetryPolicy.forUpstream("ensembl");
     }
 
     /**
@@ -86,7 +85,6 @@ public class EnsemblClient {
     private String executeRequest(HttpUrl url) throws IOException {
         try {
             return retryPolicy.execute(() -> {
-                rateLimiter.acquire();
                 Request request = new Request.Builder()
                         .url(url)
                         .addHeader("Content-Type", "application/json")
@@ -94,7 +92,7 @@ public class EnsemblClient {
                         .build();
                 try (Response response = httpClient.newCall(request).execute()) {
                     if (!response.isSuccessful()) {
-                        throw new IOException("Ensembl API error: " + response.code() + " " + response.message());
+                        throw new HttpStatusException("Ensembl API error: " + response.code() + " " + response.message(), response.code());
                     }
                     return Objects.requireNonNull(response.body()).string();
                 }
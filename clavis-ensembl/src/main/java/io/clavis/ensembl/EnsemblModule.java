@@ -0,0 +1,37 @@
+package io.clavis.ensembl;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the Ensembl tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class EnsemblModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "ensembl";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Ensembl";
+    }
+
+    @Override
+    public String getGroup() {
+        return "genomics";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new EnsemblTools(new EnsemblClient()).getAllTools();
+    }
+}
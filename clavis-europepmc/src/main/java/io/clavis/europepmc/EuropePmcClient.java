@@ -2,6 +2,7 @@ package io.clavis.europepmc;
 
 import io.clavis.core.http.HttpClientFactory;
 import io.clavis.core.http.RateLimiter;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RetryPolicy;
 import io.clavis.core.models.Paper;
 import okhttp3.HttpUrl;
@@ -20,14 +21,12 @@ public class EuropePmcClient {
     private static final String BASE_URL = "https://www.ebi.ac.uk/europepmc/webservices/rest";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
     private final EuropePmcJsonParser parser;
 
     public EuropePmcClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(10); // 10 requests per second
-        this.retryPolicy = RetryPolicy.defaultPolicy();
+        this.httpClient = HttpClientFactory.createDefault("europepmc", new RateLimiter(10, 20)); // 10 req/s, adapts up to 20
+        this.retryPolicy = RetryPolicy.forUpstream("europepmc");
         this.parser = new EuropePmcJsonParser();
     }
 
@@ -109,11 +108,10 @@ public class EuropePmcClient {
     private String executeRequest(HttpUrl url) throws IOException {
         try {
             return retryPolicy.execute(() -> {
-                rateLimiter.acquire();
                 Request request = new Request.Builder().url(url).build();
                 try (Response response = httpClient.newCall(request).execute()) {
                     if (!response.isSuccessful()) {
-                        throw new IOException("API error: " + response.code() + " " + response.message());
+                        throw new HttpStatusException("API error: " + response.code() + " " + response.message(), response.code());
                     }
                     return Objects.requireNonNull(response.body()).string();
                 }
@@ -0,0 +1,42 @@
+package io.clavis.europepmc;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the Europe PMC tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class EuropePmcModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "europepmc";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Europe PMC";
+    }
+
+    @Override
+    public String getGroup() {
+        return "literature";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        EuropePmcTools toolFactory = new EuropePmcTools(new EuropePmcClient());
+        return List.of(
+                toolFactory.createSearchTool(),
+                toolFactory.createGetDetailsTool(),
+                toolFactory.createGetCitationsTool(),
+                toolFactory.createGetReferencesTool());
+    }
+}
@@ -2,6 +2,7 @@ package io.clavis.gtex;
 
 import io.clavis.core.http.HttpClientFactory;
 import io.clavis.core.http.RateLimiter;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RetryPolicy;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -21,13 +22,11 @@ public class GtexClient {
     private static final String BASE_URL = "https://gtexportal.org/api/v2/";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
 
     public GtexClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(5); // 5 req/s for GTEx
-        this.retryPolicy = RetryPolicy.defaultPolicy();
+        this.httpClient = HttpClientFactory.createDefault("gtex", new RateLimiter(5)); // 5 req/s for GTEx
+        this.retryPolicy = RetryPolicy.forUpstream("gtex");
     }
 
     /**
@@ -87,14 +86,13 @@ public class GtexClient {
     private String executeRequest(HttpUrl url) throws IOException {
         try {
             return retryPolicy.execute(() -> {
-                rateLimiter.acquire();
                 Request request = new Request.Builder()
                         .url(url)
                         .addHeader("Accept", "application/json")
                         .build();
                 try (Response response = httpClient.newCall(request).execute()) {
                     if (!response.isSuccessful()) {
-                        throw new IOException("GTEx API error: " + response.code() + " " + response.message());
+                        throw new HttpStatusException("GTEx API error: " + response.code() + " " + response.message(), response.code());
                     }
                     return Objects.requireNonNull(response.body()).string();
                 }
@@ -0,0 +1,37 @@
+package io.clavis.gtex;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the GTEx tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class GtexModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "gtex";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "GTEx";
+    }
+
+    @Override
+    public String getGroup() {
+        return "genomics";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new GtexTools(new GtexClient()).getAllTools();
+    }
+}
@@ -6,12 +6,12 @@ import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import io.clavis.core.exception.ApiException;
+import io.clavis.core.http.HttpClientFactory;
 import okhttp3.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 
 public class HmdbClient {
     private static final Logger logger = LoggerFactory.getLogger(HmdbClient.class);
@@ -24,10 +24,7 @@ public class HmdbClient {
     private final Gson gson;
 
     public HmdbClient() {
-        this.httpClient = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .build();
+        this.httpClient = HttpClientFactory.createDefault("hmdb");
         this.xmlMapper = new XmlMapper();
         this.jsonMapper = new ObjectMapper();
         this.gson = new Gson();
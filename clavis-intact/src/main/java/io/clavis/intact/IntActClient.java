@@ -17,12 +17,10 @@ public class IntActClient {
     private static final String BASE_URL = "https://www.ebi.ac.uk/intact/ws/interaction";
     
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
 
     public IntActClient() {
-        this.httpClient = HttpClientFactory.createDefault();
         // IntAct doesn't specify a strict rate limit for public access, but 5 req/s is safe
-        this.rateLimiter = new RateLimiter(5);
+        this.httpClient = HttpClientFactory.createDefault("intact", new RateLimiter(5));
     }
 
     public JsonObject searchInteractions(String query, int page, int pageSize) throws IOException {
@@ -37,13 +35,6 @@ public class IntActClient {
     }
 
     private JsonObject executeRequest(String url) throws IOException {
-        try {
-            rateLimiter.acquire();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Interrupted while waiting for rate limiter", e);
-        }
-
         Request request = new Request.Builder()
                 .url(url)
                 .header("Accept", "application/json")
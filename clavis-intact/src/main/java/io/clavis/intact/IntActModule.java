@@ -0,0 +1,37 @@
+package io.clavis.intact;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the IntAct tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class IntActModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "intact";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "IntAct";
+    }
+
+    @Override
+    public String getGroup() {
+        return "proteins";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new IntActTools().createAllTools();
+    }
+}
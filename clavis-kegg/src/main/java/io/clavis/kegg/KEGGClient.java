@@ -23,11 +23,9 @@ public class KEGGClient {
     private static final String API_BASE = "https://rest.kegg.jp";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
 
     public KEGGClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(3); // KEGG limit: 3 req/s
+        this.httpClient = HttpClientFactory.createDefault("kegg", new RateLimiter(3)); // KEGG limit: 3 req/s
     }
 
     /** Search pathways by keyword. Returns tab-delimited text. */
@@ -59,12 +57,6 @@ public class KEGGClient {
     }
 
     private String executeRequest(String url) throws IOException {
-        try {
-            rateLimiter.acquire();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Request interrupted", e);
-        }
         logger.debug("KEGG request: {}", url);
         Request request = new Request.Builder()
                 .url(url)
@@ -0,0 +1,37 @@
+package io.clavis.kegg;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the KEGG tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class KEGGModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "kegg";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "KEGG";
+    }
+
+    @Override
+    public String getGroup() {
+        return "proteins";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new KEGGTools().getAllTools();
+    }
+}
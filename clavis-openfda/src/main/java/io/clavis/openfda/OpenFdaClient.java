@@ -25,15 +25,13 @@ public class OpenFdaClient {
     private static final String BASE_URL = "https://api.fda.gov";
     
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final String apiKey;
 
     public OpenFdaClient(String apiKey) {
-        this.httpClient = HttpClientFactory.createDefault();
         // openFDA without API key is 240 req/min (4 req/sec)
         // With API key is 2400 req/min (40 req/sec)
         int rate = (apiKey == null || apiKey.isEmpty()) ? 4 : 40;
-        this.rateLimiter = new RateLimiter(rate);
+        this.httpClient = HttpClientFactory.createDefault("openfda", new RateLimiter(rate));
         this.apiKey = apiKey;
         
         if (apiKey == null || apiKey.isEmpty()) {
@@ -54,13 +52,6 @@ public class OpenFdaClient {
     }
 
     private JsonObject executeSearch(String endpoint, String query, int limit) throws IOException {
-        try {
-            rateLimiter.acquire();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Interrupted while waiting for rate limiter", e);
-        }
-
         String url = BASE_URL + endpoint + "?search=" + query + "&limit=" + limit;
         if (apiKey != null && !apiKey.isEmpty()) {
             url += "&api_key=" + apiKey;
@@ -0,0 +1,39 @@
+package io.clavis.openfda;
+
+import io.clavis.core.config.ConfigManager;
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the OpenFDA tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class OpenFdaModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "openfda";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "OpenFDA";
+    }
+
+    @Override
+    public String getGroup() {
+        return "clinical";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        String apiKey = ConfigManager.getInstance().get("OPENFDA_API_KEY", "");
+        return new OpenFdaTools(new OpenFdaClient(apiKey)).getAllTools();
+    }
+}
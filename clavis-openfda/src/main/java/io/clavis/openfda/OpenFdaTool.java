@@ -6,6 +6,7 @@ import com.google.gson.JsonParser;
 import io.clavis.core.mcp.MCPTool;
 import io.clavis.core.mcp.ToolExecutionException;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -19,13 +20,23 @@ public class OpenFdaTool implements MCPTool {
     private final Map<String, String> properties;
     private final List<String> required;
     private final Function<Map<String, Object>, String> executor;
+    private final Duration resultCacheTtl;
 
     public OpenFdaTool(String name, String description, Map<String, String> properties, List<String> required, Function<Map<String, Object>, String> executor) {
+        this(name, description, properties, required, executor, null);
+    }
+
+    /**
+     * Creates a tool whose results are cached for the given time rather than
+     * the server default; {@link Duration#ZERO} disables caching.
+     */
+    public OpenFdaTool(String name, String description, Map<String, String> properties, List<String> required, Function<Map<String, Object>, String> executor, Duration resultCacheTtl) {
         this.name = name;
         this.description = description;
         this.properties = properties;
         this.required = required;
         this.executor = executor;
+        this.resultCacheTtl = resultCacheTtl;
     }
 
     @Override
@@ -38,6 +49,11 @@ public class OpenFdaTool implements MCPTool {
         return description;
     }
 
+    @Override
+    public Duration getResultCacheTtl() {
+        return resultCacheTtl;
+    }
+
     @Override
     public JsonObject getInputSchema() {
         JsonObject schema = new JsonObject();
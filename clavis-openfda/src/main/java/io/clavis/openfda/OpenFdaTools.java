@@ -5,6 +5,7 @@ import io.clavis.core.mcp.MCPTool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -90,7 +91,8 @@ public class OpenFdaTools {
                         logger.error("Error in openfda_search_recalls", e);
                         return "{\"error\": \"" + e.getMessage() + "\"}";
                     }
-                }
+                },
+                Duration.ZERO // Recalls are posted and reclassified daily; always query live
         );
     }
 }
@@ -0,0 +1,37 @@
+package io.clavis.opentargets;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the Open Targets tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class OpenTargetsModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "opentargets";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Open Targets";
+    }
+
+    @Override
+    public String getGroup() {
+        return "clinical";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new OpenTargetsTools(new OpenTargetsClient()).getAllTools();
+    }
+}
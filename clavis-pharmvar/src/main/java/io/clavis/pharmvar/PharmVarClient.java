@@ -4,12 +4,12 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import io.clavis.core.exception.ApiException;
+import io.clavis.core.http.HttpClientFactory;
 import okhttp3.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 
 public class PharmVarClient {
     private static final Logger logger = LoggerFactory.getLogger(PharmVarClient.class);
@@ -19,10 +19,7 @@ public class PharmVarClient {
     private final Gson gson;
 
     public PharmVarClient() {
-        this.httpClient = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .build();
+        this.httpClient = HttpClientFactory.createDefault("pharmvar");
         this.gson = new Gson();
     }
 
@@ -0,0 +1,37 @@
+package io.clavis.pharmvar;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the PharmVar tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class PharmVarModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "pharmvar";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "PharmVar";
+    }
+
+    @Override
+    public String getGroup() {
+        return "genomics";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new PharmVarTools(new PharmVarClient()).getAllTools();
+    }
+}
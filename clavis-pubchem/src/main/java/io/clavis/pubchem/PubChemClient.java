@@ -24,11 +24,9 @@ public class PubChemClient {
     private static final String PROLOG_BASE = "https://pubchem.ncbi.nlm.nih.gov/rest/pug/compound";
 
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
 
     public PubChemClient() {
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(5);
+        this.httpClient = HttpClientFactory.createDefault("pubchem", new RateLimiter(5));
     }
 
     /**
@@ -77,12 +75,6 @@ public class PubChemClient {
     }
 
     private String executeRequest(String url) throws IOException {
-        try {
-            rateLimiter.acquire();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Request interrupted", e);
-        }
         logger.debug("PubChem request: {}", url);
         Request request = new Request.Builder()
                 .url(url)
@@ -0,0 +1,37 @@
+package io.clavis.pubchem;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the PubChem tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class PubChemModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "pubchem";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "PubChem";
+    }
+
+    @Override
+    public String getGroup() {
+        return "chemistry";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new PubChemTools().getAllTools();
+    }
+}
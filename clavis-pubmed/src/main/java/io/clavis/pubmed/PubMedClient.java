@@ -1,8 +1,9 @@
 package io.clavis.pubmed;
 
 import io.clavis.core.exception.ApiException;
+import io.clavis.core.http.BodyParser;
 import io.clavis.core.http.HttpClientFactory;
-import io.clavis.core.http.RateLimiter;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RetryPolicy;
 import io.clavis.core.logging.StructuredLogger;
 import io.clavis.core.models.Paper;
@@ -39,7 +40,6 @@ public class PubMedClient {
     private final String apiKey;
     private final String email;
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
     private final PubMedXmlParser xmlParser;
     private final StructuredLogger logger;
@@ -53,16 +53,14 @@ public class PubMedClient {
      */
     public PubMedClient(String apiKey, String email) {
         this.logger = new StructuredLogger(PubMedClient.class);
-        this.httpClient = HttpClientFactory.createDefault();
-
         if (apiKey == null || apiKey.trim().isEmpty()) {
             this.apiKey = "";
-            this.rateLimiter = new RateLimiter(3);
             logger.warn("No API key provided. Requests will be rate-limited to 3/second.");
         } else {
             this.apiKey = apiKey;
-            this.rateLimiter = new RateLimiter(10);
         }
+        // The E-utilities budget is per host and shared with ClinVar and dbSNP
+        this.httpClient = HttpClientFactory.createHostScoped("pubmed", this.apiKey.isEmpty() ? 3 : 10);
 
         if (email == null || email.trim().isEmpty()) {
             this.email = "tool@clavis.io";
@@ -71,7 +69,7 @@ public class PubMedClient {
             this.email = email;
         }
 
-        this.retryPolicy = RetryPolicy.defaultPolicy();
+        this.retryPolicy = RetryPolicy.forUpstream("pubmed");
         this.xmlParser = new PubMedXmlParser();
     }
 
@@ -92,34 +90,31 @@ public class PubMedClient {
 
         long startTime = System.currentTimeMillis();
 
-        return retryPolicy.execute(() -> {
-            StringBuilder searchUrl = new StringBuilder(BASE_URL).append("/esearch.fcgi?");
-            searchUrl.append("db=pubmed");
-            searchUrl.append("&term=").append(urlEncode(query));
-            searchUrl.append("&retmax=").append(maxResults);
-            searchUrl.append("&retmode=json");
-            appendStandardParams(searchUrl);
+        StringBuilder searchUrl = new StringBuilder(BASE_URL).append("/esearch.fcgi?");
+        searchUrl.append("db=pubmed");
+        searchUrl.append("&term=").append(urlEncode(query));
+        searchUrl.append("&retmax=").append(maxResults);
+        searchUrl.append("&retmode=json");
+        appendStandardParams(searchUrl);
 
-            String searchResponse = executeRateLimitedRequest(searchUrl.toString());
-            List<String> pmids = PubMedXmlParser.parsePmidsFromJson(searchResponse);
+        String searchResponse = fetchWithRetry(searchUrl.toString(), BodyParser.asString());
+        List<String> pmids = PubMedXmlParser.parsePmidsFromJson(searchResponse);
 
-            if (pmids.isEmpty()) {
-                logger.logApiResponse("pubmed", 200, System.currentTimeMillis() - startTime);
-                return Collections.<Paper>emptyList();
-            }
+        if (pmids.isEmpty()) {
+            logger.logApiResponse("pubmed", 200, System.currentTimeMillis() - startTime);
+            return Collections.emptyList();
+        }
 
-            StringBuilder fetchUrl = new StringBuilder(BASE_URL).append("/efetch.fcgi?");
-            fetchUrl.append("db=pubmed");
-            fetchUrl.append("&id=").append(String.join(",", pmids));
-            fetchUrl.append("&retmode=xml");
-            appendStandardParams(fetchUrl);
+        StringBuilder fetchUrl = new StringBuilder(BASE_URL).append("/efetch.fcgi?");
+        fetchUrl.append("db=pubmed");
+        fetchUrl.append("&id=").append(String.join(",", pmids));
+        fetchUrl.append("&retmode=xml");
+        appendStandardParams(fetchUrl);
 
-            String fetchResponse = executeRateLimitedRequest(fetchUrl.toString());
-            List<Paper> papers = xmlParser.parsePapers(fetchResponse);
+        List<Paper> papers = fetchWithRetry(fetchUrl.toString(), xmlParser::parsePapers);
 
-            logger.logApiResponse("pubmed", 200, System.currentTimeMillis() - startTime);
-            return papers;
-        });
+        logger.logApiResponse("pubmed", 200, System.currentTimeMillis() - startTime);
+        return papers;
     }
 
     /**
@@ -134,17 +129,14 @@ public class PubMedClient {
             throw new IllegalArgumentException("PMID cannot be null or empty");
         }
 
-        return retryPolicy.execute(() -> {
-            StringBuilder url = new StringBuilder(BASE_URL).append("/efetch.fcgi?");
-            url.append("db=pubmed");
-            url.append("&id=").append(pmid);
-            url.append("&retmode=xml");
-            appendStandardParams(url);
-
-            String response = executeRateLimitedRequest(url.toString());
-            List<Paper> papers = xmlParser.parsePapers(response);
-            return papers.isEmpty() ? null : papers.get(0);
-        });
+        StringBuilder url = new StringBuilder(BASE_URL).append("/efetch.fcgi?");
+        url.append("db=pubmed");
+        url.append("&id=").append(pmid);
+        url.append("&retmode=xml");
+        appendStandardParams(url);
+
+        List<Paper> papers = fetchWithRetry(url.toString(), xmlParser::parsePapers);
+        return papers.isEmpty() ? null : papers.get(0);
     }
 
     /**
@@ -160,33 +152,30 @@ public class PubMedClient {
             throw new IllegalArgumentException("PMID cannot be null or empty");
         }
 
-        return retryPolicy.execute(() -> {
-            StringBuilder linkUrl = new StringBuilder(BASE_URL).append("/elink.fcgi?");
-            linkUrl.append("dbfrom=pubmed&db=pubmed");
-            linkUrl.append("&id=").append(pmid);
-            linkUrl.append("&linkname=pubmed_pubmed");
-            linkUrl.append("&retmode=json");
-            appendStandardParams(linkUrl);
+        StringBuilder linkUrl = new StringBuilder(BASE_URL).append("/elink.fcgi?");
+        linkUrl.append("dbfrom=pubmed&db=pubmed");
+        linkUrl.append("&id=").append(pmid);
+        linkUrl.append("&linkname=pubmed_pubmed");
+        linkUrl.append("&retmode=json");
+        appendStandardParams(linkUrl);
 
-            String linkResponse = executeRateLimitedRequest(linkUrl.toString());
-            List<String> relatedPmids = PubMedXmlParser.parseRelatedPmidsFromJson(linkResponse);
+        String linkResponse = fetchWithRetry(linkUrl.toString(), BodyParser.asString());
+        List<String> relatedPmids = PubMedXmlParser.parseRelatedPmidsFromJson(linkResponse);
 
-            if (relatedPmids.isEmpty()) {
-                return Collections.<Paper>emptyList();
-            }
+        if (relatedPmids.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-            List<String> limitedPmids = relatedPmids.subList(0,
-                    Math.min(relatedPmids.size(), maxResults));
+        List<String> limitedPmids = relatedPmids.subList(0,
+                Math.min(relatedPmids.size(), maxResults));
 
-            StringBuilder fetchUrl = new StringBuilder(BASE_URL).append("/efetch.fcgi?");
-            fetchUrl.append("db=pubmed");
-            fetchUrl.append("&id=").append(String.join(",", limitedPmids));
-            fetchUrl.append("&retmode=xml");
-            appendStandardParams(fetchUrl);
+        StringBuilder fetchUrl = new StringBuilder(BASE_URL).append("/efetch.fcgi?");
+        fetchUrl.append("db=pubmed");
+        fetchUrl.append("&id=").append(String.join(",", limitedPmids));
+        fetchUrl.append("&retmode=xml");
+        appendStandardParams(fetchUrl);
 
-            String fetchResponse = executeRateLimitedRequest(fetchUrl.toString());
-            return xmlParser.parsePapers(fetchResponse);
-        });
+        return fetchWithRetry(fetchUrl.toString(), xmlParser::parsePapers);
     }
 
     /**
@@ -201,26 +190,24 @@ public class PubMedClient {
             throw new IllegalArgumentException("PMID cannot be null or empty");
         }
 
-        return retryPolicy.execute(() -> {
-            StringBuilder linkUrl = new StringBuilder(BASE_URL).append("/elink.fcgi?");
-            linkUrl.append("dbfrom=pubmed&db=pubmed");
-            linkUrl.append("&id=").append(pmid);
-            linkUrl.append("&linkname=pubmed_pubmed_citedin,pubmed_pubmed_refs");
-            linkUrl.append("&retmode=json");
-            appendStandardParams(linkUrl);
-
-            String linkResponse = executeRateLimitedRequest(linkUrl.toString());
-
-            // Need a custom parser for this since it returns multiple linksets
-            // For now, let's assume xmlParser helper can adapt or we parse manually here
-            // Helper method in PubMedXmlParser might need update to handle multiple link
-            // names
-            // Let's implement parseCitationsFromJson in parser later, for now just fetch
-            // one direction or implement parsing here?
-            // Actually, PubMedXmlParser.parseRelatedPmidsFromJson takes first linkset.
-            // We need to parse by linkname.
-            return PubMedXmlParser.parseCitationsFromJson(linkResponse);
-        });
+        StringBuilder linkUrl = new StringBuilder(BASE_URL).append("/elink.fcgi?");
+        linkUrl.append("dbfrom=pubmed&db=pubmed");
+        linkUrl.append("&id=").append(pmid);
+        linkUrl.append("&linkname=pubmed_pubmed_citedin,pubmed_pubmed_refs");
+        linkUrl.append("&retmode=json");
+        appendStandardParams(linkUrl);
+
+        String linkResponse = fetchWithRetry(linkUrl.toString(), BodyParser.asString());
+
+        // Need a custom parser for this since it returns multiple linksets
+        // For now, let's assume xmlParser helper can adapt or we parse manually here
+        // Helper method in PubMedXmlParser might need update to handle multiple link
+        // names
+        // Let's implement parseCitationsFromJson in parser later, for now just fetch
+        // one direction or implement parsing here?
+        // Actually, PubMedXmlParser.parseRelatedPmidsFromJson takes first linkset.
+        // We need to parse by linkname.
+        return PubMedXmlParser.parseCitationsFromJson(linkResponse);
     }
 
     /**
@@ -238,16 +225,13 @@ public class PubMedClient {
             throw new IllegalArgumentException("Cannot batch retrieve more than 200 papers at once");
         }
 
-        return retryPolicy.execute(() -> {
-            StringBuilder fetchUrl = new StringBuilder(BASE_URL).append("/efetch.fcgi?");
-            fetchUrl.append("db=pubmed");
-            fetchUrl.append("&id=").append(String.join(",", pmids));
-            fetchUrl.append("&retmode=xml");
-            appendStandardParams(fetchUrl);
+        StringBuilder fetchUrl = new StringBuilder(BASE_URL).append("/efetch.fcgi?");
+        fetchUrl.append("db=pubmed");
+        fetchUrl.append("&id=").append(String.join(",", pmids));
+        fetchUrl.append("&retmode=xml");
+        appendStandardParams(fetchUrl);
 
-            String fetchResponse = executeRateLimitedRequest(fetchUrl.toString());
-            return xmlParser.parsePapers(fetchResponse);
-        });
+        return fetchWithRetry(fetchUrl.toString(), xmlParser::parsePapers);
     }
 
     /**
@@ -279,22 +263,32 @@ public class PubMedClient {
      * @return list of database names linked to this paper
      */
     public List<String> getRelatedDatabaseLinks(String pmid) throws ApiException {
-        return retryPolicy.execute(() -> {
-            StringBuilder linkUrl = new StringBuilder(BASE_URL).append("/elink.fcgi?");
-            linkUrl.append("dbfrom=pubmed");
-            linkUrl.append("&id=").append(pmid);
-            linkUrl.append("&cmd=acheck"); // Check all links
-            linkUrl.append("&retmode=json");
-            appendStandardParams(linkUrl);
-
-            String linkResponse = executeRateLimitedRequest(linkUrl.toString());
-            return PubMedXmlParser.parseAvailableLinksFromJson(linkResponse);
-        });
+        StringBuilder linkUrl = new StringBuilder(BASE_URL).append("/elink.fcgi?");
+        linkUrl.append("dbfrom=pubmed");
+        linkUrl.append("&id=").append(pmid);
+        linkUrl.append("&cmd=acheck"); // Check all links
+        linkUrl.append("&retmode=json");
+        appendStandardParams(linkUrl);
+
+        String linkResponse = fetchWithRetry(linkUrl.toString(), BodyParser.asString());
+        return PubMedXmlParser.parseAvailableLinksFromJson(linkResponse);
     }
 
-    private String executeRateLimitedRequest(String url) throws IOException, InterruptedException {
-        rateLimiter.acquire();
+    /**
+     * Executes one E-utilities request under the retry policy.
+     *
+     * <p>
+     * Each step of a multi-step operation retries on its own, so a failed
+     * efetch does not repeat the esearch or elink that preceded it. The body
+     * is parsed as it streams in, so a response cut off mid-body is retried
+     * like any other I/O failure.
+     * </p>
+     */
+    private <T> T fetchWithRetry(String url, BodyParser<T> parser) throws ApiException {
+        return retryPolicy.execute(() -> executeRateLimitedRequest(url, parser));
+    }
 
+    private <T> T executeRateLimitedRequest(String url, BodyParser<T> parser) throws IOException {
         Request request = new Request.Builder()
                 .url(url)
                 .get()
@@ -302,9 +296,9 @@ public class PubMedClient {
 
         try (Response response = httpClient.newCall(request).execute()) {
             if (!response.isSuccessful()) {
-                throw new IOException("PubMed API error: HTTP " + response.code());
+                throw new HttpStatusException("PubMed API error: HTTP " + response.code(), response.code());
             }
-            return response.body().string();
+            return BodyParser.parse(response, parser);
         }
     }
 
@@ -0,0 +1,50 @@
+package io.clavis.pubmed;
+
+import io.clavis.core.config.ConfigManager;
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the PubMed tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class PubMedModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "pubmed";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "PubMed";
+    }
+
+    @Override
+    public String getGroup() {
+        return "literature";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        ConfigManager config = ConfigManager.getInstance();
+        String apiKey = config.get("NCBI_API_KEY", "");
+        String email = config.get("NCBI_EMAIL", "");
+        PubMedTools toolFactory = new PubMedTools(new PubMedClient(apiKey, email));
+        return List.of(
+                toolFactory.createSearchTool(),
+                toolFactory.createGetPaperTool(),
+                toolFactory.createRelatedPapersTool(),
+                toolFactory.createTrackCitationsTool(),
+                toolFactory.createBatchRetrieveTool(),
+                toolFactory.createCheckRetractionsTool(),
+                toolFactory.createRelatedDatabaseLinksTool(),
+                toolFactory.createSearchByAuthorTool());
+    }
+}
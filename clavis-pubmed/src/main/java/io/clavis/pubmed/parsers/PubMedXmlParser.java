@@ -4,15 +4,23 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import io.clavis.core.http.ResponseParseException;
 import io.clavis.core.models.Author;
 import io.clavis.core.models.Paper;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.regex.Matcher;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 /**
@@ -24,29 +32,10 @@ import java.util.regex.Pattern;
  */
 public class PubMedXmlParser {
 
-    private static final Pattern PMID_PATTERN = Pattern.compile("<PMID[^>]*>(\\d+)</PMID>");
-    private static final Pattern TITLE_PATTERN = Pattern.compile("<ArticleTitle>(.*?)</ArticleTitle>", Pattern.DOTALL);
-    private static final Pattern ABSTRACT_PATTERN = Pattern.compile("<AbstractText[^>]*>(.*?)</AbstractText>",
-            Pattern.DOTALL);
-    private static final Pattern AUTHOR_BLOCK_PATTERN = Pattern.compile("<Author[^>]*>(.*?)</Author>", Pattern.DOTALL);
-    private static final Pattern LAST_NAME_PATTERN = Pattern.compile("<LastName>(.*?)</LastName>", Pattern.DOTALL);
-    private static final Pattern FORE_NAME_PATTERN = Pattern.compile("<ForeName>(.*?)</ForeName>", Pattern.DOTALL);
-    private static final Pattern AUTHOR_AFFILIATION_PATTERN = Pattern.compile("<Affiliation>(.*?)</Affiliation>",
-            Pattern.DOTALL);
-    private static final Pattern MESH_HEADING_PATTERN = Pattern.compile("<MeshHeading>(.*?)</MeshHeading>",
-            Pattern.DOTALL);
-    private static final Pattern DESCRIPTOR_NAME_PATTERN = Pattern
-            .compile("<DescriptorName[^>]*>(.*?)</DescriptorName>", Pattern.DOTALL);
-    private static final Pattern PUBLICATION_TYPE_PATTERN = Pattern
-            .compile("<PublicationType[^>]*>(.*?)</PublicationType>", Pattern.DOTALL);
-    private static final Pattern KEYWORD_PATTERN = Pattern.compile("<Keyword[^>]*>(.*?)</Keyword>", Pattern.DOTALL);
-    private static final Pattern JOURNAL_PATTERN = Pattern.compile("<Title>(.*?)</Title>", Pattern.DOTALL);
-    private static final Pattern DOI_PATTERN = Pattern.compile(
-            "<ArticleId IdType=\"doi\">(.*?)</ArticleId>", Pattern.DOTALL);
-    private static final Pattern YEAR_PATTERN = Pattern.compile(
-            "<PubDate>.*?<Year>(\\d{4})</Year>.*?</PubDate>", Pattern.DOTALL);
-    private static final Pattern ARTICLE_PATTERN = Pattern.compile(
-            "<PubmedArticle>(.*?)</PubmedArticle>", Pattern.DOTALL);
+    private static final Pattern PMID_PATTERN = Pattern.compile("\\d+");
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\d{4}");
+
+    private static final XMLInputFactory XML_INPUT = createInputFactory();
 
     /**
      * Parses PMIDs from an E-search JSON response.
@@ -186,27 +175,199 @@ public class PubMedXmlParser {
      * Parses papers from an E-fetch XML response.
      *
      * @param xml the XML response from efetch
-     * @return list of parsed papers
+     * @return list of parsed papers; if the document is malformed, the
+     *         papers read before the error
      */
     public List<Paper> parsePapers(String xml) {
         List<Paper> papers = new ArrayList<>();
-
-        Matcher articleMatcher = ARTICLE_PATTERN.matcher(xml);
-        while (articleMatcher.find()) {
-            String articleXml = articleMatcher.group(1);
-            Paper paper = parseArticle(articleXml);
-            if (paper != null) {
-                papers.add(paper);
-            }
+        try {
+            forEachPaper(new StringReader(xml), papers::add);
+        } catch (IOException e) {
+            // Return the articles read before the error
         }
+        return papers;
+    }
 
+    /**
+     * Parses papers from an E-fetch XML response as it streams in.
+     *
+     * @param xml the XML response body
+     * @return list of parsed papers
+     * @throws IOException if reading fails or the document is malformed or
+     *                     truncated
+     */
+    public List<Paper> parsePapers(Reader xml) throws IOException {
+        List<Paper> papers = new ArrayList<>();
+        forEachPaper(xml, papers::add);
         return papers;
     }
 
-    private Paper parseArticle(String xml) {
-        String pmid = extractFirst(PMID_PATTERN, xml);
-        String title = extractFirst(TITLE_PATTERN, xml);
+    /**
+     * Streams an E-fetch XML response, handing each {@code PubmedArticle} to
+     * the consumer as soon as its closing tag has been read. Only the
+     * current article is held in memory.
+     *
+     * @param xml      the XML response body
+     * @param consumer receives each parsed paper in document order
+     * @throws ResponseParseException if the document is malformed or truncated
+     * @throws IOException            if reading fails
+     */
+    public void forEachPaper(Reader xml, Consumer<Paper> consumer) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT.createXMLStreamReader(xml);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && "PubmedArticle".equals(reader.getLocalName())) {
+                    Paper paper = readArticle(reader);
+                    if (paper != null) {
+                        consumer.accept(paper);
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            if (e.getNestedException() instanceof IOException) {
+                // The body failed to arrive, which a retry may fix
+                throw (IOException) e.getNestedException();
+            }
+            throw new ResponseParseException("Malformed efetch XML: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // Nothing left to release
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads one article, leaving the reader on its closing tag. The first
+     * occurrence of each single-valued element wins.
+     */
+    private Paper readArticle(XMLStreamReader reader) throws XMLStreamException {
+        String pmid = null;
+        String title = null;
+        String abstractText = null;
+        String journal = null;
+        String doi = null;
+        String year = null;
+        List<Author> authors = new ArrayList<>();
+        List<String> meshTerms = new ArrayList<>();
+        List<String> publicationTypes = new ArrayList<>();
+        List<String> keywords = new ArrayList<>();
 
+        boolean inPubDate = false;
+        boolean inAuthor = false;
+        boolean inMeshHeading = false;
+        String lastName = null;
+        String foreName = null;
+        String affiliation = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "PubmedArticle":
+                        return buildPaper(pmid, title, abstractText, journal, doi, year,
+                                authors, meshTerms, publicationTypes, keywords);
+                    case "PubDate":
+                        inPubDate = false;
+                        break;
+                    case "Author":
+                        if (lastName != null && foreName != null) {
+                            authors.add(new Author(foreName + " " + lastName, affiliation, null));
+                        }
+                        inAuthor = false;
+                        break;
+                    case "MeshHeading":
+                        inMeshHeading = false;
+                        break;
+                    default:
+                        break;
+                }
+                continue;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            switch (reader.getLocalName()) {
+                case "PMID":
+                    String id = readText(reader);
+                    if (pmid == null && PMID_PATTERN.matcher(id).matches()) {
+                        pmid = id;
+                    }
+                    break;
+                case "ArticleTitle":
+                    title = first(title, reader);
+                    break;
+                case "AbstractText":
+                    abstractText = first(abstractText, reader);
+                    break;
+                case "Title":
+                    journal = first(journal, reader);
+                    break;
+                case "ArticleId":
+                    if ("doi".equals(reader.getAttributeValue(null, "IdType"))) {
+                        doi = first(doi, reader);
+                    }
+                    break;
+                case "PubDate":
+                    inPubDate = true;
+                    break;
+                case "Year":
+                    if (inPubDate && year == null) {
+                        String value = readText(reader);
+                        year = YEAR_PATTERN.matcher(value).matches() ? value : null;
+                    }
+                    break;
+                case "Author":
+                    inAuthor = true;
+                    lastName = null;
+                    foreName = null;
+                    affiliation = null;
+                    break;
+                case "LastName":
+                    if (inAuthor) {
+                        lastName = first(lastName, reader);
+                    }
+                    break;
+                case "ForeName":
+                    if (inAuthor) {
+                        foreName = first(foreName, reader);
+                    }
+                    break;
+                case "Affiliation":
+                    if (inAuthor) {
+                        affiliation = first(affiliation, reader);
+                    }
+                    break;
+                case "MeshHeading":
+                    inMeshHeading = true;
+                    break;
+                case "DescriptorName":
+                    if (inMeshHeading) {
+                        meshTerms.add(readText(reader));
+                    }
+                    break;
+                case "PublicationType":
+                    publicationTypes.add(readText(reader));
+                    break;
+                case "Keyword":
+                    keywords.add(readText(reader));
+                    break;
+                default:
+                    break;
+            }
+        }
+        throw new XMLStreamException("Unterminated PubmedArticle", reader.getLocation());
+    }
+
+    private static Paper buildPaper(String pmid, String title, String abstractText, String journal,
+            String doi, String year, List<Author> authors, List<String> meshTerms,
+            List<String> publicationTypes, List<String> keywords) {
         if (pmid == null || title == null) {
             return null;
         }
@@ -214,81 +375,70 @@ public class PubMedXmlParser {
         Paper.Builder builder = new Paper.Builder()
                 .id(pmid)
                 .source("pubmed")
-                .title(cleanHtml(title))
-                .url("https://pubmed.ncbi.nlm.nih.gov/" + pmid);
-
-        String abstractText = extractFirst(ABSTRACT_PATTERN, xml);
+                .title(title)
+                .url("https://pubmed.ncbi.nlm.nih.gov/" + pmid)
+                .authors(authors)
+                .meshTerms(meshTerms)
+                .publicationTypes(publicationTypes)
+                .keywords(keywords);
         if (abstractText != null) {
-            builder.abstractText(cleanHtml(abstractText));
+            builder.abstractText(abstractText);
         }
-
-        String journal = extractFirst(JOURNAL_PATTERN, xml);
         if (journal != null) {
-            builder.journal(cleanHtml(journal));
+            builder.journal(journal);
         }
-
-        String doi = extractFirst(DOI_PATTERN, xml);
         if (doi != null) {
             builder.doi(doi);
         }
-
-        String year = extractFirst(YEAR_PATTERN, xml);
         if (year != null) {
             builder.publicationDate(year);
         }
-
-        Matcher authorMatcher = AUTHOR_BLOCK_PATTERN.matcher(xml);
-        List<Author> authors = new ArrayList<>();
-        while (authorMatcher.find()) {
-            String authorXml = authorMatcher.group(1);
-            String lastName = extractFirst(LAST_NAME_PATTERN, authorXml);
-            String foreName = extractFirst(FORE_NAME_PATTERN, authorXml);
-            String affiliation = extractFirst(AUTHOR_AFFILIATION_PATTERN, authorXml);
-
-            if (lastName != null && foreName != null) {
-                authors.add(new Author(foreName + " " + lastName,
-                        affiliation != null ? cleanHtml(affiliation) : null, null));
-            }
-        }
-        builder.authors(authors);
-
-        List<String> meshTerms = new ArrayList<>();
-        Matcher meshMatcher = MESH_HEADING_PATTERN.matcher(xml);
-        while (meshMatcher.find()) {
-            String meshXml = meshMatcher.group(1);
-            String descriptor = extractFirst(DESCRIPTOR_NAME_PATTERN, meshXml);
-            if (descriptor != null) {
-                meshTerms.add(cleanHtml(descriptor));
-            }
-        }
-        builder.meshTerms(meshTerms);
-
-        List<String> publicationTypes = new ArrayList<>();
-        Matcher pubTypeMatcher = PUBLICATION_TYPE_PATTERN.matcher(xml);
-        while (pubTypeMatcher.find()) {
-            publicationTypes.add(cleanHtml(pubTypeMatcher.group(1)));
-        }
-        builder.publicationTypes(publicationTypes);
-
-        List<String> keywords = new ArrayList<>();
-        Matcher keywordMatcher = KEYWORD_PATTERN.matcher(xml);
-        while (keywordMatcher.find()) {
-            keywords.add(cleanHtml(keywordMatcher.group(1)));
-        }
-        builder.keywords(keywords);
-
         return builder.build();
     }
 
-    private String extractFirst(Pattern pattern, String text) {
-        Matcher matcher = pattern.matcher(text);
-        if (matcher.find()) {
-            return matcher.group(1).trim();
+    /**
+     * Returns the current value if already set, otherwise the text of the
+     * element the reader is on.
+     */
+    private static String first(String current, XMLStreamReader reader) throws XMLStreamException {
+        return current != null ? current : readText(reader);
+    }
+
+    /**
+     * Reads the text of the current element, including the text of inline
+     * markup such as {@code <i>} or {@code <sup>}, and leaves the reader on
+     * the element's closing tag.
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    text.append(reader.getText());
+                    break;
+                default:
+                    break;
+            }
         }
-        return null;
+        return text.toString().trim();
     }
 
-    private String cleanHtml(String text) {
-        return text.replaceAll("<[^>]+>", "").trim();
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // efetch documents reference the PubMed DTD; never fetch it or
+        // resolve external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
     }
 }
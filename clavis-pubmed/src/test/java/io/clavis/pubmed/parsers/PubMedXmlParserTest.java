@@ -0,0 +1,163 @@
+package io.clavis.pubmed.parsers;
+
+import io.clavis.core.http.ResponseParseException;
+import io.clavis.core.models.Paper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PubMedXmlParserTest {
+
+    private PubMedXmlParser parser;
+
+    private static final String ARTICLE_1 = "<PubmedArticle>\n" +
+            "  <MedlineCitation Status=\"MEDLINE\" Owner=\"NLM\">\n" +
+            "    <PMID Version=\"1\">31452104</PMID>\n" +
+            "    <Article PubModel=\"Print-Electronic\">\n" +
+            "      <Journal>\n" +
+            "        <JournalIssue CitedMedium=\"Internet\">\n" +
+            "          <PubDate><Year>2019</Year><Month>Oct</Month></PubDate>\n" +
+            "        </JournalIssue>\n" +
+            "        <Title>Nature genetics</Title>\n" +
+            "      </Journal>\n" +
+            "      <ArticleTitle>Role of <i>TP53</i> in tumour suppression &amp; repair.</ArticleTitle>\n" +
+            "      <Abstract>\n" +
+            "        <AbstractText Label=\"BACKGROUND\">p53 is a <sup>key</sup> regulator.</AbstractText>\n" +
+            "        <AbstractText Label=\"RESULTS\">Second section.</AbstractText>\n" +
+            "      </Abstract>\n" +
+            "      <AuthorList CompleteYN=\"Y\">\n" +
+            "        <Author ValidYN=\"Y\">\n" +
+            "          <LastName>Smith</LastName><ForeName>Alice</ForeName><Initials>A</Initials>\n" +
+            "          <AffiliationInfo><Affiliation>Dept. of Oncology, Oxford.</Affiliation></AffiliationInfo>\n" +
+            "        </Author>\n" +
+            "        <Author ValidYN=\"Y\"><LastName>Jones</LastName><ForeName>Bob</ForeName></Author>\n" +
+            "        <Author ValidYN=\"Y\"><CollectiveName>TP53 Consortium</CollectiveName></Author>\n" +
+            "      </AuthorList>\n" +
+            "      <PublicationTypeList>\n" +
+            "        <PublicationType UI=\"D016428\">Journal Article</PublicationType>\n" +
+            "        <PublicationType UI=\"D016454\">Review</PublicationType>\n" +
+            "      </PublicationTypeList>\n" +
+            "    </Article>\n" +
+            "    <MeshHeadingList>\n" +
+            "      <MeshHeading><DescriptorName UI=\"D016159\">Tumor Suppressor Protein p53</DescriptorName>" +
+            "<QualifierName UI=\"Q000502\">physiology</QualifierName></MeshHeading>\n" +
+            "      <MeshHeading><DescriptorName UI=\"D006801\">Humans</DescriptorName></MeshHeading>\n" +
+            "    </MeshHeadingList>\n" +
+            "    <KeywordList Owner=\"NOTNLM\"><Keyword>p53</Keyword><Keyword>DNA repair</Keyword></KeywordList>\n" +
+            "    <CommentsCorrectionsList>\n" +
+            "      <CommentsCorrections RefType=\"Cites\"><PMID Version=\"1\">1111111</PMID></CommentsCorrections>\n" +
+            "    </CommentsCorrectionsList>\n" +
+            "  </MedlineCitation>\n" +
+            "  <PubmedData>\n" +
+            "    <ArticleIdList>\n" +
+            "      <ArticleId IdType=\"pubmed\">31452104</ArticleId>\n" +
+            "      <ArticleId IdType=\"doi\">10.1038/s41588-019-0001-x</ArticleId>\n" +
+            "    </ArticleIdList>\n" +
+            "  </PubmedData>\n" +
+            "</PubmedArticle>\n";
+
+    private static final String ARTICLE_2 = "<PubmedArticle>\n" +
+            "  <MedlineCitation><PMID Version=\"1\">28000002</PMID>\n" +
+            "    <Article><Journal><Title>Cell</Title></Journal>\n" +
+            "      <ArticleTitle>A second article</ArticleTitle>\n" +
+            "    </Article>\n" +
+            "  </MedlineCitation>\n" +
+            "</PubmedArticle>\n";
+
+    private static final String DOCUMENT = "<?xml version=\"1.0\" ?>\n" +
+            "<!DOCTYPE PubmedArticleSet PUBLIC \"-//NLM//DTD PubMedArticle, 1st January 2024//EN\" " +
+            "\"https://dtd.nlm.nih.gov/ncbi/pubmed/out/pubmed_240101.dtd\">\n" +
+            "<PubmedArticleSet>\n" + ARTICLE_1 + ARTICLE_2 + "</PubmedArticleSet>\n";
+
+    @BeforeEach
+    void setUp() {
+        parser = new PubMedXmlParser();
+    }
+
+    @Test
+    void testParsePapers() {
+        List<Paper> papers = parser.parsePapers(DOCUMENT);
+        assertEquals(2, papers.size());
+
+        Paper paper = papers.get(0);
+        assertEquals("31452104", paper.getId());
+        assertEquals("pubmed", paper.getSource());
+        assertEquals("Role of TP53 in tumour suppression & repair.", paper.getTitle());
+        assertEquals("p53 is a key regulator.", paper.getAbstractText());
+        assertEquals("Nature genetics", paper.getJournal());
+        assertEquals("2019", paper.getPublicationDate());
+        assertEquals("10.1038/s41588-019-0001-x", paper.getDoi());
+        assertEquals("https://pubmed.ncbi.nlm.nih.gov/31452104", paper.getUrl());
+        assertEquals(List.of("Tumor Suppressor Protein p53", "Humans"), paper.getMeshTerms());
+        assertEquals(List.of("Journal Article", "Review"), paper.getPublicationTypes());
+        assertEquals(List.of("p53", "DNA repair"), paper.getKeywords());
+
+        assertEquals(2, paper.getAuthors().size());
+        assertEquals("Alice Smith", paper.getAuthors().get(0).getName());
+        assertEquals("Dept. of Oncology, Oxford.", paper.getAuthors().get(0).getAffiliation());
+        assertEquals("Bob Jones", paper.getAuthors().get(1).getName());
+        assertNull(paper.getAuthors().get(1).getAffiliation());
+
+        assertEquals("28000002", papers.get(1).getId());
+        assertEquals("Cell", papers.get(1).getJournal());
+        assertNull(papers.get(1).getDoi());
+    }
+
+    @Test
+    void testArticlesWithoutTitleAreSkipped() {
+        String xml = "<PubmedArticleSet><PubmedArticle><MedlineCitation><PMID>1</PMID>" +
+                "</MedlineCitation></PubmedArticle>" + ARTICLE_2 + "</PubmedArticleSet>";
+        List<Paper> papers = parser.parsePapers(xml);
+        assertEquals(1, papers.size());
+        assertEquals("28000002", papers.get(0).getId());
+    }
+
+    @Test
+    void testForEachPaperEmitsInDocumentOrder() throws IOException {
+        List<String> ids = new ArrayList<>();
+        parser.forEachPaper(new StringReader(DOCUMENT), paper -> ids.add(paper.getId()));
+        assertEquals(List.of("31452104", "28000002"), ids);
+    }
+
+    @Test
+    void testTruncatedStream() {
+        String truncated = DOCUMENT.substring(0, DOCUMENT.indexOf("A second article"));
+
+        assertThrows(ResponseParseException.class, () -> parser.parsePapers(new StringReader(truncated)));
+
+        List<Paper> papers = parser.parsePapers(truncated);
+        assertEquals(1, papers.size());
+        assertEquals("31452104", papers.get(0).getId());
+    }
+
+    @Test
+    void testReadFailureIsNotAParseError() {
+        Reader dropped = new FilterReader(new StringReader(DOCUMENT.substring(0, 200))) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read == -1) {
+                    throw new IOException("connection reset");
+                }
+                return read;
+            }
+        };
+
+        IOException e = assertThrows(IOException.class, () -> parser.parsePapers(dropped));
+        assertFalse(e instanceof ResponseParseException);
+        assertEquals("connection reset", e.getMessage());
+    }
+
+    @Test
+    void testEmptySet() {
+        assertTrue(parser.parsePapers("<PubmedArticleSet></PubmedArticleSet>").isEmpty());
+    }
+}
@@ -0,0 +1,42 @@
+package io.clavis.reactome;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the Reactome tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class ReactomeModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "reactome";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Reactome";
+    }
+
+    @Override
+    public String getGroup() {
+        return "proteins";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        ReactomeTools toolFactory = new ReactomeTools(new ReactomeClient());
+        return List.of(
+                toolFactory.createSearchTool(),
+                toolFactory.createGetPathwayTool(),
+                toolFactory.createGetParticipantsTool(),
+                toolFactory.createGetPathwaysForEntityTool());
+    }
+}
@@ -3,12 +3,12 @@ package io.clavis.rxnorm;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import io.clavis.core.exception.ApiException;
+import io.clavis.core.http.HttpClientFactory;
 import okhttp3.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 
 public class RxNormClient {
     private static final Logger logger = LoggerFactory.getLogger(RxNormClient.class);
@@ -18,10 +18,7 @@ public class RxNormClient {
     private final Gson gson;
 
     public RxNormClient() {
-        this.httpClient = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .build();
+        this.httpClient = HttpClientFactory.createDefault("rxnorm");
         this.gson = new Gson();
     }
 
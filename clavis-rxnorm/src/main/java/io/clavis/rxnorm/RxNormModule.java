@@ -0,0 +1,37 @@
+package io.clavis.rxnorm;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the RxNorm tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class RxNormModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "rxnorm";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "RxNorm";
+    }
+
+    @Override
+    public String getGroup() {
+        return "clinical";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new RxNormTools(new RxNormClient()).getAllTools();
+    }
+}
@@ -1,8 +1,10 @@
 package io.clavis.semanticscholar;
 
 import io.clavis.core.exception.ApiException;
+import io.clavis.core.http.BodyParser;
 import io.clavis.core.http.HttpClientFactory;
 import io.clavis.core.http.RateLimiter;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RetryPolicy;
 import io.clavis.core.logging.StructuredLogger;
 import io.clavis.core.models.Paper;
@@ -44,7 +46,6 @@ public class SemanticScholarClient {
 
     private final StructuredLogger logger;
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
     private final String apiKey;
 
@@ -55,19 +56,19 @@ public class SemanticScholarClient {
      */
     public SemanticScholarClient(String apiKey) {
         this.logger = new StructuredLogger(SemanticScholarClient.class);
-        this.httpClient = HttpClientFactory.createDefault();
-
+        RateLimiter rateLimiter;
         if (apiKey == null || apiKey.trim().isEmpty()) {
             this.apiKey = "";
-            this.rateLimiter = new RateLimiter(1);
+            rateLimiter = new RateLimiter(1);
             logger.warn("No API key provided. Requests will be rate-limited to 1/second.");
         } else {
             this.apiKey = apiKey.trim();
-            this.rateLimiter = new RateLimiter(10);
+            rateLimiter = new RateLimiter(10);
             logger.info("API key configured. Rate limit: 10 req/s.");
         }
+        this.httpClient = HttpClientFactory.createDefault("semanticscholar", rateLimiter);
 
-        this.retryPolicy = RetryPolicy.defaultPolicy();
+        this.retryPolicy = RetryPolicy.forUpstream("semanticscholar");
     }
 
     /**
@@ -102,8 +103,7 @@ public class SemanticScholarClient {
 
             logger.info("[s2] API request: endpoint=paper/search, query=" + query + ", limit=" + maxResults);
 
-            String response = executeRequest(url.toString());
-            return SemanticScholarJsonParser.parsePaperSearchResults(response);
+            return executeRequest(url.toString(), SemanticScholarJsonParser::parsePaperSearchResults);
         });
     }
 
@@ -122,8 +122,7 @@ public class SemanticScholarClient {
 
             logger.info("[s2] API request: endpoint=paper/" + paperId);
 
-            String response = executeRequest(url);
-            return SemanticScholarJsonParser.parseSinglePaper(response);
+            return executeRequest(url, SemanticScholarJsonParser::parseSinglePaper);
         });
     }
 
@@ -143,8 +142,7 @@ public class SemanticScholarClient {
 
             logger.info("[s2] API request: endpoint=paper/" + paperId + "/citations");
 
-            String response = executeRequest(url);
-            return SemanticScholarJsonParser.parseCitationResults(response);
+            return executeRequest(url, SemanticScholarJsonParser::parseCitationResults);
         });
     }
 
@@ -164,8 +162,7 @@ public class SemanticScholarClient {
 
             logger.info("[s2] API request: endpoint=paper/" + paperId + "/references");
 
-            String response = executeRequest(url);
-            return SemanticScholarJsonParser.parseReferenceResults(response);
+            return executeRequest(url, SemanticScholarJsonParser::parseReferenceResults);
         });
     }
 
@@ -185,7 +182,7 @@ public class SemanticScholarClient {
 
             logger.info("[s2] API request: endpoint=author/search, query=" + name);
 
-            return executeRequest(url);
+            return executeRequest(url, BodyParser.asString());
         });
     }
 
@@ -203,7 +200,7 @@ public class SemanticScholarClient {
 
             logger.info("[s2] API request: endpoint=author/" + authorId);
 
-            return executeRequest(url);
+            return executeRequest(url, BodyParser.asString());
         });
     }
 
@@ -223,8 +220,7 @@ public class SemanticScholarClient {
 
             logger.info("[s2] API request: endpoint=author/" + authorId + "/papers");
 
-            String response = executeRequest(url);
-            return SemanticScholarJsonParser.parseAuthorPapersResults(response);
+            return executeRequest(url, SemanticScholarJsonParser::parseAuthorPapersResults);
         });
     }
 
@@ -256,15 +252,13 @@ public class SemanticScholarClient {
 
             logger.info("[s2] API request: endpoint=recommendations, seeds=" + positivePaperIds.size());
 
-            String response = executePostRequest(url, body.toString());
-            return SemanticScholarJsonParser.parseRecommendationResults(response);
+            return executePostRequest(url, body.toString(), SemanticScholarJsonParser::parseRecommendationResults);
         });
     }
 
     // ---- Internal helpers ----
 
-    private String executeRequest(String url) throws IOException, InterruptedException {
-        rateLimiter.acquire();
+    private <T> T executeRequest(String url, BodyParser<T> parser) throws IOException {
         Request.Builder builder = new Request.Builder().url(url);
         if (!apiKey.isEmpty()) {
             builder.header("x-api-key", apiKey);
@@ -274,14 +268,13 @@ public class SemanticScholarClient {
         try (Response response = httpClient.newCall(request).execute()) {
             if (!response.isSuccessful()) {
                 String errorBody = response.body() != null ? response.body().string() : "No body";
-                throw new IOException("S2 API error " + response.code() + ": " + errorBody);
+                throw new HttpStatusException("S2 API error " + response.code() + ": " + errorBody, response.code());
             }
-            return response.body() != null ? response.body().string() : "";
+            return BodyParser.parse(response, parser);
         }
     }
 
-    private String executePostRequest(String url, String jsonBody) throws IOException, InterruptedException {
-        rateLimiter.acquire();
+    private <T> T executePostRequest(String url, String jsonBody, BodyParser<T> parser) throws IOException {
         RequestBody requestBody = RequestBody.create(jsonBody, JSON_MEDIA);
         Request.Builder builder = new Request.Builder().url(url).post(requestBody);
         if (!apiKey.isEmpty()) {
@@ -292,9 +285,9 @@ public class SemanticScholarClient {
         try (Response response = httpClient.newCall(request).execute()) {
             if (!response.isSuccessful()) {
                 String errorBody = response.body() != null ? response.body().string() : "No body";
-                throw new IOException("S2 API error " + response.code() + ": " + errorBody);
+                throw new HttpStatusException("S2 API error " + response.code() + ": " + errorBody, response.code());
             }
-            return response.body() != null ? response.body().string() : "";
+            return BodyParser.parse(response, parser);
         }
     }
 
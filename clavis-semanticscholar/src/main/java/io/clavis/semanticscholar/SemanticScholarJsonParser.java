@@ -6,10 +6,15 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import io.clavis.core.models.Author;
 import io.clavis.core.models.Paper;
+import io.clavis.core.util.StreamingJson;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Parser for Semantic Scholar API JSON responses.
@@ -36,17 +41,24 @@ public class SemanticScholarJsonParser {
      */
     public static List<Paper> parsePaperSearchResults(String json) {
         try {
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            if (!root.has("data")) {
-                return Collections.emptyList();
-            }
-            JsonArray data = root.getAsJsonArray("data");
-            return parsePaperArray(data);
+            return parsePaperSearchResults(new StringReader(json));
         } catch (Exception e) {
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Parses paper search results from the /paper/search endpoint as the
+     * body streams in.
+     *
+     * @param json JSON response body
+     * @return list of papers
+     * @throws IOException if reading the body fails
+     */
+    public static List<Paper> parsePaperSearchResults(Reader json) throws IOException {
+        return readPapers(json, "data", item -> item);
+    }
+
     /**
      * Parses a single paper from the /paper/{id} endpoint.
      *
@@ -55,13 +67,25 @@ public class SemanticScholarJsonParser {
      */
     public static Paper parseSinglePaper(String json) {
         try {
-            JsonObject obj = JsonParser.parseString(json).getAsJsonObject();
-            return parsePaperObject(obj);
+            return parseSinglePaper(new StringReader(json));
         } catch (Exception e) {
             return null;
         }
     }
 
+    /**
+     * Parses a single paper from the /paper/{id} endpoint as the body
+     * streams in.
+     *
+     * @param json JSON response body
+     * @return the paper, or null if it has no id or title
+     * @throws IOException if reading the body fails
+     */
+    public static Paper parseSinglePaper(Reader json) throws IOException {
+        JsonObject obj = JsonParser.parseReader(json).getAsJsonObject();
+        return parsePaperObject(obj);
+    }
+
     /**
      * Parses citation results from /paper/{id}/citations.
      * S2 wraps each citing paper in a {"citingPaper": {...}} object.
@@ -71,27 +95,24 @@ public class SemanticScholarJsonParser {
      */
     public static List<Paper> parseCitationResults(String json) {
         try {
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            if (!root.has("data")) {
-                return Collections.emptyList();
-            }
-            JsonArray data = root.getAsJsonArray("data");
-            List<Paper> papers = new ArrayList<>();
-            for (JsonElement element : data) {
-                JsonObject wrapper = element.getAsJsonObject();
-                if (wrapper.has("citingPaper")) {
-                    Paper paper = parsePaperObject(wrapper.getAsJsonObject("citingPaper"));
-                    if (paper != null) {
-                        papers.add(paper);
-                    }
-                }
-            }
-            return papers;
+            return parseCitationResults(new StringReader(json));
         } catch (Exception e) {
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Parses citation results from /paper/{id}/citations as the body
+     * streams in, one citing paper at a time.
+     *
+     * @param json JSON response body
+     * @return list of citing papers
+     * @throws IOException if reading the body fails
+     */
+    public static List<Paper> parseCitationResults(Reader json) throws IOException {
+        return readPapers(json, "data", item -> member(item, "citingPaper"));
+    }
+
     /**
      * Parses reference results from /paper/{id}/references.
      * S2 wraps each cited paper in a {"citedPaper": {...}} object.
@@ -101,27 +122,24 @@ public class SemanticScholarJsonParser {
      */
     public static List<Paper> parseReferenceResults(String json) {
         try {
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            if (!root.has("data")) {
-                return Collections.emptyList();
-            }
-            JsonArray data = root.getAsJsonArray("data");
-            List<Paper> papers = new ArrayList<>();
-            for (JsonElement element : data) {
-                JsonObject wrapper = element.getAsJsonObject();
-                if (wrapper.has("citedPaper")) {
-                    Paper paper = parsePaperObject(wrapper.getAsJsonObject("citedPaper"));
-                    if (paper != null) {
-                        papers.add(paper);
-                    }
-                }
-            }
-            return papers;
+            return parseReferenceResults(new StringReader(json));
         } catch (Exception e) {
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Parses reference results from /paper/{id}/references as the body
+     * streams in, one cited paper at a time.
+     *
+     * @param json JSON response body
+     * @return list of referenced papers
+     * @throws IOException if reading the body fails
+     */
+    public static List<Paper> parseReferenceResults(Reader json) throws IOException {
+        return readPapers(json, "data", item -> member(item, "citedPaper"));
+    }
+
     /**
      * Parses papers from /author/{id}/papers.
      * S2 wraps each paper in a {"paper": {...}} object, but the
@@ -132,27 +150,24 @@ public class SemanticScholarJsonParser {
      */
     public static List<Paper> parseAuthorPapersResults(String json) {
         try {
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            if (!root.has("data")) {
-                return Collections.emptyList();
-            }
-            JsonArray data = root.getAsJsonArray("data");
-            List<Paper> papers = new ArrayList<>();
-            for (JsonElement element : data) {
-                JsonObject item = element.getAsJsonObject();
-                // Author papers endpoint may wrap in "paper" key or return directly
-                JsonObject paperObj = item.has("paper") ? item.getAsJsonObject("paper") : item;
-                Paper paper = parsePaperObject(paperObj);
-                if (paper != null) {
-                    papers.add(paper);
-                }
-            }
-            return papers;
+            return parseAuthorPapersResults(new StringReader(json));
         } catch (Exception e) {
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Parses papers from /author/{id}/papers as the body streams in.
+     *
+     * @param json JSON response body
+     * @return list of papers
+     * @throws IOException if reading the body fails
+     */
+    public static List<Paper> parseAuthorPapersResults(Reader json) throws IOException {
+        // Author papers endpoint may wrap in "paper" key or return directly
+        return readPapers(json, "data", item -> item.has("paper") ? member(item, "paper") : item);
+    }
+
     /**
      * Parses recommendation results from /recommendations/v1/papers.
      *
@@ -161,17 +176,24 @@ public class SemanticScholarJsonParser {
      */
     public static List<Paper> parseRecommendationResults(String json) {
         try {
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            if (!root.has("recommendedPapers")) {
-                return Collections.emptyList();
-            }
-            JsonArray data = root.getAsJsonArray("recommendedPapers");
-            return parsePaperArray(data);
+            return parseRecommendationResults(new StringReader(json));
         } catch (Exception e) {
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Parses recommendation results from /recommendations/v1/papers as the
+     * body streams in.
+     *
+     * @param json JSON response body
+     * @return list of recommended papers
+     * @throws IOException if reading the body fails
+     */
+    public static List<Paper> parseRecommendationResults(Reader json) throws IOException {
+        return readPapers(json, "recommendedPapers", item -> item);
+    }
+
     /**
      * Parses author search results.
      *
@@ -243,15 +265,23 @@ public class SemanticScholarJsonParser {
 
     // ---- Internal helpers ----
 
-    private static List<Paper> parsePaperArray(JsonArray data) {
-        List<Paper> papers = new ArrayList<>();
-        for (JsonElement element : data) {
-            Paper paper = parsePaperObject(element.getAsJsonObject());
-            if (paper != null) {
-                papers.add(paper);
+    /**
+     * Streams the array under {@code field}, turning each element into a
+     * paper before the next one is read.
+     */
+    private static List<Paper> readPapers(Reader json, String field, UnaryOperator<JsonObject> unwrap)
+            throws IOException {
+        return StreamingJson.readArrayField(json, field, element -> {
+            if (!element.isJsonObject()) {
+                return null;
             }
-        }
-        return papers;
+            JsonObject paperObj = unwrap.apply(element.getAsJsonObject());
+            return paperObj != null ? parsePaperObject(paperObj) : null;
+        });
+    }
+
+    private static JsonObject member(JsonObject obj, String key) {
+        return obj.has(key) && obj.get(key).isJsonObject() ? obj.getAsJsonObject(key) : null;
     }
 
     private static Paper parsePaperObject(JsonObject obj) {
@@ -0,0 +1,48 @@
+package io.clavis.semanticscholar;
+
+import io.clavis.core.config.ConfigManager;
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the Semantic Scholar tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class SemanticScholarModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "semanticscholar";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Semantic Scholar";
+    }
+
+    @Override
+    public String getGroup() {
+        return "literature";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        String apiKey = ConfigManager.getInstance().get("SEMANTIC_SCHOLAR_API_KEY", "");
+        SemanticScholarTools toolFactory = new SemanticScholarTools(new SemanticScholarClient(apiKey));
+        return List.of(
+                toolFactory.createSearchTool(),
+                toolFactory.createGetPaperTool(),
+                toolFactory.createGetCitationsTool(),
+                toolFactory.createGetReferencesTool(),
+                toolFactory.createSearchAuthorTool(),
+                toolFactory.createGetAuthorTool(),
+                toolFactory.createGetAuthorPapersTool(),
+                toolFactory.createRecommendPapersTool());
+    }
+}
@@ -0,0 +1,80 @@
+package io.clavis.unified;
+
+import com.google.gson.JsonObject;
+import io.clavis.core.mcp.MCPTool;
+import io.clavis.core.mcp.ToolExecutionException;
+
+import java.time.Duration;
+
+/**
+ * A tool listed from the {@link ToolManifest} whose module is built on the
+ * first call.
+ *
+ * <p>
+ * Name, description and input schema come from the manifest, so listing the
+ * tool does not load its module. {@link #execute} initializes the module and
+ * delegates to the real tool, as do the result cache hooks, which the server
+ * consults just before executing.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class LazyTool implements MCPTool {
+
+    private final ToolModule module;
+    private final String name;
+    private final String description;
+    private final JsonObject inputSchema;
+
+    LazyTool(ToolModule module, String name, String description, JsonObject inputSchema) {
+        this.module = module;
+        this.name = name;
+        this.description = description;
+        this.inputSchema = inputSchema;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public JsonObject getInputSchema() {
+        return inputSchema.deepCopy();
+    }
+
+    @Override
+    public String getModule() {
+        return module.getName();
+    }
+
+    @Override
+    public Duration getResultCacheTtl() {
+        try {
+            return module.tool(name).getResultCacheTtl();
+        } catch (ToolExecutionException e) {
+            return Duration.ZERO; // execute() reports the failure
+        }
+    }
+
+    @Override
+    public JsonObject canonicalArguments(JsonObject arguments) {
+        try {
+            return module.tool(name).canonicalArguments(arguments);
+        } catch (ToolExecutionException e) {
+            return arguments;
+        }
+    }
+
+    @Override
+    public JsonObject execute(JsonObject parameters) throws ToolExecutionException {
+        return module.tool(name).execute(parameters);
+    }
+}
@@ -0,0 +1,91 @@
+package io.clavis.unified;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The modules a unified server deployment loads, parsed from
+ * {@code CLAVIS_MODULES}.
+ *
+ * <p>
+ * The setting is a comma-separated list of module names (e.g.
+ * {@code pubmed}) and groups (e.g. {@code literature}). A term prefixed with
+ * {@code -} excludes the modules it names. With no included terms every
+ * module is loaded except the excluded ones, so {@code literature,uniprot}
+ * loads the literature modules and UniProt, and {@code -hmdb} loads
+ * everything but HMDB.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class ModuleSelection {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModuleSelection.class);
+
+    private final Set<String> includes;
+    private final Set<String> excludes;
+
+    private ModuleSelection(Set<String> includes, Set<String> excludes) {
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    /**
+     * Parses a selection.
+     *
+     * @param spec the {@code CLAVIS_MODULES} value, or null or blank for
+     *             every module
+     * @return the selection
+     */
+    static ModuleSelection parse(String spec) {
+        Set<String> includes = new LinkedHashSet<>();
+        Set<String> excludes = new LinkedHashSet<>();
+        if (spec != null) {
+            for (String term : spec.split(",")) {
+                String normalized = term.trim().toLowerCase(Locale.ROOT);
+                if (normalized.startsWith("-")) {
+                    excludes.add(normalized.substring(1).trim());
+                } else if (!normalized.isEmpty()) {
+                    includes.add(normalized);
+                }
+            }
+        }
+        excludes.remove("");
+        return new ModuleSelection(includes, excludes);
+    }
+
+    /**
+     * Returns the selected modules, warning about terms that match none.
+     *
+     * @param modules the modules on the classpath
+     * @return the selected modules in their original order
+     */
+    List<ToolModule> apply(List<ToolModule> modules) {
+        Set<String> unmatched = new LinkedHashSet<>(includes);
+        unmatched.addAll(excludes);
+        List<ToolModule> selected = new ArrayList<>();
+        for (ToolModule module : modules) {
+            String name = module.getName().toLowerCase(Locale.ROOT);
+            String group = module.getGroup().toLowerCase(Locale.ROOT);
+            unmatched.remove(name);
+            unmatched.remove(group);
+            boolean included = includes.isEmpty() || includes.contains(name) || includes.contains(group);
+            boolean excluded = excludes.contains(name) || excludes.contains(group);
+            if (included && !excluded) {
+                selected.add(module);
+            }
+        }
+        if (!unmatched.isEmpty()) {
+            logger.warn("CLAVIS_MODULES names unknown modules or groups: {}", String.join(", ", unmatched));
+        }
+        return selected;
+    }
+}
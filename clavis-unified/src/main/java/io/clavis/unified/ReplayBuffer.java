@@ -0,0 +1,135 @@
+package io.clavis.unified;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The most recent events sent to one SSE session, kept so a client that
+ * reconnects with {@code Last-Event-ID} can be sent what it missed.
+ *
+ * <p>
+ * Bounded both by event count and by the UTF-8 size of the event data;
+ * the oldest events are evicted first. An event larger than the byte limit
+ * on its own is not kept, and neither are the events before it, since a
+ * client that missed it cannot be brought up to date anyway. Not
+ * thread-safe; the owning session synchronizes access.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class ReplayBuffer {
+
+    /** One buffered event. */
+    static final class Entry {
+        final long seq;
+        final String data;
+        final long bytes;
+
+        Entry(long seq, String data, long bytes) {
+            this.seq = seq;
+            this.data = data;
+            this.bytes = bytes;
+        }
+    }
+
+    private final int maxEvents;
+    private final long maxBytes;
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private long bytes;
+    private long evictedThrough;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param maxEvents the maximum number of events kept
+     * @param maxBytes  the maximum total UTF-8 size of the kept events
+     */
+    ReplayBuffer(int maxEvents, long maxBytes) {
+        this.maxEvents = maxEvents;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Adds an event, evicting the oldest ones to stay within the bounds.
+     *
+     * @param seq  the event's sequence number, greater than any added before
+     * @param data the event data
+     */
+    void add(long seq, String data) {
+        long size = utf8Length(data);
+        if (size > maxBytes) {
+            evictedThrough = seq;
+            clear();
+            return;
+        }
+        entries.addLast(new Entry(seq, data, size));
+        bytes += size;
+        while (entries.size() > maxEvents || bytes > maxBytes) {
+            Entry evicted = entries.removeFirst();
+            bytes -= evicted.bytes;
+            evictedThrough = evicted.seq;
+        }
+    }
+
+    /**
+     * Returns the events after the one a client last received.
+     *
+     * @param lastSeq the sequence number from {@code Last-Event-ID}
+     * @return the buffered events with a greater sequence number, oldest
+     *         first
+     */
+    List<Entry> after(long lastSeq) {
+        List<Entry> missed = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.seq > lastSeq) {
+                missed.add(entry);
+            }
+        }
+        return missed;
+    }
+
+    /**
+     * Returns whether every event after {@code lastSeq} is still buffered.
+     *
+     * @param lastSeq the sequence number from {@code Last-Event-ID}
+     * @return false if some of the events the client missed were evicted
+     */
+    boolean covers(long lastSeq) {
+        return lastSeq >= evictedThrough;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long bytes() {
+        return bytes;
+    }
+
+    private void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    static long utf8Length(String text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
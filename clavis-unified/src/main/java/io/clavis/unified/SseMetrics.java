@@ -0,0 +1,132 @@
+package io.clavis.unified;
+
+import com.google.gson.JsonObject;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the SSE server's outbound queues, shared by all sessions.
+ *
+ * <p>
+ * Reported under {@code sse} at {@code GET /metrics}: how many messages were
+ * queued, dropped or cost a session its connection on overflow, how long
+ * writes to clients take, how deep the queues are right now, and how often
+ * clients resumed a stream and were sent responses they missed.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class SseMetrics {
+
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder overflowCloses = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder writeFailures = new LongAdder();
+    private final LongAdder totalWriteNanos = new LongAdder();
+    private final LongAccumulator maxWriteNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder resumes = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder replayGaps = new LongAdder();
+
+    void recordQueued() {
+        queued.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void recordOverflowClose() {
+        overflowCloses.increment();
+    }
+
+    void recordWriteFailure() {
+        writeFailures.increment();
+    }
+
+    void recordResume() {
+        resumes.increment();
+    }
+
+    void recordReplayed() {
+        replayed.increment();
+    }
+
+    void recordReplayGap() {
+        replayGaps.increment();
+    }
+
+    /**
+     * Records one message written to a client.
+     *
+     * @param nanos time the write and flush took
+     */
+    void recordWrite(long nanos) {
+        writes.increment();
+        totalWriteNanos.add(nanos);
+        maxWriteNanos.accumulate(nanos);
+    }
+
+    long getQueued() {
+        return queued.sum();
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+
+    long getOverflowCloses() {
+        return overflowCloses.sum();
+    }
+
+    long getWrites() {
+        return writes.sum();
+    }
+
+    long getResumes() {
+        return resumes.sum();
+    }
+
+    long getReplayed() {
+        return replayed.sum();
+    }
+
+    /**
+     * Returns the counters together with the current queue depths.
+     *
+     * @param queues the queues of the connected sessions
+     * @return a JSON object for the metrics endpoint
+     */
+    JsonObject snapshot(Collection<SseOutbound> queues) {
+        int totalDepth = 0;
+        int maxDepth = 0;
+        for (SseOutbound queue : queues) {
+            int depth = queue.depth();
+            totalDepth += depth;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+        long count = getWrites();
+        JsonObject json = new JsonObject();
+        json.addProperty("sessions", queues.size());
+        json.addProperty("queueDepth", totalDepth);
+        json.addProperty("maxSessionQueueDepth", maxDepth);
+        json.addProperty("queued", getQueued());
+        json.addProperty("dropped", getDropped());
+        json.addProperty("overflowCloses", getOverflowCloses());
+        json.addProperty("writes", count);
+        json.addProperty("writeFailures", writeFailures.sum());
+        json.addProperty("meanWriteMillis", count == 0
+                ? 0 : (double) totalWriteNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1));
+        json.addProperty("maxWriteMillis", TimeUnit.NANOSECONDS.toMillis(maxWriteNanos.get()));
+        json.addProperty("resumes", getResumes());
+        json.addProperty("replayed", getReplayed());
+        json.addProperty("replayGaps", replayGaps.sum());
+        return json;
+    }
+}
@@ -0,0 +1,234 @@
+package io.clavis.unified;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded queue of messages waiting to be written to one SSE session.
+ *
+ * <p>
+ * Producers (tool calls and request threads) only enqueue. A writer task
+ * for the session drains the queue, so a client that reads slowly, or not
+ * at all, stalls only its own writer and never the thread that produced
+ * the response. At most one writer task per session runs at a time, which
+ * keeps messages in order. When the queue is full the {@link OverflowPolicy}
+ * decides whether the new message is dropped or the session is closed.
+ * Responses replayed to a resumed session are queued apart from the bounded
+ * queue and written first; the replay buffer already bounds them.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class SseOutbound {
+
+    private static final Logger logger = LoggerFactory.getLogger(SseOutbound.class);
+
+    /** What to do with a message that does not fit in a full queue. */
+    enum OverflowPolicy {
+        /** Discard the message; the client never receives that response. */
+        DROP,
+        /** Close the session, as the client is not keeping up. */
+        CLOSE;
+
+        /**
+         * Parses a policy name, ignoring case.
+         *
+         * @param value "drop" or "close"
+         * @return the policy, {@link #CLOSE} if the value is not recognized
+         */
+        static OverflowPolicy parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                logger.warn("Unknown SSE overflow policy '{}', closing sessions that overflow", value);
+                return CLOSE;
+            }
+        }
+    }
+
+    /** A message body that is serialized as it is written. */
+    @FunctionalInterface
+    interface Message {
+        void writeTo(Writer out) throws IOException;
+    }
+
+    /** The connection the queue is drained into. */
+    interface Sink {
+        /**
+         * Writes and flushes one message.
+         *
+         * @param id      the SSE event id
+         * @param message the message
+         * @throws IOException if the client is gone
+         */
+        void send(String id, Message message) throws IOException;
+
+        /** Closes the connection. */
+        void close();
+    }
+
+    private final String sessionId;
+    private final Sink sink;
+    private final BlockingQueue<Event> queue;
+    private final Queue<Event> replayed = new ConcurrentLinkedQueue<>();
+    private final OverflowPolicy policy;
+    private final Executor writers;
+    private final SseMetrics metrics;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Creates a queue for one session.
+     *
+     * @param sessionId the session, for log messages
+     * @param sink      the connection to write to
+     * @param capacity  the maximum number of queued messages
+     * @param policy    what to do when the queue is full
+     * @param writers   runs the writer task
+     * @param metrics   shared outbound counters
+     */
+    SseOutbound(String sessionId, Sink sink, int capacity, OverflowPolicy policy,
+            Executor writers, SseMetrics metrics) {
+        this.sessionId = sessionId;
+        this.sink = sink;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.policy = policy;
+        this.writers = writers;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Queues a message for the session's writer.
+     *
+     * @param id      the SSE event id
+     * @param message the message
+     * @return true if the message was queued
+     */
+    boolean offer(String id, Message message) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!queue.offer(new Event(id, message))) {
+            metrics.recordDropped();
+            if (policy == OverflowPolicy.CLOSE) {
+                logger.warn("Outbound queue of SSE session {} is full, closing the session", sessionId);
+                metrics.recordOverflowClose();
+                close();
+            } else {
+                logger.warn("Outbound queue of SSE session {} is full, dropping a message", sessionId);
+            }
+            return false;
+        }
+        metrics.recordQueued();
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Queues a replayed message ahead of every message offered later. It
+     * does not count against the capacity, so replaying a full buffer
+     * cannot overflow the queue of the session that was just resumed.
+     *
+     * @param id      the SSE event id
+     * @param message the message
+     * @return true if the message was queued
+     */
+    boolean replay(String id, Message message) {
+        if (closed.get()) {
+            return false;
+        }
+        replayed.add(new Event(id, message));
+        metrics.recordQueued();
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Returns whether the queue was closed, by overflow, a failed write or
+     * the client disconnecting.
+     *
+     * @return true once closed
+     */
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Returns the number of messages waiting to be written.
+     *
+     * @return the queue depth
+     */
+    int depth() {
+        return replayed.size() + queue.size();
+    }
+
+    /**
+     * Discards queued messages and closes the connection. Idempotent.
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            replayed.clear();
+            queue.clear();
+            sink.close();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                writers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close();
+            }
+        }
+    }
+
+    private void drain() {
+        do {
+            Event event;
+            while (!closed.get() && (event = next()) != null) {
+                long start = System.nanoTime();
+                try {
+                    sink.send(event.id, event.message);
+                    metrics.recordWrite(System.nanoTime() - start);
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Failed to send response to SSE session {}: {}", sessionId, e.getMessage());
+                    metrics.recordWriteFailure();
+                    close();
+                }
+            }
+            draining.set(false);
+            // A message queued after the last poll but before the flag was cleared needs a writer
+        } while (!closed.get() && !(replayed.isEmpty() && queue.isEmpty()) && draining.compareAndSet(false, true));
+    }
+
+    private Event next() {
+        Event event = replayed.poll();
+        return event != null ? event : queue.poll();
+    }
+
+    /** A queued message with its event id. */
+    private static final class Event {
+        final String id;
+        final Message message;
+
+        Event(String id, Message message) {
+            this.id = id;
+            this.message = message;
+        }
+    }
+}
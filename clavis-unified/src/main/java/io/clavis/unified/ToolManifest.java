@@ -0,0 +1,144 @@
+package io.clavis.unified;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.clavis.core.mcp.MCPTool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The name, description and input schema of every unified server tool,
+ * grouped by module.
+ *
+ * <p>
+ * Read from {@value #RESOURCE} at startup so tools can be listed without
+ * building their modules' clients. The file is generated from the modules
+ * themselves; regenerate it after adding or changing a tool:
+ *
+ * <pre>{@code
+ * mvn -pl clavis-unified -am package -DskipTests
+ * java -cp clavis-unified/target/clavis-unified-1.0.0-SNAPSHOT.jar io.clavis.unified.ToolManifest \
+ *     clavis-unified/src/main/resources/META-INF/clavis/tool-manifest.json
+ * }</pre>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public final class ToolManifest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolManifest.class);
+
+    /** Classpath location of the manifest. */
+    public static final String RESOURCE = "/META-INF/clavis/tool-manifest.json";
+
+    private final JsonObject modules;
+
+    private ToolManifest(JsonObject modules) {
+        this.modules = modules;
+    }
+
+    /**
+     * Loads the manifest from the classpath.
+     *
+     * @return the manifest, empty if the resource is missing or unreadable
+     */
+    static ToolManifest load() {
+        try (InputStream in = ToolManifest.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                logger.warn("Tool manifest {} not found, modules will be initialized at startup", RESOURCE);
+                return new ToolManifest(new JsonObject());
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return new ToolManifest(JsonParser.parseReader(reader).getAsJsonObject().getAsJsonObject("modules"));
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read tool manifest {}, modules will be initialized at startup", RESOURCE, e);
+            return new ToolManifest(new JsonObject());
+        }
+    }
+
+    /**
+     * Returns the tools of a module as listed in the manifest.
+     *
+     * @param module the module
+     * @return tools that build the module when first called, or null if the
+     *         manifest does not list the module
+     */
+    List<MCPTool> lazyTools(ToolModule module) {
+        JsonArray listed = modules.getAsJsonArray(module.getName());
+        if (listed == null) {
+            return null;
+        }
+        List<MCPTool> lazy = new ArrayList<>(listed.size());
+        for (JsonElement element : listed) {
+            JsonObject tool = element.getAsJsonObject();
+            lazy.add(new LazyTool(module,
+                    tool.get("name").getAsString(),
+                    tool.get("description").getAsString(),
+                    tool.getAsJsonObject("inputSchema")));
+        }
+        return lazy;
+    }
+
+    /**
+     * Builds the manifest contents by initializing every module.
+     *
+     * @param toolModules the modules to describe
+     * @return the manifest as JSON
+     */
+    static JsonObject describe(List<ToolModule> toolModules) {
+        JsonObject described = new JsonObject();
+        for (ToolModule module : toolModules) {
+            JsonArray listed = new JsonArray();
+            for (MCPTool tool : module.tools()) {
+                JsonObject entry = new JsonObject();
+                entry.addProperty("name", tool.getName());
+                entry.addProperty("description", tool.getDescription());
+                entry.add("inputSchema", tool.getInputSchema());
+                listed.add(entry);
+            }
+            described.add(module.getName(), listed);
+        }
+        JsonObject manifest = new JsonObject();
+        manifest.add("modules", described);
+        return manifest;
+    }
+
+    /**
+     * Regenerates the manifest file.
+     *
+     * @param args the path to write the manifest to
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ToolManifest <output file>");
+            System.exit(1);
+        }
+        Path output = Path.of(args[0]);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create()
+                    .toJson(describe(UnifiedServer.modules()), writer);
+            writer.write('\n');
+        }
+        System.out.println("Wrote " + output);
+    }
+}
@@ -0,0 +1,110 @@
+package io.clavis.unified;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+import io.clavis.core.mcp.ToolExecutionException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link ClavisModule} in the unified server, with its tools built on
+ * first use.
+ *
+ * <p>
+ * {@link ClavisModule#createTools()} runs at most once, on the first call
+ * to {@link #tools()} or {@link #tool(String)}. If it fails, the next call
+ * tries again, so a module whose configuration is fixed while the server
+ * runs becomes usable without a restart.
+ * </p>
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+final class ToolModule {
+
+    private final ClavisModule module;
+    private volatile Map<String, MCPTool> tools;
+
+    /**
+     * Wraps a module.
+     *
+     * @param module the module whose tools to build on first use
+     */
+    ToolModule(ClavisModule module) {
+        this.module = Objects.requireNonNull(module, "module cannot be null");
+    }
+
+    String getName() {
+        return module.getName();
+    }
+
+    String getDisplayName() {
+        return module.getDisplayName();
+    }
+
+    String getGroup() {
+        return module.getGroup();
+    }
+
+    /**
+     * Returns whether the module's client and tools have been built.
+     *
+     * @return true once {@link #tools()} has succeeded
+     */
+    boolean isInitialized() {
+        return tools != null;
+    }
+
+    /**
+     * Returns the module's tools, building them on the first call.
+     *
+     * @return the tools in registration order
+     * @throws RuntimeException if the module's client cannot be created
+     */
+    List<MCPTool> tools() {
+        return List.copyOf(initialize().values());
+    }
+
+    /**
+     * Returns one of the module's tools, building the module on first use.
+     *
+     * @param toolName the tool name
+     * @return the tool
+     * @throws ToolExecutionException if the module cannot be initialized or
+     *                                does not provide the tool
+     */
+    MCPTool tool(String toolName) throws ToolExecutionException {
+        Map<String, MCPTool> initialized;
+        try {
+            initialized = initialize();
+        } catch (RuntimeException e) {
+            throw new ToolExecutionException(getDisplayName() + " is unavailable: " + e.getMessage(), e);
+        }
+        MCPTool tool = initialized.get(toolName);
+        if (tool == null) {
+            throw new ToolExecutionException(getDisplayName() + " does not provide tool: " + toolName);
+        }
+        return tool;
+    }
+
+    private Map<String, MCPTool> initialize() {
+        Map<String, MCPTool> current = tools;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (tools == null) {
+                Map<String, MCPTool> byName = new LinkedHashMap<>();
+                for (MCPTool tool : module.createTools()) {
+                    byName.putIfAbsent(tool.getName(), tool);
+                }
+                tools = byName;
+            }
+            return tools;
+        }
+    }
+}
@@ -1,22 +1,98 @@
 package io.clavis.unified;
 
-import io.clavis.core.mcp.MCPServer;
+import com.google.gson.JsonObject;
+import io.clavis.core.config.ConfigManager;
+import io.clavis.core.http.HttpMetrics;
+import io.clavis.core.mcp.ToolFilter;
 import io.javalin.Javalin;
 import io.javalin.http.sse.SseClient;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * SSE Transport wrapper for the Unified CLAVIS Server.
  * Enables integration with web-based MCP clients like LibreChat.
+ *
+ * <p>
+ * {@code POST /message} answers {@code 202 Accepted} as soon as a
+ * {@code tools/call} is queued; the tool runs on its own (virtual, on Java
+ * 21+) thread and its result is pushed over the session's SSE stream, so
+ * slow upstreams never hold a Jetty thread. Each session may have
+ * {@code CLAVIS_MAX_CONCURRENT_TOOL_CALLS} calls in flight and the server
+ * {@code CLAVIS_MAX_CONCURRENT_TOOL_CALLS_TOTAL}; calls beyond either limit
+ * are refused with 429 or 503 rather than queued. Other methods are
+ * answered inline.
+ * </p>
+ *
+ * <p>
+ * Responses are never written by the thread that produced them. Each
+ * session has a bounded outbound queue ({@code CLAVIS_SSE_QUEUE_CAPACITY})
+ * drained by its own writer task, so a stalled client only stalls its own
+ * writer. A session whose queue overflows is closed, or with
+ * {@code CLAVIS_SSE_OVERFLOW_POLICY=drop} loses the message instead.
+ * </p>
+ *
+ * <p>
+ * Streams are resumable. Every event carries an id of the form
+ * {@code <sessionId>:<seq>}, with the sequence increasing per session, and
+ * the last {@code CLAVIS_SSE_REPLAY_EVENTS} responses (at most
+ * {@code CLAVIS_SSE_REPLAY_BYTES}) are kept. A client that reconnects with
+ * {@code Last-Event-ID} within {@code CLAVIS_SSE_RESUME_SECONDS} gets its
+ * old session back and is sent the responses it missed, including results
+ * of tool calls that finished while it was away; no tool is run again.
+ * Replayed responses are written ahead of new ones and do not count
+ * against the outbound queue's capacity.
+ * </p>
  */
 public class UnifiedSseServer extends UnifiedServer {
     private static final Logger logger = LoggerFactory.getLogger(UnifiedSseServer.class);
-    private final Map<String, SseClient> sessions = new ConcurrentHashMap<>();
+    private static final String MAX_TOTAL_CALLS_KEY = "CLAVIS_MAX_CONCURRENT_TOOL_CALLS_TOTAL";
+    private static final int DEFAULT_MAX_TOTAL_CALLS = 64;
+    private static final String QUEUE_CAPACITY_KEY = "CLAVIS_SSE_QUEUE_CAPACITY";
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final String OVERFLOW_POLICY_KEY = "CLAVIS_SSE_OVERFLOW_POLICY";
+    private static final String REPLAY_EVENTS_KEY = "CLAVIS_SSE_REPLAY_EVENTS";
+    private static final int DEFAULT_REPLAY_EVENTS = 64;
+    private static final String REPLAY_BYTES_KEY = "CLAVIS_SSE_REPLAY_BYTES";
+    private static final int DEFAULT_REPLAY_BYTES = 4 * 1024 * 1024;
+    private static final String RESUME_SECONDS_KEY = "CLAVIS_SSE_RESUME_SECONDS";
+    private static final int DEFAULT_RESUME_SECONDS = 120;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final SseMetrics sseMetrics = new SseMetrics();
+    private ExecutorService toolExecutor;
+    private ExecutorService writerExecutor;
+    private ScheduledExecutorService expiryExecutor;
+    private Semaphore totalInFlight;
+    private int maxSessionCalls;
+    private int queueCapacity;
+    private SseOutbound.OverflowPolicy overflowPolicy;
+    private int replayEvents;
+    private int replayBytes;
+    private int resumeSeconds;
 
     public UnifiedSseServer() {
         super();
@@ -25,44 +101,81 @@ public class UnifiedSseServer extends UnifiedServer {
     /**
      * Starts the SSE server on the specified port.
      * 
-     * @param port The port to listen on.
+     * @param port The port to listen on, or 0 for any free port.
+     * @return the running server
      */
-    public void startSse(int port) {
+    public Javalin startSse(int port) {
         logger.info("Starting Unified SSE Server on port {}", port);
 
         // Register tools first
         registerTools();
 
-        Javalin app = Javalin.create(config -> {
-            config.router.mount(router -> {
+        ConfigManager config = ConfigManager.getInstance();
+        maxSessionCalls = Math.max(1, config.getInt(MAX_CONCURRENT_CALLS_KEY, DEFAULT_MAX_CONCURRENT_CALLS));
+        totalInFlight = new Semaphore(Math.max(1, config.getInt(MAX_TOTAL_CALLS_KEY, DEFAULT_MAX_TOTAL_CALLS)));
+        queueCapacity = Math.max(1, config.getInt(QUEUE_CAPACITY_KEY, DEFAULT_QUEUE_CAPACITY));
+        overflowPolicy = SseOutbound.OverflowPolicy.parse(config.get(OVERFLOW_POLICY_KEY, "close"));
+        replayEvents = Math.max(0, config.getInt(REPLAY_EVENTS_KEY, DEFAULT_REPLAY_EVENTS));
+        replayBytes = Math.max(0, config.getInt(REPLAY_BYTES_KEY, DEFAULT_REPLAY_BYTES));
+        resumeSeconds = Math.max(0, config.getInt(RESUME_SECONDS_KEY, DEFAULT_RESUME_SECONDS));
+        toolExecutor = createToolExecutor();
+        writerExecutor = Executors.newCachedThreadPool(daemonThreads("clavis-sse-writer-"));
+        expiryExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreads("clavis-sse-expiry-"));
+
+        Javalin app = Javalin.create(javalinConfig -> {
+            javalinConfig.router.mount(router -> {
                 router.before(ctx -> {
                     ctx.header("Access-Control-Allow-Origin", "*");
                     ctx.header("Access-Control-Allow-Methods", "GET, POST, OPTIONS");
                     ctx.header("Access-Control-Allow-Headers", "*");
                 });
             });
-        }).start(port);
+        });
+        app.events(events -> events.serverStopped(() -> {
+            toolExecutor.shutdownNow();
+            writerExecutor.shutdownNow();
+            expiryExecutor.shutdownNow();
+        }));
+        app.start(port);
 
-        // SSE Endpoint
+        // SSE Endpoint; ?tools=literature,uniprot limits the session to those tools
         app.sse("/sse", client -> {
-            String sessionId = UUID.randomUUID().toString();
-            sessions.put(sessionId, client);
-
-            logger.info("New SSE session established: {}", sessionId);
+            // Without this Javalin ends the stream when the handler returns
+            client.keepAlive();
+            String lastEventId = client.ctx().header("Last-Event-ID");
+            Session session = resumableSession(lastEventId);
+            long lastSeq = -1;
+            if (session != null) {
+                lastSeq = eventSeq(lastEventId);
+                logger.info("SSE session resumed after event {}: {}", lastSeq, session.id);
+            } else {
+                ToolFilter filter = ToolFilter.parse(client.ctx().queryParam("tools"));
+                session = new Session(UUID.randomUUID().toString(), filter);
+                sessions.put(session.id, session);
+                logger.info("New SSE session established: {}", session.id);
+            }
+            SseOutbound outbound = new SseOutbound(session.id, new ClientSink(client),
+                    queueCapacity, overflowPolicy, writerExecutor, sseMetrics);
 
-            // MCP SSE protocol: client needs to know where to post messages
-            client.sendEvent("endpoint", "/message?sessionId=" + sessionId);
+            // MCP SSE protocol: client needs to know where to post messages. On a resume the
+            // event repeats the client's position, so its Last-Event-ID does not move back to 0
+            String endpointId = eventId(session.id, Math.max(0, lastSeq));
+            String endpoint = "/message?sessionId=" + session.id;
+            session.attach(outbound, lastSeq, () -> client.sendEvent("endpoint", endpoint, endpointId));
 
+            Session attached = session;
             client.onClose(() -> {
-                logger.info("SSE session closed: {}", sessionId);
-                sessions.remove(sessionId);
+                logger.info("SSE connection closed: {}", attached.id);
+                outbound.close();
+                attached.detach(outbound);
             });
         });
 
         // Message Endpoint
         app.post("/message", ctx -> {
             String sessionId = ctx.queryParam("sessionId");
-            if (sessionId == null || !sessions.containsKey(sessionId)) {
+            Session session = sessionId == null ? null : sessions.get(sessionId);
+            if (session == null) {
                 ctx.status(400).result("Missing or invalid sessionId");
                 return;
             }
@@ -70,21 +183,262 @@ public class UnifiedSseServer extends UnifiedServer {
             String requestBody = ctx.body();
             logger.debug("Received message for session {}: {}", sessionId, requestBody);
 
-            // Process the message using the base MCPServer logic
-            String response = handleMessage(requestBody);
-
-            if (response != null) {
-                SseClient client = sessions.get(sessionId);
-                if (client != null) {
-                    logger.debug("Sending response to session {}: {}", sessionId, response);
-                    client.sendEvent("message", response);
-                }
+            JsonObject request = parseRequest(requestBody);
+            if (request == null || !isToolCall(request)) {
+                // Process the message using the base MCPServer logic
+                Response response = request == null
+                        ? dispatch(requestBody, session.filter) // Reports the parse error
+                        : dispatch(request, session.filter);
+                session.send(response);
+                ctx.status(202);
+                return;
             }
 
+            if (!session.inFlight.tryAcquire()) {
+                ctx.status(429).header("Retry-After", "1").result("Too many tool calls in flight for this session");
+                return;
+            }
+            if (!totalInFlight.tryAcquire()) {
+                session.inFlight.release();
+                ctx.status(503).header("Retry-After", "1").result("Too many tool calls in flight");
+                return;
+            }
+            try {
+                toolExecutor.execute(() -> {
+                    try {
+                        session.send(dispatch(request, session.filter));
+                    } finally {
+                        totalInFlight.release();
+                        session.inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                totalInFlight.release();
+                session.inFlight.release();
+                ctx.status(503).result("Server is shutting down");
+                return;
+            }
             ctx.status(202);
         });
 
-        logger.info("Unified SSE Server is running at http://localhost:{}/sse", port);
+        // Metrics Endpoint: circuit breaker states, rate-limit queue waits and SSE outbound queues
+        app.get("/metrics", ctx -> {
+            JsonObject metrics = HttpMetrics.snapshot();
+            List<SseOutbound> queues = new ArrayList<>();
+            sessions.values().forEach(session -> {
+                SseOutbound outbound = session.outbound;
+                if (outbound != null) {
+                    queues.add(outbound);
+                }
+            });
+            metrics.add("sse", sseMetrics.snapshot(queues));
+            ctx.contentType("application/json").result(metrics.toString());
+        });
+
+        logger.info("Unified SSE Server is running at http://localhost:{}/sse", app.port());
+        return app;
+    }
+
+    /**
+     * Finds the session a reconnecting client's {@code Last-Event-ID}
+     * belongs to.
+     *
+     * @param lastEventId the header value, may be null
+     * @return the session, or null if there is none to resume
+     */
+    private Session resumableSession(String lastEventId) {
+        if (lastEventId == null || resumeSeconds == 0) {
+            return null;
+        }
+        int separator = lastEventId.lastIndexOf(':');
+        if (separator <= 0 || eventSeq(lastEventId) < 0) {
+            return null;
+        }
+        return sessions.get(lastEventId.substring(0, separator));
+    }
+
+    private static String eventId(String sessionId, long seq) {
+        return sessionId + ":" + seq;
+    }
+
+    private static long eventSeq(String eventId) {
+        try {
+            return Long.parseLong(eventId.substring(eventId.lastIndexOf(':') + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Writes messages as SSE {@code message} events, serializing each
+     * response straight into the stream instead of building the event data
+     * as a string first. Responses are single-line JSON, so one
+     * {@code data:} line carries the whole message.
+     */
+    private static final class ClientSink implements SseOutbound.Sink {
+        private final SseClient client;
+
+        ClientSink(SseClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public void send(String id, SseOutbound.Message message) throws IOException {
+            if (client.terminated()) {
+                throw new IOException("SSE client disconnected");
+            }
+            HttpServletResponse res = client.ctx().res();
+            Writer out = new BufferedWriter(new OutputStreamWriter(res.getOutputStream(), StandardCharsets.UTF_8));
+            out.write("id: ");
+            out.write(id);
+            out.write("\nevent: message\ndata: ");
+            message.writeTo(out);
+            out.write("\n\n");
+            out.flush();
+            res.flushBuffer();
+        }
+
+        @Override
+        public void close() {
+            client.close();
+        }
+    }
+
+    /**
+     * An MCP session: the tools it may see, its in-flight calls, its event
+     * sequence and replay buffer, and the connection currently attached to
+     * it, if any. The session outlives its connection for
+     * {@code CLAVIS_SSE_RESUME_SECONDS} so a client can reconnect to it.
+     */
+    private final class Session {
+        final String id;
+        final ToolFilter filter;
+        final Semaphore inFlight;
+        private final ReplayBuffer replay;
+        private long lastSeq;
+        private ScheduledFuture<?> expiry;
+        volatile SseOutbound outbound;
+
+        Session(String id, ToolFilter filter) {
+            this.id = id;
+            this.filter = filter;
+            this.inFlight = new Semaphore(maxSessionCalls);
+            this.replay = replayEvents > 0 && replayBytes > 0 ? new ReplayBuffer(replayEvents, replayBytes) : null;
+        }
+
+        /**
+         * Queues a response for the session; nothing is sent for a null
+         * response (a notification). With replay enabled the response is
+         * serialized once here, as the buffer has to keep it anyway.
+         */
+        void send(Response response) {
+            if (response == null) {
+                return;
+            }
+            SseOutbound.Message message = response::writeTo;
+            String data = null;
+            if (replay != null) {
+                StringWriter out = new StringWriter();
+                try {
+                    response.writeTo(out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                data = out.toString();
+                String text = data;
+                message = writer -> writer.write(text);
+            }
+            synchronized (this) {
+                long seq = ++lastSeq;
+                if (data != null) {
+                    replay.add(seq, data);
+                }
+                if (outbound != null) {
+                    outbound.offer(eventId(id, seq), message);
+                }
+            }
+        }
+
+        /**
+         * Attaches a new connection, closing any previous one, and queues
+         * the buffered responses after {@code afterSeq} for it.
+         *
+         * <p>
+         * {@code announce} sends the endpoint event while the session is
+         * locked, so the event comes first on the new connection, and a
+         * response to a message the client posts after reading it waits
+         * for the connection instead of missing it.
+         * </p>
+         *
+         * @param connection the new connection's outbound queue
+         * @param afterSeq   the last event the client received, or -1 for a
+         *                   new session
+         * @param announce   writes the endpoint event to the new connection
+         */
+        synchronized void attach(SseOutbound connection, long afterSeq, Runnable announce) {
+            announce.run();
+            if (expiry != null) {
+                expiry.cancel(false);
+                expiry = null;
+            }
+            SseOutbound previous = outbound;
+            outbound = connection;
+            if (previous != null) {
+                previous.close();
+            }
+            if (afterSeq < 0) {
+                return;
+            }
+            sseMetrics.recordResume();
+            if (replay == null || !replay.covers(afterSeq)) {
+                logger.warn("SSE session {} resumed after event {}, but some later responses are no longer buffered",
+                        id, afterSeq);
+                sseMetrics.recordReplayGap();
+            }
+            if (replay != null) {
+                for (ReplayBuffer.Entry entry : replay.after(afterSeq)) {
+                    String text = entry.data;
+                    connection.replay(eventId(id, entry.seq), writer -> writer.write(text));
+                    sseMetrics.recordReplayed();
+                }
+            }
+        }
+
+        /**
+         * Detaches a closed connection, if it is still the current one, and
+         * schedules the session's removal unless a client resumes it first.
+         */
+        synchronized void detach(SseOutbound connection) {
+            if (outbound != connection) {
+                return;
+            }
+            outbound = null;
+            if (resumeSeconds == 0) {
+                sessions.remove(id, this);
+                return;
+            }
+            try {
+                expiry = expiryExecutor.schedule(this::expire, resumeSeconds, TimeUnit.SECONDS);
+            } catch (RejectedExecutionException e) {
+                sessions.remove(id, this);
+            }
+        }
+
+        private synchronized void expire() {
+            if (outbound == null) {
+                logger.info("SSE session expired: {}", id);
+                sessions.remove(id, this);
+            }
+        }
     }
 
     public static void main(String[] args) {
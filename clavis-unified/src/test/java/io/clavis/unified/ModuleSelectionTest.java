@@ -0,0 +1,75 @@
+package io.clavis.unified;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ModuleSelection}.
+ */
+class ModuleSelectionTest {
+
+    private static final List<ToolModule> MODULES = List.of(
+            module("pubmed", "literature"),
+            module("arxiv", "literature"),
+            module("uniprot", "proteins"),
+            module("hmdb", "chemistry"));
+
+    private static ToolModule module(String name, String group) {
+        return new ToolModule(new ClavisModule() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDisplayName() {
+                return name;
+            }
+
+            @Override
+            public String getGroup() {
+                return group;
+            }
+
+            @Override
+            public List<MCPTool> createTools() {
+                return List.of();
+            }
+        });
+    }
+
+    private static List<String> select(String spec) {
+        return ModuleSelection.parse(spec).apply(MODULES).stream()
+                .map(ToolModule::getName)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("An empty selection should load every module")
+    void testEmptySelectsAll() {
+        assertEquals(List.of("pubmed", "arxiv", "uniprot", "hmdb"), select(null));
+        assertEquals(List.of("pubmed", "arxiv", "uniprot", "hmdb"), select(" "));
+    }
+
+    @Test
+    @DisplayName("Modules and groups should be included by name, ignoring case")
+    void testIncludes() {
+        assertEquals(List.of("pubmed", "arxiv", "uniprot"), select("Literature, uniprot"));
+        assertEquals(List.of(), select("unknown"));
+    }
+
+    @Test
+    @DisplayName("Excluded modules and groups should be dropped, even when also included")
+    void testExcludes() {
+        assertEquals(List.of("pubmed", "arxiv", "uniprot"), select("-hmdb"));
+        assertEquals(List.of("uniprot", "hmdb"), select("-literature"));
+        assertEquals(List.of("pubmed"), select("literature,-arxiv"));
+    }
+}
@@ -0,0 +1,73 @@
+package io.clavis.unified;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ReplayBuffer}.
+ */
+class ReplayBufferTest {
+
+    private static List<Long> seqs(List<ReplayBuffer.Entry> entries) {
+        return entries.stream().map(entry -> entry.seq).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Events after the last one received should be returned in order")
+    void testAfter() {
+        ReplayBuffer buffer = new ReplayBuffer(10, 1024);
+        for (long seq = 1; seq <= 4; seq++) {
+            buffer.add(seq, "event " + seq);
+        }
+
+        assertEquals(List.of(3L, 4L), seqs(buffer.after(2)));
+        assertEquals(List.of(1L, 2L, 3L, 4L), seqs(buffer.after(0)));
+        assertTrue(buffer.after(4).isEmpty());
+        assertTrue(buffer.covers(0));
+    }
+
+    @Test
+    @DisplayName("The oldest events should be evicted beyond the event limit")
+    void testEventLimit() {
+        ReplayBuffer buffer = new ReplayBuffer(2, 1024);
+        for (long seq = 1; seq <= 5; seq++) {
+            buffer.add(seq, "event " + seq);
+        }
+
+        assertEquals(2, buffer.size());
+        assertEquals(List.of(4L, 5L), seqs(buffer.after(0)));
+        assertFalse(buffer.covers(2));
+        assertTrue(buffer.covers(3));
+    }
+
+    @Test
+    @DisplayName("The oldest events should be evicted beyond the byte limit, counted in UTF-8")
+    void testByteLimit() {
+        ReplayBuffer buffer = new ReplayBuffer(10, 10);
+        buffer.add(1, "abcd");
+        buffer.add(2, "ééé");
+        assertEquals(10, buffer.bytes());
+
+        buffer.add(3, "x");
+        assertEquals(List.of(2L, 3L), seqs(buffer.after(0)));
+        assertEquals(7, buffer.bytes());
+        assertFalse(buffer.covers(0));
+    }
+
+    @Test
+    @DisplayName("An event larger than the byte limit should not be kept")
+    void testOversizedEvent() {
+        ReplayBuffer buffer = new ReplayBuffer(10, 4);
+        buffer.add(1, "ok");
+        buffer.add(2, "too large");
+
+        assertEquals(0, buffer.size());
+        assertFalse(buffer.covers(1));
+        assertTrue(buffer.covers(2));
+    }
+}
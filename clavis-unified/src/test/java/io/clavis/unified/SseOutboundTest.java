@@ -0,0 +1,142 @@
+package io.clavis.unified;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SseOutbound}.
+ */
+class SseOutboundTest {
+
+    private final ExecutorService writers = Executors.newCachedThreadPool();
+    private final SseMetrics metrics = new SseMetrics();
+    private final StalledSink sink = new StalledSink();
+
+    /** Sink that blocks on its first message until released. */
+    private static final class StalledSink implements SseOutbound.Sink {
+        final CountDownLatch firstSendStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        final List<String> senderThreads = new CopyOnWriteArrayList<>();
+        volatile boolean closed;
+
+        @Override
+        public void send(String id, SseOutbound.Message message) throws IOException {
+            firstSendStarted.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StringWriter out = new StringWriter();
+            message.writeTo(out);
+            sent.add(out.toString());
+            senderThreads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static SseOutbound.Message text(String value) {
+        return out -> out.write(value);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.release.countDown();
+        writers.shutdownNow();
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (sink.sent.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Messages should be written in order by the writer, not the producer")
+    void testWrittenInOrderOffProducerThread() throws Exception {
+        SseOutbound outbound = new SseOutbound("s1", sink, 8, SseOutbound.OverflowPolicy.CLOSE, writers, metrics);
+        sink.release.countDown();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(outbound.offer("s1:" + "m" + i, text("m" + i)));
+        }
+        awaitSent(5);
+
+        assertEquals(List.of("m0", "m1", "m2", "m3", "m4"), sink.sent);
+        assertFalse(sink.senderThreads.contains(Thread.currentThread().getName()));
+        assertEquals(5, metrics.getWrites());
+    }
+
+    @Test
+    @DisplayName("A stalled client should be closed when its queue overflows")
+    void testOverflowCloses() throws Exception {
+        SseOutbound outbound = new SseOutbound("s1", sink, 2, SseOutbound.OverflowPolicy.CLOSE, writers, metrics);
+
+        assertTrue(outbound.offer("s1:" + "in flight", text("in flight")));
+        assertTrue(sink.firstSendStarted.await(10, TimeUnit.SECONDS));
+        assertTrue(outbound.offer("s1:" + "queued 1", text("queued 1")));
+        assertTrue(outbound.offer("s1:" + "queued 2", text("queued 2")));
+        assertEquals(2, outbound.depth());
+
+        assertFalse(outbound.offer("s1:" + "overflow", text("overflow")));
+        assertTrue(sink.closed);
+        assertEquals(0, outbound.depth());
+        assertEquals(1, metrics.getOverflowCloses());
+        assertFalse(outbound.offer("s1:" + "after close", text("after close")));
+    }
+
+    @Test
+    @DisplayName("With the drop policy an overflowing message should be discarded and the session kept")
+    void testOverflowDrops() throws Exception {
+        SseOutbound outbound = new SseOutbound("s1", sink, 1, SseOutbound.OverflowPolicy.DROP, writers, metrics);
+
+        assertTrue(outbound.offer("s1:" + "in flight", text("in flight")));
+        assertTrue(sink.firstSendStarted.await(10, TimeUnit.SECONDS));
+        assertTrue(outbound.offer("s1:" + "queued", text("queued")));
+        assertFalse(outbound.offer("s1:" + "dropped", text("dropped")));
+
+        sink.release.countDown();
+        awaitSent(2);
+        assertFalse(sink.closed);
+        assertEquals(List.of("in flight", "queued"), sink.sent);
+        assertEquals(1, metrics.getDropped());
+    }
+
+    @Test
+    @DisplayName("Replayed messages should not count against the capacity and should be written first")
+    void testReplayBypassesCapacity() throws Exception {
+        SseOutbound outbound = new SseOutbound("s1", sink, 2, SseOutbound.OverflowPolicy.CLOSE, writers, metrics);
+
+        for (int seq = 1; seq <= 4; seq++) {
+            assertTrue(outbound.replay("s1:" + seq, text("replayed " + seq)));
+        }
+        assertTrue(sink.firstSendStarted.await(10, TimeUnit.SECONDS));
+        assertTrue(outbound.offer("s1:5", text("live 5")));
+        assertTrue(outbound.offer("s1:6", text("live 6")));
+        assertFalse(sink.closed);
+
+        sink.release.countDown();
+        awaitSent(6);
+        assertEquals(List.of("replayed 1", "replayed 2", "replayed 3", "replayed 4", "live 5", "live 6"),
+                sink.sent);
+        assertEquals(0, metrics.getOverflowCloses());
+    }
+}
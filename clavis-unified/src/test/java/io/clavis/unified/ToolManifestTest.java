@@ -0,0 +1,120 @@
+package io.clavis.unified;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+import io.clavis.core.mcp.ToolExecutionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ToolManifest} and lazy module initialization.
+ */
+class ToolManifestTest {
+
+    private static JsonObject checkedInModules() throws Exception {
+        try (Reader reader = new InputStreamReader(
+                ToolManifest.class.getResourceAsStream(ToolManifest.RESOURCE), StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonObject().getAsJsonObject("modules");
+        }
+    }
+
+    @Test
+    @DisplayName("The checked-in manifest should match the tools the modules create")
+    void testManifestUpToDate() throws Exception {
+        JsonObject checkedIn = checkedInModules();
+        JsonObject described = ToolManifest.describe(UnifiedServer.modules()).getAsJsonObject("modules");
+
+        assertFalse(described.isEmpty(), "No modules discovered");
+        for (String module : described.keySet()) {
+            assertEquals(described.get(module), checkedIn.get(module),
+                    "Tool manifest is stale for " + module + "; regenerate it as described in ToolManifest");
+        }
+    }
+
+    @Test
+    @DisplayName("Startup should list every discovered module's tools without initializing any module")
+    void testToolsListedLazily() throws Exception {
+        JsonObject checkedIn = checkedInModules();
+        int expected = 0;
+        for (ToolModule module : UnifiedServer.modules()) {
+            expected += checkedIn.getAsJsonArray(module.getName()).size();
+        }
+
+        UnifiedServer server = new UnifiedServer(false);
+        server.registerTools();
+
+        List<MCPTool> tools = server.getTools();
+        assertEquals(expected, tools.size());
+        assertTrue(tools.stream().allMatch(tool -> tool instanceof LazyTool));
+    }
+
+    @Test
+    @DisplayName("A module should be built once, on first use, and retried after a failure")
+    void testModuleInitializedOnFirstCall() throws Exception {
+        AtomicInteger builds = new AtomicInteger();
+        MCPTool echo = new MCPTool() {
+            @Override
+            public String getName() {
+                return "echo";
+            }
+
+            @Override
+            public String getDescription() {
+                return "Returns its parameters";
+            }
+
+            @Override
+            public JsonObject getInputSchema() {
+                return new JsonObject();
+            }
+
+            @Override
+            public JsonObject execute(JsonObject parameters) {
+                return parameters;
+            }
+        };
+        ToolModule module = new ToolModule(new ClavisModule() {
+            @Override
+            public String getName() {
+                return "test";
+            }
+
+            @Override
+            public String getDisplayName() {
+                return "Test";
+            }
+
+            @Override
+            public String getGroup() {
+                return "testing";
+            }
+
+            @Override
+            public List<MCPTool> createTools() {
+                if (builds.incrementAndGet() == 1) {
+                    throw new IllegalStateException("not configured");
+                }
+                return List.of(echo);
+            }
+        });
+
+        ToolExecutionException failure = assertThrows(ToolExecutionException.class, () -> module.tool("echo"));
+        assertTrue(failure.getMessage().contains("not configured"));
+        assertFalse(module.isInitialized());
+
+        assertSame(echo, module.tool("echo"));
+        assertSame(echo, module.tool("echo"));
+        assertEquals(2, builds.get());
+        assertThrows(ToolExecutionException.class, () -> module.tool("missing"));
+    }
+}
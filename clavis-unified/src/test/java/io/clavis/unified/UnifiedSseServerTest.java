@@ -0,0 +1,245 @@
+package io.clavis.unified;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.clavis.core.mcp.MCPTool;
+import io.javalin.Javalin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link UnifiedSseServer}'s asynchronous {@code /message} handling.
+ */
+class UnifiedSseServerTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger executions = new AtomicInteger();
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+    private Javalin app;
+    private String base;
+    private String messageUrl;
+
+    /** Server whose only tool blocks until the test releases it. */
+    private final class TestServer extends UnifiedSseServer {
+        @Override
+        public void registerTools() {
+            tools.add(new MCPTool() {
+                @Override
+                public String getName() {
+                    return "slow";
+                }
+
+                @Override
+                public String getDescription() {
+                    return "Waits for the test";
+                }
+
+                @Override
+                public JsonObject getInputSchema() {
+                    JsonObject schema = new JsonObject();
+                    schema.addProperty("type", "object");
+                    return schema;
+                }
+
+                @Override
+                public JsonObject execute(JsonObject parameters) {
+                    executions.incrementAndGet();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    JsonObject result = new JsonObject();
+                    result.addProperty("done", true);
+                    return result;
+                }
+            });
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        app = new TestServer().startSse(0);
+        base = "http://localhost:" + app.port();
+        connect(null, events, new LinkedBlockingQueue<>());
+        String endpoint = events.poll(10, TimeUnit.SECONDS);
+        assertNotNull(endpoint, "No endpoint event");
+        messageUrl = base + endpoint;
+    }
+
+    /** Opens an SSE stream, queueing the data and the id of each event. */
+    private void connect(String lastEventId, BlockingQueue<String> data, BlockingQueue<String> ids) {
+        HttpRequest.Builder sse = HttpRequest.newBuilder(URI.create(base + "/sse"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            sse.header("Last-Event-ID", lastEventId);
+        }
+        http.sendAsync(sse.build(), HttpResponse.BodyHandlers.ofLines())
+                .thenAccept(response -> response.body()
+                        .forEach(line -> {
+                            if (line.startsWith("data: ")) {
+                                data.add(line.substring("data: ".length()));
+                            } else if (line.startsWith("id: ")) {
+                                ids.add(line.substring("id: ".length()));
+                            }
+                        }));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        app.stop();
+    }
+
+    private HttpResponse<String> post(String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(messageUrl))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String toolCall(int id) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"tools/call\","
+                + "\"params\":{\"name\":\"slow\",\"arguments\":{}}}";
+    }
+
+    @Test
+    @DisplayName("tools/call should be accepted at once and its result pushed over SSE when done")
+    void testToolCallAnsweredAsynchronously() throws Exception {
+        assertEquals(202, post(toolCall(1)).statusCode());
+
+        // The list is answered inline while the tool is still running
+        assertEquals(202, post("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\"}").statusCode());
+        JsonObject list = JsonParser.parseString(events.poll(10, TimeUnit.SECONDS)).getAsJsonObject();
+        assertEquals(2, list.get("id").getAsInt());
+
+        release.countDown();
+        JsonObject call = JsonParser.parseString(events.poll(10, TimeUnit.SECONDS)).getAsJsonObject();
+        assertEquals(1, call.get("id").getAsInt());
+        assertTrue(call.getAsJsonObject("result").toString().contains("done"));
+    }
+
+    @Test
+    @DisplayName("Tool calls beyond the per-session limit should be refused with 429")
+    void testSessionLimit() throws Exception {
+        for (int id = 1; id <= 16; id++) {
+            assertEquals(202, post(toolCall(id)).statusCode());
+        }
+        assertEquals(429, post(toolCall(17)).statusCode());
+
+        release.countDown();
+        for (int i = 0; i < 16; i++) {
+            assertNotNull(events.poll(10, TimeUnit.SECONDS));
+        }
+        assertEquals(202, post(toolCall(18)).statusCode());
+    }
+
+    @Test
+    @DisplayName("A client reconnecting with Last-Event-ID should get its session back and the responses it missed")
+    void testResumeReplaysMissedResponses() throws Exception {
+        assertEquals(202, post(toolCall(1)).statusCode());
+        release.countDown();
+        JsonObject original = JsonParser.parseString(events.poll(10, TimeUnit.SECONDS)).getAsJsonObject();
+        assertEquals(1, original.get("id").getAsInt());
+
+        // The endpoint event is 0, so everything since the session opened counts as missed
+        String sessionId = messageUrl.substring(messageUrl.indexOf("sessionId=") + "sessionId=".length());
+        BlockingQueue<String> ids = new LinkedBlockingQueue<>();
+        BlockingQueue<String> resumed = new LinkedBlockingQueue<>();
+        connect(sessionId + ":0", resumed, ids);
+
+        assertEquals("/message?sessionId=" + sessionId, resumed.poll(10, TimeUnit.SECONDS));
+        assertEquals(sessionId + ":0", ids.poll(10, TimeUnit.SECONDS));
+        assertEquals(original.toString(), resumed.poll(10, TimeUnit.SECONDS));
+        assertEquals(sessionId + ":1", ids.poll(10, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+
+        // The resumed session keeps working
+        assertEquals(202, post("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\"}").statusCode());
+        JsonObject list = JsonParser.parseString(resumed.poll(10, TimeUnit.SECONDS)).getAsJsonObject();
+        assertEquals(2, list.get("id").getAsInt());
+    }
+
+    @Test
+    @DisplayName("A second resume from the endpoint event should not replay responses acknowledged before the first")
+    void testResumeTwice() throws Exception {
+        assertEquals(202, post(toolCall(1)).statusCode());
+        release.countDown();
+        assertNotNull(events.poll(10, TimeUnit.SECONDS));
+        assertEquals(202, post("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\"}").statusCode());
+        String list = events.poll(10, TimeUnit.SECONDS);
+        assertNotNull(list);
+        String sessionId = messageUrl.substring(messageUrl.indexOf("sessionId=") + "sessionId=".length());
+
+        // Missed the list; the endpoint event repeats the position resumed from
+        BlockingQueue<String> firstIds = new LinkedBlockingQueue<>();
+        BlockingQueue<String> first = new LinkedBlockingQueue<>();
+        connect(sessionId + ":1", first, firstIds);
+        assertEquals("/message?sessionId=" + sessionId, first.poll(10, TimeUnit.SECONDS));
+        String endpointId = firstIds.poll(10, TimeUnit.SECONDS);
+        assertEquals(sessionId + ":1", endpointId);
+        assertEquals(list, first.poll(10, TimeUnit.SECONDS));
+
+        // Dropped again right after the endpoint event: only the list is replayed again
+        BlockingQueue<String> secondIds = new LinkedBlockingQueue<>();
+        BlockingQueue<String> second = new LinkedBlockingQueue<>();
+        connect(endpointId, second, secondIds);
+        assertEquals("/message?sessionId=" + sessionId, second.poll(10, TimeUnit.SECONDS));
+        assertEquals(sessionId + ":1", secondIds.poll(10, TimeUnit.SECONDS));
+        assertEquals(list, second.poll(10, TimeUnit.SECONDS));
+        assertEquals(sessionId + ":2", secondIds.poll(10, TimeUnit.SECONDS));
+        assertNull(second.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("A resume that replays a full queue's worth of responses should keep the session open")
+    void testResumeReplayAsLargeAsQueue() throws Exception {
+        // The defaults keep as many responses for replay as the outbound queue holds
+        int replayed = 64;
+        for (int id = 1; id <= replayed; id++) {
+            assertEquals(202, post("{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"tools/list\"}")
+                    .statusCode());
+            assertNotNull(events.poll(10, TimeUnit.SECONDS));
+        }
+        String sessionId = messageUrl.substring(messageUrl.indexOf("sessionId=") + "sessionId=".length());
+
+        BlockingQueue<String> resumed = new LinkedBlockingQueue<>();
+        connect(sessionId + ":0", resumed, new LinkedBlockingQueue<>());
+        assertEquals("/message?sessionId=" + sessionId, resumed.poll(10, TimeUnit.SECONDS));
+        // Answered while the replay may still be queued
+        assertEquals(202, post("{\"jsonrpc\":\"2.0\",\"id\":" + (replayed + 1)
+                + ",\"method\":\"tools/list\"}").statusCode());
+
+        for (int id = 1; id <= replayed + 1; id++) {
+            String data = resumed.poll(10, TimeUnit.SECONDS);
+            assertNotNull(data, "Missing response " + id);
+            assertEquals(id, JsonParser.parseString(data).getAsJsonObject().get("id").getAsInt());
+        }
+    }
+
+    @Test
+    @DisplayName("An unknown Last-Event-ID should start a new session")
+    void testUnknownLastEventIdStartsNewSession() throws Exception {
+        BlockingQueue<String> fresh = new LinkedBlockingQueue<>();
+        connect("no-such-session:3", fresh, new LinkedBlockingQueue<>());
+        String endpoint = fresh.poll(10, TimeUnit.SECONDS);
+        assertNotNull(endpoint);
+        assertNotEquals(messageUrl, base + endpoint);
+    }
+}
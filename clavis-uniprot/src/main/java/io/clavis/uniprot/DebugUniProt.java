@@ -5,12 +5,7 @@ public class DebugUniProt {
         try {
             UniProtClient client = new UniProtClient();
             System.out.println("Searching for insulin...");
-            String response = client.searchProteins("insulin", 1, "9606", true);
-            System.out.println("Raw Response:");
-            System.out.println(response);
-
-            System.out.println("\nParsing...");
-            com.google.gson.JsonObject result = UniProtJsonParser.parseSearchResults(response);
+            com.google.gson.JsonObject result = client.searchProteins("insulin", 1, "9606", true);
             System.out.println("Parsed Result: " + result);
         } catch (Exception e) {
             e.printStackTrace();
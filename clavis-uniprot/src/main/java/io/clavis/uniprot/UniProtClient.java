@@ -1,7 +1,10 @@
 package io.clavis.uniprot;
 
+import com.google.gson.JsonObject;
 import io.clavis.core.exception.ApiException;
+import io.clavis.core.http.BodyParser;
 import io.clavis.core.http.HttpClientFactory;
+import io.clavis.core.http.HttpStatusException;
 import io.clavis.core.http.RateLimiter;
 import io.clavis.core.http.RetryPolicy;
 import io.clavis.core.logging.StructuredLogger;
@@ -18,7 +21,8 @@ import java.nio.charset.StandardCharsets;
  *
  * <p>
  * Accesses the UniProtKB database of 250M+ protein entries.
- * No API key required. Rate limited to 1 request/second.
+ * No API key required. Starts at 1 request/second and adapts up to 5 req/s
+ * while the service does not throttle.
  * </p>
  *
  * @author CLAVIS Team
@@ -32,15 +36,13 @@ public class UniProtClient {
 
     private final StructuredLogger logger;
     private final OkHttpClient httpClient;
-    private final RateLimiter rateLimiter;
     private final RetryPolicy retryPolicy;
 
     public UniProtClient() {
         this.logger = new StructuredLogger(UniProtClient.class);
-        this.httpClient = HttpClientFactory.createDefault();
-        this.rateLimiter = new RateLimiter(1);
-        this.retryPolicy = RetryPolicy.defaultPolicy();
-        logger.info("UniProt client initialized. Rate limit: 1 req/s (no key required).");
+        this.httpClient = HttpClientFactory.createDefault("uniprot", new RateLimiter(1, 5));
+        this.retryPolicy = RetryPolicy.forUpstream("uniprot");
+        logger.info("UniProt client initialized. Rate limit: 1-5 req/s adaptive (no key required).");
     }
 
     /**
@@ -50,10 +52,10 @@ public class UniProtClient {
      * @param maxResults max results (1-500)
      * @param organism   optional organism filter (e.g. "9606" for human)
      * @param reviewed   optional filter for reviewed (Swiss-Prot) entries only
-     * @return JSON response string
+     * @return parsed search results (see {@link UniProtJsonParser#parseSearchResults(String)})
      * @throws ApiException if the request fails
      */
-    public String searchProteins(String query, int maxResults, String organism, Boolean reviewed) throws ApiException {
+    public JsonObject searchProteins(String query, int maxResults, String organism, Boolean reviewed) throws ApiException {
         if (query == null || query.trim().isEmpty()) {
             throw new IllegalArgumentException("Search query cannot be null or empty");
         }
@@ -75,7 +77,7 @@ public class UniProtClient {
                     "&fields=accession,id,protein_name,gene_names,organism_name,length,cc_function,cc_subcellular_location,go_p,go_f");
 
             logger.info("[uniprot] search: query=" + query + ", limit=" + maxResults);
-            return executeRequest(url.toString());
+            return executeRequest(url.toString(), UniProtJsonParser::parseSearchResults);
         });
     }
 
@@ -83,14 +85,14 @@ public class UniProtClient {
      * Gets a single protein entry by accession.
      *
      * @param accession UniProt accession (e.g. "P01308")
-     * @return JSON response string
+     * @return parsed protein entry (see {@link UniProtJsonParser#parseProteinDetail(String)})
      * @throws ApiException if the request fails
      */
-    public String getProtein(String accession) throws ApiException {
+    public JsonObject getProtein(String accession) throws ApiException {
         return retryPolicy.execute(() -> {
             String url = API_BASE + "/uniprotkb/" + urlEncode(accession) + "?format=json";
             logger.info("[uniprot] get protein: accession=" + accession);
-            return executeRequest(url);
+            return executeRequest(url, UniProtJsonParser::parseProteinDetail);
         });
     }
 
@@ -105,7 +107,7 @@ public class UniProtClient {
         return retryPolicy.execute(() -> {
             String url = API_BASE + "/uniprotkb/" + urlEncode(accession) + "?format=fasta";
             logger.info("[uniprot] get sequence: accession=" + accession);
-            return executeRequest(url);
+            return executeRequest(url, BodyParser.asString());
         });
     }
 
@@ -115,10 +117,10 @@ public class UniProtClient {
      * @param geneName   gene name (e.g. "BRCA1")
      * @param organism   optional organism ID
      * @param maxResults maximum results
-     * @return JSON response string
+     * @return parsed search results
      * @throws ApiException if the request fails
      */
-    public String searchByGene(String geneName, String organism, int maxResults) throws ApiException {
+    public JsonObject searchByGene(String geneName, String organism, int maxResults) throws ApiException {
         String query = "gene:" + geneName;
         return searchProteins(query, maxResults, organism, true);
     }
@@ -127,10 +129,10 @@ public class UniProtClient {
      * Gets protein function annotation (comments of type FUNCTION).
      *
      * @param accession UniProt accession
-     * @return JSON response string for the full protein entry
+     * @return the parsed full protein entry
      * @throws ApiException if the request fails
      */
-    public String getProteinFunction(String accession) throws ApiException {
+    public JsonObject getProteinFunction(String accession) throws ApiException {
         return getProtein(accession);
     }
 
@@ -140,10 +142,10 @@ public class UniProtClient {
      * @param organism   organism name or taxonomy ID
      * @param keyword    optional keyword to filter
      * @param maxResults max results
-     * @return JSON response string
+     * @return parsed search results
      * @throws ApiException if the request fails
      */
-    public String searchByOrganism(String organism, String keyword, int maxResults) throws ApiException {
+    public JsonObject searchByOrganism(String organism, String keyword, int maxResults) throws ApiException {
         StringBuilder query = new StringBuilder("organism_name:\"" + organism + "\"");
         if (keyword != null && !keyword.isEmpty()) {
             query.append(" AND ").append(keyword);
@@ -156,14 +158,13 @@ public class UniProtClient {
             url.append("&fields=accession,id,protein_name,gene_names,organism_name,length,cc_function");
 
             logger.info("[uniprot] search by organism: " + organism);
-            return executeRequest(url.toString());
+            return executeRequest(url.toString(), UniProtJsonParser::parseSearchResults);
         });
     }
 
     // ---- Internal helpers ----
 
-    private String executeRequest(String url) throws IOException, InterruptedException {
-        rateLimiter.acquire();
+    private <T> T executeRequest(String url, BodyParser<T> parser) throws IOException {
         Request request = new Request.Builder()
                 .url(url)
                 .header("Accept", "application/json")
@@ -173,9 +174,9 @@ public class UniProtClient {
         try (Response response = httpClient.newCall(request).execute()) {
             if (!response.isSuccessful()) {
                 String errorBody = response.body() != null ? response.body().string() : "No body";
-                throw new IOException("UniProt API error " + response.code() + ": " + errorBody);
+                throw new HttpStatusException("UniProt API error " + response.code() + ": " + errorBody, response.code());
             }
-            return response.body() != null ? response.body().string() : "";
+            return BodyParser.parse(response, parser);
         }
     }
 
@@ -4,7 +4,11 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import io.clavis.core.util.StreamingJson;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,19 +29,7 @@ public class UniProtJsonParser {
      */
     public static JsonObject parseSearchResults(String json) {
         try {
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            JsonObject result = new JsonObject();
-
-            JsonArray proteins = new JsonArray();
-            if (root.has("results")) {
-                for (JsonElement entry : root.getAsJsonArray("results")) {
-                    proteins.add(parseProteinSummary(entry.getAsJsonObject()));
-                }
-            }
-
-            result.addProperty("totalResults", proteins.size());
-            result.add("proteins", proteins);
-            return result;
+            return parseSearchResults(new StringReader(json));
         } catch (Exception e) {
             JsonObject empty = new JsonObject();
             empty.addProperty("totalResults", 0);
@@ -46,94 +38,124 @@ public class UniProtJsonParser {
         }
     }
 
+    /**
+     * Parses search results from /uniprotkb/search as the body streams in,
+     * summarizing one entry at a time. Unlike the {@code String} overload it
+     * has no fallback: a failed read or a malformed body is thrown.
+     *
+     * @throws IOException if reading the body fails or it is malformed
+     */
+    public static JsonObject parseSearchResults(Reader json) throws IOException {
+        JsonObject result = new JsonObject();
+
+        JsonArray proteins = new JsonArray();
+        StreamingJson.readArrayField(json, "results",
+                entry -> parseProteinSummary(entry.getAsJsonObject())).forEach(proteins::add);
+
+        result.addProperty("totalResults", proteins.size());
+        result.add("proteins", proteins);
+        return result;
+    }
+
     /**
      * Parses a full protein entry from /uniprotkb/{accession}.
      */
     public static JsonObject parseProteinDetail(String json) {
         try {
-            JsonObject entry = JsonParser.parseString(json).getAsJsonObject();
-            JsonObject result = new JsonObject();
-
-            result.addProperty("accession", getStr(entry, "primaryAccession"));
-            result.addProperty("entryId", getStr(entry, "uniProtkbId"));
-            result.addProperty("proteinName", extractProteinName(entry));
-
-            // Genes
-            if (entry.has("genes") && entry.get("genes").isJsonArray()) {
-                JsonArray genes = new JsonArray();
-                for (JsonElement g : entry.getAsJsonArray("genes")) {
-                    JsonObject gene = g.getAsJsonObject();
-                    if (gene.has("geneName")) {
-                        genes.add(gene.getAsJsonObject("geneName").get("value").getAsString());
-                    }
-                }
-                result.add("genes", genes);
-            }
+            return parseProteinDetail(new StringReader(json));
+        } catch (Exception e) {
+            return new JsonObject();
+        }
+    }
 
-            // Organism
-            if (entry.has("organism") && !entry.get("organism").isJsonNull()) {
-                JsonObject org = entry.getAsJsonObject("organism");
-                JsonObject organism = new JsonObject();
-                organism.addProperty("scientificName", getStr(org, "scientificName"));
-                organism.addProperty("commonName", getStr(org, "commonName"));
-                organism.addProperty("taxonId", org.has("taxonId") ? org.get("taxonId").getAsInt() : 0);
-                result.add("organism", organism);
-            }
+    /**
+     * Parses a full protein entry from /uniprotkb/{accession} as the body
+     * streams in. Unlike the {@code String} overload it has no fallback: a
+     * failed read or a malformed body is thrown.
+     *
+     * @throws IOException if reading the body fails or it is malformed
+     */
+    public static JsonObject parseProteinDetail(Reader json) throws IOException {
+        JsonObject entry = JsonParser.parseReader(json).getAsJsonObject();
+        JsonObject result = new JsonObject();
 
-            // Sequence
-            if (entry.has("sequence") && !entry.get("sequence").isJsonNull()) {
-                JsonObject seq = entry.getAsJsonObject("sequence");
-                JsonObject sequence = new JsonObject();
-                sequence.addProperty("value", getStr(seq, "value"));
-                sequence.addProperty("length", seq.has("length") ? seq.get("length").getAsInt() : 0);
-                sequence.addProperty("molWeight", seq.has("molWeight") ? seq.get("molWeight").getAsInt() : 0);
-                result.add("sequence", sequence);
-            }
+        result.addProperty("accession", getStr(entry, "primaryAccession"));
+        result.addProperty("entryId", getStr(entry, "uniProtkbId"));
+        result.addProperty("proteinName", extractProteinName(entry));
 
-            // Function
-            String function = extractComment(entry, "FUNCTION");
-            if (function != null) {
-                result.addProperty("function", function);
+        // Genes
+        if (entry.has("genes") && entry.get("genes").isJsonArray()) {
+            JsonArray genes = new JsonArray();
+            for (JsonElement g : entry.getAsJsonArray("genes")) {
+                JsonObject gene = g.getAsJsonObject();
+                if (gene.has("geneName")) {
+                    genes.add(gene.getAsJsonObject("geneName").get("value").getAsString());
+                }
             }
+            result.add("genes", genes);
+        }
 
-            // Subcellular location
-            String location = extractComment(entry, "SUBCELLULAR LOCATION");
-            if (location != null) {
-                result.addProperty("subcellularLocation", location);
-            }
+        // Organism
+        if (entry.has("organism") && !entry.get("organism").isJsonNull()) {
+            JsonObject org = entry.getAsJsonObject("organism");
+            JsonObject organism = new JsonObject();
+            organism.addProperty("scientificName", getStr(org, "scientificName"));
+            organism.addProperty("commonName", getStr(org, "commonName"));
+            organism.addProperty("taxonId", org.has("taxonId") ? org.get("taxonId").getAsInt() : 0);
+            result.add("organism", organism);
+        }
 
-            // Subunit
-            String subunit = extractComment(entry, "SUBUNIT");
-            if (subunit != null) {
-                result.addProperty("subunit", subunit);
-            }
+        // Sequence
+        if (entry.has("sequence") && !entry.get("sequence").isJsonNull()) {
+            JsonObject seq = entry.getAsJsonObject("sequence");
+            JsonObject sequence = new JsonObject();
+            sequence.addProperty("value", getStr(seq, "value"));
+            sequence.addProperty("length", seq.has("length") ? seq.get("length").getAsInt() : 0);
+            sequence.addProperty("molWeight", seq.has("molWeight") ? seq.get("molWeight").getAsInt() : 0);
+            result.add("sequence", sequence);
+        }
 
-            // Disease involvement
-            List<String> diseases = extractDiseases(entry);
-            if (!diseases.isEmpty()) {
-                JsonArray diseaseArray = new JsonArray();
-                diseases.forEach(diseaseArray::add);
-                result.add("diseases", diseaseArray);
-            }
+        // Function
+        String function = extractComment(entry, "FUNCTION");
+        if (function != null) {
+            result.addProperty("function", function);
+        }
 
-            // Cross-references (PDB structures)
-            List<String> pdbIds = extractPdbIds(entry);
-            if (!pdbIds.isEmpty()) {
-                JsonArray pdbArray = new JsonArray();
-                pdbIds.forEach(pdbArray::add);
-                result.add("pdbStructures", pdbArray);
-            }
+        // Subcellular location
+        String location = extractComment(entry, "SUBCELLULAR LOCATION");
+        if (location != null) {
+            result.addProperty("subcellularLocation", location);
+        }
 
-            // Features (domains, active sites, etc.)
-            JsonArray features = extractFeatures(entry);
-            if (features.size() > 0) {
-                result.add("features", features);
-            }
+        // Subunit
+        String subunit = extractComment(entry, "SUBUNIT");
+        if (subunit != null) {
+            result.addProperty("subunit", subunit);
+        }
 
-            return result;
-        } catch (Exception e) {
-            return new JsonObject();
+        // Disease involvement
+        List<String> diseases = extractDiseases(entry);
+        if (!diseases.isEmpty()) {
+            JsonArray diseaseArray = new JsonArray();
+            diseases.forEach(diseaseArray::add);
+            result.add("diseases", diseaseArray);
+        }
+
+        // Cross-references (PDB structures)
+        List<String> pdbIds = extractPdbIds(entry);
+        if (!pdbIds.isEmpty()) {
+            JsonArray pdbArray = new JsonArray();
+            pdbIds.forEach(pdbArray::add);
+            result.add("pdbStructures", pdbArray);
         }
+
+        // Features (domains, active sites, etc.)
+        JsonArray features = extractFeatures(entry);
+        if (features.size() > 0) {
+            result.add("features", features);
+        }
+
+        return result;
     }
 
     // ---- Internal helpers ----
@@ -0,0 +1,37 @@
+package io.clavis.uniprot;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the UniProt tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class UniProtModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "uniprot";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "UniProt";
+    }
+
+    @Override
+    public String getGroup() {
+        return "proteins";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new UniProtTools(new UniProtClient()).getAllTools();
+    }
+}
@@ -59,6 +59,7 @@ public class UniProtTools {
                 JsonObject maxResults = new JsonObject();
                 maxResults.addProperty("type", "integer");
                 maxResults.addProperty("description", "Maximum results to return (1-100, default 10)");
+                maxResults.addProperty("default", 10);
                 props.add("maxResults", maxResults);
 
                 JsonObject organism = new JsonObject();
@@ -87,8 +88,7 @@ public class UniProtTools {
                     String organism = params.has("organism") ? params.get("organism").getAsString() : null;
                     Boolean reviewed = params.has("reviewed") ? params.get("reviewed").getAsBoolean() : null;
 
-                    String response = client.searchProteins(query, max, organism, reviewed);
-                    JsonObject result = UniProtJsonParser.parseSearchResults(response);
+                    JsonObject result = client.searchProteins(query, max, organism, reviewed);
                     result.addProperty("query", query);
 
                     JsonObject output = new JsonObject();
@@ -137,12 +137,16 @@ public class UniProtTools {
                 return schema;
             }
 
+            @Override
+            public JsonObject canonicalArguments(JsonObject arguments) {
+                return MCPTool.upperCaseArguments(arguments, "accession");
+            }
+
             @Override
             public JsonObject execute(JsonObject params) throws ToolExecutionException {
                 try {
                     String accession = params.get("accession").getAsString();
-                    String response = client.getProtein(accession);
-                    JsonObject result = UniProtJsonParser.parseProteinDetail(response);
+                    JsonObject result = client.getProtein(accession);
 
                     JsonObject output = new JsonObject();
                     com.google.gson.JsonArray content = new com.google.gson.JsonArray();
@@ -189,6 +193,11 @@ public class UniProtTools {
                 return schema;
             }
 
+            @Override
+            public JsonObject canonicalArguments(JsonObject arguments) {
+                return MCPTool.upperCaseArguments(arguments, "accession");
+            }
+
             @Override
             public JsonObject execute(JsonObject params) throws ToolExecutionException {
                 try {
@@ -241,6 +250,7 @@ public class UniProtTools {
                 JsonObject maxResults = new JsonObject();
                 maxResults.addProperty("type", "integer");
                 maxResults.addProperty("description", "Maximum results (default 10)");
+                maxResults.addProperty("default", 10);
                 props.add("maxResults", maxResults);
 
                 schema.add("properties", props);
@@ -257,8 +267,7 @@ public class UniProtTools {
                     String organism = params.has("organism") ? params.get("organism").getAsString() : null;
                     int max = params.has("maxResults") ? params.get("maxResults").getAsInt() : 10;
 
-                    String response = client.searchByGene(geneName, organism, max);
-                    JsonObject result = UniProtJsonParser.parseSearchResults(response);
+                    JsonObject result = client.searchByGene(geneName, organism, max);
                     result.addProperty("gene", geneName);
 
                     JsonObject output = new JsonObject();
@@ -306,12 +315,16 @@ public class UniProtTools {
                 return schema;
             }
 
+            @Override
+            public JsonObject canonicalArguments(JsonObject arguments) {
+                return MCPTool.upperCaseArguments(arguments, "accession");
+            }
+
             @Override
             public JsonObject execute(JsonObject params) throws ToolExecutionException {
                 try {
                     String accession = params.get("accession").getAsString();
-                    String response = client.getProteinFunction(accession);
-                    JsonObject full = UniProtJsonParser.parseProteinDetail(response);
+                    JsonObject full = client.getProteinFunction(accession);
 
                     // Extract only functional info
                     JsonObject result = new JsonObject();
@@ -375,6 +388,7 @@ public class UniProtTools {
                 JsonObject maxResults = new JsonObject();
                 maxResults.addProperty("type", "integer");
                 maxResults.addProperty("description", "Maximum results (default 10)");
+                maxResults.addProperty("default", 10);
                 props.add("maxResults", maxResults);
 
                 schema.add("properties", props);
@@ -391,8 +405,7 @@ public class UniProtTools {
                     String keyword = params.has("keyword") ? params.get("keyword").getAsString() : null;
                     int max = params.has("maxResults") ? params.get("maxResults").getAsInt() : 10;
 
-                    String response = client.searchByOrganism(organism, keyword, max);
-                    JsonObject result = UniProtJsonParser.parseSearchResults(response);
+                    JsonObject result = client.searchByOrganism(organism, keyword, max);
                     result.addProperty("organism", organism);
 
                     JsonObject output = new JsonObject();
@@ -0,0 +1,37 @@
+package io.clavis.zinc;
+
+import io.clavis.core.mcp.ClavisModule;
+import io.clavis.core.mcp.MCPTool;
+
+import java.util.List;
+
+/**
+ * Provides the ZINC tools to servers that discover modules through
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author CLAVIS Team
+ * @version 1.0.0
+ * @since 2025-01-01
+ */
+public class ZincModule implements ClavisModule {
+
+    @Override
+    public String getName() {
+        return "zinc";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "ZINC";
+    }
+
+    @Override
+    public String getGroup() {
+        return "chemistry";
+    }
+
+    @Override
+    public List<MCPTool> createTools() {
+        return new ZincTools(new ZincClient()).getAllTools();
+    }
+}